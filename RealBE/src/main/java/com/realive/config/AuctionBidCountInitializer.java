@@ -0,0 +1,38 @@
+package com.realive.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 입찰 수 컬럼 NOT NULL 정렬.
+ *
+ * bid_count는 인기순 목록의 키셋 정렬/커서 키입니다. NULL이 섞이면 Postgres가 DESC 정렬에서 NULL을 맨 앞에 두고,
+ * 커서가 "null_{id}"로 만들어져 다음 페이지 요청이 거부됩니다.
+ * 기존 NULL 행을 0으로 채운 뒤 기본값 0과 NOT NULL 제약을 겁니다. (ddl-auto update는 기존 컬럼의 NULL 허용을 바꾸지 않음)
+ * 기동 시 스케줄러/웹 요청보다 먼저 실행되며, 이미 맞춰져 있으면 아무것도 바꾸지 않습니다.
+ */
+@Slf4j
+@Component
+public class AuctionBidCountInitializer implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuctionBidCountInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            int filled = jdbcTemplate.update("UPDATE auctions SET bid_count = 0 WHERE bid_count IS NULL");
+            jdbcTemplate.execute("ALTER TABLE auctions ALTER COLUMN bid_count SET DEFAULT 0");
+            jdbcTemplate.execute("ALTER TABLE auctions ALTER COLUMN bid_count SET NOT NULL");
+            log.info("🔢 경매 입찰 수 NOT NULL 정렬 - NULL 보정: {}건", filled);
+        } catch (Exception e) {
+            // NULL이 남으면 인기순 커서 페이지가 깨지므로 기동을 멈춤
+            throw new IllegalStateException("경매 입찰 수 컬럼 정렬 실패", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.realive.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 테이블 ID 시퀀스 정렬.
+ *
+ * 판매/수수료/정산/패널티 로그는 IDENTITY 대신 풀링 시퀀스(allocationSize 50)로 ID를 받습니다.
+ * 기존 IDENTITY 컬럼에서 전환할 때 시퀀스가 기존 최대 ID보다 뒤에서 시작하도록 맞추고,
+ * ID 없이 실행되는 네이티브 INSERT도 같은 시퀀스를 쓰도록 컬럼 기본값을 시퀀스로 바꿉니다.
+ * 기동 시 스케줄러/웹 요청보다 먼저 실행되며, 이미 맞춰져 있으면 아무것도 바꾸지 않습니다.
+ */
+@Slf4j
+@Component
+public class LogIdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 엔티티의 @SequenceGenerator allocationSize와 같아야 함
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String[] TABLES = {"sales_logs", "commission_logs", "payout_logs", "penalty_logs"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LogIdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String table : TABLES) {
+            String sequence = table + "_seq";
+            try {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT nextval('" + sequence + "')");
+                // 풀링 옵티마이저는 nextval 값 v에 대해 (v - 50, v] 구간을 쓰므로 최대 ID + 50 이상으로 맞춤
+                Long value = jdbcTemplate.queryForObject(
+                        "SELECT setval('" + sequence + "', GREATEST(" +
+                                "(SELECT COALESCE(MAX(id), 0) FROM " + table + ") + " + ALLOCATION_SIZE + ", " +
+                                "(SELECT last_value FROM " + sequence + ")))",
+                        Long.class);
+                log.info("🔢 로그 ID 시퀀스 정렬 - {}: {}", sequence, value);
+            } catch (Exception e) {
+                // 시퀀스가 기존 ID와 겹치면 INSERT가 실패하므로 기동을 멈춤
+                throw new IllegalStateException("로그 ID 시퀀스 정렬 실패 - " + sequence, e);
+            }
+        }
+    }
+}
@@ -6,10 +6,12 @@ import com.realive.domain.customer.Customer;
 import com.realive.domain.logs.PenaltyLog;
 import com.realive.dto.logs.PenaltyLogCreateRequest;
 import com.realive.dto.logs.PenaltyLogDTO;
+import com.realive.event.StatsDataChangedEvent;
 import com.realive.repository.customer.CustomerRepository;
 import com.realive.repository.logs.PenaltyLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.persistence.EntityNotFoundException;
 
+import java.time.LocalDate;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/admin/penalties")
@@ -29,6 +33,7 @@ public class AdminPenaltyController {
 
     private final PenaltyLogRepository penaltyLogRepository;
     private final CustomerRepository customerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PostMapping
     @Transactional
@@ -45,6 +50,7 @@ public class AdminPenaltyController {
             entity.setPoints(request.getPoints());
             entity.setDescription(request.getDescription());
             PenaltyLog saved = penaltyLogRepository.save(entity);
+            eventPublisher.publishEvent(StatsDataChangedEvent.of(LocalDate.now()));
 
             // 고객의 패널티 점수 증가
             int currentPenaltyScore = customer.getPenaltyScore() != null ? customer.getPenaltyScore() : 0;
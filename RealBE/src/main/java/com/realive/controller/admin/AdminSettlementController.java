@@ -1,12 +1,25 @@
 package com.realive.controller.admin;
 
 import com.realive.dto.admin.adminsettlement.*;
+import com.realive.dto.seller.SellerBalanceDTO;
 import com.realive.service.admin.AdminSettlementService;
+import com.realive.service.admin.logs.LogExportService;
+import com.realive.service.seller.SellerLedgerService;
+import com.realive.domain.logs.ReconciliationDiff;
+import com.realive.serviceimpl.admin.settlement.SettlementReconciliationJob;
+import com.realive.serviceimpl.admin.settlement.WeeklySettlementJob;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -16,6 +29,10 @@ import java.util.List;
 public class AdminSettlementController {
 
     private final AdminSettlementService adminSettlementService;
+    private final LogExportService logExportService;
+    private final WeeklySettlementJob weeklySettlementJob;
+    private final SettlementReconciliationJob settlementReconciliationJob;
+    private final SellerLedgerService sellerLedgerService;
 
     // 정산 목록 조회 (관리자용)
     @GetMapping
@@ -100,4 +117,120 @@ public class AdminSettlementController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    // 정산 로그 내보내기 (CSV / NDJSON, 건수 제한 없이 스트리밍)
+    @GetMapping("/export")
+    public void exportPayoutLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+
+        LogExportService.Format exportFormat = LogExportService.Format.from(format);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("payouts_" + startDate + "_" + endDate + "." + exportFormat.getExtension())
+                .build().toString());
+        logExportService.exportPayouts(startDate, endDate, exportFormat, response.getOutputStream());
+    }
+
+    // 주간 정산 배치 수동 실행 (date가 속한 월~일 주기, 중단된 실행은 이어서 처리)
+    @PostMapping("/batch")
+    public ResponseEntity<SettlementRunResponseDTO> runWeeklySettlement(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+        SettlementRunResponseDTO response = SettlementRunResponseDTO.fromEntity(weeklySettlementJob.settle(date));
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 주간 정산 배치 최근 실행 상태 (진행 위치/처리 판매자 수)
+    @GetMapping("/batch/runs")
+    public ResponseEntity<List<SettlementRunResponseDTO>> getSettlementRuns() {
+
+        List<SettlementRunResponseDTO> response = weeklySettlementJob.getRecentRuns().stream()
+                .map(SettlementRunResponseDTO::fromEntity)
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 정산 대사 시작 (from ~ to가 속한 월~일 주기들, 백그라운드 실행 - 이미 실행 중이면 그 실행을 반환)
+    @PostMapping("/reconciliation")
+    public ResponseEntity<ReconciliationRunResponseDTO> startReconciliation(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        ReconciliationRunResponseDTO response =
+                ReconciliationRunResponseDTO.fromEntity(settlementReconciliationJob.start(from, to));
+
+        return ResponseEntity.accepted().body(response);
+    }
+
+    // 정산 대사 최근 실행 목록
+    @GetMapping("/reconciliation/runs")
+    public ResponseEntity<List<ReconciliationRunResponseDTO>> getReconciliationRuns() {
+
+        List<ReconciliationRunResponseDTO> response = settlementReconciliationJob.getRecentRuns().stream()
+                .map(ReconciliationRunResponseDTO::fromEntity)
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 정산 대사 진행 상황 (완료 파티션 수/불일치 건수)
+    @GetMapping("/reconciliation/runs/{runId}")
+    public ResponseEntity<ReconciliationRunResponseDTO> getReconciliationRun(@PathVariable Long runId) {
+
+        ReconciliationRunResponseDTO response =
+                ReconciliationRunResponseDTO.fromEntity(settlementReconciliationJob.getRun(runId));
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 정산 대사 불일치 내역 (판매자, 주 순)
+    @GetMapping("/reconciliation/runs/{runId}/diffs")
+    public ResponseEntity<AdminSettlementPageResponseDTO<ReconciliationDiffResponseDTO>> getReconciliationDiffs(
+            @PathVariable Long runId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+
+        Page<ReconciliationDiff> diffs = settlementReconciliationJob.getDiffs(runId, PageRequest.of(page, size));
+        AdminSettlementPageResponseDTO<ReconciliationDiffResponseDTO> response =
+                AdminSettlementPageResponseDTO.<ReconciliationDiffResponseDTO>builder()
+                        .content(diffs.getContent().stream().map(ReconciliationDiffResponseDTO::fromEntity).toList())
+                        .totalElements(diffs.getTotalElements())
+                        .totalPages(diffs.getTotalPages())
+                        .currentPage(diffs.getNumber())
+                        .size(diffs.getSize())
+                        .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 판매자 잔액 원장 조회 (from/to가 있으면 기간 합계, 없으면 현재 잔액)
+    @GetMapping("/ledger/sellers/{sellerId}")
+    public ResponseEntity<SellerBalanceDTO> getSellerLedger(
+            @PathVariable Long sellerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        SellerBalanceDTO response = (from != null && to != null)
+                ? sellerLedgerService.getPeriodTotals(sellerId, from, to)
+                : sellerLedgerService.getBalance(sellerId);
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 판매자 잔액 원장 재생성 (판매/수수료/정산 로그에서 분개와 스냅샷을 다시 기록, 기록된 분개 수 반환)
+    @PostMapping("/ledger/rebuild")
+    public ResponseEntity<Integer> rebuildLedger() {
+
+        return ResponseEntity.ok(sellerLedgerService.rebuild());
+    }
+}
@@ -8,6 +8,7 @@ import com.realive.dto.logs.salessum.DailySalesSummaryDTO;
 import com.realive.dto.logs.salessum.MonthlySalesLogDetailListDTO;
 import com.realive.dto.logs.salessum.MonthlySalesSummaryDTO;
 import com.realive.dto.logs.salessum.SalesLogDetailListDTO;
+import com.realive.dto.logs.salessum.SalesPivotRowDTO;
 import com.realive.dto.logs.stats.AuctionPeriodStatsDTO;
 import com.realive.dto.logs.stats.MemberPeriodStatsDTO;
 import com.realive.dto.logs.stats.MemberSummaryStatsDTO;
@@ -16,7 +17,10 @@ import com.realive.dto.logs.stats.MonthBasedValueDTO;
 import com.realive.dto.logs.stats.ReviewPeriodStatsDTO;
 import com.realive.dto.logs.stats.SalesPeriodStatsDTO; // 수정된 SalesPeriodStatsDTO
 import com.realive.dto.logs.stats.SellerSalesDetailDTO; // SellerSalesDetailDTO import 추가
+import com.realive.service.admin.logs.LogExportService;
+import com.realive.service.admin.logs.SalesRollupService;
 import com.realive.service.admin.logs.StatService;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,14 +28,19 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Collections;
@@ -47,6 +56,9 @@ import java.util.Optional;
 public class AdminStatsController {
 
     private final StatService statService;
+    private final SalesRollupService salesRollupService;
+    private final LogExportService logExportService;
+    private final ActivityStatsRecorder activityStatsRecorder;
 
     @Operation(summary = "관리자 메인 대시보드 통합 정보 조회",
             description = "지정된 날짜와 기간 타입에 따른 관리자 메인 대시보드 정보를 조회합니다. " +
@@ -491,6 +503,98 @@ public class AdminStatsController {
         }
     }
 
+    @Operation(summary = "일별 판매 집계 재생성", description = "지정된 기간의 일별 판매 집계(sales_daily_rollups)를 판매 로그로부터 다시 생성합니다. 월 단위로 나누어 커밋하며, 생성된 집계 행 수를 반환합니다.")
+    @PostMapping("/sales-rollup/rebuild")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildSalesRollup(
+            @Parameter(description = "재집계 시작일 (YYYY-MM-DD)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "재집계 종료일 (YYYY-MM-DD)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("POST /api/admin/stats/sales-rollup/rebuild - startDate: {}, endDate: {}", startDate, endDate);
+        try {
+            int rows = salesRollupService.rebuild(startDate, endDate);
+            return ResponseEntity.ok(ApiResponse.success(rows));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("일별 판매 집계 재생성 중 오류 발생 - 기간: {} ~ {}", startDate, endDate, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "회원/경매 활동 집계 백필", description = "지정된 기간의 일별 활동 집계(activity_stats)를 가입/경매/입찰/판매 로그로부터 다시 계산하고, 해당 월 집계를 다시 만듭니다. 방문자 수는 원천 데이터가 없어 유지됩니다. 종료일은 오늘 이전이어야 하며, 다시 계산한 일 수를 반환합니다.")
+    @PostMapping("/activity/backfill")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> backfillActivityStats(
+            @Parameter(description = "백필 시작일 (YYYY-MM-DD)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "백필 종료일 (YYYY-MM-DD, 오늘 이전)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("POST /api/admin/stats/activity/backfill - startDate: {}, endDate: {}", startDate, endDate);
+        try {
+            int days = activityStatsRecorder.backfill(startDate, endDate);
+            return ResponseEntity.ok(ApiResponse.success(days));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("활동 집계 백필 중 오류 발생 - 기간: {} ~ {}", startDate, endDate, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "판매 피벗 조회", description = "인메모리 판매 큐브에서 기간 내 판매를 지정한 그룹 기준(DAY, MONTH, CATEGORY, SELLER, PRODUCT)과 필터 조합으로 합산합니다. 그룹 기준을 비우면 전체 합계 1행을 반환합니다.")
+    @GetMapping("/sales/pivot")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<List<SalesPivotRowDTO>>> getSalesPivot(
+            @Parameter(description = "조회 시작일 (YYYY-MM-DD)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료일 (YYYY-MM-DD)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "그룹 기준 (쉼표로 구분)", example = "MONTH,CATEGORY") @RequestParam(required = false) List<String> groupBy,
+            @Parameter(description = "카테고리 ID 필터") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "판매자 ID 필터") @RequestParam(required = false) Integer sellerId,
+            @Parameter(description = "상품 ID 필터") @RequestParam(required = false) Integer productId) {
+        log.info("GET /api/admin/stats/sales/pivot - {} ~ {}, groupBy: {}, categoryId: {}, sellerId: {}, productId: {}",
+                startDate, endDate, groupBy, categoryId, sellerId, productId);
+        try {
+            List<SalesPivotRowDTO> rows = statService.getSalesPivot(startDate, endDate,
+                    groupBy != null ? groupBy : Collections.emptyList(), categoryId, sellerId, productId);
+            return ResponseEntity.ok(ApiResponse.success(rows));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("판매 피벗 조회 중 오류 발생 - 기간: {} ~ {}", startDate, endDate, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 내부 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "판매/수수료 로그 내보내기", description = "기간 내 판매 로그를 수수료와 판매자명을 붙여 CSV 또는 NDJSON 파일로 내려받습니다. 행 수와 관계없이 DB에서 읽는 즉시 응답으로 씁니다.")
+    @GetMapping("/export/sales")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public void exportSalesLogs(
+            @Parameter(description = "조회 시작일 (YYYY-MM-DD)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "조회 종료일 (YYYY-MM-DD)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "파일 형식 ('csv', 'ndjson')", example = "csv") @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        log.info("GET /api/admin/stats/export/sales - startDate: {}, endDate: {}, format: {}", startDate, endDate, format);
+        LogExportService.Format exportFormat = LogExportService.Format.from(format);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        // 응답 헤더는 검증이 끝난 뒤에 설정 (검증 실패 시 일반 오류 응답으로 처리되도록)
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("sales_" + startDate + "_" + endDate + "." + exportFormat.getExtension())
+                .build().toString());
+        logExportService.exportSales(startDate, endDate, exportFormat, response.getOutputStream());
+    }
+
     // --- ApiResponse의 Schema 정의를 위한 내부 정적 클래스 ---
     private static class AdminDashboardDTOApiResponse extends ApiResponse<AdminDashboardDTO> {}
     private static class SalesPeriodStatsDTOApiResponse extends ApiResponse<SalesPeriodStatsDTO> {}
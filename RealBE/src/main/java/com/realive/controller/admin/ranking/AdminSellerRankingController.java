@@ -1,12 +1,17 @@
 package com.realive.controller.admin.ranking;
 
 import com.realive.dto.admin.review.SellerRankingDTO;
+import com.realive.dto.common.ApiResponse;
 import com.realive.service.admin.logs.StatService;
+import com.realive.service.review.SellerRatingStatService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,9 +24,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminSellerRankingController {
 
     private final StatService statService;
+    private final SellerRatingStatService sellerRatingStatService;
 
-    public AdminSellerRankingController(StatService statService) {
+    public AdminSellerRankingController(StatService statService, SellerRatingStatService sellerRatingStatService) {
         this.statService = statService;
+        this.sellerRatingStatService = sellerRatingStatService;
     }
 
     /**
@@ -40,4 +47,16 @@ public class AdminSellerRankingController {
     ) {
         return statService.getRanking(minReviews, pageable);
     }
+
+    /**
+     * 판매자 평점 집계(seller_rating_stats)를 전체 리뷰로부터 다시 생성합니다. (백필/정합성 복구용)
+     * 재생성이 끝날 때까지 리뷰 작성/수정에 따른 집계 갱신은 대기합니다.
+     *
+     * @return 생성된 집계 행 수
+     */
+    @PostMapping("/ranking/rebuild")
+    @PreAuthorize("hasAuthority('ROLE_ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildSellerRatingStats() {
+        return ResponseEntity.ok(ApiResponse.success(sellerRatingStatService.rebuild()));
+    }
 }
@@ -3,6 +3,8 @@ package com.realive.controller.customer.auction;
 import com.realive.domain.auction.Auction;
 import com.realive.dto.bid.BidRequestDTO;
 import com.realive.dto.bid.BidResponseDTO;
+import com.realive.dto.bid.MaxBidRequestDTO;
+import com.realive.dto.bid.MaxBidResponseDTO;
 import com.realive.dto.common.ApiResponse;
 import com.realive.dto.customer.member.MemberLoginDTO;
 import com.realive.repository.auction.AuctionRepository;
@@ -111,6 +113,35 @@ public class CustomerBidController {
         }
     }
 
+    @PostMapping("/max")
+    public ResponseEntity<ApiResponse<MaxBidResponseDTO>> placeMaxBid(
+            @Valid @RequestBody MaxBidRequestDTO requestDto) {
+        try {
+            Long customerId = getAuthenticatedCustomerId();
+
+            log.info("POST /api/customer/bids/max - 최대 입찰 요청: auctionId={}, CustomerId={}",
+                requestDto.getAuctionId(), customerId);
+
+            MaxBidResponseDTO result = bidService.placeMaxBid(requestDto.getAuctionId(), customerId, requestDto);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success("최대 입찰이 등록되었습니다.", result));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(ApiResponse.error(HttpStatus.FORBIDDEN.value(), e.getMessage()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("최대 입찰 유효성 검증 실패 - 요청 경매ID: {}, 에러: {}", requestDto.getAuctionId(), e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(HttpStatus.NOT_FOUND.value(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("최대 입찰 중 알 수 없는 오류 발생 - 요청 경매ID: {}", requestDto.getAuctionId(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "최대 입찰 중 오류가 발생했습니다."));
+        }
+    }
+
     @GetMapping("/my-bids")
     public ResponseEntity<ApiResponse<Page<BidResponseDTO>>> getMyBids(
             @PageableDefault(size = 20, sort = "bidTime", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -1,5 +1,6 @@
 package com.realive.controller.public_api;
 
+import com.realive.dto.auction.AuctionCursorResponseDTO;
 import com.realive.dto.auction.AuctionResponseDTO;
 import com.realive.dto.common.ApiResponse;
 import com.realive.service.admin.auction.AuctionService;
@@ -17,6 +18,13 @@ import org.springframework.data.domain.Sort;
 import com.realive.repository.auction.AuctionRepository;
 import com.realive.util.TickSizeCalculator;
 import com.realive.domain.auction.Auction;
+import com.realive.dto.bid.BidStreamEventDTO;
+import com.realive.serviceimpl.admin.auction.AuctionBidHub;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
 import java.util.NoSuchElementException;
 
 @Slf4j
@@ -29,6 +37,9 @@ public class PublicAuctionController {
     private final BidService bidService;
     private final AuctionRepository auctionRepository;
     private final TickSizeCalculator tickSizeCalculator;
+    private final AuctionBidHub auctionBidHub;
+
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<AuctionResponseDTO>>> getPublicAuctions(
@@ -52,6 +63,35 @@ public class PublicAuctionController {
         }
     }
 
+    /**
+     * 커서(키셋) 기반 공개 경매 목록. 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<AuctionCursorResponseDTO>> getPublicAuctionsByCursor(
+            @RequestParam(defaultValue = "endTime") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status
+    ) {
+        log.info("GET /api/public/auctions/cursor - 공개 경매 커서 목록 조회. Sort: {}, Cursor: {}, Category: {}, Status: {}",
+                sort, cursor, category, status);
+
+        try {
+            AuctionCursorResponseDTO auctions = auctionService.getAuctionsByCursor(
+                    sort, cursor, Math.min(Math.max(size, 1), 100), category, status);
+            return ResponseEntity.ok(ApiResponse.success(auctions));
+        } catch (IllegalArgumentException e) {
+            log.error("공개 경매 커서 목록 조회 요청 오류 - 에러: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("공개 경매 커서 목록 조회 중 알 수 없는 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "경매 목록 조회 중 서버 내부 오류가 발생했습니다."));
+        }
+    }
+
     @GetMapping("/{auctionId}")
     public ResponseEntity<ApiResponse<AuctionResponseDTO>> getPublicAuctionDetail(@PathVariable Integer auctionId) {
         log.info("GET /api/public/auctions/{} - 공개 경매 상세 조회", auctionId);
@@ -82,6 +122,24 @@ public class PublicAuctionController {
         }
     }
 
+    /**
+     * 경매 실시간 입찰 스트림 (SSE). 입찰이 수락될 때마다 현재가/입찰 수/최신 입찰을 전달합니다.
+     */
+    @GetMapping(value = "/{auctionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<BidStreamEventDTO>> streamPublicAuctionBids(@PathVariable Integer auctionId) {
+        log.info("GET /api/public/auctions/{}/stream - 실시간 입찰 스트림 구독", auctionId);
+
+        Flux<ServerSentEvent<BidStreamEventDTO>> events = auctionBidHub.subscribe(auctionId)
+                .map(event -> ServerSentEvent.builder(event).event("bid").build());
+
+        // 프록시 타임아웃 방지용 keep-alive 주석 이벤트 (스트림 종료 시 함께 종료)
+        return events.publish(shared -> Flux.merge(
+                shared,
+                Flux.interval(HEARTBEAT_INTERVAL)
+                        .map(tick -> ServerSentEvent.<BidStreamEventDTO>builder().comment("keep-alive").build())
+                        .takeUntilOther(shared.ignoreElements())));
+    }
+
     @GetMapping("/{auctionId}/tick-size")
     public ResponseEntity<ApiResponse<Integer>> getPublicTickSize(@PathVariable Integer auctionId) {
         log.info("GET /api/public/auctions/{}/tick-size - 공개 경매 입찰 단위 조회", auctionId);
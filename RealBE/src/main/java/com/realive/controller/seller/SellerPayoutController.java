@@ -1,14 +1,18 @@
 package com.realive.controller.seller;
 
 import com.realive.domain.seller.Seller;
+import com.realive.dto.logs.CommissionLogDTO;
 import com.realive.dto.logs.PayoutLogDTO;
 import com.realive.dto.logs.PayoutLogDetailDTO;
+import com.realive.dto.logs.SalesLogDTO;
+import com.realive.dto.seller.SellerBalanceDTO;
 import com.realive.dto.seller.SellerPayoutSummaryDTO;
 import com.realive.security.seller.SellerPrincipal;
 import com.realive.service.seller.SellerPayoutService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,6 +27,9 @@ import java.util.List;
 @RequestMapping("/api/seller/settlements")
 public class SellerPayoutController {
 
+    // 판매/수수료 로그 한 페이지 최대 크기
+    private static final int MAX_LOG_PAGE_SIZE = 100;
+
     private final SellerPayoutService sellerPayoutService;
 
     // ✅ 전체 정산 내역 조회 (페이징 지원)
@@ -73,6 +80,38 @@ public class SellerPayoutController {
         return sellerPayoutService.getPayoutSummary(principal.getId(), from, to);
     }
 
+    // ✅ 현재 잔액 조회 (판매 대금 - 수수료 - 정산 지급 - 패널티)
+    @GetMapping("/balance")
+    public SellerBalanceDTO getBalance(@AuthenticationPrincipal SellerPrincipal principal) {
+        return sellerPayoutService.getBalance(principal.getId());
+    }
+
+    // ✅ 기간별 판매 로그 조회 (내 판매만, 페이징)
+    @GetMapping("/sales-logs")
+    public Page<SalesLogDTO> getSalesLogs(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal SellerPrincipal principal
+    ) {
+        return sellerPayoutService.getSalesLogsBySeller(principal.getId(), from, to,
+                PageRequest.of(Math.max(page, 0), clampLogPageSize(size), Sort.by(Sort.Direction.DESC, "soldAt", "id")));
+    }
+
+    // ✅ 기간별 수수료 로그 조회 (내 판매만, 페이징)
+    @GetMapping("/commission-logs")
+    public Page<CommissionLogDTO> getCommissionLogs(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal SellerPrincipal principal
+    ) {
+        return sellerPayoutService.getCommissionLogsBySeller(principal.getId(), from, to,
+                PageRequest.of(Math.max(page, 0), clampLogPageSize(size), Sort.by(Sort.Direction.DESC, "recordedAt", "id")));
+    }
+
     // ✅ 정산 상세 정보 조회
     @GetMapping("/{payoutLogId}/detail")
     public PayoutLogDetailDTO getPayoutLogDetail(
@@ -82,11 +121,14 @@ public class SellerPayoutController {
         return sellerPayoutService.getPayoutLogDetail(principal.getId(), payoutLogId);
     }
 
-    // ✅ 정산 로그 자동 생성 (주문 완료 시 호출)
+    // ✅ 주문의 판매/수수료 로그 기록 (정산 로그는 주간 정산 배치에서 생성)
     @PostMapping("/generate")
     public ResponseEntity<Void> generatePayoutLog(@RequestParam Long orderId) {
         sellerPayoutService.generatePayoutLogIfNotExists(orderId);
         return ResponseEntity.ok().build();
     }
 
-}
\ No newline at end of file
+    private static int clampLogPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_LOG_PAGE_SIZE));
+    }
+}
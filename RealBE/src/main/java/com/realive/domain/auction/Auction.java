@@ -8,7 +8,19 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "auctions")
+@Table(name = "auctions", indexes = {
+        // 상태 필터 + 시작시간 조건
+        @Index(name = "idx_auctions_status_start_time", columnList = "status, start_time, id"),
+        // 기본 목록 정렬: 상태별 우선순위 > 시작시간 (OFFSET 페이지/키셋 모두 정렬 없이 인덱스 순서로 읽음)
+        @Index(name = "idx_auctions_status_priority", columnList = "status_priority, start_time, id"),
+        // 마감 임박순 목록(키셋) 및 종료 대상 조회
+        @Index(name = "idx_auctions_status_end_time", columnList = "status, end_time, id"),
+        @Index(name = "idx_auctions_end_time", columnList = "end_time, id"),
+        // 인기순(입찰 수) 목록(키셋)
+        @Index(name = "idx_auctions_bid_count", columnList = "bid_count DESC, id DESC"),
+        // 기간별 경매 생성 수 통계 (created_at 범위 조건)
+        @Index(name = "idx_auctions_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,9 +53,23 @@ public class Auction extends BaseTimeEntity {
     @Builder.Default
     private AuctionStatus status = AuctionStatus.PROCEEDING;
 
+    /**
+     * 목록 정렬용 상태 우선순위 (진행중/예정: 1, 종료: 3, 취소: 4, 실패: 5).
+     * DB가 status로부터 계산하는 저장 생성 컬럼이라 벌크 UPDATE로 상태가 바뀌어도 항상 맞습니다.
+     * 진행중과 예정은 같은 값이며, 시작시간 오름차순에서 이미 시작한 경매가 예정 경매보다 앞에 옵니다.
+     */
+    @Column(name = "status_priority", insertable = false, updatable = false,
+            columnDefinition = "smallint GENERATED ALWAYS AS (CASE status " +
+                    "WHEN 'PROCEEDING' THEN 1 WHEN 'COMPLETED' THEN 3 WHEN 'CANCELLED' THEN 4 WHEN 'FAILED' THEN 5 ELSE 6 END) STORED")
+    @Setter(AccessLevel.NONE)
+    private Integer statusPriority;
+
     @PrePersist
     protected void onCreate() {
         status = AuctionStatus.PROCEEDING;
+        if (bidCount == null) {
+            bidCount = 0;
+        }
     }
 
     public boolean isClosed() {
@@ -56,7 +82,8 @@ public class Auction extends BaseTimeEntity {
     @Column(name = "winning_customer_id")
     private Long winningCustomerId;
 
-    @Column(name = "bid_count")
+    // 인기순 키셋 정렬/커서 키라 NULL 불가 (기존 NULL 행은 AuctionBidCountInitializer가 0으로 채움)
+    @Column(name = "bid_count", nullable = false, columnDefinition = "integer default 0")
     @Builder.Default
     private Integer bidCount = 0;
 }
\ No newline at end of file
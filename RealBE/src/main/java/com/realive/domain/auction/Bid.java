@@ -7,7 +7,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        // 기간별 입찰 수 통계 (bid_time 범위 조건)
+        @Index(name = "idx_bids_bid_time", columnList = "bid_time"),
+        // 경매 종료 시 경매별 최고가 입찰 선택(DISTINCT ON) 및 경매별 입찰 내역 조회
+        @Index(name = "idx_bids_auction_price", columnList = "auction_id, bid_price DESC, bid_time, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,4 +35,8 @@ public class Bid extends BaseTimeEntity {
 
     @Column(name = "bid_time")
     private LocalDateTime bidTime;
+
+    // 입찰 저널 시퀀스 (저널 재적용 시 중복 저장 방지용)
+    @Column(name = "journal_seq", unique = true)
+    private Long journalSeq;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.realive.domain.auction;
+
+import com.realive.domain.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 최대(자동) 입찰 - 고객이 등록한 최대 금액까지 입찰 엔진이 대신 입찰
+@Entity
+@Table(name = "proxy_bids", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_proxy_bids_auction_customer", columnNames = {"auction_id", "customer_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProxyBid extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Integer auctionId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "max_price", nullable = false)
+    private Integer maxPrice;
+}
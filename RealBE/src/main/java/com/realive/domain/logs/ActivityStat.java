@@ -0,0 +1,83 @@
+package com.realive.domain.logs;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 회원/경매 활동 집계 (일 단위 + 월 단위).
+ *
+ * 가입/인증 요청/경매 등록·종료/입찰 경로에서 메모리에 누적된 값을 주기적으로 더해 저장합니다.
+ * 고유 사용자 수는 HyperLogLog 레지스터로 보관하며, 기간 조회 시 일/월 행의 스케치를 합쳐 추정합니다.
+ * 같은 값이 일 행과 해당 월 행에 함께 누적되므로, 긴 기간은 월 행 위주로 조회할 수 있습니다.
+ */
+@Entity
+@Table(name = "activity_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_activity_stats_period",
+                columnNames = {"period_type", "period_start"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ActivityStat {
+
+    public enum PeriodType { DAY, MONTH }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private PeriodType periodType;
+
+    // 일 행은 해당 일자, 월 행은 해당 월 1일
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "new_customers", nullable = false)
+    private long newCustomers;
+
+    @Column(name = "new_sellers", nullable = false)
+    private long newSellers;
+
+    @Column(name = "auctions_created", nullable = false)
+    private long auctionsCreated;
+
+    // 종료 시점 기준 낙찰 / 유찰(입찰 없음) 건수
+    @Column(name = "auctions_completed", nullable = false)
+    private long auctionsCompleted;
+
+    @Column(name = "auctions_failed", nullable = false)
+    private long auctionsFailed;
+
+    @Column(name = "bids_placed", nullable = false)
+    private long bidsPlaced;
+
+    // 인증된 요청을 보낸 회원 (고객/판매자)
+    @Column(name = "visitor_sketch")
+    private byte[] visitorSketch;
+
+    // 입찰 또는 구매한 고객
+    @Column(name = "engaged_sketch")
+    private byte[] engagedSketch;
+
+    // 입찰한 고객
+    @Column(name = "bidder_sketch")
+    private byte[] bidderSketch;
+
+    // (경매, 입찰 고객) 쌍 - 경매당 평균 참여자 수 계산용
+    @Column(name = "participation_sketch")
+    private byte[] participationSketch;
+
+    // 입찰이 들어온 경매
+    @Column(name = "bidded_auction_sketch")
+    private byte[] biddedAuctionSketch;
+
+    public ActivityStat(PeriodType periodType, LocalDate periodStart) {
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+    }
+}
@@ -10,7 +10,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "commission_logs")
+@Table(name = "commission_logs", indexes = {
+        // 판매 로그 조인 / findBySalesLogIdIn
+        @Index(name = "idx_commission_logs_sales_log_id", columnList = "sales_log_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +21,8 @@ import java.time.LocalDateTime;
 public class CommissionLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "commission_logs_seq")
+    @SequenceGenerator(name = "commission_logs_seq", sequenceName = "commission_logs_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "sales_log_id")
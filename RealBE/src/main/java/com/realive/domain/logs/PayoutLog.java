@@ -10,7 +10,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payout_logs")
+@Table(name = "payout_logs",
+        // 판매자별 정산 주기당 1행 (주간 정산 배치의 upsert 키)
+        uniqueConstraints = @UniqueConstraint(name = "uk_payout_logs_seller_period",
+                columnNames = {"seller_id", "period_start", "period_end"}),
+        indexes = {
+                // 기간별 정산 건수/금액 및 일별·월별 추이 (processed_at 범위 조건)
+                @Index(name = "idx_payout_logs_processed_at", columnList = "processed_at")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +25,8 @@ import java.time.LocalDateTime;
 public class PayoutLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payout_logs_seq")
+    @SequenceGenerator(name = "payout_logs_seq", sequenceName = "payout_logs_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "seller_id")
@@ -16,7 +16,8 @@ import lombok.Setter;
 public class PenaltyLog extends BaseTimeEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "penalty_logs_seq")
+    @SequenceGenerator(name = "penalty_logs_seq", sequenceName = "penalty_logs_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "customer_id")
@@ -0,0 +1,60 @@
+package com.realive.domain.logs;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 정산 대사 불일치 내역 - 판매자의 한 주 정산 로그와 판매/수수료 로그 합계가 다른 경우 1행.
+ */
+@Entity
+@Table(name = "reconciliation_diffs", indexes = {
+        // 실행별 불일치 목록 (판매자, 주 순 페이지 조회)
+        @Index(name = "idx_reconciliation_diffs_run_seller", columnList = "run_id, seller_id, period_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReconciliationDiff {
+
+    public enum Type {
+        MISSING_PAYOUT,   // 판매 로그는 있으나 정산 로그가 없음
+        MISSING_SALES,    // 정산 로그는 있으나 판매 로그가 없음
+        AMOUNT_MISMATCH   // 매출 또는 수수료 합계가 다름
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reconciliation_diffs_seq")
+    @SequenceGenerator(name = "reconciliation_diffs_seq", sequenceName = "reconciliation_diffs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "seller_id", nullable = false)
+    private Integer sellerId;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private Type type;
+
+    // 판매/수수료 로그 기준 합계
+    @Column(name = "expected_sales", nullable = false)
+    private long expectedSales;
+
+    @Column(name = "expected_commission", nullable = false)
+    private long expectedCommission;
+
+    // 정산 로그에 기록된 값 (정산 로그가 없으면 null)
+    @Column(name = "payout_sales")
+    private Long payoutSales;
+
+    @Column(name = "payout_commission")
+    private Long payoutCommission;
+}
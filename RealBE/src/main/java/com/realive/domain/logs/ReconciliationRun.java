@@ -0,0 +1,73 @@
+package com.realive.domain.logs;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 정산 대사 실행 기록.
+ *
+ * 판매자 ID 구간(파티션) 하나를 대사할 때마다 불일치 내역 저장과 같은 트랜잭션에서 진행 수치를 누적합니다.
+ */
+@Entity
+@Table(name = "reconciliation_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReconciliationRun {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 대사 대상 정산 주기 시작일 범위 (월요일 ~ 일요일로 맞춤)
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    @Column(name = "partition_size", nullable = false)
+    private int partitionSize;
+
+    @Column(name = "total_partitions", nullable = false)
+    private int totalPartitions;
+
+    @Column(name = "completed_partitions", nullable = false)
+    private int completedPartitions;
+
+    // 대사한 (판매자, 주) 조합 수
+    @Column(name = "checked_seller_weeks", nullable = false)
+    private long checkedSellerWeeks;
+
+    @Column(name = "mismatch_count", nullable = false)
+    private long mismatchCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public ReconciliationRun(LocalDate periodStart, LocalDate periodEnd, int partitionSize, int totalPartitions) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.partitionSize = partitionSize;
+        this.totalPartitions = totalPartitions;
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,59 @@
+package com.realive.domain.logs;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 판매 집계 (일자, 판매자, 상품 단위).
+ * SalesLog 저장과 같은 트랜잭션에서 누적되며, 카테고리는 판매 시점 상품의 카테고리를 보관합니다.
+ */
+@Entity
+@Table(name = "sales_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_daily_rollups_key",
+                columnNames = {"sold_date", "seller_id", "product_id"}),
+        indexes = {
+                @Index(name = "idx_sales_daily_rollups_seller_date", columnList = "seller_id, sold_date"),
+                @Index(name = "idx_sales_daily_rollups_product_date", columnList = "product_id, sold_date"),
+                @Index(name = "idx_sales_daily_rollups_category_date", columnList = "category_id, sold_date")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sold_date", nullable = false)
+    private LocalDate soldDate;
+
+    @Column(name = "seller_id", nullable = false)
+    private Integer sellerId;
+
+    @Column(name = "product_id", nullable = false)
+    private Integer productId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    // 판매 로그 건수 (COUNT(sl))
+    @Column(name = "sales_count", nullable = false)
+    private Long salesCount;
+
+    // 고유 주문 항목 건수 (COUNT(DISTINCT sl.orderItemId)) - 주문 항목의 첫 판매 로그에서만 증가
+    @Column(name = "order_item_count", nullable = false)
+    private Long orderItemCount;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Column(name = "total_price", nullable = false)
+    private Long totalPrice;
+}
@@ -9,15 +9,20 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "sales_logs")
+@Table(name = "sales_logs", indexes = {
+        // 판매자별 기간 조회 (판매자 정산 화면의 판매/수수료 내역)
+        @Index(name = "idx_sales_logs_seller_sold_at", columnList = "seller_id, sold_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class SalesLog {
 
+    // 풀링 시퀀스 (ID를 50개 단위로 미리 받아 INSERT를 JDBC 배치로 묶을 수 있음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_logs_seq")
+    @SequenceGenerator(name = "sales_logs_seq", sequenceName = "sales_logs_seq", allocationSize = 50)
     private Integer id;
 
     @Column(name = "order_item_id")
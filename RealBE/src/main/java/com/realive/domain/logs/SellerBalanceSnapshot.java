@@ -0,0 +1,55 @@
+package com.realive.domain.logs;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * 판매자 잔액 일별 스냅샷 - snapshot_date까지(포함) 기록된 원장 분개의 누적 합계.
+ *
+ * 분개가 있었던 날마다 1행씩 생성되며, seller_id = 0 행은 플랫폼 전체 합계입니다.
+ * 특정 날짜의 누적 값은 그 날짜 이전 최신 스냅샷 + 이후 분개(스냅샷 배치 이후 기록분)로 계산합니다.
+ */
+@Entity
+@Table(name = "seller_balance_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_seller_balance_snapshots_seller_date",
+                columnNames = {"seller_id", "snapshot_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class SellerBalanceSnapshot {
+
+    // 플랫폼 전체 합계 행의 seller_id
+    public static final int PLATFORM_SELLER_ID = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "seller_id", nullable = false)
+    private Integer sellerId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "sales_credit", nullable = false)
+    private long salesCredit;
+
+    @Column(name = "commission_debit", nullable = false)
+    private long commissionDebit;
+
+    @Column(name = "payout_debit", nullable = false)
+    private long payoutDebit;
+
+    @Column(name = "penalty_debit", nullable = false)
+    private long penaltyDebit;
+
+    @Column(name = "payout_count", nullable = false)
+    private long payoutCount;
+
+    @Column(name = "balance", nullable = false)
+    private long balance;
+}
@@ -0,0 +1,125 @@
+package com.realive.domain.logs;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 잔액 원장 (추가 전용 복식부기 분개).
+ *
+ * 분개 1행은 차변 계정과 대변 계정에 같은 금액(항상 양수)을 기록합니다. 판매자 잔액은 SELLER_PAYABLE 계정의 잔액이며,
+ * 대변이면 증가, 차변이면 감소합니다. 기록된 분개는 수정/삭제하지 않고, 금액이 바뀌면 조정 분개를 추가합니다.
+ * entry_date는 기록한 날짜로, 일별 잔액 스냅샷(seller_balance_snapshots)의 기준이 됩니다.
+ */
+@Entity
+@Table(name = "seller_ledger_entries", indexes = {
+        // 판매자별 스냅샷 이후 분개 합계
+        @Index(name = "idx_seller_ledger_entries_seller_date", columnList = "seller_id, entry_date"),
+        // 일별 스냅샷 생성 / 플랫폼 전체 합계
+        @Index(name = "idx_seller_ledger_entries_entry_date", columnList = "entry_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class SellerLedgerEntry {
+
+    public enum Account {
+        SELLER_PAYABLE,      // 판매자에게 지급할 금액 (판매자 잔액)
+        SALES_CLEARING,      // 판매 대금
+        COMMISSION_REVENUE,  // 수수료 수익
+        PAYOUT_CASH,         // 정산 지급
+        PENALTY_REVENUE      // 판매자 패널티
+    }
+
+    public enum Type {
+        SALE(Account.SALES_CLEARING),
+        COMMISSION(Account.COMMISSION_REVENUE),
+        PAYOUT(Account.PAYOUT_CASH),
+        PAYOUT_ADJUSTMENT(Account.PAYOUT_CASH), // 정산 재실행으로 지급액이 바뀐 차이
+        PENALTY(Account.PENALTY_REVENUE);
+
+        private final Account counterAccount;
+
+        Type(Account counterAccount) {
+            this.counterAccount = counterAccount;
+        }
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seller_ledger_entries_seq")
+    @SequenceGenerator(name = "seller_ledger_entries_seq", sequenceName = "seller_ledger_entries_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "seller_id", nullable = false)
+    private Integer sellerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "debit_account", nullable = false, length = 20)
+    private Account debitAccount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "credit_account", nullable = false, length = 20)
+    private Account creditAccount;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    // 원천 로그 ID (판매 로그 / 수수료 로그 / 정산 로그)
+    @Column(name = "source_id")
+    private Integer sourceId;
+
+    @Column(name = "entry_date", nullable = false)
+    private LocalDate entryDate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static SellerLedgerEntry sale(SalesLog salesLog) {
+        return of(salesLog.getSellerId(), Type.SALE, valueOf(salesLog.getTotalPrice()), salesLog.getId());
+    }
+
+    public static SellerLedgerEntry commission(Integer sellerId, CommissionLog commissionLog) {
+        return of(sellerId, Type.COMMISSION, -valueOf(commissionLog.getCommissionAmount()), commissionLog.getId());
+    }
+
+    public static SellerLedgerEntry payout(Integer sellerId, Integer payoutLogId, long payoutAmount) {
+        return of(sellerId, Type.PAYOUT, -payoutAmount, payoutLogId);
+    }
+
+    public static SellerLedgerEntry payoutAdjustment(Integer sellerId, Integer payoutLogId, long payoutDelta) {
+        return of(sellerId, Type.PAYOUT_ADJUSTMENT, -payoutDelta, payoutLogId);
+    }
+
+    /**
+     * 판매자 잔액 변화량으로 분개 생성 - 증가면 상대 계정 차변/SELLER_PAYABLE 대변, 감소면 반대.
+     */
+    private static SellerLedgerEntry of(Integer sellerId, Type type, long balanceChange, Integer sourceId) {
+        SellerLedgerEntry entry = new SellerLedgerEntry();
+        entry.setSellerId(sellerId);
+        entry.setType(type);
+        entry.setDebitAccount(balanceChange >= 0 ? type.counterAccount : Account.SELLER_PAYABLE);
+        entry.setCreditAccount(balanceChange >= 0 ? Account.SELLER_PAYABLE : type.counterAccount);
+        entry.setAmount(Math.abs(balanceChange));
+        entry.setSourceId(sourceId);
+        entry.setEntryDate(LocalDate.now());
+        entry.setCreatedAt(LocalDateTime.now());
+        return entry;
+    }
+
+    // 판매자 잔액에 미치는 영향 (SELLER_PAYABLE 대변 +, 차변 -)
+    public long getBalanceChange() {
+        return creditAccount == Account.SELLER_PAYABLE ? amount : -amount;
+    }
+
+    private static long valueOf(Integer amount) {
+        return amount != null ? amount : 0L;
+    }
+}
@@ -0,0 +1,65 @@
+package com.realive.domain.logs;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주간 정산 배치 실행 기록 (정산 주기당 1행).
+ *
+ * 판매자 ID 순으로 청크를 처리하며, 청크의 정산 로그 저장과 같은 트랜잭션에서 마지막 판매자 ID를 기록합니다.
+ * 중단된 실행은 lastSellerId 다음 판매자부터 이어서 처리합니다.
+ */
+@Entity
+@Table(name = "settlement_runs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlement_runs_period",
+                columnNames = {"period_start", "period_end"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class SettlementRun {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status;
+
+    // 마지막으로 커밋된 청크의 마지막 판매자 ID (처음부터면 0)
+    @Column(name = "last_seller_id", nullable = false)
+    private long lastSellerId;
+
+    @Column(name = "processed_sellers", nullable = false)
+    private long processedSellers;
+
+    @Column(name = "total_sales", nullable = false)
+    private long totalSales;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public SettlementRun(LocalDate periodStart, LocalDate periodEnd) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+}
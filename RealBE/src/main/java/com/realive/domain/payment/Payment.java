@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        // 기간별 완료 결제 건수/금액 통계 (status 동등 조건 + created_at 범위 조건)
+        @Index(name = "idx_payments_status_created_at", columnList = "status, created_at")
+})
 public class Payment extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,47 @@
+package com.realive.domain.review;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 판매자별 리뷰 평점 집계 (숨김 처리되지 않은 리뷰 기준).
+ * 리뷰 생성/수정/삭제/숨김과 같은 트랜잭션에서 증분으로 갱신되며, 랭킹은 (avg_rating, review_count) 인덱스로 조회합니다.
+ * 평점 분포는 FLOOR(rating + 0.5)를 1~5로 제한한 구간 기준입니다.
+ */
+@Entity
+@Table(name = "seller_rating_stats",
+        indexes = @Index(name = "idx_seller_rating_stats_ranking", columnList = "avg_rating DESC, review_count DESC"))
+@Getter
+@NoArgsConstructor
+public class SellerRatingStat {
+
+    @Id
+    @Column(name = "seller_id")
+    private Long sellerId;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Double ratingSum;
+
+    // rating_sum / review_count (리뷰가 없으면 0)
+    @Column(name = "avg_rating", nullable = false)
+    private Double avgRating;
+
+    @Column(name = "rating_1", nullable = false)
+    private Long rating1;
+
+    @Column(name = "rating_2", nullable = false)
+    private Long rating2;
+
+    @Column(name = "rating_3", nullable = false)
+    private Long rating3;
+
+    @Column(name = "rating_4", nullable = false)
+    private Long rating4;
+
+    @Column(name = "rating_5", nullable = false)
+    private Long rating5;
+}
@@ -0,0 +1,36 @@
+package com.realive.dto.admin.adminsettlement;
+
+import com.realive.domain.logs.ReconciliationDiff;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 정산 대사 불일치 내역 응답
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationDiffResponseDTO {
+    private Integer sellerId;
+    private LocalDate periodStart;
+    private String type;
+    private Long expectedSales;
+    private Long payoutSales;
+    private Long expectedCommission;
+    private Long payoutCommission;
+
+    public static ReconciliationDiffResponseDTO fromEntity(ReconciliationDiff diff) {
+        return ReconciliationDiffResponseDTO.builder()
+                .sellerId(diff.getSellerId())
+                .periodStart(diff.getPeriodStart())
+                .type(diff.getType().name())
+                .expectedSales(diff.getExpectedSales())
+                .payoutSales(diff.getPayoutSales())
+                .expectedCommission(diff.getExpectedCommission())
+                .payoutCommission(diff.getPayoutCommission())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.realive.dto.admin.adminsettlement;
+
+import com.realive.domain.logs.ReconciliationRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 정산 대사 실행 상태 응답
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationRunResponseDTO {
+    private Long runId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private String status;
+    private Integer totalPartitions;
+    private Integer completedPartitions;
+    private Double progressPercent;
+    private Long checkedSellerWeeks;
+    private Long mismatchCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+
+    public static ReconciliationRunResponseDTO fromEntity(ReconciliationRun run) {
+        double progress = run.getTotalPartitions() == 0 ? 100.0
+                : Math.round(run.getCompletedPartitions() * 1000.0 / run.getTotalPartitions()) / 10.0;
+        return ReconciliationRunResponseDTO.builder()
+                .runId(run.getId())
+                .periodStart(run.getPeriodStart())
+                .periodEnd(run.getPeriodEnd())
+                .status(run.getStatus().name())
+                .totalPartitions(run.getTotalPartitions())
+                .completedPartitions(run.getCompletedPartitions())
+                .progressPercent(progress)
+                .checkedSellerWeeks(run.getCheckedSellerWeeks())
+                .mismatchCount(run.getMismatchCount())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .lastError(run.getLastError())
+                .build();
+    }
+}
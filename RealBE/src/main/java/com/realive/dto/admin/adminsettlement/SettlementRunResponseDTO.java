@@ -0,0 +1,41 @@
+package com.realive.dto.admin.adminsettlement;
+
+import com.realive.domain.logs.SettlementRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 주간 정산 배치 실행 상태 응답
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRunResponseDTO {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private String status;
+    private Long lastSellerId;
+    private Long processedSellers;
+    private Long totalSales;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+
+    public static SettlementRunResponseDTO fromEntity(SettlementRun run) {
+        return SettlementRunResponseDTO.builder()
+                .periodStart(run.getPeriodStart())
+                .periodEnd(run.getPeriodEnd())
+                .status(run.getStatus().name())
+                .lastSellerId(run.getLastSellerId())
+                .processedSellers(run.getProcessedSellers())
+                .totalSales(run.getTotalSales())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .lastError(run.getLastError())
+                .build();
+    }
+}
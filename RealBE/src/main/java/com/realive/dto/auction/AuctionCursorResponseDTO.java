@@ -0,0 +1,20 @@
+package com.realive.dto.auction;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서(키셋) 기반 경매 목록 응답
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionCursorResponseDTO {
+
+    private List<AuctionResponseDTO> content;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -17,6 +17,7 @@ public class AuctionResponseDTO {
     private Integer id;
     private Integer startPrice;
     private Integer currentPrice;
+    private Integer bidCount;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private AuctionStatus status;
@@ -44,6 +45,7 @@ public class AuctionResponseDTO {
                 .id(auction.getId())
                 .startPrice(auction.getStartPrice())
                 .currentPrice(auction.getCurrentPrice())
+                .bidCount(auction.getBidCount())
                 .startTime(auction.getStartTime())
                 .endTime(auction.getEndTime())
                 .status(dynamicStatus)
@@ -0,0 +1,19 @@
+package com.realive.dto.bid;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 실시간 입찰 스트림(SSE) 이벤트
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidStreamEventDTO {
+
+    private Integer auctionId;
+    private Integer currentPrice;
+    private Integer bidCount;
+    private BidResponseDTO latestBid;
+}
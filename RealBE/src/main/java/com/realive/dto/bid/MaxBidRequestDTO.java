@@ -0,0 +1,21 @@
+package com.realive.dto.bid;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+// 최대(자동) 입찰 요청 DTO
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaxBidRequestDTO {
+
+    @NotNull(message = "경매 ID는 필수입니다.")
+    private Integer auctionId;
+
+    @NotNull(message = "최대 입찰 금액은 필수입니다.")
+    @Positive(message = "최대 입찰 금액은 0보다 커야 합니다.")
+    private Integer maxPrice;
+}
@@ -0,0 +1,22 @@
+package com.realive.dto.bid;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 최대(자동) 입찰 응답 (최대 금액은 등록한 본인에게만 반환)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaxBidResponseDTO {
+
+    private Integer auctionId;
+    private Integer maxPrice;
+    private Integer currentPrice;
+    private boolean leading; // 요청자가 현재 최고 입찰자인지
+    private List<BidResponseDTO> placedBids; // 이번 요청으로 생성된 입찰
+}
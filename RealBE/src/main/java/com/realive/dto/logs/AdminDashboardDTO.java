@@ -35,4 +35,7 @@ public class AdminDashboardDTO {
     
     // === 추이 데이터 ===
     private List<DateBasedValueDTO<Double>> dailyRevenueTrend;
+
+    // 조회 실패/시간 초과로 기본값이 채워진 구간 이름 (정상이면 빈 목록)
+    private List<String> degradedSections;
 }
@@ -0,0 +1,22 @@
+package com.realive.dto.logs.salessum;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+// 판매 피벗 결과 행 (그룹 기준으로 지정하지 않은 항목은 null)
+@Getter
+@Builder
+public class SalesPivotRowDTO {
+    private final LocalDate date;          // DAY
+    private final YearMonth month;         // MONTH
+    private final Long categoryId;         // CATEGORY (카테고리 없는 상품은 -1)
+    private final Integer sellerId;        // SELLER
+    private final Integer productId;       // PRODUCT
+    private final long salesCount;         // 판매 로그 건수
+    private final long orderItemCount;     // 고유 주문 항목 건수
+    private final long totalQuantity;      // 총 수량
+    private final long totalSalesAmount;   // 총 판매 금액
+}
@@ -0,0 +1,14 @@
+package com.realive.dto.logs.salessum;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일별 판매 집계 합계 (기간/판매자/상품 단위 합산 결과)
+@Getter
+@AllArgsConstructor
+public class SalesTotalsDTO {
+    private Long salesCount;      // 판매 로그 건수
+    private Long orderItemCount;  // 고유 주문 항목 건수
+    private Long totalQuantity;   // 총 수량
+    private Long totalSalesAmount; // 총 판매 금액
+}
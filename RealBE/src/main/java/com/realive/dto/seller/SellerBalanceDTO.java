@@ -0,0 +1,20 @@
+package com.realive.dto.seller;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 판매자 잔액 원장 합계 (현재 잔액 또는 기간 합계)
+@Getter
+@Builder
+public class SellerBalanceDTO {
+    private final LocalDate from;            // 기간 합계일 때 시작일 (현재 잔액이면 null)
+    private final LocalDate to;              // 기준일
+    private final Long salesCredit;          // 판매 대금
+    private final Long commissionDebit;      // 수수료 차감
+    private final Long payoutDebit;          // 정산 지급
+    private final Long penaltyDebit;         // 패널티 차감
+    private final Long payoutCount;          // 정산 건수
+    private final Long balance;              // 잔액 변화 (현재 잔액이면 지급 예정 잔액)
+}
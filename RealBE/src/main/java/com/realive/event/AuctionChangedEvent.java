@@ -0,0 +1,23 @@
+package com.realive.event;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.common.enums.AuctionStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 경매 등록/수정/취소 시 발행 (커밋 후 경매 조회 모델, 입찰 엔진, 종료 타이머, 입찰 스트림 갱신용)
+@Getter
+@RequiredArgsConstructor
+public class AuctionChangedEvent {
+
+    private final Integer auctionId;
+    private final AuctionStatus status;
+    private final LocalDateTime endTime;
+
+    public static AuctionChangedEvent of(Auction auction) {
+        return new AuctionChangedEvent(auction.getId(), auction.getStatus(), auction.getEndTime());
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 주문 배송 완료 시 발행 (커밋 후 판매/수수료 로그 기록용)
+@Getter
+@RequiredArgsConstructor
+public class DeliveryCompletedEvent {
+
+    private final Long orderId;
+
+}
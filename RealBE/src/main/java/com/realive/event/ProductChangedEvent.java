@@ -0,0 +1,13 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 상품 수정/삭제(비활성화) 시 발행 (커밋 후 경매 조회 모델의 해당 상품 항목 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final Long productId;
+
+}
@@ -0,0 +1,13 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 판매자 상태 변경(정지/비활성화) 시 발행 (커밋 후 경매 조회 모델의 해당 판매자 상품 항목 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class SellerChangedEvent {
+
+    private final Long sellerId;
+
+}
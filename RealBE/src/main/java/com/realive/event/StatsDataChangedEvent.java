@@ -0,0 +1,27 @@
+package com.realive.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 판매/정산/패널티/활동 집계/경매 상태/리뷰 공개 여부가 바뀌었을 때 발행 (커밋 후 해당 기간의 통계 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class StatsDataChangedEvent {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    public static StatsDataChangedEvent of(LocalDate date) {
+        return new StatsDataChangedEvent(date, date);
+    }
+
+    // 기존 기록의 상태가 바뀐 경우: 기록이 생성된 날짜 ~ 오늘
+    public static StatsDataChangedEvent since(LocalDateTime createdAt) {
+        LocalDate today = LocalDate.now();
+        return new StatsDataChangedEvent(createdAt != null ? createdAt.toLocalDate() : today, today);
+    }
+
+}
@@ -11,7 +11,6 @@ import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -66,37 +65,94 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer>, JpaS
     @Query("SELECT a FROM Auction a WHERE a.id = :id")
     Optional<Auction> findByIdWithLock(@Param("id") Integer id);
 
+    /**
+     * 입찰 엔진의 배치 저장 결과를 반영 (현재가는 더 높은 값으로만 갱신, 진행 중인 경매만)
+     */
+    @Modifying
+    @Query("UPDATE Auction a SET " +
+            "a.currentPrice = CASE WHEN a.currentPrice < :maxPrice THEN :maxPrice ELSE a.currentPrice END, " +
+            "a.bidCount = COALESCE(a.bidCount, 0) + :addedCount " +
+            "WHERE a.id = :id AND a.status = com.realive.domain.common.enums.AuctionStatus.PROCEEDING")
+    int applyBidBatch(@Param("id") Integer id, @Param("maxPrice") Integer maxPrice, @Param("addedCount") Integer addedCount);
+
     /**
      * 특정 상태면서 종료시간이 지난 경매 전체 조회
      */
     List<Auction> findByStatusAndEndTimeBefore(AuctionStatus status, LocalDateTime endTime);
 
     /**
-     * 특정 낙찰자가 낙찰한 경매 목록을 페이징하여 조회
+     * 특정 상태 경매의 (ID, 종료시간) 조회 - 종료 타이머 초기화용
      */
-    Page<Auction> findByWinningCustomerIdAndStatus(Long winningCustomerId, AuctionStatus status, Pageable pageable);
+    @Query("SELECT a.id, a.endTime FROM Auction a WHERE a.status = :status")
+    List<Object[]> findIdAndEndTimeByStatus(@Param("status") AuctionStatus status);
+
+    // === 경매 종료/결제 마감 일괄 처리용 (청크 단위) ===
+
+    /**
+     * 종료 시간이 지난 진행 중 경매 ID를 키셋 방식으로 청크 조회
+     */
+    @Query("SELECT a.id FROM Auction a WHERE a.status = :status AND a.endTime < :endTime AND a.id > :afterId ORDER BY a.id")
+    List<Integer> findIdsByStatusAndEndTimeBefore(@Param("status") AuctionStatus status,
+                                                  @Param("endTime") LocalDateTime endTime,
+                                                  @Param("afterId") Integer afterId,
+                                                  Pageable pageable);
 
-    // === 관리자 대시보드용 통계 메서드들 ===
-    
     /**
-     * 특정 날짜에 생성된 경매 건수 조회
+     * 청크 내 경매마다 최고가 입찰(동점이면 먼저 입찰한 건)을 골라 한 번에 낙찰 처리
      */
-    @Query("SELECT COUNT(a) FROM Auction a WHERE DATE(a.createdAt) = :date")
-    Long countAuctionsByDate(@Param("date") LocalDate date);
+    @Modifying
+    @Query(value = "UPDATE auctions a " +
+            "SET status = 'COMPLETED', winning_bid_price = w.bid_price, winning_customer_id = w.customer_id " +
+            "FROM (SELECT DISTINCT ON (b.auction_id) b.auction_id, b.bid_price, b.customer_id " +
+            "      FROM bids b WHERE b.auction_id IN (:ids) " +
+            "      ORDER BY b.auction_id, b.bid_price DESC, b.bid_time ASC, b.id ASC) w " +
+            "WHERE a.id = w.auction_id AND a.status = 'PROCEEDING'",
+            nativeQuery = true)
+    int completeWithWinningBids(@Param("ids") List<Integer> ids);
 
+    /**
+     * 낙찰 처리 후에도 진행 중으로 남은 (입찰 없는) 경매를 유찰 처리
+     */
+    @Modifying
+    @Query("UPDATE Auction a SET a.status = com.realive.domain.common.enums.AuctionStatus.FAILED " +
+            "WHERE a.id IN :ids AND a.status = com.realive.domain.common.enums.AuctionStatus.PROCEEDING")
+    int failWithoutBids(@Param("ids") List<Integer> ids);
 
+    /**
+     * 결제 마감이 지났고 낙찰자의 결제 완료 내역이 없는 경매 ID를 키셋 방식으로 청크 조회
+     */
+    @Query("SELECT a.id FROM Auction a WHERE a.status = com.realive.domain.common.enums.AuctionStatus.COMPLETED " +
+            "AND a.endTime < :deadline AND a.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM AuctionPayment p WHERE p.auctionId = a.id AND p.customerId = a.winningCustomerId " +
+            "AND p.status = com.realive.domain.common.enums.PaymentStatus.COMPLETED) " +
+            "ORDER BY a.id")
+    List<Integer> findUnpaidIdsEndedBefore(@Param("deadline") LocalDateTime deadline,
+                                           @Param("afterId") Integer afterId,
+                                           Pageable pageable);
 
     /**
-     * 특정 기간에 생성된 경매 건수 조회
+     * 결제 완료 내역이 없는 낙찰 경매를 anti-join으로 한 번에 유찰 처리
      */
-    @Query("SELECT COUNT(a) FROM Auction a WHERE DATE(a.createdAt) BETWEEN :startDate AND :endDate")
-    Long countAuctionsByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Modifying
+    @Query("UPDATE Auction a SET a.status = com.realive.domain.common.enums.AuctionStatus.FAILED, " +
+            "a.winningCustomerId = NULL, a.winningBidPrice = NULL " +
+            "WHERE a.id IN :ids AND a.status = com.realive.domain.common.enums.AuctionStatus.COMPLETED " +
+            "AND NOT EXISTS (SELECT 1 FROM AuctionPayment p WHERE p.auctionId = a.id AND p.customerId = a.winningCustomerId " +
+            "AND p.status = com.realive.domain.common.enums.PaymentStatus.COMPLETED)")
+    int failUnpaid(@Param("ids") List<Integer> ids);
 
     /**
-     * 특정 날짜/시간 범위에 생성된 경매 건수 조회 (시간 포함)
+     * 특정 낙찰자가 낙찰한 경매 목록을 페이징하여 조회
+     */
+    Page<Auction> findByWinningCustomerIdAndStatus(Long winningCustomerId, AuctionStatus status, Pageable pageable);
+
+    // === 관리자 대시보드용 통계 메서드들 ===
+    
+    /**
+     * 기간 내 생성된 경매 건수 조회 ([startDateTime, endDateTime) 반열린 구간, created_at 인덱스 사용)
      */
-    @Query("SELECT COUNT(a) FROM Auction a WHERE a.createdAt BETWEEN :startDateTime AND :endDateTime")
-    Long countAuctionsByDateTime(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+    @Query("SELECT COUNT(a) FROM Auction a WHERE a.createdAt >= :startDateTime AND a.createdAt < :endDateTime")
+    Long countAuctionsInRange(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
      * 경매별 입찰 수를 계산하는 쿼리
@@ -1,6 +1,7 @@
 package com.realive.repository.auction;
 
 import com.realive.domain.auction.Bid;
+import com.realive.dto.bid.BidResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,13 +9,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BidRepository extends JpaRepository<Bid, Integer> {
+public interface BidRepository extends JpaRepository<Bid, Integer>, BidRepositoryCustom {
 
     // 최근 입찰 1건만 가져오기 (해당 경매 & 해당 고객 기준)
     Optional<Bid> findTopByAuctionIdAndCustomerIdOrderByBidTimeDesc(Integer auctionId, Long customerId);
@@ -59,25 +59,51 @@ public interface BidRepository extends JpaRepository<Bid, Integer> {
 
     boolean existsByAuctionIdAndBidPrice(Integer auctionId, Integer bidPrice);
 
-    // === 관리자 대시보드용 통계 메서드들 ===
-    
     /**
-     * 특정 날짜에 이루어진 입찰 건수 조회
+     * 입찰 엔진 상태 로드용 - 경매의 (고객 ID, 입찰가, 저널 시퀀스)를 입찰 순서대로 조회
      */
-    @Query("SELECT COUNT(b) FROM Bid b WHERE DATE(b.bidTime) = :date")
-    Long countBidsByDate(@Param("date") LocalDate date);
+    @Query("SELECT b.customerId, b.bidPrice, b.journalSeq FROM Bid b WHERE b.auctionId = :auctionId ORDER BY b.bidTime ASC, b.id ASC")
+    List<Object[]> findBidHistorySnapshot(@Param("auctionId") Integer auctionId);
 
-    /**
-     * 특정 기간에 이루어진 입찰 건수 조회
-     */
-    @Query("SELECT COUNT(b) FROM Bid b WHERE DATE(b.bidTime) BETWEEN :startDate AND :endDate")
-    Long countBidsByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    // === 입찰 내역 조회용 (고객 이름을 조인하여 한 번에 조회) ===
+
+    @Query("SELECT new com.realive.dto.bid.BidResponseDTO(" +
+            "b.id, b.auctionId, b.customerId, b.bidPrice, b.bidTime, c.name) " +
+            "FROM Bid b LEFT JOIN Customer c ON c.id = b.customerId " +
+            "WHERE b.auctionId = :auctionId " +
+            "ORDER BY b.bidTime DESC")
+    List<BidResponseDTO> findBidResponsesByAuctionId(@Param("auctionId") Integer auctionId);
 
+    @Query(value = "SELECT new com.realive.dto.bid.BidResponseDTO(" +
+            "b.id, b.auctionId, b.customerId, b.bidPrice, b.bidTime, c.name) " +
+            "FROM Bid b LEFT JOIN Customer c ON c.id = b.customerId " +
+            "WHERE b.auctionId = :auctionId " +
+            "ORDER BY b.bidTime DESC",
+            countQuery = "SELECT count(b.id) FROM Bid b WHERE b.auctionId = :auctionId")
+    Page<BidResponseDTO> findBidResponsesByAuctionId(@Param("auctionId") Integer auctionId, Pageable pageable);
+
+    @Query(value = "SELECT new com.realive.dto.bid.BidResponseDTO(" +
+            "b.id, b.auctionId, b.customerId, b.bidPrice, b.bidTime, c.name) " +
+            "FROM Bid b LEFT JOIN Customer c ON c.id = b.customerId " +
+            "WHERE b.customerId = :customerId " +
+            "ORDER BY b.bidTime DESC",
+            countQuery = "SELECT count(b.id) FROM Bid b WHERE b.customerId = :customerId")
+    Page<BidResponseDTO> findBidResponsesByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query(value = "SELECT new com.realive.dto.bid.BidResponseDTO(" +
+            "b.id, b.auctionId, b.customerId, b.bidPrice, b.bidTime, c.name) " +
+            "FROM Bid b LEFT JOIN Customer c ON c.id = b.customerId " +
+            "ORDER BY b.bidTime DESC",
+            countQuery = "SELECT count(b.id) FROM Bid b")
+    Page<BidResponseDTO> findAllBidResponses(Pageable pageable);
+
+    // === 관리자 대시보드용 통계 메서드들 ===
+    
     /**
-     * 특정 날짜/시간 범위에 이루어진 입찰 건수 조회 (시간 포함)
+     * 기간 내 입찰 건수 조회 ([startDateTime, endDateTime) 반열린 구간, bid_time 인덱스 사용)
      */
-    @Query("SELECT COUNT(b) FROM Bid b WHERE b.bidTime BETWEEN :startDateTime AND :endDateTime")
-    Long countBidsByDateTime(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+    @Query("SELECT COUNT(b) FROM Bid b WHERE b.bidTime >= :startDateTime AND b.bidTime < :endDateTime")
+    Long countBidsInRange(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
      * 전체 입찰 내역을 최신 입찰 시간 순으로 페이징하여 조회합니다.
@@ -0,0 +1,15 @@
+package com.realive.repository.auction;
+
+import com.realive.domain.auction.Bid;
+
+import java.util.List;
+
+public interface BidRepositoryCustom {
+    /**
+     * 입찰을 다중 행 INSERT로 일괄 저장합니다. 이미 저장된 저널 시퀀스는 건너뜁니다.
+     *
+     * @param bids 저장할 입찰 목록 (journalSeq 필수)
+     * @return 실제로 새로 저장된 입찰 목록
+     */
+    List<Bid> insertAllIgnoringJournaled(List<Bid> bids);
+}
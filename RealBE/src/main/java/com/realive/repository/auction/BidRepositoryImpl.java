@@ -0,0 +1,64 @@
+package com.realive.repository.auction;
+
+import com.realive.domain.auction.Bid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class BidRepositoryImpl implements BidRepositoryCustom {
+
+    // 한 INSERT 문에 담는 최대 행 수 (PostgreSQL 바인드 파라미터 제한 고려)
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Bid> insertAllIgnoringJournaled(List<Bid> bids) {
+        List<Bid> inserted = new ArrayList<>(bids.size());
+        for (int from = 0; from < bids.size(); from += ROWS_PER_STATEMENT) {
+            List<Bid> chunk = bids.subList(from, Math.min(from + ROWS_PER_STATEMENT, bids.size()));
+            inserted.addAll(insertChunk(chunk));
+        }
+        return inserted;
+    }
+
+    private List<Bid> insertChunk(List<Bid> chunk) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO bids (auction_id, customer_id, bid_price, bid_time, journal_seq, created_at, updated_at) VALUES ");
+        List<Object> params = new ArrayList<>(chunk.size() * 7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            Bid bid = chunk.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?)");
+            params.add(bid.getAuctionId());
+            params.add(bid.getCustomerId());
+            params.add(bid.getBidPrice());
+            params.add(Timestamp.valueOf(bid.getBidTime()));
+            params.add(bid.getJournalSeq());
+            params.add(now);
+            params.add(now);
+        }
+        sql.append(" ON CONFLICT (journal_seq) DO NOTHING RETURNING journal_seq");
+
+        Set<Long> insertedSeqs = new HashSet<>(
+                jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray()));
+
+        List<Bid> inserted = new ArrayList<>(insertedSeqs.size());
+        for (Bid bid : chunk) {
+            if (insertedSeqs.contains(bid.getJournalSeq())) {
+                inserted.add(bid);
+            }
+        }
+        return inserted;
+    }
+}
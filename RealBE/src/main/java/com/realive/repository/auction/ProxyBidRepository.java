@@ -0,0 +1,20 @@
+package com.realive.repository.auction;
+
+import com.realive.domain.auction.ProxyBid;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProxyBidRepository extends JpaRepository<ProxyBid, Integer> {
+
+    Optional<ProxyBid> findByAuctionIdAndCustomerId(Integer auctionId, Long customerId);
+
+    /**
+     * 입찰 엔진 상태 로드용 - 경매의 최대 입찰을 등록(갱신) 순서대로 조회
+     */
+    @Query("SELECT p FROM ProxyBid p WHERE p.auctionId = :auctionId ORDER BY p.updatedAt, p.id")
+    List<ProxyBid> findByAuctionIdOrderByRegistration(@Param("auctionId") Integer auctionId);
+}
@@ -0,0 +1,84 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.ActivityStat;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface ActivityStatRepository extends JpaRepository<ActivityStat, Long> {
+
+    Optional<ActivityStat> findByPeriodTypeAndPeriodStart(ActivityStat.PeriodType periodType, LocalDate periodStart);
+
+    /**
+     * 기간 내 일/월 집계 행 조회
+     */
+    @Query("SELECT a FROM ActivityStat a " +
+            "WHERE a.periodType = :periodType AND a.periodStart BETWEEN :startDate AND :endDate " +
+            "ORDER BY a.periodStart")
+    List<ActivityStat> findPeriodRange(@Param("periodType") ActivityStat.PeriodType periodType,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
+
+    // === 백필용 원천 데이터 ([start, end) 반열린 구간, 컬럼 0은 날짜) ===
+
+    // 일별 신규 고객 수 - 컬럼: 날짜, 건수
+    @Query(value = "SELECT CAST(c.created_at AS date), COUNT(*) FROM customers c " +
+            "WHERE c.created_at >= :start AND c.created_at < :end GROUP BY 1", nativeQuery = true)
+    List<Object[]> countNewCustomersByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 일별 신규 판매자 수 - 컬럼: 날짜, 건수
+    @Query(value = "SELECT CAST(s.created_at AS date), COUNT(*) FROM sellers s " +
+            "WHERE s.created_at >= :start AND s.created_at < :end GROUP BY 1", nativeQuery = true)
+    List<Object[]> countNewSellersByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 일별 경매 등록 수 - 컬럼: 날짜, 건수
+    @Query(value = "SELECT CAST(a.created_at AS date), COUNT(*) FROM auctions a " +
+            "WHERE a.created_at >= :start AND a.created_at < :end GROUP BY 1", nativeQuery = true)
+    List<Object[]> countAuctionsCreatedByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 일별 경매 종료 수 (종료 시각 기준) - 컬럼: 날짜, 낙찰, 유찰(입찰 없음)
+     * 결제 마감으로 유찰된 경매는 입찰이 있었으므로 종료 시점에는 낙찰로 셉니다.
+     */
+    @Query(value = "SELECT CAST(a.end_time AS date), " +
+            "COUNT(*) FILTER (WHERE a.status = 'COMPLETED' OR COALESCE(a.bid_count, 0) > 0), " +
+            "COUNT(*) FILTER (WHERE a.status = 'FAILED' AND COALESCE(a.bid_count, 0) = 0) " +
+            "FROM auctions a " +
+            "WHERE a.status IN ('COMPLETED', 'FAILED') AND a.end_time >= :start AND a.end_time < :end " +
+            "GROUP BY 1", nativeQuery = true)
+    List<Object[]> countAuctionsClosedByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 기간 내 입찰 - 컬럼: 날짜, 경매 ID, 고객 ID
+     * 반환된 Stream은 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = "SELECT CAST(b.bid_time AS date), b.auction_id, b.customer_id FROM bids b " +
+            "WHERE b.bid_time >= :start AND b.bid_time < :end AND b.customer_id IS NOT NULL", nativeQuery = true)
+    Stream<Object[]> streamBidsByDay(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 기간 [startDate, endDate] 내 구매 고객 (판매 로그 기준, 날짜별 중복 제거) - 컬럼: 날짜, 고객 ID
+     * 반환된 Stream은 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = "SELECT DISTINCT sl.sold_at, sl.customer_id FROM sales_logs sl " +
+            "WHERE sl.sold_at BETWEEN :startDate AND :endDate AND sl.customer_id IS NOT NULL", nativeQuery = true)
+    Stream<Object[]> streamPurchasersByDay(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
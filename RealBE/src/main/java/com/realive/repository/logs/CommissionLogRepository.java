@@ -44,4 +44,16 @@ public interface CommissionLogRepository extends JpaRepository<CommissionLog, In
             "WHERE sl.soldAt BETWEEN :startDate AND :endDate")
     Integer sumCommissionAmountByDateRange(@Param("startDate") LocalDate startDate,
                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 판매자의 기간 내 판매에 대한 수수료 로그 (판매 로그와 조인, 페이징)
+     */
+    @Query(value = "SELECT cl FROM CommissionLog cl JOIN SalesLog sl ON cl.salesLogId = sl.id " +
+            "WHERE sl.sellerId = :sellerId AND sl.soldAt BETWEEN :startDate AND :endDate",
+            countQuery = "SELECT COUNT(cl) FROM CommissionLog cl JOIN SalesLog sl ON cl.salesLogId = sl.id " +
+                    "WHERE sl.sellerId = :sellerId AND sl.soldAt BETWEEN :startDate AND :endDate")
+    Page<CommissionLog> findBySellerIdAndSoldAtBetween(@Param("sellerId") Integer sellerId,
+                                                       @Param("startDate") LocalDate startDate,
+                                                       @Param("endDate") LocalDate endDate,
+                                                       Pageable pageable);
 }
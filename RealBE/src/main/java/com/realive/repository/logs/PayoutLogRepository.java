@@ -1,18 +1,21 @@
 package com.realive.repository.logs;
 
 import com.realive.domain.logs.PayoutLog;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface PayoutLogRepository extends JpaRepository<PayoutLog, Integer> {
+public interface PayoutLogRepository extends JpaRepository<PayoutLog, Integer>, PayoutLogRepositoryCustom {
 
     Optional<PayoutLog> findById(Integer id);
 
@@ -21,14 +24,14 @@ public interface PayoutLogRepository extends JpaRepository<PayoutLog, Integer> {
             " from PayoutLog pol ")
     Page<Object[]> list1(Pageable pageable);
 
-    // 특정 날짜에 처리된 총 정산 금액
-    @Query("SELECT SUM(pl.payoutAmount) FROM PayoutLog pl WHERE DATE(pl.processedAt) = :date")
-    Integer sumPayoutAmountByProcessedDate(LocalDate date);
-
     // 특정 정산 기간에 포함된 모든 정산 내역
     @Query("SELECT pl FROM PayoutLog pl WHERE :date BETWEEN pl.periodStart AND pl.periodEnd")
     List<PayoutLog> findByDateInPeriod(LocalDate date);
 
+    // 특정 판매자의 정산 기간에 날짜가 포함된 정산 내역 (seller_id로 시작하는 정산 주기 유니크 인덱스 사용)
+    @Query("SELECT pl FROM PayoutLog pl WHERE pl.sellerId = :sellerId AND :date BETWEEN pl.periodStart AND pl.periodEnd")
+    List<PayoutLog> findBySellerIdAndDateInPeriod(@Param("sellerId") Integer sellerId, @Param("date") LocalDate date);
+
     // 특정 판매자의 정산 내역
     List<PayoutLog> findBySellerId(Integer sellerId);
 
@@ -36,52 +39,30 @@ public interface PayoutLogRepository extends JpaRepository<PayoutLog, Integer> {
     List<PayoutLog> findByProcessedAtBetween(LocalDateTime startDateTime, LocalDateTime endDateTime);
 
     // === 관리자 대시보드용 집계 메서드들 ===
-    
-    /**
-     * 특정 날짜에 처리된 정산 건수 조회
-     */
-    @Query("SELECT COUNT(pl) FROM PayoutLog pl WHERE DATE(pl.processedAt) = :date")
-    Long countPayoutsByDate(@Param("date") LocalDate date);
-
-    /**
-     * 특정 기간에 처리된 정산 건수 조회
-     */
-    @Query("SELECT COUNT(pl) FROM PayoutLog pl WHERE DATE(pl.processedAt) BETWEEN :startDate AND :endDate")
-    Long countPayoutsByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    // 기간은 [startDateTime, endDateTime) 반열린 구간 - 컬럼을 함수로 감싸지 않아야 processed_at 인덱스를 탈 수 있음
 
     /**
-     * 특정 날짜/시간 범위에 처리된 정산 건수 조회 (시간 포함)
+     * 기간 내 처리된 정산 건수 조회
      */
-    @Query("SELECT COUNT(pl) FROM PayoutLog pl WHERE pl.processedAt BETWEEN :startDateTime AND :endDateTime")
-    Long countPayoutsByDateTime(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+    @Query("SELECT COUNT(pl) FROM PayoutLog pl WHERE pl.processedAt >= :startDateTime AND pl.processedAt < :endDateTime")
+    Long countPayoutsInRange(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
-     * 특정 날짜에 처리된 총 정산 금액 조회
+     * 기간 내 처리된 총 정산 금액 조회
      */
-    @Query("SELECT COALESCE(SUM(pl.payoutAmount), 0) FROM PayoutLog pl WHERE DATE(pl.processedAt) = :date")
-    Long sumPayoutAmountByDate(@Param("date") LocalDate date);
+    @Query("SELECT COALESCE(SUM(pl.payoutAmount), 0) FROM PayoutLog pl WHERE pl.processedAt >= :startDateTime AND pl.processedAt < :endDateTime")
+    Long sumPayoutAmountInRange(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
-     * 특정 기간에 처리된 총 정산 금액 조회
-     */
-    @Query("SELECT COALESCE(SUM(pl.payoutAmount), 0) FROM PayoutLog pl WHERE DATE(pl.processedAt) BETWEEN :startDate AND :endDate")
-    Long sumPayoutAmountByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-
-    /**
-     * 특정 날짜/시간 범위에 처리된 총 정산 금액 조회 (시간 포함)
-     */
-    @Query("SELECT COALESCE(SUM(pl.payoutAmount), 0) FROM PayoutLog pl WHERE pl.processedAt BETWEEN :startDateTime AND :endDateTime")
-    Long sumPayoutAmountByDateTime(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
-
-    /**
-     * 매출 추이 그래프용 - 기간별 일일 매출 합계 조회
+     * 매출 추이 그래프용 - 기간별 일일 매출 합계 조회 (그룹핑만 일자 단위, 범위 조건은 컬럼 그대로 비교)
      */
     @Query("SELECT DATE(pl.processedAt) as date, COALESCE(SUM(pl.payoutAmount), 0) as totalAmount " +
            "FROM PayoutLog pl " +
-           "WHERE DATE(pl.processedAt) BETWEEN :startDate AND :endDate " +
+           "WHERE pl.processedAt >= :startDateTime AND pl.processedAt < :endDateTime " +
            "GROUP BY DATE(pl.processedAt) " +
            "ORDER BY DATE(pl.processedAt)")
-    List<Object[]> getDailyPayoutSummary(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    List<Object[]> getDailyPayoutSummary(@Param("startDateTime") LocalDateTime startDateTime,
+                                         @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
      * 중복 로그 방지를 위한 체크
@@ -99,6 +80,14 @@ public interface PayoutLogRepository extends JpaRepository<PayoutLog, Integer> {
     @Query("SELECT pl FROM PayoutLog pl WHERE pl.sellerId = :sellerId AND pl.periodStart <= :to AND pl.periodEnd >= :from")
     List<PayoutLog> findBySellerIdAndPeriodRange(@Param("sellerId") Integer sellerId, @Param("from") LocalDate from, @Param("to") LocalDate to);
 
+    /**
+     * 특정 판매자의 기간과 겹치는 정산 내역 합계 (1행) - 컬럼: 지급액 합계, 수수료 합계, 판매 합계, 건수
+     */
+    @Query("SELECT COALESCE(SUM(pl.payoutAmount), 0), COALESCE(SUM(pl.totalCommission), 0), " +
+            "COALESCE(SUM(pl.totalSales), 0), COUNT(pl) " +
+            "FROM PayoutLog pl WHERE pl.sellerId = :sellerId AND pl.periodStart <= :to AND pl.periodEnd >= :from")
+    List<Object[]> sumBySellerIdAndPeriodRange(@Param("sellerId") Integer sellerId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
     Page<PayoutLog> findBySellerId(Integer sellerId, Pageable pageable);
 
     // 관리자용 검색 조건으로 정산 목록 조회
@@ -122,10 +111,63 @@ public interface PayoutLogRepository extends JpaRepository<PayoutLog, Integer> {
             "COUNT(pl.id), " +
             "COALESCE(SUM(pl.payout_amount), 0) " +
             "FROM payout_logs pl " +
-            "WHERE DATE(pl.processed_at) BETWEEN :startDate AND :endDate " +
+            "WHERE pl.processed_at >= :startDateTime AND pl.processed_at < :endDateTime " +
             "GROUP BY EXTRACT(YEAR FROM pl.processed_at), EXTRACT(MONTH FROM pl.processed_at) " +
             "ORDER BY yearMonth",
             nativeQuery = true)
-    List<Object[]> getMonthlyPayoutSummary(@Param("startDate") LocalDate startDate,
-                                           @Param("endDate") LocalDate endDate);
+    List<Object[]> getMonthlyPayoutSummary(@Param("startDateTime") LocalDateTime startDateTime,
+                                           @Param("endDateTime") LocalDateTime endDateTime);
+
+    /**
+     * 내보내기용 정산 로그 스트림 (정산 기간이 조회 기간 안에 포함된 건, 판매자명 조인)
+     * 컬럼: id, sellerId, sellerName, periodStart, periodEnd, totalSales, totalCommission, payoutAmount, processedAt
+     * 반환된 Stream은 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT pl.id, pl.sellerId, s.name, pl.periodStart, pl.periodEnd, " +
+            "pl.totalSales, pl.totalCommission, pl.payoutAmount, pl.processedAt " +
+            "FROM PayoutLog pl " +
+            "LEFT JOIN Seller s ON s.id = pl.sellerId " +
+            "WHERE pl.periodStart >= :startDate AND pl.periodEnd <= :endDate " +
+            "ORDER BY pl.periodStart, pl.id")
+    Stream<Object[]> streamForExport(@Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * 정산 주기의 판매자별 정산 로그 ID와 지급액 - 컬럼: sellerId, id, payoutAmount
+     * 영속성 컨텍스트를 거치지 않는 조회라 같은 트랜잭션에서 upsert 전/후 값을 각각 읽을 수 있습니다.
+     */
+    @Query("SELECT pl.sellerId, pl.id, pl.payoutAmount FROM PayoutLog pl " +
+            "WHERE pl.sellerId IN :sellerIds AND pl.periodStart = :periodStart AND pl.periodEnd = :periodEnd")
+    List<Object[]> findPayoutAmountsBySellerIdsAndPeriod(@Param("sellerIds") List<Integer> sellerIds,
+                                                         @Param("periodStart") LocalDate periodStart,
+                                                         @Param("periodEnd") LocalDate periodEnd);
+
+    /**
+     * 주간 정산 배치용 - 판매자 ID 구간 (afterSellerId, toSellerId] 에서 금액이 남아 있는 정산 주기 정산 로그 - 컬럼: sellerId, id, payoutAmount
+     * 재집계에서 빠진 판매자(환불/취소로 배송완료 매출이 없어진 판매자)의 행을 0으로 덮어쓸 때 사용합니다.
+     */
+    @Query("SELECT pl.sellerId, pl.id, pl.payoutAmount FROM PayoutLog pl " +
+            "WHERE pl.sellerId > :afterSellerId AND pl.sellerId <= :toSellerId " +
+            "AND pl.periodStart = :periodStart AND pl.periodEnd = :periodEnd " +
+            "AND (pl.totalSales <> 0 OR pl.totalCommission <> 0 OR pl.payoutAmount <> 0)")
+    List<Object[]> findNonZeroPayoutsBySellerRangeAndPeriod(@Param("afterSellerId") Integer afterSellerId,
+                                                            @Param("toSellerId") Integer toSellerId,
+                                                            @Param("periodStart") LocalDate periodStart,
+                                                            @Param("periodEnd") LocalDate periodEnd);
+
+    /**
+     * 정산 대사용 - 판매자 ID 구간 (fromSellerId, toSellerId] 에서 정산 주기 시작일이 기간 안에 있는 정산 로그
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("SELECT pl FROM PayoutLog pl " +
+            "WHERE pl.sellerId > :fromSellerId AND pl.sellerId <= :toSellerId " +
+            "AND pl.periodStart BETWEEN :startDate AND :endDate")
+    List<PayoutLog> findBySellerRangeAndPeriodStartBetween(@Param("fromSellerId") Integer fromSellerId,
+                                                           @Param("toSellerId") Integer toSellerId,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
 }
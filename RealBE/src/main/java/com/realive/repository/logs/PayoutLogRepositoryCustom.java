@@ -0,0 +1,16 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.PayoutLog;
+
+import java.util.List;
+
+public interface PayoutLogRepositoryCustom {
+    /**
+     * 정산 로그를 JDBC 배치로 저장합니다. 같은 판매자/정산 기간의 행이 있으면 금액과 처리 시각을 덮어씁니다.
+     * (같은 값으로 다시 실행해도 결과가 같음)
+     *
+     * @param payoutLogs 저장할 정산 로그 (sellerId, periodStart, periodEnd 필수)
+     * @return 저장된 행 수
+     */
+    int upsertAll(List<PayoutLog> payoutLogs);
+}
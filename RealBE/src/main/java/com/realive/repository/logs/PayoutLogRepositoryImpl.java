@@ -0,0 +1,53 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.PayoutLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PayoutLogRepositoryImpl implements PayoutLogRepositoryCustom {
+
+    // 한 번에 드라이버로 보내는 배치 크기
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO payout_logs (seller_id, period_start, period_end, total_sales, total_commission, payout_amount, processed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (seller_id, period_start, period_end) DO UPDATE SET " +
+            "total_sales = EXCLUDED.total_sales, " +
+            "total_commission = EXCLUDED.total_commission, " +
+            "payout_amount = EXCLUDED.payout_amount, " +
+            "processed_at = EXCLUDED.processed_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertAll(List<PayoutLog> payoutLogs) {
+        List<Object[]> args = new ArrayList<>(payoutLogs.size());
+        for (PayoutLog payoutLog : payoutLogs) {
+            args.add(new Object[]{
+                    payoutLog.getSellerId(),
+                    Date.valueOf(payoutLog.getPeriodStart()),
+                    Date.valueOf(payoutLog.getPeriodEnd()),
+                    payoutLog.getTotalSales(),
+                    payoutLog.getTotalCommission(),
+                    payoutLog.getPayoutAmount(),
+                    Timestamp.valueOf(payoutLog.getProcessedAt())
+            });
+        }
+
+        int saved = 0;
+        for (int from = 0; from < args.size(); from += BATCH_SIZE) {
+            int[] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, args.subList(from, Math.min(from + BATCH_SIZE, args.size())));
+            saved += counts.length;
+        }
+        return saved;
+    }
+}
@@ -0,0 +1,12 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.ReconciliationDiff;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationDiffRepository extends JpaRepository<ReconciliationDiff, Long> {
+
+    // 실행별 불일치 목록 (판매자, 주 순)
+    Page<ReconciliationDiff> findByRunIdOrderBySellerIdAscPeriodStartAsc(Long runId, Pageable pageable);
+}
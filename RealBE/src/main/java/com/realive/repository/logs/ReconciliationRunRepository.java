@@ -0,0 +1,27 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.ReconciliationRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ReconciliationRunRepository extends JpaRepository<ReconciliationRun, Long> {
+
+    // 최근 실행 기록 (시작 시각 최신순)
+    List<ReconciliationRun> findTop20ByOrderByStartedAtDesc();
+
+    /**
+     * 파티션 1개 완료 반영 - 여러 작업 스레드가 동시에 호출하므로 DB에서 누적합니다.
+     */
+    @Modifying
+    @Query("UPDATE ReconciliationRun r SET r.completedPartitions = r.completedPartitions + 1, " +
+            "r.checkedSellerWeeks = r.checkedSellerWeeks + :sellerWeeks, " +
+            "r.mismatchCount = r.mismatchCount + :mismatches " +
+            "WHERE r.id = :runId")
+    int addPartitionProgress(@Param("runId") Long runId,
+                             @Param("sellerWeeks") long sellerWeeks,
+                             @Param("mismatches") long mismatches);
+}
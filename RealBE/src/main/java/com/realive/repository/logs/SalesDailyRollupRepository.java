@@ -0,0 +1,185 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.SalesDailyRollup;
+import com.realive.dto.logs.salessum.CategorySalesSummaryDTO;
+import com.realive.dto.logs.salessum.SalesTotalsDTO;
+import com.realive.dto.logs.stats.SellerSalesDetailDTO;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 일별 판매 집계 저장소.
+ * SalesLogRepository의 기간 합계/건수 쿼리를 대신하며, 조회 비용은 판매 로그 수가 아니라 (일수 x 판매자/상품 수)에 비례합니다.
+ */
+@Repository
+public interface SalesDailyRollupRepository extends JpaRepository<SalesDailyRollup, Long> {
+
+    /**
+     * 판매 로그 1건을 일별 집계에 누적 (없으면 생성)
+     * @param orderItemCount 해당 주문 항목의 첫 판매 로그면 1, 아니면 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_daily_rollups " +
+            "(sold_date, seller_id, product_id, category_id, sales_count, order_item_count, quantity, total_price) " +
+            "VALUES (:soldDate, :sellerId, :productId, :categoryId, 1, :orderItemCount, :quantity, :totalPrice) " +
+            "ON CONFLICT (sold_date, seller_id, product_id) DO UPDATE SET " +
+            "category_id = EXCLUDED.category_id, " +
+            "sales_count = sales_daily_rollups.sales_count + 1, " +
+            "order_item_count = sales_daily_rollups.order_item_count + EXCLUDED.order_item_count, " +
+            "quantity = sales_daily_rollups.quantity + EXCLUDED.quantity, " +
+            "total_price = sales_daily_rollups.total_price + EXCLUDED.total_price",
+            nativeQuery = true)
+    int accumulate(@Param("soldDate") LocalDate soldDate,
+                   @Param("sellerId") Integer sellerId,
+                   @Param("productId") Integer productId,
+                   @Param("categoryId") Long categoryId,
+                   @Param("orderItemCount") int orderItemCount,
+                   @Param("quantity") long quantity,
+                   @Param("totalPrice") long totalPrice);
+
+    /**
+     * 재집계용 - 기간 내 집계 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM SalesDailyRollup r WHERE r.soldDate BETWEEN :startDate AND :endDate")
+    int deleteBySoldDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 재집계용 - 기간 내 판매 로그로 집계를 다시 생성
+     * 주문 항목별 첫 판매 로그(id 최소)만 고유 주문 항목 건수에 포함합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_daily_rollups " +
+            "(sold_date, seller_id, product_id, category_id, sales_count, order_item_count, quantity, total_price) " +
+            "SELECT sl.sold_at, sl.seller_id, sl.product_id, MAX(p.category_id), COUNT(*), " +
+            "COUNT(*) FILTER (WHERE sl.first_of_item), " +
+            "COALESCE(SUM(sl.quantity), 0), COALESCE(SUM(sl.total_price), 0) " +
+            "FROM (SELECT s.*, (s.order_item_id IS NOT NULL AND ROW_NUMBER() OVER " +
+            "        (PARTITION BY s.order_item_id ORDER BY s.id) = 1) AS first_of_item " +
+            "      FROM sales_logs s " +
+            "      WHERE s.order_item_id IN (SELECT x.order_item_id FROM sales_logs x " +
+            "                                WHERE x.sold_at BETWEEN :startDate AND :endDate) " +
+            "         OR (s.order_item_id IS NULL AND s.sold_at BETWEEN :startDate AND :endDate)) sl " +
+            "LEFT JOIN products p ON p.id = sl.product_id " +
+            "WHERE sl.sold_at BETWEEN :startDate AND :endDate " +
+            "GROUP BY sl.sold_at, sl.seller_id, sl.product_id",
+            nativeQuery = true)
+    int rebuildBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 전체 합계
+     */
+    @Query("SELECT new com.realive.dto.logs.salessum.SalesTotalsDTO(" +
+            "COALESCE(SUM(r.salesCount), 0L), COALESCE(SUM(r.orderItemCount), 0L), " +
+            "COALESCE(SUM(r.quantity), 0L), COALESCE(SUM(r.totalPrice), 0L)) " +
+            "FROM SalesDailyRollup r WHERE r.soldDate BETWEEN :startDate AND :endDate")
+    SalesTotalsDTO sumBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 판매자의 기간 합계
+     */
+    @Query("SELECT new com.realive.dto.logs.salessum.SalesTotalsDTO(" +
+            "COALESCE(SUM(r.salesCount), 0L), COALESCE(SUM(r.orderItemCount), 0L), " +
+            "COALESCE(SUM(r.quantity), 0L), COALESCE(SUM(r.totalPrice), 0L)) " +
+            "FROM SalesDailyRollup r WHERE r.sellerId = :sellerId AND r.soldDate BETWEEN :startDate AND :endDate")
+    SalesTotalsDTO sumBySellerIdBetween(@Param("sellerId") Integer sellerId,
+                                        @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 상품의 기간 합계
+     */
+    @Query("SELECT new com.realive.dto.logs.salessum.SalesTotalsDTO(" +
+            "COALESCE(SUM(r.salesCount), 0L), COALESCE(SUM(r.orderItemCount), 0L), " +
+            "COALESCE(SUM(r.quantity), 0L), COALESCE(SUM(r.totalPrice), 0L)) " +
+            "FROM SalesDailyRollup r WHERE r.productId = :productId AND r.soldDate BETWEEN :startDate AND :endDate")
+    SalesTotalsDTO sumByProductIdBetween(@Param("productId") Integer productId,
+                                         @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 내 일별 판매 합계 (일자, 판매 로그 건수, 고유 주문 항목 건수, 금액, 수량) - 판매가 있는 날짜만 반환
+     */
+    @Query("SELECT r.soldDate, SUM(r.salesCount), SUM(r.orderItemCount), SUM(r.totalPrice), SUM(r.quantity) " +
+            "FROM SalesDailyRollup r " +
+            "WHERE r.soldDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.soldDate")
+    List<Object[]> getDailyTotalsForPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 내 판매자별 판매 상세
+     */
+    @Query("SELECT new com.realive.dto.logs.stats.SellerSalesDetailDTO(" +
+            "r.sellerId, " +
+            "s.name, " +
+            "SUM(r.salesCount), " +
+            "SUM(r.totalPrice)) " +
+            "FROM SalesDailyRollup r " +
+            "JOIN Seller s ON r.sellerId = s.id " +
+            "WHERE r.soldDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.sellerId, s.name " +
+            "ORDER BY SUM(r.totalPrice) DESC")
+    List<SellerSalesDetailDTO> getSellerSalesDetailsForPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 내 카테고리별 판매 요약
+     */
+    @Query("SELECT new com.realive.dto.logs.salessum.CategorySalesSummaryDTO(" +
+            "c.id, " +
+            "c.name, " +
+            "SUM(r.salesCount), " +
+            "SUM(r.totalPrice), " +
+            "CAST(0 AS java.lang.Integer)) " +
+            "FROM SalesDailyRollup r " +
+            "JOIN Category c ON r.categoryId = c.id " +
+            "WHERE r.soldDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY c.id, c.name " +
+            "ORDER BY SUM(r.totalPrice) DESC")
+    List<CategorySalesSummaryDTO> findCategorySalesSummaryBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 판매자의 일별 매출 추이 (일자, 고유 주문 항목 건수, 금액)
+     */
+    @Query("SELECT r.soldDate, SUM(r.orderItemCount), SUM(r.totalPrice) " +
+            "FROM SalesDailyRollup r " +
+            "WHERE r.sellerId = :sellerId AND r.soldDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.soldDate " +
+            "ORDER BY r.soldDate")
+    List<Object[]> getDailySalesBySellerId(@Param("sellerId") Integer sellerId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * 판매자의 월별 매출 추이 (YYYY-MM, 고유 주문 항목 건수, 금액)
+     */
+    @Query(value = "SELECT CONCAT(EXTRACT(YEAR FROM r.sold_date), '-', LPAD(CAST(EXTRACT(MONTH FROM r.sold_date) AS TEXT), 2, '0')) AS yearMonth, " +
+            "SUM(r.order_item_count), SUM(r.total_price) " +
+            "FROM sales_daily_rollups r " +
+            "WHERE r.seller_id = :sellerId AND r.sold_date BETWEEN :startDate AND :endDate " +
+            "GROUP BY EXTRACT(YEAR FROM r.sold_date), EXTRACT(MONTH FROM r.sold_date) " +
+            "ORDER BY EXTRACT(YEAR FROM r.sold_date), EXTRACT(MONTH FROM r.sold_date)",
+            nativeQuery = true)
+    List<Object[]> getMonthlySalesBySellerId(@Param("sellerId") Integer sellerId,
+                                             @Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 인메모리 판매 큐브 적재용 전체 집계 행 스트림 (일자 순, fetch size 단위로 커서에서 읽음)
+     * 컬럼: soldDate, categoryId, sellerId, productId, salesCount, orderItemCount, quantity, totalPrice
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r.soldDate, r.categoryId, r.sellerId, r.productId, r.salesCount, r.orderItemCount, r.quantity, r.totalPrice " +
+            "FROM SalesDailyRollup r " +
+            "ORDER BY r.soldDate")
+    Stream<Object[]> streamAllOrderBySoldDate();
+}
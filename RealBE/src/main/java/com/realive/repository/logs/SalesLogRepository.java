@@ -5,16 +5,20 @@ import com.realive.dto.logs.salessum.CategorySalesSummaryDTO;
 import com.realive.dto.logs.salessum.DailySalesSummaryDTO;
 import com.realive.dto.logs.salessum.MonthlySalesSummaryDTO;
 import com.realive.dto.logs.stats.SellerSalesDetailDTO;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface SalesLogRepository extends JpaRepository<SalesLog, Integer>, JpaSpecificationExecutor<SalesLog> {
@@ -143,6 +147,17 @@ public interface SalesLogRepository extends JpaRepository<SalesLog, Integer>, Jp
     @Query("SELECT SUM(sl.quantity) FROM SalesLog sl WHERE sl.productId = :productId AND sl.soldAt BETWEEN :startDate AND :endDate")
     Integer sumQuantityByProductIdAndSoldAtBetween(@Param("productId") Integer productId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    /**
+     * 주문 항목의 판매 로그 존재 여부 (일별 집계의 고유 주문 항목 건수 판단용)
+     */
+    boolean existsByOrderItemId(Integer orderItemId);
+
+    /**
+     * 판매 로그가 이미 있는 주문 항목 ID (주문 단위로 첫 판매 로그 여부를 한 번에 판단)
+     */
+    @Query("SELECT DISTINCT sl.orderItemId FROM SalesLog sl WHERE sl.orderItemId IN :orderItemIds")
+    List<Integer> findLoggedOrderItemIds(@Param("orderItemIds") List<Integer> orderItemIds);
+
     /**
      * 특정 기간 동안의 모든 판매 로그 목록 조회
      * @param startDate 조회 시작일
@@ -303,4 +318,68 @@ public interface SalesLogRepository extends JpaRepository<SalesLog, Integer>, Jp
                                              @Param("startDate") LocalDate startDate,
                                              @Param("endDate") LocalDate endDate);
 
+    /**
+     * 내보내기용 판매 로그 스트림 (수수료/판매자명을 함께 조인, fetch size 단위로 커서에서 읽음)
+     * 컬럼: id, soldAt, sellerId, sellerName, productId, orderItemId, customerId, quantity, unitPrice, totalPrice, commissionRate, commissionAmount
+     * 반환된 Stream은 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT sl.id, sl.soldAt, sl.sellerId, s.name, sl.productId, sl.orderItemId, sl.customerId, " +
+            "sl.quantity, sl.unitPrice, sl.totalPrice, cl.commissionRate, cl.commissionAmount " +
+            "FROM SalesLog sl " +
+            "LEFT JOIN CommissionLog cl ON cl.salesLogId = sl.id " +
+            "LEFT JOIN Seller s ON s.id = sl.sellerId " +
+            "WHERE sl.soldAt BETWEEN :startDate AND :endDate " +
+            "ORDER BY sl.soldAt, sl.id")
+    Stream<Object[]> streamForExport(@Param("startDate") LocalDate startDate,
+                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 내 판매 로그와 수수료 로그를 한 번에 조인 조회 (ID 순 키셋 페이지)
+     * 각 행은 [SalesLog, CommissionLog(없으면 null)] 이며, afterId 다음 ID부터 pageable 크기만큼 반환합니다.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("SELECT sl, cl FROM SalesLog sl " +
+            "LEFT JOIN CommissionLog cl ON cl.salesLogId = sl.id " +
+            "WHERE sl.soldAt BETWEEN :startDate AND :endDate AND sl.id > :afterId " +
+            "ORDER BY sl.id")
+    List<Object[]> findWithCommissionBetween(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("afterId") Integer afterId,
+                                             Pageable pageable);
+
+    /**
+     * 특정 판매자의 기간 내 판매 로그 (seller_id, sold_at 인덱스 사용)
+     */
+    Page<SalesLog> findBySellerIdAndSoldAtBetween(Integer sellerId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    /**
+     * 정산 대사용 - 판매자 ID 구간 (fromSellerId, toSellerId] 의 주(월~일)별 판매/수수료 합계 스트림
+     * 주간 정산 배치와 같은 기준으로 묶습니다: 배송완료된 주문의 판매 로그만, 배송완료 시각(order_delivery.updated_at)의 주로,
+     * 금액은 단가 x 수량(total_price). 기간은 [startDateTime, endDateTime) 반열린 구간입니다.
+     * 컬럼: sellerId, 주 시작일(월요일), 판매 합계, 수수료 합계, 수수료 로그 수 (판매자ID, 주 순)
+     * 반환된 Stream은 트랜잭션 안에서 소비하고 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = "SELECT sl.seller_id, CAST(date_trunc('week', od.updated_at) AS date) AS week_start, " +
+            "SUM(sl.total_price), COALESCE(SUM(cl.commission_amount), 0), COUNT(cl.id) " +
+            "FROM sales_logs sl " +
+            "JOIN order_items oi ON oi.id = sl.order_item_id " +
+            "JOIN order_delivery od ON od.order_id = oi.order_id AND od.delivery_status = 'DELIVERY_COMPLETED' " +
+            "LEFT JOIN commission_logs cl ON cl.sales_log_id = sl.id " +
+            "WHERE sl.seller_id > :fromSellerId AND sl.seller_id <= :toSellerId " +
+            "AND od.updated_at >= :startDateTime AND od.updated_at < :endDateTime " +
+            "GROUP BY sl.seller_id, week_start " +
+            "ORDER BY sl.seller_id, week_start",
+            nativeQuery = true)
+    Stream<Object[]> streamWeeklyTotalsBySellerRange(@Param("fromSellerId") Integer fromSellerId,
+                                                     @Param("toSellerId") Integer toSellerId,
+                                                     @Param("startDateTime") LocalDateTime startDateTime,
+                                                     @Param("endDateTime") LocalDateTime endDateTime);
 }
@@ -0,0 +1,67 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.SellerBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface SellerBalanceSnapshotRepository extends JpaRepository<SellerBalanceSnapshot, Long> {
+
+    // 날짜 이전(포함) 최신 스냅샷 (seller_id, snapshot_date 유니크 인덱스 사용)
+    Optional<SellerBalanceSnapshot> findTopBySellerIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Integer sellerId, LocalDate snapshotDate);
+
+    // 가장 최근 스냅샷 (플랫폼 행으로 스냅샷 배치 진행 위치 확인)
+    Optional<SellerBalanceSnapshot> findTopBySellerIdOrderBySnapshotDateDesc(Integer sellerId);
+
+    /**
+     * 하루치 스냅샷 생성 - 그날 분개가 있는 판매자(+ 플랫폼 전체 행)마다 직전 스냅샷에 그날 합계를 더해 upsert
+     * 잔액 변화: SELLER_PAYABLE 대변이면 +, 차변이면 - / 차감 항목(수수료/정산/패널티)은 양수로 누적
+     */
+    @Modifying
+    @Query(value = "INSERT INTO seller_balance_snapshots " +
+            "(seller_id, snapshot_date, sales_credit, commission_debit, payout_debit, penalty_debit, payout_count, balance) " +
+            "SELECT d.seller_id, CAST(:day AS date), " +
+            "COALESCE(p.sales_credit, 0) + d.sales_credit, " +
+            "COALESCE(p.commission_debit, 0) + d.commission_debit, " +
+            "COALESCE(p.payout_debit, 0) + d.payout_debit, " +
+            "COALESCE(p.penalty_debit, 0) + d.penalty_debit, " +
+            "COALESCE(p.payout_count, 0) + d.payout_count, " +
+            "COALESCE(p.balance, 0) + d.balance " +
+            "FROM (" +
+            "  SELECT COALESCE(e.seller_id, 0) AS seller_id, " +
+            "  SUM(CASE WHEN e.entry_type = 'SALE' THEN e.balance_change ELSE 0 END) AS sales_credit, " +
+            "  -SUM(CASE WHEN e.entry_type = 'COMMISSION' THEN e.balance_change ELSE 0 END) AS commission_debit, " +
+            "  -SUM(CASE WHEN e.entry_type IN ('PAYOUT', 'PAYOUT_ADJUSTMENT') THEN e.balance_change ELSE 0 END) AS payout_debit, " +
+            "  -SUM(CASE WHEN e.entry_type = 'PENALTY' THEN e.balance_change ELSE 0 END) AS penalty_debit, " +
+            "  SUM(CASE WHEN e.entry_type = 'PAYOUT' THEN 1 ELSE 0 END) AS payout_count, " +
+            "  SUM(e.balance_change) AS balance " +
+            "  FROM (SELECT x.seller_id, x.entry_type, " +
+            "        CASE WHEN x.credit_account = 'SELLER_PAYABLE' THEN x.amount ELSE -x.amount END AS balance_change " +
+            "        FROM seller_ledger_entries x WHERE x.entry_date = :day) e " +
+            "  GROUP BY GROUPING SETS ((e.seller_id), ()) " +
+            "  HAVING COUNT(*) > 0" +
+            ") d " +
+            "LEFT JOIN LATERAL (" +
+            "  SELECT s.* FROM seller_balance_snapshots s " +
+            "  WHERE s.seller_id = d.seller_id AND s.snapshot_date < :day " +
+            "  ORDER BY s.snapshot_date DESC LIMIT 1" +
+            ") p ON TRUE " +
+            "ON CONFLICT (seller_id, snapshot_date) DO UPDATE SET " +
+            "sales_credit = EXCLUDED.sales_credit, " +
+            "commission_debit = EXCLUDED.commission_debit, " +
+            "payout_debit = EXCLUDED.payout_debit, " +
+            "penalty_debit = EXCLUDED.penalty_debit, " +
+            "payout_count = EXCLUDED.payout_count, " +
+            "balance = EXCLUDED.balance",
+            nativeQuery = true)
+    int upsertDay(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query(value = "DELETE FROM seller_balance_snapshots", nativeQuery = true)
+    int deleteAllSnapshots();
+}
@@ -0,0 +1,97 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.SellerLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SellerLedgerEntryRepository extends JpaRepository<SellerLedgerEntry, Long> {
+
+    /**
+     * 판매자의 (afterDate, toDate] 분개 합계 - 컬럼: 분개 유형, 잔액 변화 합계, 건수
+     * 스냅샷 이후 분개만 조회하므로 보통 당일 분개만 읽습니다.
+     */
+    @Query("SELECT e.type, SUM(CASE WHEN e.creditAccount = :payable THEN e.amount ELSE -e.amount END), COUNT(e) " +
+            "FROM SellerLedgerEntry e " +
+            "WHERE e.sellerId = :sellerId AND e.entryDate > :afterDate AND e.entryDate <= :toDate " +
+            "GROUP BY e.type")
+    List<Object[]> sumBySellerIdAndEntryDateBetween(@Param("sellerId") Integer sellerId,
+                                                    @Param("afterDate") LocalDate afterDate,
+                                                    @Param("toDate") LocalDate toDate,
+                                                    @Param("payable") SellerLedgerEntry.Account payable);
+
+    /**
+     * 전체 판매자의 (afterDate, toDate] 분개 합계 - 컬럼: 분개 유형, 잔액 변화 합계, 건수
+     */
+    @Query("SELECT e.type, SUM(CASE WHEN e.creditAccount = :payable THEN e.amount ELSE -e.amount END), COUNT(e) " +
+            "FROM SellerLedgerEntry e " +
+            "WHERE e.entryDate > :afterDate AND e.entryDate <= :toDate " +
+            "GROUP BY e.type")
+    List<Object[]> sumByEntryDateBetween(@Param("afterDate") LocalDate afterDate,
+                                         @Param("toDate") LocalDate toDate,
+                                         @Param("payable") SellerLedgerEntry.Account payable);
+
+    // 스냅샷을 만들어야 하는 날짜 (분개가 있었던 날만)
+    @Query("SELECT DISTINCT e.entryDate FROM SellerLedgerEntry e " +
+            "WHERE e.entryDate > :afterDate AND e.entryDate <= :toDate ORDER BY e.entryDate")
+    List<LocalDate> findEntryDatesBetween(@Param("afterDate") LocalDate afterDate,
+                                          @Param("toDate") LocalDate toDate);
+
+    // === 기동 시 백필 여부 확인 ===
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM seller_ledger_entries)", nativeQuery = true)
+    boolean existsAnyEntry();
+
+    // 원장에 옮길 원천 로그(판매/정산)가 있는지
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM sales_logs WHERE total_price > 0) " +
+            "OR EXISTS (SELECT 1 FROM payout_logs WHERE payout_amount > 0)", nativeQuery = true)
+    boolean existsSourceLogs();
+
+    // === 원장 재생성 (잠금 → 전체 삭제 → 원천 로그에서 다시 기록) ===
+
+    @Modifying
+    @Query(value = "LOCK TABLE seller_ledger_entries, seller_balance_snapshots IN EXCLUSIVE MODE", nativeQuery = true)
+    int lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM seller_ledger_entries", nativeQuery = true)
+    int deleteAllEntries();
+
+    // 판매 로그 → 판매 대금 차변 / 판매자 잔액 대변
+    @Modifying
+    @Query(value = "INSERT INTO seller_ledger_entries " +
+            "(id, seller_id, entry_type, debit_account, credit_account, amount, source_id, entry_date, created_at) " +
+            "SELECT nextval('seller_ledger_entries_seq'), sl.seller_id, 'SALE', 'SALES_CLEARING', 'SELLER_PAYABLE', " +
+            "sl.total_price, sl.id, sl.sold_at, now() " +
+            "FROM sales_logs sl " +
+            "WHERE sl.seller_id IS NOT NULL AND sl.sold_at IS NOT NULL AND sl.total_price > 0",
+            nativeQuery = true)
+    int rebuildSaleEntries();
+
+    // 수수료 로그 → 판매자 잔액 차변 / 수수료 수익 대변
+    @Modifying
+    @Query(value = "INSERT INTO seller_ledger_entries " +
+            "(id, seller_id, entry_type, debit_account, credit_account, amount, source_id, entry_date, created_at) " +
+            "SELECT nextval('seller_ledger_entries_seq'), sl.seller_id, 'COMMISSION', 'SELLER_PAYABLE', 'COMMISSION_REVENUE', " +
+            "cl.commission_amount, cl.id, COALESCE(CAST(cl.recorded_at AS date), sl.sold_at), now() " +
+            "FROM commission_logs cl " +
+            "JOIN sales_logs sl ON sl.id = cl.sales_log_id " +
+            "WHERE sl.seller_id IS NOT NULL AND cl.commission_amount > 0",
+            nativeQuery = true)
+    int rebuildCommissionEntries();
+
+    // 정산 로그(현재 지급액) → 판매자 잔액 차변 / 정산 지급 대변
+    @Modifying
+    @Query(value = "INSERT INTO seller_ledger_entries " +
+            "(id, seller_id, entry_type, debit_account, credit_account, amount, source_id, entry_date, created_at) " +
+            "SELECT nextval('seller_ledger_entries_seq'), pl.seller_id, 'PAYOUT', 'SELLER_PAYABLE', 'PAYOUT_CASH', " +
+            "pl.payout_amount, pl.id, COALESCE(CAST(pl.processed_at AS date), pl.period_end), now() " +
+            "FROM payout_logs pl " +
+            "WHERE pl.seller_id IS NOT NULL AND pl.payout_amount > 0",
+            nativeQuery = true)
+    int rebuildPayoutEntries();
+}
@@ -0,0 +1,16 @@
+package com.realive.repository.logs;
+
+import com.realive.domain.logs.SettlementRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+
+    Optional<SettlementRun> findByPeriodStartAndPeriodEnd(LocalDate periodStart, LocalDate periodEnd);
+
+    // 최근 실행 기록 (정산 주기 최신순)
+    List<SettlementRun> findTop20ByOrderByPeriodStartDesc();
+}
@@ -1,6 +1,7 @@
 package com.realive.repository.order;
 
 import com.realive.domain.order.OrderItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -47,7 +48,7 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
   * 배송완료된 주문 중, 특정 판매자의 정산 기간 내 총 매출 합산
   */
  @Query("""
-                SELECT SUM(oi.price)
+                SELECT SUM(oi.price * oi.quantity)
                 FROM OrderItem oi
                 JOIN oi.product p
                 JOIN oi.order o
@@ -61,6 +62,28 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
          @Param("startDate") LocalDateTime startDate,
          @Param("endDate") LocalDateTime endDate);
 
+ /**
+  * 주간 정산 배치용 - 정산 기간 [startDate, endDate) 내 배송완료 매출을 판매자별로 합산 (판매자 ID 순 키셋 청크)
+  * 각 행은 [sellerId, 매출 합계(단가 x 수량)] 입니다.
+  */
+ @Query("""
+                SELECT p.seller.id, SUM(oi.price * oi.quantity)
+                FROM OrderItem oi
+                JOIN oi.product p
+                JOIN oi.order o
+                JOIN OrderDelivery od ON od.order.id = o.id
+                WHERE od.status = 'DELIVERY_COMPLETED'
+                    AND od.updatedAt >= :startDate AND od.updatedAt < :endDate
+                    AND p.seller.id > :afterSellerId
+                GROUP BY p.seller.id
+                ORDER BY p.seller.id
+            """)
+ List<Object[]> sumDeliveredSalesGroupedBySeller(
+         @Param("startDate") LocalDateTime startDate,
+         @Param("endDate") LocalDateTime endDate,
+         @Param("afterSellerId") Long afterSellerId,
+         Pageable pageable);
+
  /**
   * 배송완료된 주문 중, 특정 판매자의 정산 기간 내 판매건 상세 조회
   */
@@ -6,8 +6,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -15,40 +15,30 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderId(Long orderId);
 
     // === 관리자 대시보드용 집계 메서드들 ===
-    
-    /**
-     * 특정 날짜에 완료된 결제 건수 조회
-     */
-    @Query("SELECT COUNT(p) FROM Payment p WHERE DATE(p.createdAt) = :date AND p.status = 'COMPLETED'")
-    Long countCompletedPaymentsByDate(@Param("date") LocalDate date);
-
-    /**
-     * 특정 기간에 완료된 결제 건수 조회
-     */
-    @Query("SELECT COUNT(p) FROM Payment p WHERE DATE(p.createdAt) BETWEEN :startDate AND :endDate AND p.status = 'COMPLETED'")
-    Long countCompletedPaymentsByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-
-    /**
-     * 특정 날짜에 완료된 결제 총액 조회
-     */
-    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE DATE(p.createdAt) = :date AND p.status = 'COMPLETED'")
-    Long sumCompletedPaymentAmountByDate(@Param("date") LocalDate date);
+    // 기간은 [startDateTime, endDateTime) 반열린 구간 - 컬럼을 함수로 감싸지 않아야 created_at 인덱스를 탈 수 있음
 
     /**
-     * 특정 기간에 완료된 결제 총액 조회
+     * 기간 내 완료된 결제 건수 조회
      */
-    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE DATE(p.createdAt) BETWEEN :startDate AND :endDate AND p.status = 'COMPLETED'")
-    Long sumCompletedPaymentAmountByDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Query("SELECT COUNT(p) FROM Payment p " +
+           "WHERE p.status = 'COMPLETED' AND p.createdAt >= :startDateTime AND p.createdAt < :endDateTime")
+    Long countCompletedPaymentsInRange(@Param("startDateTime") LocalDateTime startDateTime,
+                                       @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
-     * 특정 날짜/시간 범위에 완료된 결제 조회 (시간 포함)
+     * 기간 내 완료된 결제 총액 조회
      */
-    @Query("SELECT COUNT(p) FROM Payment p WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime AND p.status = 'COMPLETED'")
-    Long countCompletedPaymentsByDateTime(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p " +
+           "WHERE p.status = 'COMPLETED' AND p.createdAt >= :startDateTime AND p.createdAt < :endDateTime")
+    Long sumCompletedPaymentAmountInRange(@Param("startDateTime") LocalDateTime startDateTime,
+                                          @Param("endDateTime") LocalDateTime endDateTime);
 
     /**
-     * 특정 날짜/시간 범위에 완료된 결제 총액 조회 (시간 포함)
+     * 기간 내 일별 완료 결제 총액 (일자, 총액) - 결제가 있는 날짜만 반환
      */
-    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.createdAt BETWEEN :startDateTime AND :endDateTime AND p.status = 'COMPLETED'")
-    Long sumCompletedPaymentAmountByDateTime(@Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+    @Query("SELECT DATE(p.createdAt), COALESCE(SUM(p.amount), 0) FROM Payment p " +
+           "WHERE p.createdAt >= :startDateTime AND p.createdAt < :endDateTime AND p.status = 'COMPLETED' " +
+           "GROUP BY DATE(p.createdAt)")
+    List<Object[]> getDailyCompletedPaymentSummary(@Param("startDateTime") LocalDateTime startDateTime,
+                                                   @Param("endDateTime") LocalDateTime endDateTime);
 }
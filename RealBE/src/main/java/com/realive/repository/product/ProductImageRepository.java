@@ -34,6 +34,12 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Long
      @Query("SELECT pi.url FROM ProductImage pi WHERE pi.product.id = :productId")
     List<String> findUrlsByProductId(@Param("productId") Long productId);
 
+    // ✅ 여러 상품 ID에 대한 전체 이미지 URL을 한 번에 조회 (상품 ID, URL)
+    @Query("SELECT pi.product.id, pi.url FROM ProductImage pi " +
+            "WHERE pi.product.id IN :productIds " +
+            "ORDER BY pi.product.id, pi.id")
+    List<Object[]> findUrlsByProductIds(@Param("productIds") List<Long> productIds);
+
      // 썸네일이 아닌 IMAGE 타입 이미지
     @Query("SELECT pi.url FROM ProductImage pi " +
             "WHERE pi.product.id = :productId " +
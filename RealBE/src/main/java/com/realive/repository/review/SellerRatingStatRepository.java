@@ -0,0 +1,97 @@
+package com.realive.repository.review;
+
+import com.realive.domain.review.SellerRatingStat;
+import com.realive.dto.admin.review.SellerRankingDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 판매자별 리뷰 평점 집계 저장소.
+ * SellerReviewRepository의 판매자 단위 AVG/COUNT/GROUP BY 쿼리를 대신하며, 조회 비용은 리뷰 수와 무관합니다.
+ */
+@Repository
+public interface SellerRatingStatRepository extends JpaRepository<SellerRatingStat, Long> {
+
+    /**
+     * 판매자 집계에 증분을 더합니다. (없으면 생성, 행 단위 원자적 갱신)
+     * @param countDelta 리뷰 수 증감
+     * @param sumDelta 평점 합계 증감
+     * @param avgIfNew 집계 행이 없을 때 저장할 평균
+     * @param r1 ~ r5 평점 구간별 리뷰 수 증감
+     */
+    @Modifying
+    @Query(value = "INSERT INTO seller_rating_stats " +
+            "(seller_id, review_count, rating_sum, avg_rating, rating_1, rating_2, rating_3, rating_4, rating_5) " +
+            "VALUES (:sellerId, :countDelta, :sumDelta, :avgIfNew, :r1, :r2, :r3, :r4, :r5) " +
+            "ON CONFLICT (seller_id) DO UPDATE SET " +
+            "review_count = seller_rating_stats.review_count + EXCLUDED.review_count, " +
+            "rating_sum = seller_rating_stats.rating_sum + EXCLUDED.rating_sum, " +
+            "avg_rating = CASE WHEN seller_rating_stats.review_count + EXCLUDED.review_count > 0 " +
+            "  THEN (seller_rating_stats.rating_sum + EXCLUDED.rating_sum) " +
+            "       / (seller_rating_stats.review_count + EXCLUDED.review_count) ELSE 0 END, " +
+            "rating_1 = seller_rating_stats.rating_1 + EXCLUDED.rating_1, " +
+            "rating_2 = seller_rating_stats.rating_2 + EXCLUDED.rating_2, " +
+            "rating_3 = seller_rating_stats.rating_3 + EXCLUDED.rating_3, " +
+            "rating_4 = seller_rating_stats.rating_4 + EXCLUDED.rating_4, " +
+            "rating_5 = seller_rating_stats.rating_5 + EXCLUDED.rating_5",
+            nativeQuery = true)
+    int applyDelta(@Param("sellerId") Long sellerId,
+                   @Param("countDelta") long countDelta,
+                   @Param("sumDelta") double sumDelta,
+                   @Param("avgIfNew") double avgIfNew,
+                   @Param("r1") long r1,
+                   @Param("r2") long r2,
+                   @Param("r3") long r3,
+                   @Param("r4") long r4,
+                   @Param("r5") long r5);
+
+    /**
+     * 판매자별 평균 평점 내림차순, 리뷰 개수 내림차순 랭킹 (집계 테이블 인덱스 사용)
+     * 리뷰 수가 minReviews 미만인 판매자는 제외합니다.
+     */
+    @Query(value = "SELECT new com.realive.dto.admin.review.SellerRankingDTO(" +
+            "st.sellerId, s.name, st.avgRating, st.reviewCount) " +
+            "FROM SellerRatingStat st JOIN Seller s ON s.id = st.sellerId " +
+            "WHERE st.reviewCount > 0 AND st.reviewCount >= :minReviews " +
+            "ORDER BY st.avgRating DESC, st.reviewCount DESC",
+            countQuery = "SELECT COUNT(st) FROM SellerRatingStat st " +
+                    "WHERE st.reviewCount > 0 AND st.reviewCount >= :minReviews")
+    Page<SellerRankingDTO> findSellerRankings(@Param("minReviews") long minReviews, Pageable pageable);
+
+    /**
+     * 재집계용 - 재집계가 커밋될 때까지 증분 갱신을 대기시킴
+     * (이미 진행 중인 리뷰 트랜잭션은 먼저 커밋되어 재집계에 포함되고, 이후의 갱신은 재집계 결과 위에 더해짐)
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE seller_rating_stats IN EXCLUSIVE MODE", nativeQuery = true)
+    int lockForRebuild();
+
+    /**
+     * 재집계용 - 전체 집계 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM seller_rating_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    /**
+     * 재집계용 - 숨김 처리되지 않은 리뷰로 판매자별 집계를 다시 생성
+     */
+    @Modifying
+    @Query(value = "INSERT INTO seller_rating_stats " +
+            "(seller_id, review_count, rating_sum, avg_rating, rating_1, rating_2, rating_3, rating_4, rating_5) " +
+            "SELECT r.seller_id, COUNT(*), SUM(r.rating), AVG(r.rating), " +
+            "COUNT(*) FILTER (WHERE r.bucket = 1), COUNT(*) FILTER (WHERE r.bucket = 2), " +
+            "COUNT(*) FILTER (WHERE r.bucket = 3), COUNT(*) FILTER (WHERE r.bucket = 4), " +
+            "COUNT(*) FILTER (WHERE r.bucket = 5) " +
+            "FROM (SELECT sr.seller_id, sr.rating, " +
+            "        LEAST(5, GREATEST(1, FLOOR(sr.rating + 0.5))) AS bucket " +
+            "      FROM seller_reviews sr WHERE sr.is_hidden = false) r " +
+            "GROUP BY r.seller_id",
+            nativeQuery = true)
+    int rebuildAll();
+}
@@ -1,7 +1,6 @@
 package com.realive.repository.review;
 
 import com.realive.domain.review.SellerReview;
-import com.realive.dto.admin.review.SellerRankingDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -71,16 +70,13 @@ public interface SellerReviewRepository extends JpaRepository<SellerReview, Long
     Long countReviewsByProductId(@Param("productId") Long productId);
 
 
-    @Query("SELECT AVG(sr.rating) FROM SellerReview sr WHERE sr.seller.id = :sellerId")
-    Double getAverageRatingBySellerId(@Param("sellerId") Long sellerId);
-
-    @Query("SELECT COUNT(sr.id) FROM SellerReview sr WHERE sr.seller.id = :sellerId")
-    Long countReviewsBySellerId(@Param("sellerId") Long sellerId);
+    // 판매자별 평균 평점/리뷰 수/랭킹은 SellerRatingStatRepository(seller_rating_stats)에서 조회
 
 
     // --- 삭제 관련 메소드들 (유지) ---
     /**
      * 특정 고객 ID(작성자)에 해당하는 모든 판매자 리뷰를 데이터베이스에서 직접 삭제합니다.
+     * 판매자 평점 집계(seller_rating_stats)는 갱신되지 않으므로 사용 후 재집계가 필요합니다.
      */
     @Modifying
     @Transactional
@@ -89,6 +85,7 @@ public interface SellerReviewRepository extends JpaRepository<SellerReview, Long
 
     /**
      * 특정 판매자 ID가 받은 모든 판매자 리뷰를 데이터베이스에서 직접 삭제합니다.
+     * 판매자 평점 집계(seller_rating_stats)는 갱신되지 않으므로 사용 후 재집계가 필요합니다.
      */
     @Modifying
     @Transactional
@@ -110,27 +107,6 @@ public interface SellerReviewRepository extends JpaRepository<SellerReview, Long
      */
     List<SellerReview> findAllBySellerId(Long sellerId); // SellerReview 엔티티의 'seller' 필드 기준
 
-        /**
-     * 판매자별 평균 평점 내림차순, 리뷰 개수 내림차순으로 페이징된 랭킹을 조회합니다.
-     * 리뷰 수가 minReviews 미만인 판매자는 제외합니다.
-     */
-    @Query("""
-    SELECT new com.realive.dto.admin.review.SellerRankingDTO(
-        sr.seller.id,
-        sr.seller.name,
-        AVG(sr.rating),
-        COUNT(sr)
-    )
-    FROM SellerReview sr
-    GROUP BY sr.seller.id, sr.seller.name
-    HAVING COUNT(sr) >= :minReviews
-    ORDER BY AVG(sr.rating) DESC, COUNT(sr) DESC
-""")
-Page<SellerRankingDTO> findSellerRankings(
-    @Param("minReviews") long minReviews,
-    Pageable pageable
-);
-
     @Query("SELECT sr FROM SellerReview sr JOIN FETCH sr.seller s " +
             "JOIN sr.order o JOIN o.orderItems oi JOIN oi.product p " +
             "WHERE s.id = :sellerId " +
@@ -3,6 +3,7 @@ package com.realive.repository.seller;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.realive.domain.seller.Seller;
 import com.realive.repository.common.EmailLookupRepository;
@@ -19,4 +20,8 @@ public interface SellerRepository extends JpaRepository<Seller,Long>, EmailLooku
 
     // 고객이 seller 정보 조회하기 위한 메서드 추가
     Optional<Seller> findById(Long id);
+
+    // 판매자 ID 구간 분할용 최대 ID (판매자가 없으면 0)
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Seller s")
+    long findMaxId();
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.realive.domain.seller.Seller;
 import com.realive.repository.seller.SellerRepository;
 import com.realive.security.seller.SellerPrincipal;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -29,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SellerJwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final ActivityStatsRecorder activityStatsRecorder;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -55,6 +57,7 @@ public class SellerJwtAuthenticationFilter extends OncePerRequestFilter {
                         List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
                         Authentication authentication = new UsernamePasswordAuthenticationToken(sellerPrincipal, null, authorities);
                         SecurityContextHolder.getContext().setAuthentication(authentication);
+                        activityStatsRecorder.recordSellerVisit(sellerId);
                     }
                 }
             }
@@ -19,6 +19,7 @@ import com.realive.domain.customer.Customer;
 import com.realive.domain.customer.SignupMethod;
 import com.realive.dto.customer.member.MemberLoginDTO;
 import com.realive.repository.customer.CustomerRepository;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -33,6 +34,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final CustomerRepository customerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ActivityStatsRecorder activityStatsRecorder;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -107,6 +109,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             customer.setPenaltyScore(0);  // 초기 페널티 0점
 
             customerRepository.save(customer);   // 저장
+            activityStatsRecorder.recordNewCustomer();
         } else {
             customer = result.get();
         }
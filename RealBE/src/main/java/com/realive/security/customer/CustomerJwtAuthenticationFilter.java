@@ -3,6 +3,7 @@ package com.realive.security.customer;
 import com.realive.domain.customer.Customer;
 import com.realive.security.JwtUtil;
 import com.realive.service.customer.CustomerService;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -29,6 +30,7 @@ public class CustomerJwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomerService customerService; // ✅ 이메일로 Customer 조회를 위해 필요
+    private final ActivityStatsRecorder activityStatsRecorder;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -76,6 +78,7 @@ public class CustomerJwtAuthenticationFilter extends OncePerRequestFilter {
                             CustomerPrincipal principal = new CustomerPrincipal(customer);
                             Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
                             SecurityContextHolder.getContext().setAuthentication(authentication);
+                            activityStatsRecorder.recordCustomerVisit(customer.getId());
 
                             log.info("SecurityContext 설정 완료 - 사용자: {}, 권한: {}", userEmail, role);
                         } else {
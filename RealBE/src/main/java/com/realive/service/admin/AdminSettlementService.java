@@ -5,10 +5,12 @@ import com.realive.domain.logs.SalesLog;
 import com.realive.domain.logs.CommissionLog;
 import com.realive.domain.seller.Seller;
 import com.realive.dto.admin.adminsettlement.*;
+import com.realive.dto.seller.SellerBalanceDTO;
 import com.realive.repository.logs.PayoutLogRepository;
 import com.realive.repository.logs.SalesLogRepository;
 import com.realive.repository.logs.CommissionLogRepository;
 import com.realive.repository.seller.SellerRepository;
+import com.realive.service.seller.SellerLedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +32,7 @@ public class AdminSettlementService {
     private final SalesLogRepository salesLogRepository;
     private final CommissionLogRepository commissionLogRepository;
     private final SellerRepository sellerRepository;
+    private final SellerLedgerService sellerLedgerService;
 
     // 정산 목록 조회 (관리자용)
     public AdminSettlementPageResponseDTO<AdminPayoutResponseDTO> getPayoutList(
@@ -101,18 +105,19 @@ public class AdminSettlementService {
         LocalDate today = LocalDate.now();
         LocalDate thirtyDaysAgo = today.minusDays(30);
 
-        long totalPayouts = payoutLogRepository.count();
-        long recentPayouts = payoutLogRepository.countPayoutsByDateBetween(thirtyDaysAgo, today);
+        // 전체 누적은 원장 스냅샷 기준 (전체 정산 이력을 합산하지 않음)
+        SellerBalanceDTO platformTotals = sellerLedgerService.getPlatformTotals();
+        LocalDateTime recentStart = thirtyDaysAgo.atStartOfDay();
+        LocalDateTime rangeEnd = today.plusDays(1).atStartOfDay();
+        long recentPayouts = payoutLogRepository.countPayoutsInRange(recentStart, rangeEnd);
 
-        Long totalPayoutAmount = payoutLogRepository.sumPayoutAmountByDateBetween(
-                LocalDate.of(2020, 1, 1), today);
-        Long recentPayoutAmount = payoutLogRepository.sumPayoutAmountByDateBetween(
-                thirtyDaysAgo, today);
+        Long recentPayoutAmount = payoutLogRepository.sumPayoutAmountInRange(
+                recentStart, rangeEnd);
 
         return AdminSettlementStatisticsResponseDTO.builder()
-                .totalPayouts(totalPayouts)
+                .totalPayouts(platformTotals.getPayoutCount())
                 .recentPayouts(recentPayouts)
-                .totalPayoutAmount(totalPayoutAmount != null ? totalPayoutAmount.intValue() : 0)
+                .totalPayoutAmount(platformTotals.getPayoutDebit().intValue())
                 .recentPayoutAmount(recentPayoutAmount != null ? recentPayoutAmount.intValue() : 0)
                 .build();
     }
@@ -121,7 +126,8 @@ public class AdminSettlementService {
     public List<DailyPayoutSummaryResponseDTO> getDailyPayoutSummary(
             LocalDate startDate, LocalDate endDate) {
 
-        List<Object[]> dailySummaries = payoutLogRepository.getDailyPayoutSummary(startDate, endDate);
+        List<Object[]> dailySummaries = payoutLogRepository.getDailyPayoutSummary(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
 
         return dailySummaries.stream()
                 .map(row -> DailyPayoutSummaryResponseDTO.builder()
@@ -135,7 +141,8 @@ public class AdminSettlementService {
     public List<MonthlyPayoutSummaryResponseDTO> getMonthlyPayoutSummary(
             LocalDate startDate, LocalDate endDate) {
 
-        List<Object[]> monthlySummaries = payoutLogRepository.getMonthlyPayoutSummary(startDate, endDate);
+        List<Object[]> monthlySummaries = payoutLogRepository.getMonthlyPayoutSummary(
+                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
 
         return monthlySummaries.stream()
                 .map(row -> MonthlyPayoutSummaryResponseDTO.builder()
@@ -35,6 +35,19 @@ public interface AuctionService {
      */
     Page<AuctionResponseDTO> getActiveAuctions(Pageable pageable, String categoryFilter, String statusFilter);
 
+    /**
+     * 경매 목록을 커서(키셋) 방식으로 조회합니다. 페이지 깊이와 무관하게 일정한 비용으로 조회됩니다.
+     *
+     * @param sort 정렬 기준 ("endTime": 마감 임박순, "bidCount": 인기순, "status": 상태별 우선순위 > 시작시간 순 - 목록 기본 정렬과 같음)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param categoryFilter (선택) 상품 카테고리 필터 문자열.
+     * @param statusFilter (선택) 경매 상태 필터 문자열.
+     * @return 경매 목록과 다음 커서
+     * @throws IllegalArgumentException 지원하지 않는 정렬 기준이거나 커서 형식이 잘못된 경우.
+     */
+    AuctionCursorResponseDTO getAuctionsByCursor(String sort, String cursor, int size, String categoryFilter, String statusFilter);
+
     /**
      * (관리자가) 특정 경매의 상세 정보를 조회합니다.
      *
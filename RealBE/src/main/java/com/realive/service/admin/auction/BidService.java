@@ -2,6 +2,8 @@ package com.realive.service.admin.auction;
 
 import com.realive.dto.bid.BidRequestDTO;
 import com.realive.dto.bid.BidResponseDTO;
+import com.realive.dto.bid.MaxBidRequestDTO;
+import com.realive.dto.bid.MaxBidResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -18,6 +20,17 @@ public interface BidService {
      */
     BidResponseDTO placeBid(Integer auctionId, Long customerId, BidRequestDTO requestDTO);
 
+    /**
+     * 최대(자동) 입찰을 등록하거나 상향합니다.
+     * 다른 입찰이 들어오면 최대 금액까지 입찰 단위만큼 자동으로 응찰합니다.
+     *
+     * @param auctionId 경매 ID
+     * @param customerId 입찰자 ID
+     * @param requestDTO 최대 입찰 요청 정보
+     * @return 최대 입찰 등록 결과
+     */
+    MaxBidResponseDTO placeMaxBid(Integer auctionId, Long customerId, MaxBidRequestDTO requestDTO);
+
     /**
      * 특정 경매의 입찰 내역을 조회합니다.
      *
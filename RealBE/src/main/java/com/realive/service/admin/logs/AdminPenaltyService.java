@@ -4,16 +4,21 @@ package com.realive.service.admin.logs;
 
 import com.realive.domain.logs.PenaltyLog;
 import com.realive.dto.logs.PenaltyLogCreateRequest;
+import com.realive.event.StatsDataChangedEvent;
 import com.realive.repository.logs.PenaltyLogRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 public class AdminPenaltyService {
     private final PenaltyLogRepository penaltyLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PenaltyLog create(PenaltyLogCreateRequest request) {
         PenaltyLog entity = new PenaltyLog();
@@ -21,7 +26,9 @@ public class AdminPenaltyService {
         entity.setReason(request.getReason());
         entity.setPoints(request.getPoints());
         entity.setDescription(request.getDescription());
-        return penaltyLogRepository.save(entity);
+        PenaltyLog saved = penaltyLogRepository.save(entity);
+        eventPublisher.publishEvent(StatsDataChangedEvent.of(LocalDate.now()));
+        return saved;
     }
 
     // 페이징 및 검색 메서드 (customerId 타입을 Long으로 변경)
@@ -0,0 +1,64 @@
+package com.realive.service.admin.logs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * 판매/수수료/정산 로그 내보내기 서비스입니다.
+ * 행을 DB 커서에서 읽는 즉시 출력 스트림에 쓰므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+public interface LogExportService {
+
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 기간 내 판매 로그를 수수료와 판매자명을 붙여 내보냅니다.
+     *
+     * @param startDate 시작일 (판매일 기준)
+     * @param endDate 종료일 (포함)
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    long exportSales(LocalDate startDate, LocalDate endDate, Format format, OutputStream out) throws IOException;
+
+    /**
+     * 정산 기간이 조회 기간 안에 포함된 정산 로그를 판매자명을 붙여 내보냅니다.
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일 (포함)
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    long exportPayouts(LocalDate startDate, LocalDate endDate, Format format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,29 @@
+package com.realive.service.admin.logs;
+
+import com.realive.domain.logs.SalesLog;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 판매 집계(sales_daily_rollups) 관리 서비스입니다.
+ */
+public interface SalesRollupService {
+
+    /**
+     * 판매 로그 1건을 일별 집계에 누적합니다. 판매 로그를 저장하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param salesLog 저장된 판매 로그
+     * @param categoryId 판매 시점 상품의 카테고리 ID (없으면 null)
+     * @param firstOfOrderItem 해당 주문 항목의 첫 판매 로그인지 여부
+     */
+    void recordSale(SalesLog salesLog, Long categoryId, boolean firstOfOrderItem);
+
+    /**
+     * 기간 내 일별 집계를 판매 로그로부터 다시 만듭니다. (백필/정합성 복구용, 월 단위로 나누어 커밋)
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일
+     * @return 생성된 집계 행 수
+     */
+    int rebuild(LocalDate startDate, LocalDate endDate);
+}
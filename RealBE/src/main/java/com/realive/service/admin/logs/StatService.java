@@ -199,4 +199,19 @@ public interface StatService {
      * @return {@link List<MonthlySalesSummaryDTO>} 해당 기간의 월별 판매 요약 정보 리스트.
      */
     List<MonthlySalesSummaryDTO> getMonthlySummariesForPeriod(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 인메모리 판매 큐브에서 임의의 그룹 기준과 필터 조합으로 판매를 합산합니다. (DB를 조회하지 않음)
+     *
+     * @param startDate 조회 시작일.
+     * @param endDate 조회 종료일.
+     * @param groupBy 그룹 기준 목록 (DAY, MONTH, CATEGORY, SELLER, PRODUCT 중 선택, 비어 있으면 전체 합계).
+     * @param categoryId 카테고리 필터 (선택 사항).
+     * @param sellerId 판매자 필터 (선택 사항).
+     * @param productId 상품 필터 (선택 사항).
+     * @return {@link List<SalesPivotRowDTO>} 그룹 키 순으로 정렬된 피벗 결과.
+     * @throws IllegalStateException 판매 큐브가 아직 적재되지 않은 경우.
+     */
+    List<SalesPivotRowDTO> getSalesPivot(LocalDate startDate, LocalDate endDate, List<String> groupBy,
+                                         Long categoryId, Integer sellerId, Integer productId);
 }
@@ -9,6 +9,7 @@ import com.realive.dto.customer.member.SocialMemberJoinDTO;
 import com.realive.exception.DuplicateEmailException;
 import com.realive.repository.customer.CustomerRepository;
 import com.realive.security.customer.JwtTokenProvider;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,7 @@ public class MemberService {
     private final CustomerRepository customerRepository;
     private final PasswordEncoder passwordEncoder;  // 빈 주입
     private final JwtTokenProvider jwtTokenProvider;
+    private final ActivityStatsRecorder activityStatsRecorder;
 
 
     // 회원가입: 소셜로그인(임시회원정보 수정)
@@ -79,6 +81,7 @@ public class MemberService {
         customer.setPenaltyScore(0);
 
         customerRepository.save(customer);
+        activityStatsRecorder.recordNewCustomer();
 
         // 이메일로 바로 토큰 발급 (Authentication 불필요)
         return jwtTokenProvider.generateToken(dto.getEmail(), "CUSTOMER");
@@ -0,0 +1,24 @@
+package com.realive.service.review;
+
+/**
+ * 판매자별 리뷰 평점 집계(seller_rating_stats) 관리 서비스입니다.
+ */
+public interface SellerRatingStatService {
+
+    /**
+     * 리뷰 1건의 변경을 판매자 집계에 반영합니다. 리뷰를 저장하는 트랜잭션 안에서 호출해야 합니다.
+     * 숨김 처리된 리뷰나 존재하지 않는 리뷰는 null로 전달합니다.
+     *
+     * @param sellerId 판매자 ID
+     * @param before 변경 전 집계에 포함되던 평점 (없으면 null)
+     * @param after 변경 후 집계에 포함될 평점 (없으면 null)
+     */
+    void onReviewChanged(Long sellerId, Double before, Double after);
+
+    /**
+     * 전체 집계를 리뷰 테이블로부터 다시 만듭니다. (백필/정합성 복구용, 한 트랜잭션)
+     *
+     * @return 생성된 집계 행 수
+     */
+    int rebuild();
+}
@@ -0,0 +1,60 @@
+package com.realive.service.review;
+
+import com.realive.repository.review.SellerRatingStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SellerRatingStatServiceImpl implements SellerRatingStatService {
+
+    private final SellerRatingStatRepository sellerRatingStatRepository;
+
+    @Override
+    @Transactional
+    public void onReviewChanged(Long sellerId, Double before, Double after) {
+        if (sellerId == null || (before == null && after == null)) {
+            return;
+        }
+        if (before != null && before.equals(after)) {
+            return;
+        }
+
+        long countDelta = 0;
+        double sumDelta = 0;
+        long[] buckets = new long[6]; // 1~5 사용
+        if (before != null) {
+            countDelta--;
+            sumDelta -= before;
+            buckets[bucketOf(before)]--;
+        }
+        if (after != null) {
+            countDelta++;
+            sumDelta += after;
+            buckets[bucketOf(after)]++;
+        }
+
+        double avgIfNew = countDelta > 0 ? sumDelta / countDelta : 0.0;
+        sellerRatingStatRepository.applyDelta(sellerId, countDelta, sumDelta, avgIfNew,
+                buckets[1], buckets[2], buckets[3], buckets[4], buckets[5]);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        log.info("📦 판매자 평점 집계 재생성 시작");
+        sellerRatingStatRepository.lockForRebuild();
+        sellerRatingStatRepository.deleteAllStats();
+        int rows = sellerRatingStatRepository.rebuildAll();
+        log.info("✅ 판매자 평점 집계 재생성 완료 - {}행", rows);
+        return rows;
+    }
+
+    // 재집계 쿼리의 LEAST(5, GREATEST(1, FLOOR(rating + 0.5)))와 같은 구간
+    private static int bucketOf(double rating) {
+        return (int) Math.min(5, Math.max(1, Math.floor(rating + 0.5)));
+    }
+}
@@ -8,14 +8,17 @@ import com.realive.domain.seller.Seller;
 import com.realive.dto.review.ReviewCreateRequestDTO;
 import com.realive.dto.review.ReviewResponseDTO;
 import com.realive.dto.review.ReviewUpdateRequestDTO;
+import com.realive.event.StatsDataChangedEvent;
 import com.realive.repository.customer.CustomerRepository;
 import com.realive.repository.order.OrderRepository;
 import com.realive.repository.review.crud.ReviewCRUDRepository;
 import com.realive.repository.review.crud.SellerReviewImageRepository;
 import com.realive.repository.seller.SellerRepository;
+import com.realive.service.review.SellerRatingStatService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +39,8 @@ public class ReviewCRUDServiceImpl implements ReviewCRUDService {
     private final CustomerRepository customerRepository;
     private final OrderRepository orderRepository;
     private final SellerRepository sellerRepository;
+    private final SellerRatingStatService sellerRatingStatService;
+    private final ApplicationEventPublisher eventPublisher;
 
     //리뷰 생성
     /* order내의 판매자별 리뷰입니다.*/
@@ -71,6 +76,7 @@ public class ReviewCRUDServiceImpl implements ReviewCRUDService {
                 .build();
 
         SellerReview savedReview = reviewRepository.save(review);
+        sellerRatingStatService.onReviewChanged(seller.getId(), null, savedReview.getRating());
 
         // 4. 이미지 저장
         List<String> savedImageUrls = saveImages(savedReview, requestDTO.getImageUrls());
@@ -105,8 +111,11 @@ public class ReviewCRUDServiceImpl implements ReviewCRUDService {
             throw new SecurityException("리뷰 수정 권한이 없습니다.");
         }
 
+        Double ratingBefore = review.isHidden() ? null : review.getRating();
         review.setRating(requestDTO.getRating());
         review.setContent(requestDTO.getContent());
+        sellerRatingStatService.onReviewChanged(review.getSeller().getId(), ratingBefore,
+                review.isHidden() ? null : review.getRating());
 
         // 기존 이미지 삭제
         imageRepository.deleteByReviewId(reviewId);
@@ -148,6 +157,9 @@ public class ReviewCRUDServiceImpl implements ReviewCRUDService {
 
         imageRepository.deleteByReviewId(reviewId);
         reviewRepository.delete(review);
+        sellerRatingStatService.onReviewChanged(review.getSeller().getId(),
+                review.isHidden() ? null : review.getRating(), null);
+        eventPublisher.publishEvent(StatsDataChangedEvent.since(review.getCreatedAt()));
     }
 
     /* 이미지를 저장하는 메서드 입니다.*/
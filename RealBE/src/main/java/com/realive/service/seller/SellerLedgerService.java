@@ -0,0 +1,44 @@
+package com.realive.service.seller;
+
+import com.realive.domain.logs.SellerLedgerEntry;
+import com.realive.dto.seller.SellerBalanceDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SellerLedgerService {
+
+    /**
+     * 원장에 분개를 추가합니다 (호출한 트랜잭션 안에서 저장, 금액 0인 분개는 건너뜀).
+     */
+    void append(List<SellerLedgerEntry> entries);
+
+    /**
+     * 판매자의 현재 잔액 (최신 스냅샷 + 이후 분개)
+     */
+    SellerBalanceDTO getBalance(Long sellerId);
+
+    /**
+     * 판매자의 기간 [from, to] 분개 합계 (기간 양 끝의 누적 값 차이)
+     */
+    SellerBalanceDTO getPeriodTotals(Long sellerId, LocalDate from, LocalDate to);
+
+    /**
+     * 전체 판매자의 현재 누적 합계
+     */
+    SellerBalanceDTO getPlatformTotals();
+
+    /**
+     * throughDate까지 아직 스냅샷이 없는 날의 일별 스냅샷을 생성하고, 마지막 스냅샷 날짜는 다시 계산합니다.
+     *
+     * @return 생성/갱신된 스냅샷 행 수
+     */
+    int takeSnapshots(LocalDate throughDate);
+
+    /**
+     * 판매/수수료/정산 로그에서 원장과 스냅샷을 다시 만듭니다. (기동 시 원장이 비어 있으면 자동 실행)
+     *
+     * @return 기록된 분개 수
+     */
+    int rebuild();
+}
@@ -6,6 +6,7 @@ import com.realive.dto.logs.CommissionLogDTO;
 import com.realive.dto.logs.PayoutLogDTO;
 import com.realive.dto.logs.PayoutLogDetailDTO;
 import com.realive.dto.logs.SalesLogDTO;
+import com.realive.dto.seller.SellerBalanceDTO;
 import com.realive.dto.seller.SellerPayoutSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,7 @@ public interface SellerPayoutService {
 
     List<PayoutLogDTO> getPayoutLogsByDate(Long sellerId, LocalDate date);
 
+    // 주문의 판매/수수료 로그만 기록 (판매자별 정산 로그는 WeeklySettlementJob이 주 단위로 생성)
     void generatePayoutLogIfNotExists(Long orderId);
 
     PayoutLogDetailDTO getPayoutLogDetail(Long sellerId, Integer payoutLogId);
@@ -29,8 +31,10 @@ public interface SellerPayoutService {
 
     SellerPayoutSummaryDTO getPayoutSummary(Long sellerId, LocalDate from, LocalDate to);
 
+    SellerBalanceDTO getBalance(Long sellerId);                 // 현재 지급 예정 잔액 (원장 기준)
+
     SalesLog createSalesLog(OrderItem orderItem);           // 판매 로그 생성
     void createCommissionLog(Integer salesLogId);       // 수수료 로그 생성
-    List<SalesLogDTO> getSalesLogsBySeller(Long sellerId, LocalDate from, LocalDate to);
-    List<CommissionLogDTO> getCommissionLogsBySeller(Long sellerId, LocalDate from, LocalDate to);
+    Page<SalesLogDTO> getSalesLogsBySeller(Long sellerId, LocalDate from, LocalDate to, Pageable pageable);
+    Page<CommissionLogDTO> getCommissionLogsBySeller(Long sellerId, LocalDate from, LocalDate to, Pageable pageable);
 }
@@ -0,0 +1,369 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.auction.Bid;
+import com.realive.domain.auction.ProxyBid;
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.auction.ProxyBidRepository;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
+import com.realive.util.TickSizeCalculator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 경매별 메모리 입찰 엔진.
+ *
+ * 진행 중인 경매마다 {@link AuctionBidState} 하나가 현재가/최고 입찰자/입찰 수/입찰 금액 목록을 보관하고,
+ * 입찰 검증은 DB 락 없이 메모리에서 처리합니다. 수락된 입찰은 {@link BidJournal}에 먼저 기록된 뒤 큐에 쌓이고,
+ * {@link #flushPendingBids()}가 주기적으로 묶어서 저장합니다.
+ *
+ * 단일 인스턴스 배포를 전제로 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBidEngine {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+    // 한 입찰의 저장 실패 허용 횟수 (초과 시 저널 격리 파일로 옮기고 더 이상 재시도하지 않음)
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final TickSizeCalculator tickSizeCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final BidJournal bidJournal;
+    private final ProxyBidRepository proxyBidRepository;
+    private final ActivityStatsRecorder activityStatsRecorder;
+
+    private final Map<Integer, AuctionBidState> states = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<Bid> pendingBids = new ConcurrentLinkedDeque<>();
+    // 배치 저장과 상태 최초 로드가 겹쳐 저장 중인 입찰을 놓치지 않도록 하는 락 (입찰 경로에서는 사용하지 않음)
+    private final Object flushLock = new Object();
+    // 저널 시퀀스 -> 저장 실패 횟수 (flushLock 안에서만 접근)
+    private final Map<Long, Integer> flushAttempts = new HashMap<>();
+    // 저장이 끝난 가장 큰 저널 시퀀스 (flushLock 안에서만 접근)
+    private long flushedThroughSeq;
+
+    /**
+     * 재시작 시 저널에서 복구된(아직 저장되지 않은) 입찰을 저장 대기열에 올립니다.
+     */
+    @PostConstruct
+    public void recoverFromJournal() {
+        List<Bid> recovered = bidJournal.drainRecovered();
+        pendingBids.addAll(recovered);
+        if (!recovered.isEmpty()) {
+            log.info("📒 저널에서 미저장 입찰 {}건 복구", recovered.size());
+        }
+    }
+
+    /**
+     * 입찰을 검증하고 수락합니다. 저장은 비동기로 이루어지므로 반환되는 Bid의 id는 아직 null입니다.
+     * 첫 번째가 요청한 입찰이고, 다른 고객의 최대 입찰이 자동 응찰했다면 그 입찰이 뒤에 붙습니다.
+     */
+    public List<Bid> placeBid(Integer auctionId, Long customerId, Integer bidPrice) {
+        AuctionBidState state = getOrLoadState(auctionId);
+
+        // 수락과 큐 적재를 같은 락 안에서 처리해 경매 내 입찰 순서를 보존
+        synchronized (state) {
+            List<Bid> bids = state.accept(customerId, bidPrice);
+            enqueue(bids);
+            return bids;
+        }
+    }
+
+    /**
+     * 최대(자동) 입찰을 등록하거나 상향합니다. 경쟁 중인 최대 입찰과의 결과로 생긴 입찰(0~2건)을 반환합니다.
+     * 최대 입찰 금액은 재시작 후에도 유지되도록 DB에 저장합니다.
+     */
+    public List<Bid> placeMaxBid(Integer auctionId, Long customerId, Integer maxPrice) {
+        AuctionBidState state = getOrLoadState(auctionId);
+
+        synchronized (state) {
+            state.validateMaxBid(customerId, maxPrice);
+
+            ProxyBid proxyBid = proxyBidRepository.findByAuctionIdAndCustomerId(auctionId, customerId)
+                    .orElseGet(() -> ProxyBid.builder().auctionId(auctionId).customerId(customerId).build());
+            proxyBid.setMaxPrice(maxPrice);
+            proxyBidRepository.save(proxyBid);
+
+            List<Bid> bids = state.placeMaxBid(customerId, maxPrice);
+            enqueue(bids);
+            return bids;
+        }
+    }
+
+    // 저널 기록 후 큐 적재 (저널 시퀀스 순서 = 큐 순서가 되도록 저널 락 안에서 적재)
+    private void enqueue(List<Bid> bids) {
+        synchronized (bidJournal) {
+            for (Bid bid : bids) {
+                bidJournal.append(bid);
+                pendingBids.offer(bid);
+            }
+        }
+        activityStatsRecorder.recordBids(bids);
+    }
+
+    /**
+     * 메모리 상태 기준 입찰 수를 반환합니다. (아직 저장되지 않은 입찰 포함)
+     */
+    public int getBidCount(Integer auctionId) {
+        AuctionBidState state = states.get(auctionId);
+        return state != null ? state.getBidCount() : 0;
+    }
+
+    /**
+     * 아직 DB에 저장되지 않은(저장 대기 중인) 입찰이 남아 있는 경매 ID를 반환합니다.
+     */
+    public Set<Integer> findAuctionsWithPendingBids(Collection<Integer> auctionIds) {
+        Set<Integer> targets = new HashSet<>(auctionIds);
+        Set<Integer> result = new HashSet<>();
+        for (Bid bid : pendingBids) {
+            if (targets.contains(bid.getAuctionId())) {
+                result.add(bid.getAuctionId());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 메모리 상태 기준 현재가를 반환합니다. 메모리에 올라와 있지 않은 경매는 null입니다.
+     */
+    public Integer getCurrentPrice(Integer auctionId) {
+        AuctionBidState state = states.get(auctionId);
+        return state != null ? state.getCurrentPrice() : null;
+    }
+
+    /**
+     * 메모리 상태 기준 최고 입찰자를 반환합니다. 메모리에 올라와 있지 않은 경매는 null입니다.
+     */
+    public Long getLeaderCustomerId(Integer auctionId) {
+        AuctionBidState state = states.get(auctionId);
+        return state != null ? state.getLeaderCustomerId() : null;
+    }
+
+    /**
+     * 경매 상태가 바뀌었을 때(수정/취소) 커밋 후 메모리 상태에 반영합니다.
+     * 진행 중이 아닌 상태는 이미 DB에 커밋되었으므로 다음 배치 저장 때 메모리에서 내려갑니다.
+     */
+    public void onAuctionChanged(Integer auctionId, AuctionStatus status, LocalDateTime endTime) {
+        AuctionBidState state = states.get(auctionId);
+        if (state != null) {
+            state.update(status, endTime);
+            if (status != AuctionStatus.PROCEEDING) {
+                state.markSettled();
+            }
+        }
+    }
+
+    /**
+     * 종료 처리 직전에 호출하여 더 이상 입찰을 받지 않도록 합니다.
+     */
+    public void closeAuction(Integer auctionId) {
+        AuctionBidState state = states.get(auctionId);
+        if (state != null) {
+            state.updateStatus(AuctionStatus.COMPLETED);
+        }
+    }
+
+    /**
+     * 종료 처리(낙찰/유찰) 커밋 후 호출하여, 닫힌 상태를 다음 배치 저장 때 메모리에서 내리도록 표시합니다.
+     * 커밋 전에 상태를 내리면 그 사이 입찰이 DB의 진행 중 상태로 경매를 다시 올려 종료된 경매에 입찰이 들어갈 수 있습니다.
+     */
+    public void release(Collection<Integer> auctionIds) {
+        for (Integer auctionId : auctionIds) {
+            AuctionBidState state = states.get(auctionId);
+            if (state != null) {
+                state.markSettled();
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 입찰을 배치 단위로 저장하고, 경매별 현재가/입찰 수를 한 번의 UPDATE로 반영합니다.
+     */
+    @Scheduled(fixedDelay = 200)
+    public void flushPendingBids() {
+        synchronized (flushLock) {
+            flushAll();
+        }
+    }
+
+    private void flushAll() {
+        bidJournal.sync();
+        List<Bid> deferred = new ArrayList<>();
+
+        while (!pendingBids.isEmpty()) {
+            List<Bid> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+            Bid bid;
+            while (batch.size() < FLUSH_BATCH_SIZE && (bid = pendingBids.poll()) != null) {
+                batch.add(bid);
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(batch));
+            } catch (Exception e) {
+                log.warn("⚠️ 입찰 배치 저장 실패 - {}건, 한 건씩 다시 저장합니다.", batch.size(), e);
+                if (!persistEach(batch, deferred)) {
+                    requeue(deferred);
+                    return;
+                }
+            }
+            // 다음 주기로 미룬 입찰이 있으면 그 앞까지만 체크포인트 (재시작 시 재적용은 저널 시퀀스로 중복 제거)
+            // 미룬 입찰이 저장/격리되면 그 사이 먼저 저장된 뒤쪽 입찰까지 한 번에 체크포인트
+            flushedThroughSeq = Math.max(flushedThroughSeq, batch.get(batch.size() - 1).getJournalSeq());
+            long checkpointSeq = flushedThroughSeq;
+            if (!deferred.isEmpty()) {
+                checkpointSeq = Math.min(checkpointSeq, deferred.get(0).getJournalSeq() - 1);
+            }
+            bidJournal.checkpoint(checkpointSeq);
+        }
+        requeue(deferred);
+
+        states.values().removeIf(AuctionBidState::isReleasable);
+    }
+
+    /**
+     * 실패한 배치를 한 건씩 저장하여 문제 행만 격리합니다.
+     * 실패한 입찰은 deferred에 담아 다음 주기에 재시도하고, MAX_FLUSH_ATTEMPTS회 실패하면 저널의 격리 파일로 옮깁니다.
+     * DB 연결 장애처럼 행과 무관한 실패면 남은 입찰을 모두 deferred에 담고 false를 반환합니다.
+     */
+    private boolean persistEach(List<Bid> batch, List<Bid> deferred) {
+        for (int i = 0; i < batch.size(); i++) {
+            Bid bid = batch.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(List.of(bid)));
+                flushAttempts.remove(bid.getJournalSeq());
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    log.error("❌ 입찰 저장 실패(DB 장애) - {}건, 다음 주기에 재시도합니다.", batch.size() - i, e);
+                    deferred.addAll(batch.subList(i, batch.size()));
+                    return false;
+                }
+
+                int attempts = flushAttempts.merge(bid.getJournalSeq(), 1, Integer::sum);
+                if (attempts < MAX_FLUSH_ATTEMPTS) {
+                    log.warn("⚠️ 입찰 저장 실패 - seq: {}, 경매 ID: {}, {}회차, 다음 주기에 재시도합니다.",
+                            bid.getJournalSeq(), bid.getAuctionId(), attempts, e);
+                    deferred.add(bid);
+                } else {
+                    flushAttempts.remove(bid.getJournalSeq());
+                    bidJournal.deadLetter(bid, e);
+                    log.error("☠️ 입찰 저장 {}회 실패 - 격리 파일로 옮깁니다. seq: {}, 경매 ID: {}, 고객 ID: {}, 금액: {}",
+                            attempts, bid.getJournalSeq(), bid.getAuctionId(), bid.getCustomerId(), bid.getBidPrice(), e);
+                }
+            }
+        }
+        return true;
+    }
+
+    // 미룬 입찰을 시퀀스 순서 그대로 큐 앞쪽에 되돌림
+    private void requeue(List<Bid> deferred) {
+        for (int i = deferred.size() - 1; i >= 0; i--) {
+            pendingBids.offerFirst(deferred.get(i));
+        }
+    }
+
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void persist(List<Bid> batch) {
+        // 다중 행 INSERT, 이미 저장된 저널 시퀀스(재시작 후 재적용)는 건너뜀
+        List<Bid> inserted = bidRepository.insertAllIgnoringJournaled(batch);
+
+        Map<Integer, Integer> maxPriceByAuction = new HashMap<>();
+        Map<Integer, Integer> addedCountByAuction = new HashMap<>();
+        for (Bid bid : inserted) {
+            maxPriceByAuction.merge(bid.getAuctionId(), bid.getBidPrice(), Math::max);
+            addedCountByAuction.merge(bid.getAuctionId(), 1, Integer::sum);
+        }
+
+        maxPriceByAuction.forEach((auctionId, maxPrice) ->
+                auctionRepository.applyBidBatch(auctionId, maxPrice, addedCountByAuction.get(auctionId)));
+
+        log.debug("💾 입찰 배치 저장 완료 - {}건(중복 제외 {}건), 경매 {}개", batch.size(), inserted.size(), maxPriceByAuction.size());
+    }
+
+    // 메모리 상태를 반환하고, 없으면 DB에서 올림 (존재하지 않는 경매면 IllegalArgumentException)
+    AuctionBidState getOrLoadState(Integer auctionId) {
+        AuctionBidState state = states.get(auctionId);
+        if (state != null) {
+            return state;
+        }
+
+        synchronized (flushLock) {
+            return states.computeIfAbsent(auctionId, this::loadStateReadOnly);
+        }
+    }
+
+    // 입찰 경로는 트랜잭션 없이 들어오므로 최초 로드만 짧은 읽기 전용 트랜잭션 하나로 조회 (경매/입찰/최대 입찰을 같은 커넥션에서)
+    private AuctionBidState loadStateReadOnly(Integer auctionId) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        return readOnlyTransaction.execute(status -> loadState(auctionId));
+    }
+
+    private AuctionBidState loadState(Integer auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
+
+        AuctionBidState loaded = new AuctionBidState(
+                auctionId,
+                tickSizeCalculator.calculateTickSize(auction.getStartPrice()),
+                auction.getStatus(),
+                auction.getEndTime(),
+                auction.getCurrentPrice());
+        if (auction.getStatus() != AuctionStatus.PROCEEDING) {
+            // 이미 종료 처리가 커밋된 경매 (입찰은 거절되고, 다음 배치 저장 때 메모리에서 내려감)
+            loaded.markSettled();
+        }
+
+        Set<Long> persistedSeqs = new HashSet<>();
+        for (Object[] row : bidRepository.findBidHistorySnapshot(auctionId)) {
+            loaded.replay((Long) row[0], (Integer) row[1]);
+            if (row[2] != null) {
+                persistedSeqs.add((Long) row[2]);
+            }
+        }
+        // 아직 저장되지 않은 입찰도 상태에 포함
+        for (Bid pending : pendingBids) {
+            if (auctionId.equals(pending.getAuctionId()) && !persistedSeqs.contains(pending.getJournalSeq())) {
+                loaded.replay(pending.getCustomerId(), pending.getBidPrice());
+            }
+        }
+
+        // 최대 입찰 복원 (등록 직후 입찰 생성 전에 중단된 경우에 한해 여기서 응찰 입찰이 생김)
+        for (ProxyBid proxyBid : proxyBidRepository.findByAuctionIdOrderByRegistration(auctionId)) {
+            loaded.replayProxy(proxyBid.getCustomerId(), proxyBid.getMaxPrice());
+        }
+        if (loaded.isClosed()) {
+            return loaded;
+        }
+        enqueue(loaded.resolveProxies());
+
+        return loaded;
+    }
+}
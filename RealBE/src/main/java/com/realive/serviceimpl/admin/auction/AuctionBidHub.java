@@ -0,0 +1,117 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.dto.bid.BidStreamEventDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 경매별 실시간 입찰 브로드캐스트 허브.
+ *
+ * 입찰이 수락되면 {@link #publish}로 경매별 Sink에 이벤트를 한 번만 넣고, 구독자마다
+ * 크기가 제한된 버퍼(가득 차면 가장 오래된 이벤트부터 버림)를 통해 전달합니다.
+ * 새 구독자는 입찰 엔진의 메모리 상태(현재가/입찰 수)를 먼저 받으므로 구독자 수와 무관하게 DB 조회가 없습니다.
+ * (메모리에 없는 경매만 최초 1회 입찰 엔진이 DB에서 올림)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionBidHub {
+
+    private static final int SUBSCRIBER_BUFFER_SIZE = 32;
+
+    private final AuctionBidEngine auctionBidEngine;
+
+    private final Map<Integer, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * 경매의 입찰 이벤트를 구독합니다. 현재 상태(마지막 이벤트 또는 현재가/입찰 수)를 먼저 전달합니다.
+     * 존재하지 않는 경매는 오류로, 진행 중이 아닌 경매는 현재 상태 하나만 보내고 바로 종료합니다.
+     */
+    public Flux<BidStreamEventDTO> subscribe(Integer auctionId) {
+        AuctionBidState state;
+        try {
+            state = auctionBidEngine.getOrLoadState(auctionId);
+        } catch (IllegalArgumentException e) {
+            return Flux.error(e);
+        }
+
+        BidStreamEventDTO current = BidStreamEventDTO.builder()
+                .auctionId(auctionId)
+                .currentPrice(state.getCurrentPrice())
+                .bidCount(state.getBidCount())
+                .build();
+        if (state.isClosed()) {
+            return Flux.just(current);
+        }
+
+        Channel channel = channels.compute(auctionId, (id, existing) -> {
+            Channel target = existing != null ? existing : new Channel();
+            target.subscribers.incrementAndGet();
+            return target;
+        });
+        // 확인과 등록 사이에 종료된 경우 complete가 이 채널을 놓쳤을 수 있으므로 직접 종료
+        if (state.isClosed()) {
+            complete(auctionId);
+        }
+
+        return Flux.concat(Mono.fromSupplier(() -> initialEvent(channel, current)), channel.sink.asFlux())
+                .onBackpressureBuffer(SUBSCRIBER_BUFFER_SIZE, dropped -> { }, BufferOverflowStrategy.DROP_OLDEST)
+                .doFinally(signal -> removeIfIdle(auctionId, channel));
+    }
+
+    /**
+     * 수락된 입찰 이벤트를 구독자 전체에 전달합니다. 현재가가 이전 이벤트보다 낮으면(순서 역전) 버립니다.
+     */
+    public void publish(BidStreamEventDTO event) {
+        Channel channel = channels.get(event.getAuctionId());
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            if (channel.latest != null && channel.latest.getCurrentPrice() >= event.getCurrentPrice()) {
+                return;
+            }
+            channel.latest = event;
+            channel.sink.tryEmitNext(event);
+        }
+    }
+
+    /**
+     * 경매 종료 시 스트림을 정상 종료합니다.
+     */
+    public void complete(Integer auctionId) {
+        Channel channel = channels.remove(auctionId);
+        if (channel != null) {
+            synchronized (channel) {
+                channel.sink.tryEmitComplete();
+            }
+        }
+    }
+
+    // 마지막 이벤트가 메모리 상태보다 오래되지 않았다면 최신 입찰 정보가 담긴 마지막 이벤트를 사용
+    private static BidStreamEventDTO initialEvent(Channel channel, BidStreamEventDTO current) {
+        BidStreamEventDTO latest = channel.latest;
+        return latest != null && latest.getCurrentPrice() >= current.getCurrentPrice() ? latest : current;
+    }
+
+    private void removeIfIdle(Integer auctionId, Channel channel) {
+        channels.computeIfPresent(auctionId, (id, existing) ->
+                existing == channel && channel.subscribers.decrementAndGet() == 0 ? null : existing);
+    }
+
+    private static final class Channel {
+        private final Sinks.Many<BidStreamEventDTO> sink = Sinks.many().multicast().directBestEffort();
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private volatile BidStreamEventDTO latest;
+    }
+}
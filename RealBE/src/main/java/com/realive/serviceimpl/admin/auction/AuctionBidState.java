@@ -0,0 +1,250 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Bid;
+import com.realive.domain.common.enums.AuctionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 진행 중인 경매 1건의 메모리 상태.
+ * 모든 변경은 {@link #accept} 등 synchronized 메서드를 통해서만 이루어지므로
+ * 경매별로 단일 writer가 보장되고, 서로 다른 경매 간에는 락을 공유하지 않습니다.
+ *
+ * 최대(자동) 입찰은 최대 금액 순으로 정렬된 TreeSet에 보관하고, 입찰이 들어올 때마다
+ * 상위 두 건만 비교해 한 번에 결과를 정합니다. (경쟁 중인 증가분은 저장하지 않고 최종 입찰만 생성)
+ */
+class AuctionBidState {
+
+    private final Integer auctionId;
+    private final int tickSize;
+
+    private AuctionStatus status;
+    private LocalDateTime endTime;
+    // 종료 처리(낙찰/유찰/취소)가 DB에 커밋되었는지 - 커밋 전에는 상태를 메모리에서 내리지 않음
+    private boolean settled;
+    private int currentPrice;
+    private Long leaderCustomerId;
+    private int highestBidPrice;
+    private int bidCount;
+
+    // 이미 입찰된 금액 (existsByAuctionIdAndBidPrice 대체)
+    private final Set<Integer> takenPrices = new HashSet<>();
+    // 고객별 마지막 입찰 금액 (동일 금액 연속 입찰 방지)
+    private final Map<Long, Integer> lastPriceByCustomer = new HashMap<>();
+
+    // 최대 입찰: 최대 금액 내림차순, 같은 금액이면 먼저 등록한 순
+    private final TreeSet<Proxy> proxies = new TreeSet<>(
+            Comparator.comparingInt(Proxy::maxPrice).reversed().thenComparingLong(Proxy::seq));
+    private final Map<Long, Proxy> proxyByCustomer = new HashMap<>();
+    private long proxySeq;
+
+    AuctionBidState(Integer auctionId, int tickSize, AuctionStatus status, LocalDateTime endTime, int currentPrice) {
+        this.auctionId = auctionId;
+        this.tickSize = tickSize;
+        this.status = status;
+        this.endTime = endTime;
+        this.currentPrice = currentPrice;
+    }
+
+    /**
+     * DB에 저장된 기존 입찰 1건을 상태에 반영합니다. (입찰 시간 오름차순으로 호출)
+     */
+    synchronized void replay(Long customerId, Integer bidPrice) {
+        takenPrices.add(bidPrice);
+        lastPriceByCustomer.put(customerId, bidPrice);
+        bidCount++;
+        if (bidPrice > highestBidPrice) {
+            highestBidPrice = bidPrice;
+            leaderCustomerId = customerId;
+        }
+        currentPrice = Math.max(currentPrice, bidPrice);
+    }
+
+    /**
+     * 저장된 최대 입찰 1건을 상태에 반영합니다. (등록 순서대로 호출, 모두 반영한 뒤 {@link #resolveProxies()} 호출)
+     */
+    synchronized void replayProxy(Long customerId, Integer maxPrice) {
+        registerProxy(customerId, maxPrice);
+    }
+
+    /**
+     * 입찰을 검증하고 수락합니다. 검증 실패 시 기존 BidServiceImpl과 동일한 예외를 던집니다.
+     * 반환 목록의 첫 번째는 요청한 입찰이고, 이어서 최대 입찰이 자동으로 응찰한 입찰이 붙습니다.
+     */
+    synchronized List<Bid> accept(Long customerId, Integer bidPrice) {
+        validateOpen();
+        validatePrice(bidPrice);
+
+        // 같은 금액으로 연속 입찰 불가
+        if (bidPrice.equals(lastPriceByCustomer.get(customerId))) {
+            throw new IllegalArgumentException("동일 금액으로 연속 입찰할 수 없습니다.");
+        }
+
+        // 경매에 동일 금액 입찰자 체크
+        if (takenPrices.contains(bidPrice)) {
+            throw new IllegalArgumentException("이미 해당 금액으로 입찰한 사용자가 있습니다.");
+        }
+
+        List<Bid> bids = new ArrayList<>();
+        bids.add(record(customerId, bidPrice));
+        bids.addAll(resolveProxies());
+        return bids;
+    }
+
+    /**
+     * 최대 입찰 등록/상향 요청을 검증합니다. (상태는 변경하지 않음)
+     */
+    synchronized void validateMaxBid(Long customerId, Integer maxPrice) {
+        validateOpen();
+        validatePrice(maxPrice);
+
+        Proxy existing = proxyByCustomer.get(customerId);
+        if (existing != null && maxPrice <= existing.maxPrice()) {
+            throw new IllegalArgumentException("최대 입찰 금액은 기존 최대 입찰 금액(" + existing.maxPrice() + "원)보다 높아야 합니다.");
+        }
+    }
+
+    /**
+     * 최대 입찰을 등록(또는 상향)하고 경쟁 중인 최대 입찰과 한 번에 겨룬 결과 입찰을 반환합니다.
+     * 등록 자체는 O(log n)이며, 생성되는 입찰은 최대 두 건입니다.
+     */
+    synchronized List<Bid> placeMaxBid(Long customerId, Integer maxPrice) {
+        validateMaxBid(customerId, maxPrice);
+        registerProxy(customerId, maxPrice);
+        return resolveProxies();
+    }
+
+    /**
+     * 최대 입찰끼리 겨뤄 보이는 입찰을 만듭니다.
+     *
+     * 현재가 + 입찰 단위를 감당할 수 없는 최대 입찰은 제거되므로, 평상시에는 선두 최대 입찰 하나만 남습니다.
+     * 1위와 2위가 있으면 2위는 자신의 최대 금액으로, 1위는 min(1위 최대, 2위 최대 + 입찰 단위)로 입찰합니다.
+     * 최대 금액이 같으면 먼저 등록한 쪽이 그 금액으로 입찰합니다.
+     */
+    synchronized List<Bid> resolveProxies() {
+        pruneExhaustedProxies();
+        if (proxies.isEmpty()) {
+            return List.of();
+        }
+
+        List<Bid> bids = new ArrayList<>(2);
+        Proxy top = proxies.first();
+        Proxy second = proxies.higher(top);
+
+        if (second == null) {
+            if (!top.customerId().equals(leaderCustomerId)) {
+                bids.add(record(top.customerId(), currentPrice + tickSize));
+            }
+        } else if (second.maxPrice() == top.maxPrice()) {
+            bids.add(record(top.customerId(), top.maxPrice()));
+        } else {
+            bids.add(record(second.customerId(), second.maxPrice()));
+            bids.add(record(top.customerId(), Math.min(top.maxPrice(), second.maxPrice() + tickSize)));
+        }
+
+        pruneExhaustedProxies();
+        return bids;
+    }
+
+    private void validateOpen() {
+        if (isClosed()) {
+            throw new IllegalStateException("경매가 진행 중이 아닙니다.");
+        }
+    }
+
+    private void validatePrice(Integer bidPrice) {
+        int minBidPrice = currentPrice + tickSize;
+        if (bidPrice < minBidPrice) {
+            throw new IllegalArgumentException("입찰 금액은 최소 입찰 단위 이상이어야 합니다. (최소: " + minBidPrice + "원)");
+        }
+        // 틱 단위를 맞추지 않은 입찰 거절
+        if ((bidPrice - currentPrice) % tickSize != 0) {
+            throw new IllegalArgumentException("입찰 금액은 " + tickSize + "원 단위로 가능합니다.");
+        }
+    }
+
+    private void registerProxy(Long customerId, int maxPrice) {
+        Proxy previous = proxyByCustomer.remove(customerId);
+        if (previous != null) {
+            proxies.remove(previous);
+        }
+        Proxy proxy = new Proxy(customerId, maxPrice, ++proxySeq);
+        proxies.add(proxy);
+        proxyByCustomer.put(customerId, proxy);
+    }
+
+    // 다음 입찰(현재가 + 입찰 단위)을 감당할 수 없는 최대 입찰 제거 (금액 오름차순으로 끝에서부터)
+    private void pruneExhaustedProxies() {
+        while (!proxies.isEmpty() && proxies.last().maxPrice() < currentPrice + tickSize) {
+            proxyByCustomer.remove(proxies.pollLast().customerId());
+        }
+    }
+
+    // 검증을 마친 입찰을 상태에 반영하고 저장할 Bid를 만듦
+    private Bid record(Long customerId, int bidPrice) {
+        takenPrices.add(bidPrice);
+        lastPriceByCustomer.put(customerId, bidPrice);
+        currentPrice = bidPrice;
+        highestBidPrice = bidPrice;
+        leaderCustomerId = customerId;
+        bidCount++;
+
+        return Bid.builder()
+                .auctionId(auctionId)
+                .customerId(customerId)
+                .bidPrice(bidPrice)
+                .bidTime(LocalDateTime.now())
+                .build();
+    }
+
+    synchronized void updateStatus(AuctionStatus status) {
+        this.status = status;
+    }
+
+    synchronized void update(AuctionStatus status, LocalDateTime endTime) {
+        this.status = status;
+        this.endTime = endTime;
+    }
+
+    synchronized void markSettled() {
+        this.settled = true;
+    }
+
+    // 진행 중 상태가 아니거나 종료 시각이 지났으면 입찰 불가 (종료 처리 배치가 돌기 전이라도)
+    synchronized boolean isClosed() {
+        return status != AuctionStatus.PROCEEDING
+                || (endTime != null && !LocalDateTime.now().isBefore(endTime));
+    }
+
+    // 닫혔고 종료 처리까지 커밋되어 메모리에서 내려도 되는 상태
+    synchronized boolean isReleasable() {
+        return settled && isClosed();
+    }
+
+    synchronized int getCurrentPrice() {
+        return currentPrice;
+    }
+
+    synchronized int getBidCount() {
+        return bidCount;
+    }
+
+    synchronized Long getLeaderCustomerId() {
+        return leaderCustomerId;
+    }
+
+    Integer getAuctionId() {
+        return auctionId;
+    }
+
+    private record Proxy(Long customerId, int maxPrice, long seq) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.repository.auction.AuctionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 종료 타이머.
+ *
+ * 진행 중인 경매의 endTime을 DelayQueue에 등록해 두고, 종료 시각이 되면 해당 경매 1건만 종료 처리합니다.
+ * 등록/수정/취소 시에는 기존 타이머를 무효화하고 새로 등록합니다. (큐에서 직접 제거하지 않고 발화 시 무시)
+ * DB 전체 스캔(AuctionScheduler.completeEndedAuctions)은 누락 대비용 안전망으로만 남겨 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionCloseTimer {
+
+    // 종료 처리 실패(저장되지 않은 입찰 등) 시 재시도 횟수와 간격
+    private static final int MAX_RETRIES = 5;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionScheduler auctionScheduler;
+
+    private final DelayQueue<CloseTask> queue = new DelayQueue<>();
+    private final Map<Integer, CloseTask> activeTasks = new ConcurrentHashMap<>();
+    private volatile Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<Object[]> proceeding = auctionRepository.findIdAndEndTimeByStatus(AuctionStatus.PROCEEDING);
+        for (Object[] row : proceeding) {
+            schedule((Integer) row[0], (LocalDateTime) row[1]);
+        }
+        log.info("⏰ 경매 종료 타이머 시작 - 등록된 경매 {}건", proceeding.size());
+
+        worker = new Thread(this::runLoop, "auction-close-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 경매 종료 타이머를 등록합니다. 이미 등록된 경매라면 새 종료 시각으로 교체됩니다.
+     */
+    public void schedule(Integer auctionId, LocalDateTime endTime) {
+        CloseTask task = new CloseTask(auctionId, endTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), 0);
+        CloseTask previous = activeTasks.put(auctionId, task);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        queue.offer(task);
+    }
+
+    /**
+     * 경매 종료 타이머를 해제합니다. (취소 등)
+     */
+    public void cancel(Integer auctionId) {
+        CloseTask previous = activeTasks.remove(auctionId);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+    }
+
+    private void runLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            CloseTask task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (task.cancelled || !activeTasks.remove(task.auctionId, task)) {
+                continue;
+            }
+
+            try {
+                auctionScheduler.completeAuction(task.auctionId);
+            } catch (Exception e) {
+                retry(task, e);
+            }
+        }
+    }
+
+    // 잠시 뒤 다시 시도하고, 재시도 횟수를 넘기면 안전망 스캔에 맡김 (그 사이 새로 등록된 타이머가 있으면 그쪽을 따름)
+    private void retry(CloseTask task, Exception cause) {
+        if (task.attempt >= MAX_RETRIES) {
+            log.error("❌ 타이머 경매 종료 처리 실패 - 경매ID: {}, 안전망 스캔에서 다시 처리됩니다.", task.auctionId, cause);
+            return;
+        }
+        log.warn("⚠️ 타이머 경매 종료 처리 실패 - 경매ID: {}, {}회차 재시도 예정. 원인: {}",
+                task.auctionId, task.attempt + 1, cause.getMessage());
+        CloseTask retry = new CloseTask(task.auctionId,
+                System.currentTimeMillis() + RETRY_DELAY_MILLIS * (task.attempt + 1), task.attempt + 1);
+        if (activeTasks.putIfAbsent(task.auctionId, retry) == null) {
+            queue.offer(retry);
+        }
+    }
+
+    private static final class CloseTask implements Delayed {
+
+        private final Integer auctionId;
+        private final long fireAtMillis;
+        private final int attempt;
+        private volatile boolean cancelled;
+
+        private CloseTask(Integer auctionId, long fireAtMillis, int attempt) {
+            this.auctionId = auctionId;
+            this.fireAtMillis = fireAtMillis;
+            this.attempt = attempt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((CloseTask) other).fireAtMillis);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.event.AuctionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 경매 등록/수정/취소가 커밋된 뒤 입찰 엔진, 종료 타이머, 실시간 입찰 스트림에 반영합니다.
+ *
+ * 트랜잭션 안에서 반영하면 롤백되어도 메모리 상태만 바뀌어(취소되지 않은 경매의 입찰 거절, 스트림 종료 등)
+ * DB와 어긋나므로 커밋 후에만 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionLifecycleListener {
+
+    private final AuctionBidEngine auctionBidEngine;
+    private final AuctionCloseTimer auctionCloseTimer;
+    private final AuctionBidHub auctionBidHub;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        Integer auctionId = event.getAuctionId();
+        auctionBidEngine.onAuctionChanged(auctionId, event.getStatus(), event.getEndTime());
+
+        if (event.getStatus() == AuctionStatus.PROCEEDING) {
+            auctionCloseTimer.schedule(auctionId, event.getEndTime());
+            return;
+        }
+
+        auctionCloseTimer.cancel(auctionId);
+        auctionBidHub.complete(auctionId);
+        log.debug("경매 종료 반영 - 경매ID: {}, 상태: {}", auctionId, event.getStatus());
+    }
+}
@@ -0,0 +1,286 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.AdminProduct;
+import com.realive.domain.auction.Auction;
+import com.realive.domain.common.enums.MediaType;
+import com.realive.domain.product.Product;
+import com.realive.domain.product.ProductImage;
+import com.realive.dto.auction.AdminProductDTO;
+import com.realive.dto.auction.AuctionResponseDTO;
+import com.realive.event.AuctionChangedEvent;
+import com.realive.event.ProductChangedEvent;
+import com.realive.event.SellerChangedEvent;
+import com.realive.repository.auction.AdminProductRepository;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.product.ProductImageRepository;
+import com.realive.repository.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 경매 조회 모델.
+ *
+ * AuctionResponseDTO에 필요한 경매/상품 정보(상품명, 썸네일, 이미지 목록, 카테고리, 현재가, 입찰 수)를
+ * 경매 ID 기준으로 미리 조합해 두고, 경매 목록/상세 응답을 맵 조회 한 번으로 만듭니다.
+ *
+ * 갱신 방식
+ * - 입찰: {@link #applyBid}로 현재가/입찰 수만 제자리 갱신
+ * - 등록/수정/취소: 커밋 후 {@link AuctionChangedEvent}로 해당 경매만 무효화, 다음 조회 시 재조합
+ * - 종료/유찰(스케줄러): {@link #evict}로 무효화
+ * - 상품 수정/삭제, 판매자 상태 변경: 커밋 후 해당 상품/판매자 상품의 항목 무효화
+ * 없는 항목은 조회 시 여러 건을 묶어 일괄 로드합니다.
+ *
+ * 항목 수는 MAX_LISTINGS로 제한(LRU)하고, 이벤트가 없는 경로로 바뀐 정보가 남지 않도록 LISTING_TTL이 지나면 다시 조합합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionReadModel {
+
+    private static final int MAX_LISTINGS = 10_000;
+    private static final long LISTING_TTL_MILLIS = 10 * 60 * 1000L;
+
+    private final AuctionRepository auctionRepository;
+    private final AdminProductRepository adminProductRepository;
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final AuctionBidEngine auctionBidEngine;
+
+    // 접근 순서 LRU (listings 락 안에서만 접근)
+    private final Map<Integer, Listing> listings = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Listing> eldest) {
+            return size() > MAX_LISTINGS;
+        }
+    };
+
+    /**
+     * 경매 1건의 응답을 반환합니다.
+     */
+    public Optional<AuctionResponseDTO> get(Integer auctionId) {
+        Listing listing = cached(auctionId);
+        if (listing == null) {
+            Optional<Auction> auction = auctionRepository.findById(auctionId);
+            if (auction.isEmpty()) {
+                return Optional.empty();
+            }
+            listing = load(List.of(auction.get())).get(auctionId);
+        }
+        return Optional.of(listing.toResponse());
+    }
+
+    /**
+     * 조회된 경매 목록의 응답을 순서대로 반환합니다. 모델에 없는 경매만 일괄 로드합니다.
+     */
+    public List<AuctionResponseDTO> getAll(List<Auction> auctions) {
+        if (auctions == null || auctions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Listing> found = new HashMap<>();
+        List<Auction> missing = new ArrayList<>();
+        for (Auction auction : auctions) {
+            Listing listing = cached(auction.getId());
+            if (listing != null) {
+                found.put(auction.getId(), listing);
+            } else {
+                missing.add(auction);
+            }
+        }
+        if (!missing.isEmpty()) {
+            found.putAll(load(missing));
+        }
+
+        List<AuctionResponseDTO> responses = new ArrayList<>(auctions.size());
+        for (Auction auction : auctions) {
+            responses.add(found.get(auction.getId()).toResponse());
+        }
+        return responses;
+    }
+
+    /**
+     * 수락된 입찰을 반영합니다. (현재가는 올라가는 방향으로만 갱신)
+     */
+    public void applyBid(Integer auctionId, int currentPrice, int bidCount) {
+        synchronized (listings) {
+            Listing listing = listings.get(auctionId);
+            if (listing != null) {
+                listings.put(auctionId, listing.withBid(currentPrice, bidCount));
+            }
+        }
+    }
+
+    public void evict(Integer auctionId) {
+        synchronized (listings) {
+            listings.remove(auctionId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAuctionChanged(AuctionChangedEvent event) {
+        evict(event.getAuctionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        int evicted = evictIf(listing -> listing.product.getProductId() != null
+                && listing.product.getProductId().longValue() == event.getProductId());
+        log.debug("상품 변경으로 경매 조회 모델 무효화 - 상품ID: {}, {}건", event.getProductId(), evicted);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSellerChanged(SellerChangedEvent event) {
+        int evicted = evictIf(listing -> listing.product.getPurchasedFromSellerId() != null
+                && listing.product.getPurchasedFromSellerId().longValue() == event.getSellerId());
+        log.debug("판매자 변경으로 경매 조회 모델 무효화 - 판매자ID: {}, {}건", event.getSellerId(), evicted);
+    }
+
+    // 만료된 항목은 없는 것으로 취급하고 제거
+    private Listing cached(Integer auctionId) {
+        synchronized (listings) {
+            Listing listing = listings.get(auctionId);
+            if (listing != null && listing.isExpired()) {
+                listings.remove(auctionId);
+                return null;
+            }
+            return listing;
+        }
+    }
+
+    private int evictIf(Predicate<Listing> condition) {
+        synchronized (listings) {
+            int before = listings.size();
+            listings.values().removeIf(condition);
+            return before - listings.size();
+        }
+    }
+
+    /**
+     * 경매 목록의 상품/이미지 정보를 상품 기준으로 일괄 조회해 모델에 적재합니다.
+     */
+    private Map<Integer, Listing> load(Collection<Auction> auctions) {
+        // 1. AdminProduct 일괄 조회
+        List<Integer> adminProductIds = auctions.stream()
+                .map(auction -> auction.getAdminProduct().getId())
+                .distinct()
+                .toList();
+        Map<Integer, AdminProduct> adminProductMap = adminProductRepository.findAllById(adminProductIds).stream()
+                .collect(Collectors.toMap(AdminProduct::getId, Function.identity()));
+
+        // 2. 원본 Product 일괄 조회
+        List<Long> productIds = adminProductMap.values().stream()
+                .map(adminProduct -> adminProduct.getProductId().longValue())
+                .distinct()
+                .toList();
+        Map<Long, Product> productMap = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 3. 썸네일 / 전체 이미지 URL 일괄 조회
+        Map<Long, String> thumbnailMap = productImageRepository
+                .findByProductIdInAndIsThumbnailTrueAndMediaType(productIds, MediaType.IMAGE).stream()
+                .collect(Collectors.toMap(pi -> pi.getProduct().getId(), ProductImage::getUrl, (url1, url2) -> url1));
+        Map<Long, List<String>> imageUrlsMap = new HashMap<>();
+        for (Object[] row : productImageRepository.findUrlsByProductIds(productIds)) {
+            imageUrlsMap.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        // 4. 조합 후 적재
+        Map<Integer, Listing> loaded = new HashMap<>();
+        for (Auction auction : auctions) {
+            AdminProduct adminProduct = adminProductMap.get(auction.getAdminProduct().getId());
+            Long productId = adminProduct.getProductId().longValue();
+            AdminProductDTO productDto = AdminProductDTO.fromEntity(
+                    adminProduct,
+                    productMap.get(productId),
+                    thumbnailMap.get(productId),
+                    List.copyOf(imageUrlsMap.getOrDefault(productId, Collections.emptyList())));
+
+            // 아직 저장되지 않은 입찰까지 반영된 입찰 엔진의 현재가/입찰 수 우선
+            Auction snapshot = snapshot(auction);
+            Integer livePrice = auctionBidEngine.getCurrentPrice(auction.getId());
+            if (livePrice != null && livePrice > snapshot.getCurrentPrice()) {
+                snapshot.setCurrentPrice(livePrice);
+                snapshot.setBidCount(auctionBidEngine.getBidCount(auction.getId()));
+            }
+
+            Listing listing = new Listing(snapshot, productDto, auction.getCreatedAt(), auction.getUpdatedAt(),
+                    System.currentTimeMillis());
+            loaded.put(auction.getId(), listing);
+        }
+        synchronized (listings) {
+            loaded.forEach(listings::putIfAbsent);
+        }
+        log.debug("경매 조회 모델 적재 - {}건", loaded.size());
+        return loaded;
+    }
+
+    // 영속성 컨텍스트와 분리된 경매 필드 사본 (생성/수정 시각은 BaseTimeEntity에 setter가 없어 Listing에 따로 보관)
+    private static Auction snapshot(Auction auction) {
+        return Auction.builder()
+                .id(auction.getId())
+                .startPrice(auction.getStartPrice())
+                .currentPrice(auction.getCurrentPrice())
+                .startTime(auction.getStartTime())
+                .endTime(auction.getEndTime())
+                .status(auction.getStatus())
+                .winningBidPrice(auction.getWinningBidPrice())
+                .winningCustomerId(auction.getWinningCustomerId())
+                .bidCount(auction.getBidCount())
+                .build();
+    }
+
+    private static final class Listing {
+
+        private final Auction auction;
+        private final AdminProductDTO product;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+        private final long loadedAtMillis;
+
+        private Listing(Auction auction, AdminProductDTO product,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, long loadedAtMillis) {
+            this.auction = auction;
+            this.product = product;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - loadedAtMillis > LISTING_TTL_MILLIS;
+        }
+
+        private Listing withBid(int currentPrice, int bidCount) {
+            if (currentPrice <= auction.getCurrentPrice()) {
+                return this;
+            }
+            Auction updated = snapshot(auction);
+            updated.setCurrentPrice(currentPrice);
+            updated.setBidCount(Math.max(bidCount, auction.getBidCount() == null ? 0 : auction.getBidCount()));
+            return new Listing(updated, product, createdAt, updatedAt, loadedAtMillis);
+        }
+
+        private AuctionResponseDTO toResponse() {
+            AuctionResponseDTO response = AuctionResponseDTO.fromEntity(auction, product);
+            response.setCreatedAt(createdAt);
+            response.setUpdatedAt(updatedAt);
+            return response;
+        }
+    }
+}
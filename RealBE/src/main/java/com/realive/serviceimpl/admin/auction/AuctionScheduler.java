@@ -1,117 +1,183 @@
 package com.realive.serviceimpl.admin.auction;
 
 import com.realive.domain.auction.Auction;
-import com.realive.domain.auction.Bid;
 import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.event.StatsDataChangedEvent;
 import com.realive.repository.auction.AuctionRepository;
-import com.realive.repository.auction.BidRepository;
-import com.realive.repository.auction.AuctionPaymentRepository;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 // import com.realive.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * 경매 종료 / 결제 마감 배치.
+ *
+ * 두 작업 모두 대상 ID를 키셋 방식으로 청크 조회한 뒤, 청크마다 집합 단위 UPDATE 한두 번으로 처리하고
+ * 청크별로 따로 커밋합니다. 청크 처리에 실패하면 해당 청크만 1건씩 다시 처리하여
+ * 문제 있는 경매 하나가 전체 배치를 롤백하거나 멈추지 않도록 합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuctionScheduler {
 
+    private static final int CHUNK_SIZE = 1000;
+    private static final int PAYMENT_DEADLINE_DAYS = 7;
+
     private final AuctionRepository auctionRepository;
-    private final BidRepository bidRepository;
-    private final AuctionPaymentRepository auctionPaymentRepository;
+    private final AuctionBidEngine auctionBidEngine;
+    private final AuctionBidHub auctionBidHub;
+    private final AuctionReadModel auctionReadModel;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityStatsRecorder activityStatsRecorder;
+    private final ApplicationEventPublisher eventPublisher;
     // private final NotificationService notificationService;
 
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
+    /**
+     * 종료 시각이 지난 경매를 일괄 종료 처리합니다.
+     * 정시 종료는 AuctionCloseTimer가 담당하며, 이 스캔은 타이머 누락(재시작 직후 등)에 대비한 안전망입니다.
+     */
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
     public void completeEndedAuctions() {
         log.debug("🛎️ [Auction Scheduler] 실행_{}", LocalDateTime.now());
 
         LocalDateTime now = LocalDateTime.now();
+        int processed = 0;
+        int afterId = 0;
+
+        while (true) {
+            // 종료 시간이 지난 진행 중인 경매 ID 청크 조회
+            List<Integer> ids = auctionRepository.findIdsByStatusAndEndTimeBefore(
+                    AuctionStatus.PROCEEDING, now, afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
 
-        // 종료 시간이 지난 진행 중인 경매 조회
-        List<Auction> endedAuctions = auctionRepository.findByStatusAndEndTimeBefore(
-                AuctionStatus.PROCEEDING, now);
+            processed += processChunk(ids, this::settleChunk, "경매 종료");
+            afterId = ids.get(ids.size() - 1);
+        }
 
-        if (endedAuctions.isEmpty()) {
+        if (processed == 0) {
             log.debug("🔕 처리할 경매 없음");
             return;
         }
+        log.info("✅ [Scheduler] 경매 종료 처리 완료 - {}건", processed);
+    }
 
-        for (Auction auction : endedAuctions) {
-            try {
-                // 최고 입찰 조회 (동점 가능성 있음)
-                List<Bid> winningBids = bidRepository.findTopByAuctionIdOrderByBidPriceDesc(auction.getId());
-                Bid winningBid = !winningBids.isEmpty() ? winningBids.get(0) : null;
-
-                if (winningBid != null) {
-                    // 낙찰 처리
-                    auction.setStatus(AuctionStatus.COMPLETED);
-                    auction.setWinningBidPrice(winningBid.getBidPrice());
-                    auction.setWinningCustomerId(winningBid.getCustomerId());
-                    auctionRepository.save(auction);
-
-                    // 알림 (옵션)
-                    // notificationService.sendAuctionWinNotification(...);
-
-                    log.info("✅ 경매 종료 처리 완료 - 경매ID: {}, 낙찰자ID: {}, 낙찰가: {}",
-                            auction.getId(), winningBid.getCustomerId(), winningBid.getBidPrice());
-                } else {
-                    // 입찰자 없는 경우 유찰 처리
-                    auction.setStatus(AuctionStatus.FAILED);
-                    auctionRepository.save(auction);
-
-                    log.info("⚠️ 경매 유찰 처리 완료 - 경매ID: {}, 사유: 입찰자 없음", auction.getId());
-                }
-            } catch (Exception e) {
-                log.error("❌ 경매 종료 처리 중 오류 발생 - 경매ID: {}", auction.getId(), e);
-            }
+    /**
+     * 경매 1건을 종료 처리합니다. (AuctionCloseTimer에서 종료 시각에 호출)
+     * 이미 종료되었거나 종료 시각이 연장된 경우에는 아무것도 하지 않습니다.
+     */
+    public void completeAuction(Integer auctionId) {
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction == null || auction.getStatus() != AuctionStatus.PROCEEDING
+                || auction.getEndTime().isAfter(LocalDateTime.now())) {
+            return;
         }
 
-        log.debug("✅ [Scheduler] 경매 스케줄러 실행 완료 at {}", LocalDateTime.now());
+        settleChunk(List.of(auctionId));
+        log.info("✅ 경매 종료 처리 완료 - 경매ID: {}", auctionId);
     }
 
     @Scheduled(fixedRate = 300000) // 5분마다 실행
-    @Transactional
     public void handleExpiredPayments() {
         log.debug("💳 [Payment Deadline Scheduler] 실행_{}", LocalDateTime.now());
 
-        LocalDateTime now = LocalDateTime.now();
+        // 결제 마감: 경매 종료 후 7일
+        LocalDateTime deadline = LocalDateTime.now().minusDays(PAYMENT_DEADLINE_DAYS);
+        int processed = 0;
+        int afterId = 0;
+
+        while (true) {
+            // 결제 마감이 지났고 결제되지 않은 낙찰 경매 ID 청크 조회
+            List<Integer> ids = auctionRepository.findUnpaidIdsEndedBefore(
+                    deadline, afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
 
-        // 결제 마감이 지난 완료된 경매 조회 (결제 마감: 경매 종료 후 7일)
-        List<Auction> expiredPaymentAuctions = auctionRepository.findByStatusAndEndTimeBefore(
-                AuctionStatus.COMPLETED, now.minusDays(7));
+            processed += processChunk(ids, this::failUnpaidChunk, "결제 마감");
+            afterId = ids.get(ids.size() - 1);
+        }
 
-        if (expiredPaymentAuctions.isEmpty()) {
+        if (processed == 0) {
             log.debug("🔕 결제 마감 처리할 경매 없음");
             return;
         }
+        log.info("⚠️ 결제 마감으로 인한 유찰 처리 완료 - {}건", processed);
+    }
+
+    /**
+     * 청크 내 경매를 입찰 엔진에서 닫고 대기 입찰을 반영한 뒤, 낙찰/유찰을 두 개의 UPDATE로 처리합니다.
+     * 저장되지 않은 입찰이 남아 있으면(저장 실패) 낙찰자가 달라질 수 있으므로 종료 처리하지 않고 예외를 던집니다.
+     * 청크 단위 실패는 1건씩 다시 처리되고, 남은 경매는 타이머 재시도나 안전망 스캔에서 다시 처리됩니다.
+     */
+    private int settleChunk(List<Integer> ids) {
+        ids.forEach(auctionBidEngine::closeAuction);
+        auctionBidEngine.flushPendingBids();
+
+        Set<Integer> unflushed = auctionBidEngine.findAuctionsWithPendingBids(ids);
+        if (!unflushed.isEmpty()) {
+            throw new IllegalStateException("저장되지 않은 입찰이 남아 있어 경매를 종료 처리할 수 없습니다. 경매ID: " + unflushed);
+        }
+
+        int settled = transactionTemplate.execute(status -> {
+            int completed = auctionRepository.completeWithWinningBids(ids);
+            int failed = auctionRepository.failWithoutBids(ids);
+            log.debug("경매 종료 청크 처리 - 낙찰: {}건, 유찰(입찰 없음): {}건", completed, failed);
+            activityStatsRecorder.recordAuctionsClosed(completed, failed);
+            // 커밋 후 오늘 날짜를 포함하는 통계 캐시 무효화
+            eventPublisher.publishEvent(StatsDataChangedEvent.of(LocalDate.now()));
+            return completed + failed;
+        });
+        // 종료 처리가 커밋된 뒤에만 입찰 엔진의 닫힌 상태를 내림
+        auctionBidEngine.release(ids);
+
+        // 실시간 입찰 스트림 종료, 조회 모델 무효화
+        ids.forEach(auctionBidHub::complete);
+        ids.forEach(auctionReadModel::evict);
+        return settled;
+    }
 
-        for (Auction auction : expiredPaymentAuctions) {
+    private int failUnpaidChunk(List<Integer> ids) {
+        int failed = transactionTemplate.execute(status -> {
+            int unpaid = auctionRepository.failUnpaid(ids);
+            eventPublisher.publishEvent(StatsDataChangedEvent.of(LocalDate.now()));
+            return unpaid;
+        });
+        ids.forEach(auctionReadModel::evict);
+        return failed;
+    }
+
+    /**
+     * 청크를 한 번에 처리하고, 실패하면 1건씩 나누어 다시 처리합니다.
+     */
+    private int processChunk(List<Integer> ids, ToIntFunction<List<Integer>> chunkHandler, String jobName) {
+        try {
+            return chunkHandler.applyAsInt(ids);
+        } catch (Exception e) {
+            log.warn("{} 청크 처리 실패 - {}건을 개별 처리합니다. 원인: {}", jobName, ids.size(), e.getMessage());
+        }
+
+        int processed = 0;
+        for (Integer id : ids) {
             try {
-                // 결제 완료 여부 확인
-                boolean isPaid = auctionPaymentRepository.existsByCustomerIdAndAuctionIdAndStatusCompleted(
-                        auction.getWinningCustomerId(), auction.getId());
-
-                if (!isPaid) {
-                    // 결제 미완료 시 유찰 처리
-                    auction.setStatus(AuctionStatus.FAILED);
-                    auction.setWinningCustomerId(null);
-                    auction.setWinningBidPrice(null);
-                    auctionRepository.save(auction);
-
-                    log.info("⚠️ 결제 마감으로 인한 유찰 처리 완료 - 경매ID: {}, 낙찰자ID: {}", 
-                            auction.getId(), auction.getWinningCustomerId());
-                }
+                processed += chunkHandler.applyAsInt(List.of(id));
             } catch (Exception e) {
-                log.error("❌ 결제 마감 처리 중 오류 발생 - 경매ID: {}", auction.getId(), e);
+                log.error("❌ {} 처리 중 오류 발생 - 경매ID: {}", jobName, id, e);
             }
         }
-
-        log.debug("✅ [Payment Deadline Scheduler] 결제 마감 스케줄러 실행 완료 at {}", LocalDateTime.now());
+        return processed;
     }
-}
\ No newline at end of file
+}
@@ -17,17 +17,19 @@ import com.realive.domain.product.ProductImage;
 import com.realive.domain.customer.Customer;
 import com.realive.dto.auction.AdminProductDTO;
 import com.realive.dto.auction.AuctionCreateRequestDTO;
+import com.realive.dto.auction.AuctionCursorResponseDTO;
 import com.realive.dto.auction.AuctionResponseDTO;
 import com.realive.dto.auction.AuctionCancelResponseDTO;
 import com.realive.dto.auction.AuctionUpdateRequestDTO;
 import com.realive.dto.auction.AuctionWinResponseDTO;
 import com.realive.dto.payment.AuctionPaymentRequestDTO;
 import com.realive.dto.payment.TossPaymentApproveRequestDTO;
+import com.realive.event.AuctionChangedEvent;
+import com.realive.event.StatsDataChangedEvent;
 import com.realive.repository.admin.AdminRepository;
 import com.realive.repository.auction.AdminProductRepository;
 import com.realive.repository.auction.AuctionRepository;
 import com.realive.repository.auction.AuctionPaymentRepository;
-import com.realive.repository.auction.BidRepository;
 import com.realive.repository.product.ProductImageRepository;
 import com.realive.repository.product.ProductRepository;
 import com.realive.repository.customer.CustomerRepository;
@@ -36,14 +38,21 @@ import com.realive.repository.order.OrderItemRepository;
 import com.realive.repository.order.OrderDeliveryRepository;
 import com.realive.service.admin.auction.AuctionService;
 import com.realive.service.payment.PaymentService;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -52,10 +61,7 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -69,7 +75,6 @@ public class AuctionServiceImpl implements AuctionService {
     private final AuctionRepository auctionRepository;
     private final ProductRepository productRepository;
     private final AdminProductRepository adminProductRepository;
-    private final BidRepository bidRepository;
     private final AdminRepository adminRepository;
     private final ProductImageRepository productImageRepository;
     private final CustomerRepository customerRepository;
@@ -78,6 +83,9 @@ public class AuctionServiceImpl implements AuctionService {
     private final OrderDeliveryRepository orderDeliveryRepository;
     private final AuctionPaymentRepository auctionPaymentRepository;
     private final PaymentService paymentService;
+    private final AuctionReadModel auctionReadModel;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityStatsRecorder activityStatsRecorder;
 
     @Override
     @Transactional
@@ -115,6 +123,8 @@ public class AuctionServiceImpl implements AuctionService {
         // 4. 경매 엔티티 생성 및 저장
         Auction auction = requestDto.toEntity(adminProduct);
         Auction savedAuction = auctionRepository.save(auction);
+        eventPublisher.publishEvent(AuctionChangedEvent.of(savedAuction));
+        activityStatsRecorder.recordAuctionCreated();
         log.info("관리자(ID:{})에 의해 경매 등록 성공 - AuctionId: {}, AdminProductId: {}",
                 adminUserId, savedAuction.getId(), adminProduct.getId());
 
@@ -143,109 +153,197 @@ public class AuctionServiceImpl implements AuctionService {
     public Page<AuctionResponseDTO> getActiveAuctions(Pageable pageable, String categoryFilter, String statusFilter) {
         log.info("경매 목록 조회 요청 처리 - Pageable: {}, Category: {}, Status: {}", pageable, categoryFilter, statusFilter);
 
+        // 정렬 기준 확인 (입찰 수 정렬이 아니면 상태별 우선순위 정렬)
+        boolean sortByBidCount = pageable.getSort().stream()
+                .map(Sort.Order::getProperty)
+                .findFirst()
+                .map("bidCount"::equals)
+                .orElse(false);
+
+        // 정렬은 DB에서 처리 (bid_count / status_priority+start_time 인덱스 순서 그대로 읽음)
         Specification<Auction> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            LocalDateTime now = LocalDateTime.now();
-
-            // 카테고리 필터 (Auction -> AdminProduct -> Product 조인 후 Product.categoryName으로 필터링 가정)
-            if (StringUtils.hasText(categoryFilter)) {
-                try {
-                    Join<Auction, AdminProduct> adminProductJoin = root.join("adminProduct", JoinType.INNER);
-                    Join<AdminProduct, Product> productJoin = adminProductJoin.join("product", JoinType.INNER);
-                    predicates.add(criteriaBuilder.equal(productJoin.get("categoryName"), categoryFilter));
-                    log.debug("Applying category filter: {}", categoryFilter);
-                } catch (Exception e) {
-                    log.warn("카테고리 필터링 중 오류 발생 (엔티티 관계 확인 필요): {}", e.getMessage());
+            if (query.getResultType() != Long.class) {
+                if (sortByBidCount) {
+                    // 입찰 수 내림차순 (인기순)
+                    query.orderBy(criteriaBuilder.desc(root.get("bidCount")), criteriaBuilder.desc(root.get("id")));
+                } else {
+                    // 기본 정렬: 상태별 우선순위 (진행중 > 예정 > 종료 > 취소 > 실패), 같은 상태 내에서는 시작시간 순
+                    // 진행중/예정은 같은 우선순위라 시작시간 오름차순만으로 이미 시작한 경매가 예정 경매보다 앞에 옴
+                    query.orderBy(
+                            criteriaBuilder.asc(root.get("statusPriority")),
+                            criteriaBuilder.asc(root.get("startTime")),
+                            criteriaBuilder.asc(root.get("id")));
                 }
             }
+            return criteriaBuilder.and(buildAuctionPredicates(root, criteriaBuilder, categoryFilter, statusFilter));
+        };
+
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<Auction> auctionPage = auctionRepository.findAll(spec, unsorted);
+        List<AuctionResponseDTO> auctionResponseDTOs = auctionReadModel.getAll(auctionPage.getContent());
+
+        return new PageImpl<>(auctionResponseDTOs, pageable, auctionPage.getTotalElements());
+    }
+
+    @Override
+    public AuctionCursorResponseDTO getAuctionsByCursor(String sort, String cursor, int size, String categoryFilter, String statusFilter) {
+        log.info("경매 목록 커서 조회 요청 처리 - Sort: {}, Cursor: {}, Size: {}, Category: {}, Status: {}",
+                sort, cursor, size, categoryFilter, statusFilter);
+
+        boolean sortByBidCount = "bidCount".equals(sort);
+        boolean sortByStatus = "status".equals(sort);
+        if (!sortByBidCount && !sortByStatus && StringUtils.hasText(sort) && !"endTime".equals(sort)) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        }
 
-            // 상태 필터
-            if (StringUtils.hasText(statusFilter)) {
-                log.debug("Applying status filter: {}", statusFilter.toUpperCase());
-                switch (statusFilter.toUpperCase()) {
-                    case "PROCEEDING": // 진행중: 시작했고, 종료되지 않았고, 마감 시간 전
-                        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("startTime"), now));
-                        predicates.add(criteriaBuilder.greaterThan(root.get("endTime"), now));
-                        predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.PROCEEDING));
-                        break;
-                    case "SCHEDULED": // 예정: 시작 시간이 미래이고, PROCEEDING 상태
-                        predicates.add(criteriaBuilder.greaterThan(root.get("startTime"), now));
-                        predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.PROCEEDING));
-                        break;
-                    case "COMPLETED": // 종료됨: COMPLETED 상태
-                        predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.COMPLETED));
-                        break;
-                    case "CANCELLED": // 취소됨: CANCELLED 상태
-                        predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.CANCELLED));
-                        break;
-                    case "FAILED": // 실패: FAILED 상태
-                        predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.FAILED));
-                        break;
-                    default:
-                        log.warn("지원하지 않는 경매 상태 필터입니다: {}", statusFilter);
-                        break;
+        // 커서 형식: "{정렬 키 값}_{id}" (정렬 키 값은 입찰 수, ISO 종료시간, 또는 "{상태 우선순위},{ISO 시작시간}")
+        Integer lastId = null;
+        Integer lastBidCount = null;
+        LocalDateTime lastEndTime = null;
+        Integer lastPriority = null;
+        LocalDateTime lastStartTime = null;
+        if (StringUtils.hasText(cursor)) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                lastId = Integer.valueOf(cursor.substring(separator + 1));
+                String lastValue = cursor.substring(0, Math.max(separator, 0));
+                if (sortByBidCount) {
+                    lastBidCount = Integer.valueOf(lastValue);
+                } else if (sortByStatus) {
+                    int comma = lastValue.indexOf(',');
+                    lastPriority = Integer.valueOf(lastValue.substring(0, comma));
+                    lastStartTime = LocalDateTime.parse(lastValue.substring(comma + 1));
+                } else {
+                    lastEndTime = LocalDateTime.parse(lastValue);
                 }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
             }
-            // statusFilter가 없으면 모든 경매 조회 (필터링 없음)
+        }
+        final Integer afterId = lastId;
+        final Integer afterBidCount = lastBidCount;
+        final LocalDateTime afterEndTime = lastEndTime;
+        final Integer afterPriority = lastPriority;
+        final LocalDateTime afterStartTime = lastStartTime;
 
+        Specification<Auction> spec = (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>(
+                    List.of(buildAuctionPredicates(root, criteriaBuilder, categoryFilter, statusFilter)));
+
+            // 커서 이후 행만 조회 ((정렬 키, id) 기준 키셋)
+            if (afterBidCount != null) {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.lessThan(root.get("bidCount"), afterBidCount),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("bidCount"), afterBidCount),
+                                criteriaBuilder.lessThan(root.get("id"), afterId))));
+            } else if (afterEndTime != null) {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(root.get("endTime"), afterEndTime),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("endTime"), afterEndTime),
+                                criteriaBuilder.greaterThan(root.get("id"), afterId))));
+            } else if (afterPriority != null) {
+                predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(root.get("statusPriority"), afterPriority),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("statusPriority"), afterPriority),
+                                criteriaBuilder.greaterThan(root.get("startTime"), afterStartTime)),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("statusPriority"), afterPriority),
+                                criteriaBuilder.equal(root.get("startTime"), afterStartTime),
+                                criteriaBuilder.greaterThan(root.get("id"), afterId))));
+            }
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
 
-        Page<Auction> auctionPage = auctionRepository.findAll(spec, pageable);
-        List<AuctionResponseDTO> auctionResponseDTOs = convertToAuctionResponseDTOs(auctionPage.getContent());
+        Sort keysetSort = sortByBidCount
+                ? Sort.by(Sort.Order.desc("bidCount"), Sort.Order.desc("id"))
+                : sortByStatus
+                ? Sort.by(Sort.Order.asc("statusPriority"), Sort.Order.asc("startTime"), Sort.Order.asc("id"))
+                : Sort.by(Sort.Order.asc("endTime"), Sort.Order.asc("id"));
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+        List<Auction> auctions = auctionRepository.findBy(spec, q -> q.sortBy(keysetSort).limit(size + 1).all());
+        boolean hasNext = auctions.size() > size;
+        if (hasNext) {
+            auctions = auctions.subList(0, size);
+        }
 
-        // 정렬 로직 처리
-        String sortProperty = pageable.getSort().stream()
-                .map(sort -> sort.getProperty())
-                .findFirst()
-                .orElse("");
-
-        if ("bidCount".equals(sortProperty)) {
-            // 입찰 수로 정렬
-            Map<Integer, Long> bidCountMap = getBidCountMap(auctionPage.getContent());
-            auctionResponseDTOs.sort((a, b) -> {
-                Long bidCountA = bidCountMap.getOrDefault(a.getId(), 0L);
-                Long bidCountB = bidCountMap.getOrDefault(b.getId(), 0L);
-                return bidCountB.compareTo(bidCountA); // 내림차순 (인기순)
-            });
-        } else {
-            // 기본 정렬: 상태별 우선순위로 정렬 (진행중 > 예정 > 종료 > 취소 > 실패)
-            auctionResponseDTOs.sort((a, b) -> {
-                int priorityA = getStatusPriority(a.getStatus(), a.getStartTime());
-                int priorityB = getStatusPriority(b.getStatus(), b.getStartTime());
-
-                if (priorityA != priorityB) {
-                    return Integer.compare(priorityA, priorityB);
-                }
+        String nextCursor = null;
+        if (hasNext) {
+            Auction last = auctions.get(auctions.size() - 1);
+            String lastValue = sortByBidCount ? String.valueOf(last.getBidCount() == null ? 0 : last.getBidCount())
+                    : sortByStatus ? last.getStatusPriority() + "," + last.getStartTime()
+                    : last.getEndTime().toString();
+            nextCursor = lastValue + "_" + last.getId();
+        }
+
+        return AuctionCursorResponseDTO.builder()
+                .content(auctionReadModel.getAll(auctions))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 경매 목록 공통 필터 조건 (카테고리, 상태)
+     */
+    private Predicate[] buildAuctionPredicates(Root<Auction> root, CriteriaBuilder criteriaBuilder,
+                                               String categoryFilter, String statusFilter) {
+        List<Predicate> predicates = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
 
-                // 같은 상태 내에서는 시작시간 순으로 정렬
-                return a.getStartTime().compareTo(b.getStartTime());
-            });
+        // 카테고리 필터 (Auction -> AdminProduct -> Product 조인 후 Product.categoryName으로 필터링 가정)
+        if (StringUtils.hasText(categoryFilter)) {
+            try {
+                Join<Auction, AdminProduct> adminProductJoin = root.join("adminProduct", JoinType.INNER);
+                Join<AdminProduct, Product> productJoin = adminProductJoin.join("product", JoinType.INNER);
+                predicates.add(criteriaBuilder.equal(productJoin.get("categoryName"), categoryFilter));
+                log.debug("Applying category filter: {}", categoryFilter);
+            } catch (Exception e) {
+                log.warn("카테고리 필터링 중 오류 발생 (엔티티 관계 확인 필요): {}", e.getMessage());
+            }
         }
 
-        return new PageImpl<>(auctionResponseDTOs, pageable, auctionPage.getTotalElements());
+        // 상태 필터
+        if (StringUtils.hasText(statusFilter)) {
+            log.debug("Applying status filter: {}", statusFilter.toUpperCase());
+            switch (statusFilter.toUpperCase()) {
+                case "PROCEEDING": // 진행중: 시작했고, 종료되지 않았고, 마감 시간 전
+                    predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("startTime"), now));
+                    predicates.add(criteriaBuilder.greaterThan(root.get("endTime"), now));
+                    predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.PROCEEDING));
+                    break;
+                case "SCHEDULED": // 예정: 시작 시간이 미래이고, PROCEEDING 상태
+                    predicates.add(criteriaBuilder.greaterThan(root.get("startTime"), now));
+                    predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.PROCEEDING));
+                    break;
+                case "COMPLETED": // 종료됨: COMPLETED 상태
+                    predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.COMPLETED));
+                    break;
+                case "CANCELLED": // 취소됨: CANCELLED 상태
+                    predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.CANCELLED));
+                    break;
+                case "FAILED": // 실패: FAILED 상태
+                    predicates.add(criteriaBuilder.equal(root.get("status"), AuctionStatus.FAILED));
+                    break;
+                default:
+                    log.warn("지원하지 않는 경매 상태 필터입니다: {}", statusFilter);
+                    break;
+            }
+        }
+        // statusFilter가 없으면 모든 경매 조회 (필터링 없음)
+
+        return predicates.toArray(new Predicate[0]);
     }
 
     @Override
     public AuctionResponseDTO getAuctionDetails(Integer auctionId) {
         log.info("관리자 - 경매 상세 정보 조회 요청 - AuctionId: {}", auctionId);
-        Auction auction = auctionRepository.findById(auctionId)
+        // 조회 모델에서 한 번에 조회 (없으면 적재)
+        return auctionReadModel.get(auctionId)
                 .orElseThrow(() -> new NoSuchElementException("경매 정보를 찾을 수 없습니다. ID: " + auctionId));
-
-        AdminProduct adminProduct = auction.getAdminProduct();
-        Product product = productRepository.findById(adminProduct.getProductId().longValue()).orElse(null);
-
-        String thumbnailUrl = productImageRepository
-                .findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                .map(ProductImage::getUrl)
-                .orElse(null);
-
-        List<String> imageUrls = productImageRepository.findUrlsByProductId(product.getId());
-
-        AdminProductDTO adminProductDto = AdminProductDTO.fromEntity(adminProduct, product, thumbnailUrl, imageUrls);
-
-
-        return AuctionResponseDTO.fromEntity(auction, adminProductDto);
     }
 
     @Override
@@ -263,7 +361,7 @@ public class AuctionServiceImpl implements AuctionService {
                 .toList();
         Page<Auction> auctionPage = auctionRepository.findByAdminProduct_IdIn(adminProductIds, pageable);
 
-        List<AuctionResponseDTO> auctionResponseDTOs = convertToAuctionResponseDTOs(auctionPage.getContent());
+        List<AuctionResponseDTO> auctionResponseDTOs = auctionReadModel.getAll(auctionPage.getContent());
         return new PageImpl<>(auctionResponseDTOs, pageable, auctionPage.getTotalElements());
     }
 
@@ -275,86 +373,7 @@ public class AuctionServiceImpl implements AuctionService {
                 .orElseThrow(() -> new NoSuchElementException("해당 상품의 관리자 상품 정보를 찾을 수 없습니다. Product ID: " + productId));
 
         Optional<Auction> auctionOptional = auctionRepository.findByAdminProduct_IdAndStatusNot(adminProduct.getId(), AuctionStatus.COMPLETED);
-        return auctionOptional.map(auction -> {
-            Product product = productRepository.findById(adminProduct.getProductId().longValue()).orElse(null);
-            String thumbnailUrl = productImageRepository
-                    .findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                    .map(ProductImage::getUrl)
-                    .orElse(null);
-
-            List<String> imageUrls = productImageRepository.findUrlsByProductId(product.getId());
-
-            AdminProductDTO adminProductDto = AdminProductDTO.fromEntity(adminProduct, product, thumbnailUrl, imageUrls);
-
-            return AuctionResponseDTO.fromEntity(auction, adminProductDto);
-        });
-    }
-
-    // DTO 변환 헬퍼 메소드 (N+1 문제 최소화 노력)
-    private List<AuctionResponseDTO> convertToAuctionResponseDTOs(List<Auction> auctions) {
-        if (auctions == null || auctions.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 1. 필요한 모든 AdminProduct ID 수집
-        List<Integer> adminProductIds = auctions.stream()
-                .map(auction -> auction.getAdminProduct().getId())
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 2. AdminProduct 정보 일괄 조회
-        final Map<Integer, AdminProduct> adminProductMap;
-        if (!adminProductIds.isEmpty()) {
-            List<AdminProduct> adminProducts = adminProductRepository.findAllById(adminProductIds);
-            adminProductMap = adminProducts.stream()
-                    .collect(Collectors.toMap(AdminProduct::getId, ap -> ap));
-        } else {
-            adminProductMap = Collections.emptyMap();
-        }
-
-        // 3. AdminProduct에서 실제 Product ID 수집
-        List<Long> originalProductIds = adminProductMap.values().stream()
-                .map(adminProduct -> adminProduct.getProductId().longValue())
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 4. 실제 Product 정보 일괄 조회
-        final Map<Long, Product> productMap;
-        if (!originalProductIds.isEmpty()) {
-            List<Product> products = productRepository.findAllById(originalProductIds);
-            productMap = products.stream()
-                    .collect(Collectors.toMap(Product::getId, p -> p));
-        } else {
-            productMap = Collections.emptyMap();
-        }
-
-        // 5. Product 이미지 정보 일괄 조회
-        final Map<Long, String> productThumbnailMap;
-        if (!originalProductIds.isEmpty()) {
-            List<ProductImage> thumbnails = productImageRepository.findByProductIdInAndIsThumbnailTrueAndMediaType(
-                    originalProductIds, MediaType.IMAGE);
-            productThumbnailMap = thumbnails.stream()
-                    .collect(Collectors.toMap(
-                            pi -> pi.getProduct().getId(),
-                            ProductImage::getUrl,
-                            (url1, url2) -> url1 // 중복 키 발생 시 첫 번째 것 사용
-                    ));
-        } else {
-            productThumbnailMap = Collections.emptyMap();
-        }
-
-        // 6. DTO 변환
-        return auctions.stream()
-                .map(auction -> {
-                    AdminProduct adminProduct = adminProductMap.get(auction.getAdminProduct().getId());
-                    Product product = productMap.get(adminProduct.getProductId().longValue());
-                    String thumbnailUrl = productThumbnailMap.get(product.getId());
-                    List<String> imageUrls = productImageRepository.findUrlsByProductId(product.getId());
-
-                    AdminProductDTO adminProductDto = AdminProductDTO.fromEntity(adminProduct, product, thumbnailUrl, imageUrls);
-                    return AuctionResponseDTO.fromEntity(auction, adminProductDto);
-                })
-                .collect(Collectors.toList());
+        return auctionOptional.map(auction -> auctionReadModel.getAll(List.of(auction)).get(0));
     }
 
     @Override
@@ -378,6 +397,8 @@ public class AuctionServiceImpl implements AuctionService {
         // 4. 경매 취소 처리
         auction.setStatus(AuctionStatus.CANCELLED);
         Auction savedAuction = auctionRepository.save(auction);
+        eventPublisher.publishEvent(AuctionChangedEvent.of(savedAuction));
+        eventPublisher.publishEvent(StatsDataChangedEvent.since(savedAuction.getCreatedAt()));
 
         // 5. AdminProduct 상태 업데이트
         AdminProduct adminProduct = savedAuction.getAdminProduct();
@@ -426,6 +447,8 @@ public class AuctionServiceImpl implements AuctionService {
             auction.setStatus(requestDto.getStatus());
         }
         Auction savedAuction = auctionRepository.save(auction);
+        eventPublisher.publishEvent(AuctionChangedEvent.of(savedAuction));
+        eventPublisher.publishEvent(StatsDataChangedEvent.since(savedAuction.getCreatedAt()));
 
         // 5. 응답 DTO 생성
         AdminProduct adminProduct = savedAuction.getAdminProduct();
@@ -450,22 +473,7 @@ public class AuctionServiceImpl implements AuctionService {
     public List<AuctionResponseDTO> getAuctionsByProductId(Integer productId) {
         log.info("상품 ID: {}에 대한 경매 목록 조회", productId);
         List<Auction> auctions = auctionRepository.findByAdminProduct_Id(productId);
-        return auctions.stream()
-                .map(auction -> {
-                    AdminProduct adminProduct = auction.getAdminProduct();
-                    Product product = productRepository.findById(adminProduct.getProductId().longValue()).orElse(null);
-                    String thumbnailUrl = productImageRepository
-                            .findFirstByProductIdAndIsThumbnailTrueAndMediaType(product.getId(), MediaType.IMAGE)
-                            .map(ProductImage::getUrl)
-                            .orElse(null);
-
-                    List<String> imageUrls = productImageRepository.findUrlsByProductId(product.getId());
-
-                    AdminProductDTO adminProductDto = AdminProductDTO.fromEntity(adminProduct, product, thumbnailUrl, imageUrls);
-
-                    return AuctionResponseDTO.fromEntity(auction, adminProductDto);
-                })
-                .collect(Collectors.toList());
+        return auctionReadModel.getAll(auctions);
     }
 
     @Override
@@ -657,56 +665,4 @@ public class AuctionServiceImpl implements AuctionService {
             throw new RuntimeException("결제 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
-
-    private int getStatusPriority(AuctionStatus status, LocalDateTime startTime) {
-        LocalDateTime now = LocalDateTime.now();
-
-        switch (status) {
-            case PROCEEDING:
-                // 시작시간이 미래면 "예정", 과거면 "진행중"
-                return startTime.isAfter(now) ? 2 : 1; // 예정: 2, 진행중: 1
-            case COMPLETED:
-                return 3; // 종료
-            case CANCELLED:
-                return 4; // 취소
-            case FAILED:
-                return 5; // 실패
-            default:
-                return 6; // 기타
-        }
-    }
-
-    /**
-     * 경매 목록의 입찰 수를 계산하여 Map으로 반환
-     */
-    private Map<Integer, Long> getBidCountMap(List<Auction> auctions) {
-        if (auctions.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        List<Integer> auctionIds = auctions.stream()
-                .map(Auction::getId)
-                .collect(Collectors.toList());
-
-        Map<Integer, Long> bidCountMap = new HashMap<>();
-        try {
-            for (Integer auctionId : auctionIds) {
-                try {
-                    Long bidCount = bidRepository.countBidsByAuctionId(auctionId);
-                    bidCountMap.put(auctionId, bidCount != null ? bidCount : 0L);
-                } catch (Exception e) {
-                    log.warn("경매 ID {}의 입찰 수 조회 중 오류 발생: {}", auctionId, e.getMessage());
-                    bidCountMap.put(auctionId, 0L);
-                }
-            }
-        } catch (Exception e) {
-            log.error("입찰 수 계산 중 오류 발생: {}", e.getMessage());
-            // 오류 발생 시 모든 경매의 입찰 수를 0으로 설정
-            for (Integer auctionId : auctionIds) {
-                bidCountMap.put(auctionId, 0L);
-            }
-        }
-
-        return bidCountMap;
-    }
 }
@@ -0,0 +1,269 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Bid;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 입찰 저널 (append-only, 메모리 매핑 파일).
+ *
+ * 수락된 입찰은 DB 저장 전에 이 저널에 먼저 기록되고, 저장이 끝나면 {@link #checkpoint}로 저장 완료 위치를 남깁니다.
+ * 재시작 시 체크포인트 이후 기록을 {@link #drainRecovered()}로 돌려주어 아직 저장되지 않은 입찰을 복구합니다.
+ *
+ * 저널은 고정 크기 세그먼트 파일(bids-{첫 시퀀스}.journal)로 나뉘며, 체크포인트 이전 세그먼트는 삭제됩니다.
+ * 레코드 형식(36바이트): seq(8) auctionId(4) customerId(8) bidPrice(4) bidTimeMillis(8) crc32(4)
+ *
+ * 반복해서 저장에 실패한 입찰은 {@link #deadLetter}로 격리 파일(dead-letters.log)에 남기며, 재시작 시 복구 대상에서 제외됩니다.
+ */
+@Slf4j
+@Component
+public class BidJournal {
+
+    /**
+     * fsync 정책
+     * ALWAYS: 기록할 때마다 디스크 동기화 (응답 전 영속 보장)
+     * INTERVAL: 저장 주기마다 동기화 (프로세스 장애에는 안전, 전원 장애 시 최근 기록 유실 가능)
+     * NONE: OS에 맡김
+     */
+    public enum FsyncPolicy { ALWAYS, INTERVAL, NONE }
+
+    private static final int RECORD_SIZE = 36;
+    private static final String SEGMENT_PREFIX = "bids-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String DEAD_LETTER_FILE = "dead-letters.log";
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+
+    // 세그먼트 첫 시퀀스 -> 파일 경로
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private List<Bid> recovered = new ArrayList<>();
+    private MappedByteBuffer active;
+    private long nextSeq = 1;
+    private long checkpointSeq;
+    private Path checkpointFile;
+    private Path deadLetterFile;
+
+    public BidJournal(@Value("${auction.bid-journal.dir:./data/bid-journal}") String directory,
+                      @Value("${auction.bid-journal.segment-size:67108864}") int segmentSize,
+                      @Value("${auction.bid-journal.fsync:INTERVAL}") FsyncPolicy fsyncPolicy) {
+        this.directory = Paths.get(directory);
+        this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    @PostConstruct
+    public synchronized void open() {
+        try {
+            Files.createDirectories(directory);
+            checkpointFile = directory.resolve("checkpoint");
+            if (Files.exists(checkpointFile)) {
+                checkpointSeq = ByteBuffer.wrap(Files.readAllBytes(checkpointFile)).getLong();
+            }
+
+            deadLetterFile = directory.resolve(DEAD_LETTER_FILE);
+            Set<Long> deadLettered = readDeadLetteredSeqs();
+
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                        .forEach(path -> segments.put(firstSeqOf(path), path));
+            }
+
+            long lastSeq = checkpointSeq;
+            for (Path segment : segments.values()) {
+                lastSeq = Math.max(lastSeq, readSegment(segment));
+            }
+            nextSeq = lastSeq + 1;
+            recovered.removeIf(bid -> deadLettered.contains(bid.getJournalSeq()));
+
+            // 부분 기록된 꼬리를 피하기 위해 항상 새 세그먼트에서 이어서 기록
+            roll();
+            log.info("📒 입찰 저널 열림 - 경로: {}, 체크포인트: {}, 복구 대상: {}건, fsync: {}",
+                    directory.toAbsolutePath(), checkpointSeq, recovered.size(), fsyncPolicy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 저널을 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 입찰을 저널에 기록하고 시퀀스를 부여합니다. (bid.journalSeq 설정)
+     */
+    public synchronized void append(Bid bid) {
+        if (active.remaining() < RECORD_SIZE) {
+            roll();
+        }
+
+        long seq = nextSeq++;
+        bid.setJournalSeq(seq);
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        record.putLong(seq)
+                .putInt(bid.getAuctionId())
+                .putLong(bid.getCustomerId())
+                .putInt(bid.getBidPrice())
+                .putLong(bid.getBidTime().atZone(ZONE).toInstant().toEpochMilli());
+        record.putInt(crc(record.array()));
+        active.put(record.array());
+
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            active.force();
+        }
+    }
+
+    /**
+     * INTERVAL 정책일 때 주기적으로 호출되어 디스크에 동기화합니다.
+     */
+    public synchronized void sync() {
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            active.force();
+        }
+    }
+
+    /**
+     * 지정한 시퀀스까지 DB 저장이 끝났음을 기록하고, 더 이상 필요 없는 세그먼트를 삭제합니다.
+     */
+    public synchronized void checkpoint(long seq) {
+        if (seq <= checkpointSeq) {
+            return;
+        }
+        checkpointSeq = seq;
+
+        try {
+            Files.write(checkpointFile, ByteBuffer.allocate(Long.BYTES).putLong(seq).array(),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.SYNC);
+
+            // 다음 세그먼트의 시작 시퀀스가 체크포인트 이하라면 해당 세그먼트는 모두 저장 완료
+            while (segments.size() > 1) {
+                Long first = segments.firstKey();
+                Long second = segments.higherKey(first);
+                if (second - 1 > checkpointSeq) {
+                    break;
+                }
+                Files.deleteIfExists(segments.remove(first));
+            }
+        } catch (IOException e) {
+            log.error("❌ 입찰 저널 체크포인트 기록 실패 - seq: {}", seq, e);
+        }
+    }
+
+    /**
+     * 저장할 수 없는 입찰을 격리 파일에 기록합니다. (seq,auctionId,customerId,bidPrice,bidTime,사유 - 한 줄에 한 건)
+     * 기록된 시퀀스는 재시작 시 복구 대상에서 제외되므로, 운영자가 원인을 확인한 뒤 수동으로 처리합니다.
+     */
+    public synchronized void deadLetter(Bid bid, Exception cause) {
+        String reason = String.valueOf(cause.getMessage()).replaceAll("[\\r\\n,]", " ");
+        String line = String.join(",",
+                String.valueOf(bid.getJournalSeq()),
+                String.valueOf(bid.getAuctionId()),
+                String.valueOf(bid.getCustomerId()),
+                String.valueOf(bid.getBidPrice()),
+                String.valueOf(bid.getBidTime()),
+                reason) + System.lineSeparator();
+        try {
+            Files.writeString(deadLetterFile, line,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            log.error("❌ 입찰 격리 파일 기록 실패 - {}", line.trim(), e);
+        }
+    }
+
+    /**
+     * 재시작 시 복구된(체크포인트 이후) 입찰을 시퀀스 순서로 반환합니다. 한 번만 반환됩니다.
+     */
+    public synchronized List<Bid> drainRecovered() {
+        List<Bid> result = recovered;
+        recovered = Collections.emptyList();
+        return result;
+    }
+
+    private Set<Long> readDeadLetteredSeqs() throws IOException {
+        Set<Long> seqs = new HashSet<>();
+        if (Files.exists(deadLetterFile)) {
+            for (String line : Files.readAllLines(deadLetterFile)) {
+                int comma = line.indexOf(',');
+                if (comma > 0) {
+                    seqs.add(Long.parseLong(line.substring(0, comma)));
+                }
+            }
+        }
+        return seqs;
+    }
+
+    private long readSegment(Path segment) throws IOException {
+        long lastSeq = 0;
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        byte[] record = new byte[RECORD_SIZE];
+
+        while (buffer.remaining() >= RECORD_SIZE) {
+            buffer.get(record);
+            ByteBuffer view = ByteBuffer.wrap(record);
+            long seq = view.getLong();
+            if (seq == 0 || view.getInt(RECORD_SIZE - Integer.BYTES) != crc(record)) {
+                break; // 기록되지 않은 영역 또는 부분 기록
+            }
+            lastSeq = seq;
+
+            if (seq > checkpointSeq) {
+                recovered.add(Bid.builder()
+                        .journalSeq(seq)
+                        .auctionId(view.getInt())
+                        .customerId(view.getLong())
+                        .bidPrice(view.getInt())
+                        .bidTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(view.getLong()), ZONE))
+                        .build());
+            }
+        }
+        return lastSeq;
+    }
+
+    private void roll() {
+        if (active != null) {
+            active.force();
+        }
+
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%020d", nextSeq) + SEGMENT_SUFFIX);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 저널 세그먼트를 만들 수 없습니다: " + path, e);
+        }
+        segments.put(nextSeq, path);
+    }
+
+    private static long firstSeqOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int crc(byte[] record) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(record, 0, RECORD_SIZE - Integer.BYTES);
+        return (int) crc32.getValue();
+    }
+}
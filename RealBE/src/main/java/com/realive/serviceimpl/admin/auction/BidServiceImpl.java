@@ -1,27 +1,23 @@
 package com.realive.serviceimpl.admin.auction;
 
-import com.realive.domain.auction.Auction;
-import com.realive.domain.common.enums.AuctionStatus;
 import com.realive.domain.auction.Bid;
-import com.realive.domain.customer.Customer;
 import com.realive.dto.bid.BidRequestDTO;
 import com.realive.dto.bid.BidResponseDTO;
-import com.realive.repository.auction.AuctionRepository;
+import com.realive.dto.bid.BidStreamEventDTO;
+import com.realive.dto.bid.MaxBidRequestDTO;
+import com.realive.dto.bid.MaxBidResponseDTO;
 import com.realive.repository.auction.BidRepository;
-import com.realive.repository.customer.CustomerRepository;
 import com.realive.service.admin.auction.BidService;
 //import com.realive.service.notification.NotificationService;
-import com.realive.util.TickSizeCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,135 +25,101 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BidServiceImpl implements BidService {
     private final BidRepository bidRepository;
-    private final AuctionRepository auctionRepository;
-    private final CustomerRepository customerRepository;
-    private final TickSizeCalculator tickSizeCalculator;
+    private final BidderNameCache bidderNameCache;
+    private final AuctionBidEngine auctionBidEngine;
+    private final AuctionBidHub auctionBidHub;
+    private final AuctionReadModel auctionReadModel;
 //    private final NotificationService notificationService;
 
-    // 동시성 제어
+    // 동시성 제어: 경매별 메모리 입찰 엔진에서 검증/수락하고 저장은 비동기 배치로 처리
+    // 경매 락을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 클래스 트랜잭션을 쓰지 않음
+    // (입찰자 이름/경매 상태 최초 로드는 각자 짧은 읽기 전용 트랜잭션에서 조회)
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BidResponseDTO placeBid(Integer auctionId, Long customerId, BidRequestDTO requestDTO) {
         log.info("🎯 입찰 시작 - 경매ID: {}, 고객ID: {}, 입찰가: {}", auctionId, customerId, requestDTO.getBidPrice());
-        
-        Auction auction = auctionRepository.findByIdWithLock(auctionId)
-                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
-        
-        Customer customer = customerRepository.findById(customerId.longValue())
-                .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다."));
 
-        validateAuction(auction);
-        validateBidAmount(auction, requestDTO.getBidPrice());
+        // 수락(저널 기록) 전에 입찰자를 확인 - 수락 이후에는 실패해도 입찰을 되돌릴 수 없음
+        String customerName = bidderNameCache.getName(customerId);
+        List<Bid> acceptedBids = auctionBidEngine.placeBid(auctionId, customerId, requestDTO.getBidPrice());
+        List<BidResponseDTO> responses = publishBids(auctionId, customerId, customerName, acceptedBids);
 
-        // 같은 금액으로 연속 입찰 불가
-        bidRepository.findTopByAuctionIdAndCustomerIdOrderByBidTimeDesc(auctionId, customerId)
-                .ifPresent(lastBid -> {
-                    if (lastBid.getBidPrice().equals(requestDTO.getBidPrice())) {
-                        throw new IllegalArgumentException("동일 금액으로 연속 입찰할 수 없습니다.");
-                    }
-                });
-
-        // 경매에 동일 금액 입찰자 체크
-        if (bidRepository.existsByAuctionIdAndBidPrice(auctionId, requestDTO.getBidPrice())) {
-            throw new IllegalArgumentException("이미 해당 금액으로 입찰한 사용자가 있습니다.");
+        if (acceptedBids.size() > 1) {
+            log.info("🤖 최대 입찰 자동 응찰 - 경매ID: {}, 현재가: {}", auctionId, acceptedBids.get(acceptedBids.size() - 1).getBidPrice());
         }
+        log.info("✅ 입찰 완료 - 경매ID: {}, 고객ID: {}, 입찰가: {}", auctionId, customerId, requestDTO.getBidPrice());
+        return responses.get(0);
+    }
 
-        Bid bid = Bid.builder()
-                .auctionId(auctionId)
-                .customerId(customerId)
-                .bidPrice(requestDTO.getBidPrice())
-                .bidTime(LocalDateTime.now())
-                .build();
+    // 최대 입찰 저장이 엔진 상태 반영 전에 커밋되도록 클래스 트랜잭션을 쓰지 않음
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public MaxBidResponseDTO placeMaxBid(Integer auctionId, Long customerId, MaxBidRequestDTO requestDTO) {
+        log.info("🎯 최대 입찰 등록 - 경매ID: {}, 고객ID: {}", auctionId, customerId);
 
-        Bid savedBid = bidRepository.save(bid);
+        String customerName = bidderNameCache.getName(customerId);
+        List<Bid> placedBids = auctionBidEngine.placeMaxBid(auctionId, customerId, requestDTO.getMaxPrice());
+        List<BidResponseDTO> responses = publishBids(auctionId, customerId, customerName, placedBids);
 
-        // 경매 현재가 및 입찰 수 업데이트
-        log.info("🔥 현재가 업데이트 전: {} -> 후: {}", auction.getCurrentPrice(), requestDTO.getBidPrice());
-        auction.setCurrentPrice(requestDTO.getBidPrice());
-        auction.setBidCount(auction.getBidCount() + 1);
-        Auction updatedAuction = auctionRepository.save(auction);
-        log.info("🔥 경매 저장 완료. 업데이트된 현재가: {}, 입찰 수: {}", updatedAuction.getCurrentPrice(), updatedAuction.getBidCount());
+        log.info("✅ 최대 입찰 등록 완료 - 경매ID: {}, 고객ID: {}, 생성된 입찰: {}건", auctionId, customerId, placedBids.size());
+        return MaxBidResponseDTO.builder()
+                .auctionId(auctionId)
+                .maxPrice(requestDTO.getMaxPrice())
+                .currentPrice(auctionBidEngine.getCurrentPrice(auctionId))
+                .leading(customerId.equals(auctionBidEngine.getLeaderCustomerId(auctionId)))
+                .placedBids(responses)
+                .build();
+    }
 
-        // 이전 입찰자에게 알림
-//        if (auction.getCurrentPrice() != null && auction.getCurrentPrice() < requestDTO.getBidPrice()) {
-//            // 현재 입찰자 ID를 가져오기 위해 가장 최근 입찰 조회
-//            Bid currentBid = bidRepository.findTopByAuctionIdOrderByBidPriceDesc(auctionId)
-//                    .orElse(null);
-//
-//            if (currentBid != null && !currentBid.getCustomerId().equals(customerId)) {
-//                notificationService.sendBidOutbidNotification(
-//                    currentBid.getCustomerId(),
-//                    auctionId,
-//                    requestDTO.getBidPrice()
-//                );
-//            }
-//        }
+    // 수락된 입찰을 응답으로 변환하고 실시간 구독자 / 경매 조회 모델에 반영 (DB 조회 없음)
+    // 입찰은 이미 수락/저널 기록되었으므로 여기서의 실패는 입찰 결과에 영향을 주지 않음 (로그만 남김)
+    private List<BidResponseDTO> publishBids(Integer auctionId, Long customerId, String customerName, List<Bid> bids) {
+        List<BidResponseDTO> responses = bids.stream()
+                .map(bid -> BidResponseDTO.fromEntity(bid, customerId.equals(bid.getCustomerId())
+                        ? customerName
+                        : bidderNameCache.getNameOrNull(bid.getCustomerId())))
+                .toList();
+        if (responses.isEmpty()) {
+            return responses;
+        }
 
-        BidResponseDTO response = BidResponseDTO.fromEntity(savedBid, customer.getName());
-        log.info("✅ 입찰 완료 - 경매ID: {}, 고객ID: {}, 입찰가: {}", auctionId, customerId, requestDTO.getBidPrice());
-        return response;
+        BidResponseDTO latest = responses.get(responses.size() - 1);
+        try {
+            int bidCount = auctionBidEngine.getBidCount(auctionId);
+            auctionBidHub.publish(BidStreamEventDTO.builder()
+                    .auctionId(auctionId)
+                    .currentPrice(latest.getBidPrice())
+                    .bidCount(bidCount)
+                    .latestBid(latest)
+                    .build());
+            auctionReadModel.applyBid(auctionId, latest.getBidPrice(), bidCount);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 입찰 실시간 반영 실패 - 경매ID: {}, 현재가: {}", auctionId, latest.getBidPrice(), e);
+        }
+        return responses;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BidResponseDTO> getBidsForAuction(Integer auctionId) {
-        return bidRepository.findByAuctionId(auctionId)
-                .stream()
-                .map(bid -> {
-                    Customer customer = customerRepository.findById(bid.getCustomerId().longValue())
-                            .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다."));
-                    return BidResponseDTO.fromEntity(bid, customer.getName());
-                })
-                .collect(Collectors.toList());
+        return bidRepository.findBidResponsesByAuctionId(auctionId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<BidResponseDTO> getBidsByAuction(Integer auctionId, Pageable pageable) {
-        return bidRepository.findByAuctionIdOrderByBidTimeDesc(auctionId, pageable)
-                .map(bid -> {
-                    Customer customer = customerRepository.findById(bid.getCustomerId().longValue())
-                            .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다."));
-                    return BidResponseDTO.fromEntity(bid, customer.getName());
-                });
+        return bidRepository.findBidResponsesByAuctionId(auctionId, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<BidResponseDTO> getBidsByCustomer(Long customerId, Pageable pageable) {
-        return bidRepository.findByCustomerIdOrderByBidTimeDesc(customerId, pageable)
-                .map(bid -> {
-                    Customer customer = customerRepository.findById(customerId.longValue())
-                            .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다."));
-                    return BidResponseDTO.fromEntity(bid, customer.getName());
-                });
+        return bidRepository.findBidResponsesByCustomerId(customerId, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<BidResponseDTO> getAllBids(Pageable pageable) {
-        return bidRepository.findAllByOrderByBidTimeDesc(pageable)
-                .map(bid -> {
-                    Customer customer = customerRepository.findById(bid.getCustomerId().longValue())
-                            .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다."));
-                    return BidResponseDTO.fromEntity(bid, customer.getName());
-                });
-    }
-
-    private void validateAuction(Auction auction) {
-        if (auction.getStatus() != AuctionStatus.PROCEEDING) {
-            throw new IllegalStateException("경매가 진행 중이 아닙니다.");
-        }
-    }
-
-    private void validateBidAmount(Auction auction, Integer bidAmount) {
-        int currentPrice = auction.getCurrentPrice();
-        int startPrice = auction.getStartPrice();
-
-        int tickSize = tickSizeCalculator.calculateTickSize(startPrice);
-        int minBidPrice = currentPrice + tickSize;
-
-        if (bidAmount < minBidPrice) {
-            throw new IllegalArgumentException("입찰 금액은 최소 입찰 단위 이상이어야 합니다. (최소: " + minBidPrice + "원)");
-        }
-        // 틱 단위를 맞추지 않은 입찰 거절
-        if ((bidAmount - currentPrice) % tickSize != 0) {
-            throw new IllegalArgumentException("입찰 금액은 " + tickSize + "원 단위로 가능합니다.");
-        }
+        return bidRepository.findAllBidResponses(pageable);
     }
 }
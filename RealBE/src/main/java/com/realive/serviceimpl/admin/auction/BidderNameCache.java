@@ -0,0 +1,62 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.customer.Customer;
+import com.realive.repository.customer.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 입찰자 이름 LRU 캐시.
+ * 입찰/실시간 스트림 경로에서 입찰마다 고객 테이블을 조회하지 않도록 최근 입찰자 이름을 보관합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidderNameCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final CustomerRepository customerRepository;
+
+    private final Map<Long, String> names = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public String getName(Long customerId) {
+        synchronized (names) {
+            String cached = names.get(customerId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // 캐시에 없을 때만 조회 - 리포지토리의 읽기 전용 트랜잭션으로 짧게 커넥션을 씀 (입찰 경로는 트랜잭션 없이 호출)
+        String name = customerRepository.findById(customerId)
+                .map(Customer::getName)
+                .orElseThrow(() -> new IllegalArgumentException("고객을 찾을 수 없습니다."));
+
+        synchronized (names) {
+            names.put(customerId, name);
+        }
+        return name;
+    }
+
+    /**
+     * 이미 수락된 입찰(자동 응찰 등)의 응답용 이름 조회. 조회에 실패해도 예외 대신 null을 반환합니다.
+     */
+    public String getNameOrNull(Long customerId) {
+        try {
+            return getName(customerId);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 입찰자 이름 조회 실패 - 고객ID: {}", customerId, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.domain.logs.ActivityStat;
+import com.realive.repository.logs.ActivityStatRepository;
+import com.realive.util.HyperLogLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원/경매 활동 집계 조회.
+ *
+ * 기간을 "온전히 포함된 월"과 "앞뒤로 걸친 일"로 나누어 월 행과 일 행을 합치므로,
+ * 기간 길이와 관계없이 최대 3번의 조회와 (월 수 + 약 60개 일) 행만 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityStatsReader {
+
+    private final ActivityStatRepository activityStatRepository;
+
+    /**
+     * 기간 전체 합계
+     */
+    public Summary summarize(LocalDate startDate, LocalDate endDate) {
+        Summary total = new Summary(startDate);
+        summarizeByMonth(startDate, endDate).forEach(total::merge);
+        return total;
+    }
+
+    /**
+     * 기간 내 월별 합계 (기간에 걸친 월은 기간 안의 일자만 포함)
+     */
+    public List<Summary> summarizeByMonth(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return Collections.emptyList();
+        }
+        Map<YearMonth, Summary> months = new LinkedHashMap<>();
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            months.put(month, new Summary(month.atDay(1).isBefore(startDate) ? startDate : month.atDay(1)));
+        }
+
+        // 온전히 포함된 월 범위
+        LocalDate fullStart = startDate.getDayOfMonth() == 1 ? startDate : YearMonth.from(startDate).plusMonths(1).atDay(1);
+        LocalDate fullEnd = endDate.equals(YearMonth.from(endDate).atEndOfMonth()) ? endDate : YearMonth.from(endDate).atDay(1).minusDays(1);
+
+        if (fullStart.isAfter(fullEnd)) {
+            // 온전한 월이 없으면 일 행만 사용 (최대 두 달에 걸친 기간)
+            addDays(months, startDate, endDate);
+        } else {
+            for (ActivityStat stat : activityStatRepository.findPeriodRange(ActivityStat.PeriodType.MONTH, fullStart, fullEnd)) {
+                months.get(YearMonth.from(stat.getPeriodStart())).add(stat);
+            }
+            if (startDate.isBefore(fullStart)) {
+                addDays(months, startDate, fullStart.minusDays(1));
+            }
+            if (endDate.isAfter(fullEnd)) {
+                addDays(months, fullEnd.plusDays(1), endDate);
+            }
+        }
+        return new ArrayList<>(months.values());
+    }
+
+    /**
+     * 기간 내 일별 집계 (행이 없는 날짜는 빈 값)
+     */
+    public List<Summary> summarizeByDay(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Summary> days = new LinkedHashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            days.put(date, new Summary(date));
+        }
+        for (ActivityStat stat : activityStatRepository.findPeriodRange(ActivityStat.PeriodType.DAY, startDate, endDate)) {
+            days.get(stat.getPeriodStart()).add(stat);
+        }
+        return new ArrayList<>(days.values());
+    }
+
+    private void addDays(Map<YearMonth, Summary> months, LocalDate startDate, LocalDate endDate) {
+        for (ActivityStat stat : activityStatRepository.findPeriodRange(ActivityStat.PeriodType.DAY, startDate, endDate)) {
+            months.get(YearMonth.from(stat.getPeriodStart())).add(stat);
+        }
+    }
+
+    /**
+     * 집계 행 합계 (고유 개수는 스케치 합집합의 추정값)
+     */
+    @Getter
+    public static final class Summary {
+
+        private final LocalDate periodStart;
+        private long newCustomers;
+        private long newSellers;
+        private long auctionsCreated;
+        private long auctionsCompleted;
+        private long auctionsFailed;
+        private long bidsPlaced;
+        private final HyperLogLog visitors = new HyperLogLog();
+        private final HyperLogLog engaged = new HyperLogLog();
+        private final HyperLogLog bidders = new HyperLogLog();
+        private final HyperLogLog participations = new HyperLogLog();
+        private final HyperLogLog biddedAuctions = new HyperLogLog();
+
+        private Summary(LocalDate periodStart) {
+            this.periodStart = periodStart;
+        }
+
+        private void add(ActivityStat stat) {
+            newCustomers += stat.getNewCustomers();
+            newSellers += stat.getNewSellers();
+            auctionsCreated += stat.getAuctionsCreated();
+            auctionsCompleted += stat.getAuctionsCompleted();
+            auctionsFailed += stat.getAuctionsFailed();
+            bidsPlaced += stat.getBidsPlaced();
+            visitors.merge(HyperLogLog.fromBytes(stat.getVisitorSketch()));
+            engaged.merge(HyperLogLog.fromBytes(stat.getEngagedSketch()));
+            bidders.merge(HyperLogLog.fromBytes(stat.getBidderSketch()));
+            participations.merge(HyperLogLog.fromBytes(stat.getParticipationSketch()));
+            biddedAuctions.merge(HyperLogLog.fromBytes(stat.getBiddedAuctionSketch()));
+        }
+
+        private void merge(Summary other) {
+            newCustomers += other.newCustomers;
+            newSellers += other.newSellers;
+            auctionsCreated += other.auctionsCreated;
+            auctionsCompleted += other.auctionsCompleted;
+            auctionsFailed += other.auctionsFailed;
+            bidsPlaced += other.bidsPlaced;
+            visitors.merge(other.visitors);
+            engaged.merge(other.engaged);
+            bidders.merge(other.bidders);
+            participations.merge(other.participations);
+            biddedAuctions.merge(other.biddedAuctions);
+        }
+
+        public long getNewMembers() {
+            return newCustomers + newSellers;
+        }
+
+        public long getUniqueVisitors() {
+            return visitors.estimate();
+        }
+
+        public long getEngagedUsers() {
+            return engaged.estimate();
+        }
+
+        // 방문 또는 참여(입찰/구매)한 회원
+        public long getActiveUsers() {
+            HyperLogLog union = HyperLogLog.fromBytes(visitors.toBytes());
+            union.merge(engaged);
+            return union.estimate();
+        }
+
+        public long getDistinctBidders() {
+            return bidders.estimate();
+        }
+
+        // 입찰이 들어온 경매당 평균 참여자 수
+        public double getAverageParticipantsPerAuction() {
+            long auctions = biddedAuctions.estimate();
+            return auctions > 0 ? (double) participations.estimate() / auctions : 0.0;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.domain.auction.Bid;
+import com.realive.domain.logs.ActivityStat;
+import com.realive.event.StatsDataChangedEvent;
+import com.realive.repository.logs.ActivityStatRepository;
+import com.realive.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 회원/경매 활동 집계 기록기.
+ *
+ * 가입, 인증된 요청, 구매, 경매 등록/종료, 입찰 경로에서 호출되어 오늘 날짜의 증분을 메모리에 누적하고,
+ * {@link #flush()}가 주기적으로 activity_stats의 일 행과 월 행에 더합니다.
+ * 트랜잭션 안에서 호출된 기록은 커밋된 경우에만 반영됩니다.
+ * 저장이 끝난 날짜는 {@link StatsDataChangedEvent}로 알려 통계 캐시에서 해당 날짜를 포함하는 결과를 무효화합니다.
+ *
+ * 인증된 요청마다 호출되므로 날짜별 증분을 여러 조각으로 나누고, 스레드마다 다른 조각을 잠가 기록 스레드끼리 경합하지 않게 합니다.
+ * 기록기 도입 이전 기간은 {@link #backfill}로 원천 데이터(가입/경매/입찰/판매 로그)에서 다시 계산합니다.
+ *
+ * 단일 인스턴스 배포를 전제로 합니다. (저장은 읽고-합치고-쓰기 방식)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivityStatsRecorder {
+
+    // 고객/판매자 ID가 겹치지 않도록 방문자/참여자 스케치에 넣을 때 구분값을 함께 사용
+    private static final long CUSTOMER = 1L;
+    private static final long SELLER = 2L;
+
+    // 날짜별 증분 조각 수 (2의 거듭제곱)
+    private static final int STRIPES = 16;
+
+    private final ActivityStatRepository activityStatRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 날짜별 미저장 증분 조각 (조각 변경은 조각 잠금 안에서만, flush가 가져간 조각은 drained로 표시)
+    private final Map<LocalDate, Delta[]> pending = new ConcurrentHashMap<>();
+
+    public void recordNewCustomer() {
+        afterCommit(() -> record(delta -> delta.newCustomers++));
+    }
+
+    public void recordNewSeller() {
+        afterCommit(() -> record(delta -> delta.newSellers++));
+    }
+
+    public void recordCustomerVisit(Long customerId) {
+        if (customerId != null) {
+            record(delta -> delta.visitors.add(CUSTOMER, customerId));
+        }
+    }
+
+    public void recordSellerVisit(Long sellerId) {
+        if (sellerId != null) {
+            record(delta -> delta.visitors.add(SELLER, sellerId));
+        }
+    }
+
+    public void recordPurchase(Long customerId) {
+        if (customerId != null) {
+            afterCommit(() -> record(delta -> delta.engaged.add(CUSTOMER, customerId)));
+        }
+    }
+
+    public void recordAuctionCreated() {
+        afterCommit(() -> record(delta -> delta.auctionsCreated++));
+    }
+
+    public void recordAuctionsClosed(int completed, int failed) {
+        afterCommit(() -> record(delta -> {
+            delta.auctionsCompleted += completed;
+            delta.auctionsFailed += failed;
+        }));
+    }
+
+    /**
+     * 입찰 엔진에서 수락된 입찰을 반영합니다. (저널에 기록된 입찰이므로 트랜잭션과 무관하게 바로 반영)
+     */
+    public void recordBids(List<Bid> bids) {
+        if (bids.isEmpty()) {
+            return;
+        }
+        record(delta -> {
+            for (Bid bid : bids) {
+                delta.bidsPlaced++;
+                delta.engaged.add(CUSTOMER, bid.getCustomerId());
+                delta.bidders.add(bid.getCustomerId());
+                delta.participations.add(bid.getAuctionId(), bid.getCustomerId());
+                delta.biddedAuctions.add(bid.getAuctionId());
+            }
+        });
+    }
+
+    /**
+     * 누적된 증분을 일/월 집계 행에 더합니다. 실패한 날짜의 증분은 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelay = 30000)
+    public synchronized void flush() {
+        for (LocalDate date : new ArrayList<>(pending.keySet())) {
+            Delta[] stripes = pending.remove(date);
+            if (stripes == null) {
+                continue;
+            }
+            // 조각을 하나로 합침 (이미 조각을 잡은 기록 스레드는 잠금을 놓은 뒤 drained를 보고 새 조각에 기록)
+            Delta delta = new Delta();
+            for (Delta stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.drained = true;
+                    delta.mergeFrom(stripe);
+                }
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    apply(ActivityStat.PeriodType.DAY, date, delta);
+                    apply(ActivityStat.PeriodType.MONTH, date.withDayOfMonth(1), delta);
+                });
+            } catch (Exception e) {
+                log.error("❌ 활동 집계 저장 실패 - 날짜: {}, 다음 주기에 재시도합니다.", date, e);
+                record(date, target -> target.mergeFrom(delta));
+                continue;
+            }
+            // 자정 직후 저장된 전날 증분도 캐시에 남지 않도록 저장한 날짜를 무효화
+            eventPublisher.publishEvent(StatsDataChangedEvent.of(date));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 기간 [startDate, endDate]의 일 행을 원천 데이터에서 다시 계산하고, 해당 월 행을 그 달 일 행의 합으로 다시 만듭니다.
+     * 방문자 스케치는 원천 데이터(요청 기록)가 없어 기존 값을 유지합니다.
+     * 오늘은 아직 기록 중인 증분과 겹치므로 종료일은 오늘 이전이어야 합니다. 한 달씩 커밋합니다.
+     *
+     * @return 다시 계산한 일 행 수
+     */
+    public synchronized int backfill(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (!endDate.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("종료일은 오늘 이전이어야 합니다.");
+        }
+        log.info("📦 활동 집계 백필 시작 - 기간: {} ~ {}", startDate, endDate);
+
+        int days = 0;
+        LocalDate chunkStart = startDate;
+        while (!chunkStart.isAfter(endDate)) {
+            LocalDate monthEnd = chunkStart.withDayOfMonth(chunkStart.lengthOfMonth());
+            LocalDate chunkEnd = monthEnd.isBefore(endDate) ? monthEnd : endDate;
+
+            LocalDate from = chunkStart;
+            Integer chunkDays = transactionTemplate.execute(status -> backfillWithinMonth(from, chunkEnd));
+            days += chunkDays != null ? chunkDays : 0;
+            chunkStart = chunkEnd.plusDays(1);
+        }
+
+        eventPublisher.publishEvent(new StatsDataChangedEvent(startDate, endDate));
+        log.info("✅ 활동 집계 백필 완료 - 기간: {} ~ {}, {}일", startDate, endDate, days);
+        return days;
+    }
+
+    // 한 달 안의 기간 [from, to]를 다시 계산 (같은 트랜잭션에서 월 행까지)
+    private int backfillWithinMonth(LocalDate from, LocalDate to) {
+        Map<LocalDate, Delta> deltas = new TreeMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            deltas.put(day, new Delta());
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        for (Object[] row : activityStatRepository.countNewCustomersByDay(start, end)) {
+            deltas.get(toDate(row[0])).newCustomers = ((Number) row[1]).longValue();
+        }
+        for (Object[] row : activityStatRepository.countNewSellersByDay(start, end)) {
+            deltas.get(toDate(row[0])).newSellers = ((Number) row[1]).longValue();
+        }
+        for (Object[] row : activityStatRepository.countAuctionsCreatedByDay(start, end)) {
+            deltas.get(toDate(row[0])).auctionsCreated = ((Number) row[1]).longValue();
+        }
+        for (Object[] row : activityStatRepository.countAuctionsClosedByDay(start, end)) {
+            Delta delta = deltas.get(toDate(row[0]));
+            delta.auctionsCompleted = ((Number) row[1]).longValue();
+            delta.auctionsFailed = ((Number) row[2]).longValue();
+        }
+        // 입찰 경로(recordBids)와 같은 방식으로 스케치에 추가
+        try (Stream<Object[]> bids = activityStatRepository.streamBidsByDay(start, end)) {
+            bids.forEach(row -> {
+                Delta delta = deltas.get(toDate(row[0]));
+                long auctionId = ((Number) row[1]).longValue();
+                long customerId = ((Number) row[2]).longValue();
+                delta.bidsPlaced++;
+                delta.engaged.add(CUSTOMER, customerId);
+                delta.bidders.add(customerId);
+                delta.participations.add(auctionId, customerId);
+                delta.biddedAuctions.add(auctionId);
+            });
+        }
+        try (Stream<Object[]> purchasers = activityStatRepository.streamPurchasersByDay(from, to)) {
+            purchasers.forEach(row -> deltas.get(toDate(row[0])).engaged.add(CUSTOMER, ((Number) row[1]).longValue()));
+        }
+
+        deltas.forEach(this::replaceDay);
+        rebuildMonth(from.withDayOfMonth(1));
+        return deltas.size();
+    }
+
+    // 일 행의 원천 데이터 항목을 덮어씀 (방문자 스케치는 유지)
+    private void replaceDay(LocalDate day, Delta delta) {
+        ActivityStat stat = activityStatRepository.findByPeriodTypeAndPeriodStart(ActivityStat.PeriodType.DAY, day)
+                .orElseGet(() -> new ActivityStat(ActivityStat.PeriodType.DAY, day));
+
+        stat.setNewCustomers(delta.newCustomers);
+        stat.setNewSellers(delta.newSellers);
+        stat.setAuctionsCreated(delta.auctionsCreated);
+        stat.setAuctionsCompleted(delta.auctionsCompleted);
+        stat.setAuctionsFailed(delta.auctionsFailed);
+        stat.setBidsPlaced(delta.bidsPlaced);
+        stat.setEngagedSketch(merged(null, delta.engaged));
+        stat.setBidderSketch(merged(null, delta.bidders));
+        stat.setParticipationSketch(merged(null, delta.participations));
+        stat.setBiddedAuctionSketch(merged(null, delta.biddedAuctions));
+
+        activityStatRepository.save(stat);
+    }
+
+    // 월 행 = 그 달 일 행의 합 (일 행과 월 행은 같은 증분을 받으므로 백필하지 않은 날도 그대로 합쳐짐)
+    private void rebuildMonth(LocalDate monthStart) {
+        activityStatRepository.flush();
+        Delta total = new Delta();
+        HyperLogLog visitors = new HyperLogLog();
+        for (ActivityStat day : activityStatRepository.findPeriodRange(ActivityStat.PeriodType.DAY,
+                monthStart, monthStart.withDayOfMonth(monthStart.lengthOfMonth()))) {
+            total.newCustomers += day.getNewCustomers();
+            total.newSellers += day.getNewSellers();
+            total.auctionsCreated += day.getAuctionsCreated();
+            total.auctionsCompleted += day.getAuctionsCompleted();
+            total.auctionsFailed += day.getAuctionsFailed();
+            total.bidsPlaced += day.getBidsPlaced();
+            visitors.merge(HyperLogLog.fromBytes(day.getVisitorSketch()));
+            total.engaged.merge(HyperLogLog.fromBytes(day.getEngagedSketch()));
+            total.bidders.merge(HyperLogLog.fromBytes(day.getBidderSketch()));
+            total.participations.merge(HyperLogLog.fromBytes(day.getParticipationSketch()));
+            total.biddedAuctions.merge(HyperLogLog.fromBytes(day.getBiddedAuctionSketch()));
+        }
+
+        ActivityStat month = activityStatRepository.findByPeriodTypeAndPeriodStart(ActivityStat.PeriodType.MONTH, monthStart)
+                .orElseGet(() -> new ActivityStat(ActivityStat.PeriodType.MONTH, monthStart));
+        month.setNewCustomers(total.newCustomers);
+        month.setNewSellers(total.newSellers);
+        month.setAuctionsCreated(total.auctionsCreated);
+        month.setAuctionsCompleted(total.auctionsCompleted);
+        month.setAuctionsFailed(total.auctionsFailed);
+        month.setBidsPlaced(total.bidsPlaced);
+        month.setVisitorSketch(merged(null, visitors));
+        month.setEngagedSketch(merged(null, total.engaged));
+        month.setBidderSketch(merged(null, total.bidders));
+        month.setParticipationSketch(merged(null, total.participations));
+        month.setBiddedAuctionSketch(merged(null, total.biddedAuctions));
+        activityStatRepository.save(month);
+    }
+
+    private static LocalDate toDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private void apply(ActivityStat.PeriodType periodType, LocalDate periodStart, Delta delta) {
+        ActivityStat stat = activityStatRepository.findByPeriodTypeAndPeriodStart(periodType, periodStart)
+                .orElseGet(() -> new ActivityStat(periodType, periodStart));
+
+        stat.setNewCustomers(stat.getNewCustomers() + delta.newCustomers);
+        stat.setNewSellers(stat.getNewSellers() + delta.newSellers);
+        stat.setAuctionsCreated(stat.getAuctionsCreated() + delta.auctionsCreated);
+        stat.setAuctionsCompleted(stat.getAuctionsCompleted() + delta.auctionsCompleted);
+        stat.setAuctionsFailed(stat.getAuctionsFailed() + delta.auctionsFailed);
+        stat.setBidsPlaced(stat.getBidsPlaced() + delta.bidsPlaced);
+        stat.setVisitorSketch(merged(stat.getVisitorSketch(), delta.visitors));
+        stat.setEngagedSketch(merged(stat.getEngagedSketch(), delta.engaged));
+        stat.setBidderSketch(merged(stat.getBidderSketch(), delta.bidders));
+        stat.setParticipationSketch(merged(stat.getParticipationSketch(), delta.participations));
+        stat.setBiddedAuctionSketch(merged(stat.getBiddedAuctionSketch(), delta.biddedAuctions));
+
+        activityStatRepository.save(stat);
+    }
+
+    private static byte[] merged(byte[] stored, HyperLogLog added) {
+        if (added.isEmpty()) {
+            return stored;
+        }
+        HyperLogLog sketch = HyperLogLog.fromBytes(stored);
+        sketch.merge(added);
+        return sketch.toBytes();
+    }
+
+    private void record(Consumer<Delta> change) {
+        record(LocalDate.now(), change);
+    }
+
+    private void record(LocalDate date, Consumer<Delta> change) {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        while (true) {
+            Delta[] stripes = pending.get(date);
+            if (stripes == null) {
+                stripes = pending.computeIfAbsent(date, key -> newStripes());
+            }
+            Delta delta = stripes[stripe];
+            synchronized (delta) {
+                if (!delta.drained) {
+                    change.accept(delta);
+                    return;
+                }
+            }
+            // flush가 이 날짜의 조각을 막 가져감 - 새 조각 묶음에 다시 기록
+        }
+    }
+
+    private static Delta[] newStripes() {
+        Delta[] stripes = new Delta[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Delta();
+        }
+        return stripes;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 하루치 미저장 증분 (조각 하나)
+    private static final class Delta {
+
+        // flush가 가져간 조각 (이후 기록은 새 조각에)
+        private boolean drained;
+
+        private long newCustomers;
+        private long newSellers;
+        private long auctionsCreated;
+        private long auctionsCompleted;
+        private long auctionsFailed;
+        private long bidsPlaced;
+        private final HyperLogLog visitors = new HyperLogLog();
+        private final HyperLogLog engaged = new HyperLogLog();
+        private final HyperLogLog bidders = new HyperLogLog();
+        private final HyperLogLog participations = new HyperLogLog();
+        private final HyperLogLog biddedAuctions = new HyperLogLog();
+
+        private Delta mergeFrom(Delta other) {
+            newCustomers += other.newCustomers;
+            newSellers += other.newSellers;
+            auctionsCreated += other.auctionsCreated;
+            auctionsCompleted += other.auctionsCompleted;
+            auctionsFailed += other.auctionsFailed;
+            bidsPlaced += other.bidsPlaced;
+            visitors.merge(other.visitors);
+            engaged.merge(other.engaged);
+            bidders.merge(other.bidders);
+            participations.merge(other.participations);
+            biddedAuctions.merge(other.biddedAuctions);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.dto.admin.review.SellerRankingDTO;
+import com.realive.dto.logs.AdminDashboardDTO;
+import com.realive.dto.logs.salessum.CategorySalesSummaryDTO;
+import com.realive.dto.logs.salessum.DailySalesSummaryDTO;
+import com.realive.dto.logs.salessum.MonthlySalesLogDetailListDTO;
+import com.realive.dto.logs.salessum.MonthlySalesSummaryDTO;
+import com.realive.dto.logs.salessum.SalesLogDetailListDTO;
+import com.realive.dto.logs.salessum.SalesPivotRowDTO;
+import com.realive.dto.logs.stats.AuctionPeriodStatsDTO;
+import com.realive.dto.logs.stats.MemberPeriodStatsDTO;
+import com.realive.dto.logs.stats.ReviewPeriodStatsDTO;
+import com.realive.dto.logs.stats.SalesPeriodStatsDTO;
+import com.realive.dto.logs.stats.SellerSalesDetailDTO;
+import com.realive.service.admin.logs.StatService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 캐시를 거치는 StatService (컨트롤러에 주입되는 기본 구현).
+ * 실제 계산은 {@link StatServiceImpl}에 위임하고, 결과는 {@link StatResultCache}에 조회 기간과 함께 저장합니다.
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class CachingStatService implements StatService {
+
+    private final StatServiceImpl delegate;
+    private final StatResultCache cache;
+
+    @Override
+    public AdminDashboardDTO getAdminDashboard(LocalDate date, String periodType) {
+        // 승인 대기/회원 수는 현재 시점 값이므로 live, 매출 추이는 6개월 전 월초부터 포함
+        return cache.get("getAdminDashboard", Arrays.asList(date, periodType),
+                date.minusMonths(5).withDayOfMonth(1), date.withDayOfMonth(date.lengthOfMonth()), true,
+                () -> delegate.getAdminDashboard(date, periodType));
+    }
+
+    @Override
+    public SalesPeriodStatsDTO getSalesStatistics(LocalDate startDate, LocalDate endDate,
+                                                  Optional<Integer> sellerId, Optional<String> sortBy) {
+        return cache.get("getSalesStatistics", Arrays.asList(startDate, endDate, sellerId, sortBy),
+                startDate, endDate, false,
+                () -> delegate.getSalesStatistics(startDate, endDate, sellerId, sortBy));
+    }
+
+    @Override
+    public AuctionPeriodStatsDTO getAuctionPeriodStatistics(LocalDate startDate, LocalDate endDate) {
+        return cache.get("getAuctionPeriodStatistics", Arrays.asList(startDate, endDate),
+                startDate, endDate, false,
+                () -> delegate.getAuctionPeriodStatistics(startDate, endDate));
+    }
+
+    @Override
+    public MemberPeriodStatsDTO getMemberPeriodStatistics(LocalDate startDate, LocalDate endDate) {
+        return cache.get("getMemberPeriodStatistics", Arrays.asList(startDate, endDate),
+                startDate, endDate, false,
+                () -> delegate.getMemberPeriodStatistics(startDate, endDate));
+    }
+
+    @Override
+    public ReviewPeriodStatsDTO getReviewPeriodStatistics(LocalDate startDate, LocalDate endDate) {
+        return cache.get("getReviewPeriodStatistics", Arrays.asList(startDate, endDate),
+                startDate, endDate, false,
+                () -> delegate.getReviewPeriodStatistics(startDate, endDate));
+    }
+
+    @Override
+    public DailySalesSummaryDTO getDailySalesSummary(LocalDate date) {
+        return cache.get("getDailySalesSummary", Arrays.asList(date), date, date, false,
+                () -> delegate.getDailySalesSummary(date));
+    }
+
+    @Override
+    public SalesLogDetailListDTO getDailySalesLogDetails(LocalDate date) {
+        return cache.get("getDailySalesLogDetails", Arrays.asList(date), date, date, false,
+                () -> delegate.getDailySalesLogDetails(date));
+    }
+
+    @Override
+    public MonthlySalesSummaryDTO getMonthlySalesSummary(YearMonth yearMonth) {
+        return cache.get("getMonthlySalesSummary", Arrays.asList(yearMonth),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), false,
+                () -> delegate.getMonthlySalesSummary(yearMonth));
+    }
+
+    @Override
+    public MonthlySalesLogDetailListDTO getMonthlySalesLogDetails(YearMonth yearMonth) {
+        return cache.get("getMonthlySalesLogDetails", Arrays.asList(yearMonth),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), false,
+                () -> delegate.getMonthlySalesLogDetails(yearMonth));
+    }
+
+    @Override
+    public List<DailySalesSummaryDTO> getDailySummariesInMonth(YearMonth yearMonth) {
+        return cache.get("getDailySummariesInMonth", Arrays.asList(yearMonth),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), false,
+                () -> delegate.getDailySummariesInMonth(yearMonth));
+    }
+
+    @Override
+    public DailySalesSummaryDTO getSellerDailySalesSummary(Integer sellerId, LocalDate date) {
+        return cache.get("getSellerDailySalesSummary", Arrays.asList(sellerId, date), date, date, false,
+                () -> delegate.getSellerDailySalesSummary(sellerId, date));
+    }
+
+    @Override
+    public MonthlySalesSummaryDTO getSellerMonthlySalesSummary(Integer sellerId, YearMonth yearMonth) {
+        return cache.get("getSellerMonthlySalesSummary", Arrays.asList(sellerId, yearMonth),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), false,
+                () -> delegate.getSellerMonthlySalesSummary(sellerId, yearMonth));
+    }
+
+    @Override
+    public DailySalesSummaryDTO getProductDailySalesSummary(Integer productId, LocalDate date) {
+        return cache.get("getProductDailySalesSummary", Arrays.asList(productId, date), date, date, false,
+                () -> delegate.getProductDailySalesSummary(productId, date));
+    }
+
+    @Override
+    public MonthlySalesSummaryDTO getProductMonthlySalesSummary(Integer productId, YearMonth yearMonth) {
+        return cache.get("getProductMonthlySalesSummary", Arrays.asList(productId, yearMonth),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), false,
+                () -> delegate.getProductMonthlySalesSummary(productId, yearMonth));
+    }
+
+    @Override
+    public List<CategorySalesSummaryDTO> getPlatformCategorySalesSummary(LocalDate startDate, LocalDate endDate) {
+        return cache.get("getPlatformCategorySalesSummary", Arrays.asList(startDate, endDate),
+                startDate, endDate, false,
+                () -> delegate.getPlatformCategorySalesSummary(startDate, endDate));
+    }
+
+    @Override
+    public Map<String, Object> getDashboardStats(LocalDate date) {
+        // 상품 수/승인 대기 수는 현재 시점 값이므로 live
+        return cache.get("getDashboardStats", Arrays.asList(date), date, date, true,
+                () -> delegate.getDashboardStats(date));
+    }
+
+    @Override
+    public List<DailySalesSummaryDTO> getDailySummariesForPeriod(LocalDate startDate, LocalDate endDate) {
+        return cache.get("getDailySummariesForPeriod", Arrays.asList(startDate, endDate),
+                startDate, endDate, false,
+                () -> delegate.getDailySummariesForPeriod(startDate, endDate));
+    }
+
+    @Override
+    public List<SellerSalesDetailDTO> getSellerSalesDetailsForPeriod(LocalDate startDate, LocalDate endDate) {
+        return cache.get("getSellerSalesDetailsForPeriod", Arrays.asList(startDate, endDate),
+                startDate, endDate, false,
+                () -> delegate.getSellerSalesDetailsForPeriod(startDate, endDate));
+    }
+
+    @Override
+    public Page<SellerRankingDTO> getRanking(long minReviews, Pageable pageable) {
+        // 리뷰 기반 순위는 기간과 무관하므로 캐시하지 않음
+        return delegate.getRanking(minReviews, pageable);
+    }
+
+    @Override
+    public List<MonthlySalesSummaryDTO> getMonthlySummariesForPeriod(LocalDate startDate, LocalDate endDate) {
+        return cache.get("getMonthlySummariesForPeriod", Arrays.asList(startDate, endDate),
+                startDate, endDate, false,
+                () -> delegate.getMonthlySummariesForPeriod(startDate, endDate));
+    }
+
+    @Override
+    public List<SalesPivotRowDTO> getSalesPivot(LocalDate startDate, LocalDate endDate, List<String> groupBy,
+                                                Long categoryId, Integer sellerId, Integer productId) {
+        // 인메모리 큐브에서 바로 계산하므로 캐시하지 않음
+        return delegate.getSalesPivot(startDate, endDate, groupBy, categoryId, sellerId, productId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.realive.serviceimpl.admin.log;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 구간 병렬 실행기.
+ *
+ * 서로 독립적인 대시보드 구간(판매 로그, 정산, 회원 수 등)을 제한된 크기의 스레드 풀에서 동시에 실행합니다.
+ * 각 구간은 자기 스레드에서 읽기 전용 트랜잭션으로 실행되고, 제한 시간을 넘기거나 실패하면 기본값으로 대체됩니다.
+ *
+ * 제한 시간은 제출 시점부터의 마감 시각으로 관리합니다.
+ * - 대기열에서 마감을 넘긴 구간은 커넥션을 잡지 않고 건너뜀
+ * - 실행 중인 구간은 남은 시간을 트랜잭션 타임아웃으로 지정해 쿼리가 DB에서 취소되도록 함 (Statement 쿼리 타임아웃)
+ * - 결과를 기다리다 마감이 지나면 작업을 취소(대기 중이면 제거, 실행 중이면 인터럽트)
+ *
+ * 구간별 소요 시간은 admin.dashboard.section 타이머(section, outcome 태그)로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class DashboardSectionRunner {
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long sectionTimeoutMillis;
+
+    public DashboardSectionRunner(PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${admin.dashboard.parallelism:3}") int parallelism,
+                                  @Value("${admin.dashboard.section-timeout-ms:3000}") long sectionTimeoutMillis) {
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 대기열이 가득 차면 요청 스레드에서 직접 실행 (스레드/커넥션 수는 parallelism 이상 늘지 않음)
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism * 16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-section-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 구간을 비동기로 시작합니다.
+     */
+    public <T> Section<T> submit(String name, Supplier<T> loader) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMillis);
+        FutureTask<T> task = new FutureTask<>(() -> run(name, loader, deadlineNanos));
+        executor.execute(task);
+        return new Section<>(name, task, deadlineNanos);
+    }
+
+    private <T> T run(String name, Supplier<T> loader, long deadlineNanos) throws TimeoutException {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMillis <= 0) {
+            // 대기열에서 이미 마감을 넘김 - 커넥션을 잡지 않고 건너뜀
+            record(name, "timeout", 0);
+            throw new TimeoutException("대기 중 제한 시간 초과");
+        }
+
+        // 남은 시간을 트랜잭션 타임아웃으로 지정 (초 단위 올림) - 쿼리 타임아웃으로 적용되어 DB에서 실행이 취소됨
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.setTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+
+        long begin = System.nanoTime();
+        try {
+            T result = readOnlyTransaction.execute(status -> loader.get());
+            record(name, "success", System.nanoTime() - begin);
+            return result;
+        } catch (RuntimeException e) {
+            record(name, isTimeout(e) ? "timeout" : "error", System.nanoTime() - begin);
+            throw e;
+        }
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        return e instanceof TimeoutException
+                || e instanceof QueryTimeoutException
+                || e instanceof TransactionTimedOutException;
+    }
+
+    private void record(String name, String outcome, long elapsedNanos) {
+        Timer.builder("admin.dashboard.section")
+                .description("관리자 대시보드 구간별 조회 시간")
+                .tag("section", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 실행 중인 대시보드 구간.
+     */
+    public final class Section<T> {
+
+        private final String name;
+        private final FutureTask<T> future;
+        private final long deadlineNanos;
+
+        private Section(String name, FutureTask<T> future, long deadlineNanos) {
+            this.name = name;
+            this.future = future;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * 결과를 기다립니다. 제한 시간 초과/실패 시 기본값을 반환하고, degraded 목록에 구간 이름을 추가합니다.
+         * 마감까지 끝나지 않은 구간은 취소하여 스레드/커넥션을 계속 점유하지 않도록 합니다.
+         */
+        public T join(T fallback, List<String> degraded) {
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | CancellationException e) {
+                future.cancel(true);
+                log.warn("⏱️ 대시보드 구간 제한 시간 초과 - {} ({}ms)", name, sectionTimeoutMillis);
+                record(name, "timeout", TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMillis));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (isTimeout(cause)) {
+                    log.warn("⏱️ 대시보드 구간 제한 시간 초과 - {} ({}ms)", name, sectionTimeoutMillis);
+                } else {
+                    log.error("❌ 대시보드 구간 조회 실패 - {}", name, cause);
+                }
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            }
+            degraded.add(name);
+            return fallback;
+        }
+    }
+}
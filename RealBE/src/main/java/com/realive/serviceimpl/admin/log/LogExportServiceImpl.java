@@ -0,0 +1,136 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realive.repository.logs.PayoutLogRepository;
+import com.realive.repository.logs.SalesLogRepository;
+import com.realive.service.admin.logs.LogExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogExportServiceImpl implements LogExportService {
+
+    // 리포지토리 스트림 쿼리의 SELECT 순서와 같아야 함
+    private static final String[] SALES_COLUMNS = {
+            "salesLogId", "soldAt", "sellerId", "sellerName", "productId", "orderItemId", "customerId",
+            "quantity", "unitPrice", "totalPrice", "commissionRate", "commissionAmount"
+    };
+    private static final String[] PAYOUT_COLUMNS = {
+            "payoutLogId", "sellerId", "sellerName", "periodStart", "periodEnd",
+            "totalSales", "totalCommission", "payoutAmount", "processedAt"
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SalesLogRepository salesLogRepository;
+    private final PayoutLogRepository payoutLogRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true) // PostgreSQL은 트랜잭션 안에서만 커서(fetch size)로 나누어 읽음
+    public long exportSales(LocalDate startDate, LocalDate endDate, Format format, OutputStream out) throws IOException {
+        validatePeriod(startDate, endDate);
+        try (Stream<Object[]> rows = salesLogRepository.streamForExport(startDate, endDate)) {
+            long count = write(rows, SALES_COLUMNS, format, out);
+            log.info("📤 판매 로그 내보내기 완료 - 기간: {} ~ {}, 형식: {}, 행: {}", startDate, endDate, format, count);
+            return count;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPayouts(LocalDate startDate, LocalDate endDate, Format format, OutputStream out) throws IOException {
+        validatePeriod(startDate, endDate);
+        try (Stream<Object[]> rows = payoutLogRepository.streamForExport(startDate, endDate)) {
+            long count = write(rows, PAYOUT_COLUMNS, format, out);
+            log.info("📤 정산 로그 내보내기 완료 - 기간: {} ~ {}, 형식: {}, 행: {}", startDate, endDate, format, count);
+            return count;
+        }
+    }
+
+    private void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("시작일과 종료일은 필수입니다.");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+    }
+
+    private long write(Stream<Object[]> rows, String[] columns, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long count = 0;
+
+        if (format == Format.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+            writeCsvLine(writer, columns);
+            for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); count++) {
+                writeCsvLine(writer, it.next());
+            }
+        } else {
+            JsonGenerator generator = objectMapper.createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (Iterator<Object[]> it = rows.iterator(); it.hasNext(); count++) {
+                Object[] row = it.next();
+                generator.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    generator.writeFieldName(columns[i]);
+                    generator.writeObject(row[i]);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvCell(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        String text = value.toString();
+        // 스프레드시트에서 수식으로 실행되지 않도록 문자열 앞에 작은따옴표
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,466 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.repository.logs.SalesDailyRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 인메모리 컬럼형 판매 큐브.
+ *
+ * 일별 판매 집계(sales_daily_rollups) 행을 일자/카테고리/판매자/상품/건수/수량/금액 컬럼별 기본형 배열로 보관하고,
+ * 임의의 필터와 그룹 기준 조합을 배열 순차 스캔으로 계산합니다. 행은 일정 크기 구간으로 나누어 여러 코어에서 동시에 스캔합니다.
+ *
+ * 기동 시(웹 서버와 스케줄러가 시작되기 전) 전체 집계 행을 적재하고, 이후 판매 로그가 커밋될 때마다 증분을 반영합니다.
+ * 증분은 DB의 upsert와 같이 (일자, 판매자, 상품) 셀 단위로 합쳐지므로 행 수는 집계 테이블 행 수를 넘지 않습니다.
+ * (최근 {@value #INDEXED_DAYS}일 셀만 색인하며, 그보다 오래된 날짜의 늦은 증분은 새 행으로 덧붙였다가 재적재 시 합쳐짐)
+ * 집계 재생성 후에는 {@link #reload()}로 다시 적재합니다. 적재 전이거나 비활성화된 경우 {@link #isReady()}가 false이며,
+ * 호출하는 쪽은 DB 집계 쿼리를 사용해야 합니다.
+ *
+ * 단일 인스턴스 배포를 전제로 합니다.
+ */
+@Slf4j
+@Component
+public class SalesCube implements SmartInitializingSingleton {
+
+    // 그룹 기준
+    public enum Dimension { DAY, MONTH, CATEGORY, SELLER, PRODUCT }
+
+    // 카테고리가 없는 행의 키 값
+    public static final long NO_CATEGORY = -1L;
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final int CHUNK_SIZE = 1 << 16; // 병렬 스캔 단위 (행)
+    private static final int INDEXED_DAYS = 31; // 셀 색인 대상 기간 (적재 시점 기준)
+
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+
+    // 읽기는 잠금 없이 현재 컬럼 묶음을 사용하고, 쓰기(증분 반영/교체)는 이 객체로 직렬화
+    private final Object writeLock = new Object();
+    // 재적재끼리만 직렬화 (적재 쿼리는 writeLock 밖에서 실행되어 증분 반영을 막지 않음)
+    private final Object reloadLock = new Object();
+    private volatile Columns columns;
+    // 재적재 중 커밋된 증분 (적재가 끝나면 새 컬럼 묶음에 다시 반영), 재적재 중이 아니면 null - writeLock으로 보호
+    private List<Increment> reloadBuffer;
+
+    public SalesCube(SalesDailyRollupRepository salesDailyRollupRepository,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${admin.sales-cube.enabled:true}") boolean enabled) {
+        this.salesDailyRollupRepository = salesDailyRollupRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 웹 요청/스케줄러가 판매를 기록하기 전에 적재하므로, 적재 결과와 이후 덧붙이는 행이 겹치지 않음
+        if (enabled) {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                // 적재 실패 시에도 기동은 계속하고, 조회는 DB 집계 쿼리로 처리
+                log.error("❌ 판매 큐브 적재 실패 - DB 집계 쿼리로 대신 조회합니다.", e);
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return columns != null;
+    }
+
+    /**
+     * 집계 테이블 전체를 다시 적재합니다.
+     * 적재는 잠금 없이 새 컬럼 묶음에 하고(그동안 조회/증분 반영은 기존 묶음으로 계속), 적재 중 커밋된 증분을 다시 반영한 뒤 교체합니다.
+     * 적재 쿼리 시작 직전에 커밋된 증분은 적재 결과와 다시 반영한 증분 양쪽에 들어갈 수 있으므로
+     * 집계 재생성과 같은 점검 작업 후에 사용합니다.
+     */
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (reloadLock) {
+            long begin = System.currentTimeMillis();
+            synchronized (writeLock) {
+                reloadBuffer = new ArrayList<>();
+            }
+            try {
+                Columns loaded = readOnlyTransaction.execute(status -> load());
+                int replayed;
+                synchronized (writeLock) {
+                    for (Increment increment : reloadBuffer) {
+                        loaded = loaded.add(increment);
+                    }
+                    replayed = reloadBuffer.size();
+                    columns = loaded;
+                }
+                log.info("📊 판매 큐브 적재 완료 - {}행 (적재 중 증분 {}건 반영), {}ms",
+                        loaded.size, replayed, System.currentTimeMillis() - begin);
+            } finally {
+                synchronized (writeLock) {
+                    reloadBuffer = null;
+                }
+            }
+        }
+    }
+
+    private Columns load() {
+        Columns target = new Columns(INITIAL_CAPACITY, LocalDate.now().minusDays(INDEXED_DAYS).toEpochDay());
+        try (Stream<Object[]> rows = salesDailyRollupRepository.streamAllOrderBySoldDate()) {
+            Iterator<Object[]> it = rows.iterator();
+            while (it.hasNext()) {
+                Object[] row = it.next();
+                target = target.add(new Increment(
+                        (int) ((LocalDate) row[0]).toEpochDay(),
+                        row[1] != null ? ((Number) row[1]).longValue() : NO_CATEGORY,
+                        ((Number) row[2]).intValue(),
+                        ((Number) row[3]).intValue(),
+                        ((Number) row[4]).longValue(),
+                        ((Number) row[5]).longValue(),
+                        ((Number) row[6]).longValue(),
+                        ((Number) row[7]).longValue()));
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 판매 로그 1건의 증분을 (일자, 판매자, 상품) 셀에 더합니다. 트랜잭션 안에서 호출되면 커밋된 경우에만 반영됩니다.
+     */
+    public void append(LocalDate soldDate, Long categoryId, Integer sellerId, Integer productId,
+                       long salesCount, long orderItemCount, long quantity, long revenue) {
+        if (!enabled || soldDate == null || sellerId == null || productId == null) {
+            return;
+        }
+        Increment increment = new Increment((int) soldDate.toEpochDay(),
+                categoryId != null ? categoryId : NO_CATEGORY, sellerId, productId,
+                salesCount, orderItemCount, quantity, revenue);
+        Runnable action = () -> {
+            synchronized (writeLock) {
+                if (reloadBuffer != null) {
+                    reloadBuffer.add(increment); // 재적재가 끝나면 새 묶음에 다시 반영
+                }
+                Columns current = columns;
+                if (current == null) {
+                    return; // 적재 전 (적재 시 DB 값에 포함됨)
+                }
+                Columns next = current.add(increment);
+                if (next != current) {
+                    columns = next; // 용량이 늘어난 경우 새 배열 묶음으로 교체
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 필터에 맞는 행을 그룹 기준별로 합산합니다.
+     *
+     * @param filter 기간(필수)과 카테고리/판매자/상품 필터(선택)
+     * @param groupBy 그룹 기준 (비어 있으면 전체 합계 1행)
+     * @return 그룹 키 순으로 정렬된 결과 (키 배열의 순서는 groupBy와 같음)
+     */
+    public List<Row> aggregate(Filter filter, List<Dimension> groupBy) {
+        Columns snapshot = columns;
+        if (snapshot == null) {
+            throw new IllegalStateException("판매 큐브가 아직 적재되지 않았습니다.");
+        }
+        Dimension[] dimensions = groupBy.toArray(new Dimension[0]);
+
+        // 스냅샷 크기를 먼저 읽고 그 범위만 스캔 (이후 덧붙는 행은 무시)
+        int size = snapshot.size;
+        int from = 0;
+        int to = size;
+        if (snapshot.sortedByDay) {
+            from = snapshot.lowerBound(filter.startDate().toEpochDay(), size);
+            to = snapshot.lowerBound(filter.endDate().toEpochDay() + 1, size);
+        }
+        int rangeStart = from;
+        int rangeEnd = to;
+        int chunks = (rangeEnd - rangeStart + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        Map<GroupKey, long[]> merged = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    int chunkFrom = rangeStart + chunk * CHUNK_SIZE;
+                    return snapshot.scan(chunkFrom, Math.min(rangeEnd, chunkFrom + CHUNK_SIZE), filter, dimensions);
+                })
+                .reduce(SalesCube::mergeInto)
+                .orElseGet(HashMap::new);
+
+        List<Row> rows = new ArrayList<>(merged.size());
+        if (dimensions.length == 0) {
+            long[] totals = merged.getOrDefault(GroupKey.EMPTY, new long[4]);
+            rows.add(new Row(new long[0], totals[0], totals[1], totals[2], totals[3]));
+            return rows;
+        }
+        merged.forEach((key, totals) -> rows.add(new Row(key.values, totals[0], totals[1], totals[2], totals[3])));
+        rows.sort((a, b) -> Arrays.compare(a.keys(), b.keys()));
+        return rows;
+    }
+
+    public static LocalDate dayOf(long key) {
+        return LocalDate.ofEpochDay(key);
+    }
+
+    public static YearMonth monthOf(long key) {
+        return YearMonth.of((int) Math.floorDiv(key, 12), (int) Math.floorMod(key, 12) + 1);
+    }
+
+    private static Map<GroupKey, long[]> mergeInto(Map<GroupKey, long[]> target, Map<GroupKey, long[]> source) {
+        Map<GroupKey, long[]> big = target.size() >= source.size() ? target : source;
+        Map<GroupKey, long[]> small = big == target ? source : target;
+        small.forEach((key, totals) -> big.merge(key, totals, (x, y) -> {
+            for (int i = 0; i < x.length; i++) {
+                x[i] += y[i];
+            }
+            return x;
+        }));
+        return big;
+    }
+
+    /**
+     * 조회 조건. categoryId/sellerId/productId가 null이면 해당 조건을 적용하지 않습니다.
+     */
+    public record Filter(LocalDate startDate, LocalDate endDate, Long categoryId, Integer sellerId, Integer productId) {
+    }
+
+    /**
+     * 결과 행. keys는 그룹 기준 순서대로의 키 값 (DAY: epoch day, MONTH: 연*12+월-1, CATEGORY/SELLER/PRODUCT: ID)
+     */
+    public record Row(long[] keys, long salesCount, long orderItemCount, long quantity, long revenue) {
+    }
+
+    // 셀 1건의 증분 (적재 시에는 집계 행 1건)
+    private record Increment(int day, long category, int seller, int product,
+                             long salesCount, long orderItemCount, long quantity, long revenue) {
+    }
+
+    // 색인 키 (집계 테이블의 유일 키와 같음)
+    private record Cell(int day, int seller, int product) {
+    }
+
+    private static final class GroupKey {
+
+        private static final GroupKey EMPTY = new GroupKey(new long[0]);
+
+        private final long[] values;
+        private final int hash;
+
+        private GroupKey(long[] values) {
+            this.values = values;
+            this.hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GroupKey other && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 컬럼 배열 묶음. 단일 작성자가 size 이후 칸에 쓰거나 기존 셀의 값에 더한 뒤 size를 (다시) 쓰고,
+     * 읽는 쪽은 size를 먼저 읽어 그 앞까지만 봅니다.
+     * 기존 셀 갱신 도중 읽으면 한 행의 컬럼 사이에 일시적인 차이가 있을 수 있습니다. (통계 조회 용도로 허용)
+     */
+    private static final class Columns {
+
+        private final int[] day;
+        private final long[] category;
+        private final int[] seller;
+        private final int[] product;
+        private final long[] salesCount;
+        private final long[] orderItemCount;
+        private final long[] quantity;
+        private final long[] revenue;
+
+        // 셀 -> 행 위치 (작성자 전용, 용량을 늘린 새 묶음과 공유), indexFromDay 이후 날짜만 색인
+        private final Map<Cell, Integer> cells;
+        private final long indexFromDay;
+
+        private volatile boolean sortedByDay = true;
+        private volatile int size;
+
+        private Columns(int capacity, long indexFromDay) {
+            cells = new HashMap<>();
+            this.indexFromDay = indexFromDay;
+            day = new int[capacity];
+            category = new long[capacity];
+            seller = new int[capacity];
+            product = new int[capacity];
+            salesCount = new long[capacity];
+            orderItemCount = new long[capacity];
+            quantity = new long[capacity];
+            revenue = new long[capacity];
+        }
+
+        private Columns(Columns source, int capacity) {
+            cells = source.cells;
+            indexFromDay = source.indexFromDay;
+            day = Arrays.copyOf(source.day, capacity);
+            category = Arrays.copyOf(source.category, capacity);
+            seller = Arrays.copyOf(source.seller, capacity);
+            product = Arrays.copyOf(source.product, capacity);
+            salesCount = Arrays.copyOf(source.salesCount, capacity);
+            orderItemCount = Arrays.copyOf(source.orderItemCount, capacity);
+            quantity = Arrays.copyOf(source.quantity, capacity);
+            revenue = Arrays.copyOf(source.revenue, capacity);
+            sortedByDay = source.sortedByDay;
+            size = source.size;
+        }
+
+        // 증분을 기존 셀에 더하거나 새 행으로 추가하고, 용량이 부족하면 늘린 새 묶음에 추가해 반환
+        private Columns add(Increment increment) {
+            boolean indexed = increment.day() >= indexFromDay;
+            Cell cell = indexed ? new Cell(increment.day(), increment.seller(), increment.product()) : null;
+            Integer existing = indexed ? cells.get(cell) : null;
+            if (existing != null) {
+                int i = existing;
+                category[i] = increment.category(); // DB upsert와 같이 마지막 판매 시점의 카테고리
+                salesCount[i] += increment.salesCount();
+                orderItemCount[i] += increment.orderItemCount();
+                quantity[i] += increment.quantity();
+                revenue[i] += increment.revenue();
+                size = size; // volatile 쓰기로 갱신한 값을 읽는 쪽에 공개
+                return this;
+            }
+
+            Columns target = this;
+            int index = size;
+            if (index == day.length) {
+                target = new Columns(this, index + (index >> 1));
+            }
+            target.day[index] = increment.day();
+            target.category[index] = increment.category();
+            target.seller[index] = increment.seller();
+            target.product[index] = increment.product();
+            target.salesCount[index] = increment.salesCount();
+            target.orderItemCount[index] = increment.orderItemCount();
+            target.quantity[index] = increment.quantity();
+            target.revenue[index] = increment.revenue();
+            if (index > 0 && target.day[index - 1] > increment.day()) {
+                target.sortedByDay = false;
+            }
+            if (indexed) {
+                cells.put(cell, index);
+            }
+            target.size = index + 1;
+            return target;
+        }
+
+        // 일자가 정렬된 경우 epochDay 이상인 첫 행 위치
+        private int lowerBound(long epochDay, int limit) {
+            int low = 0;
+            int high = limit;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (day[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private Map<GroupKey, long[]> scan(int from, int to, Filter filter, Dimension[] dimensions) {
+            int startDay = (int) filter.startDate().toEpochDay();
+            int endDay = (int) filter.endDate().toEpochDay();
+            boolean byCategory = filter.categoryId() != null;
+            boolean bySeller = filter.sellerId() != null;
+            boolean byProduct = filter.productId() != null;
+            long categoryId = byCategory ? filter.categoryId() : 0L;
+            int sellerId = bySeller ? filter.sellerId() : 0;
+            int productId = byProduct ? filter.productId() : 0;
+
+            // 1단계: 조건에 맞는 행 위치 선택 (분기 없는 비교로 선택 목록을 채움)
+            int[] selected = new int[to - from];
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                boolean match = day[i] >= startDay & day[i] <= endDay
+                        & (!byCategory | category[i] == categoryId)
+                        & (!bySeller | seller[i] == sellerId)
+                        & (!byProduct | product[i] == productId);
+                selected[count] = i;
+                count += match ? 1 : 0;
+            }
+
+            Map<GroupKey, long[]> result = new HashMap<>();
+            if (dimensions.length == 0) {
+                // 2단계(그룹 없음): 선택된 행의 합계
+                long sales = 0, orderItems = 0, qty = 0, amount = 0;
+                for (int k = 0; k < count; k++) {
+                    int i = selected[k];
+                    sales += salesCount[i];
+                    orderItems += orderItemCount[i];
+                    qty += quantity[i];
+                    amount += revenue[i];
+                }
+                if (count > 0) {
+                    result.put(GroupKey.EMPTY, new long[]{sales, orderItems, qty, amount});
+                }
+                return result;
+            }
+
+            // 2단계(그룹): 선택된 행을 그룹 키별로 합산
+            for (int k = 0; k < count; k++) {
+                int i = selected[k];
+                long[] keyValues = new long[dimensions.length];
+                for (int d = 0; d < dimensions.length; d++) {
+                    keyValues[d] = keyOf(dimensions[d], i);
+                }
+                long[] totals = result.computeIfAbsent(new GroupKey(keyValues), key -> new long[4]);
+                totals[0] += salesCount[i];
+                totals[1] += orderItemCount[i];
+                totals[2] += quantity[i];
+                totals[3] += revenue[i];
+            }
+            return result;
+        }
+
+        private long keyOf(Dimension dimension, int i) {
+            return switch (dimension) {
+                case DAY -> day[i];
+                case MONTH -> {
+                    LocalDate date = LocalDate.ofEpochDay(day[i]);
+                    yield date.getYear() * 12L + date.getMonthValue() - 1;
+                }
+                case CATEGORY -> category[i];
+                case SELLER -> seller[i];
+                case PRODUCT -> product[i];
+            };
+        }
+    }
+}
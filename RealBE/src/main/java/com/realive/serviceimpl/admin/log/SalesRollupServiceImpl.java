@@ -0,0 +1,73 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.domain.logs.SalesLog;
+import com.realive.event.StatsDataChangedEvent;
+import com.realive.repository.logs.SalesDailyRollupRepository;
+import com.realive.service.admin.logs.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SalesCube salesCube;
+
+    @Override
+    @Transactional
+    public void recordSale(SalesLog salesLog, Long categoryId, boolean firstOfOrderItem) {
+        int quantity = salesLog.getQuantity() != null ? salesLog.getQuantity() : 0;
+        int totalPrice = salesLog.getTotalPrice() != null ? salesLog.getTotalPrice() : 0;
+        salesDailyRollupRepository.accumulate(
+                salesLog.getSoldAt(),
+                salesLog.getSellerId(),
+                salesLog.getProductId(),
+                categoryId,
+                firstOfOrderItem ? 1 : 0,
+                quantity,
+                totalPrice);
+        // 커밋 후 인메모리 판매 큐브에도 덧붙임
+        salesCube.append(salesLog.getSoldAt(), categoryId, salesLog.getSellerId(), salesLog.getProductId(),
+                1, firstOfOrderItem ? 1 : 0, quantity, totalPrice);
+    }
+
+    @Override
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        log.info("📦 일별 판매 집계 재생성 시작 - 기간: {} ~ {}", startDate, endDate);
+
+        int rows = 0;
+        LocalDate chunkStart = startDate;
+        while (!chunkStart.isAfter(endDate)) {
+            LocalDate monthEnd = chunkStart.withDayOfMonth(chunkStart.lengthOfMonth());
+            LocalDate chunkEnd = monthEnd.isBefore(endDate) ? monthEnd : endDate;
+
+            // 월 단위로 삭제 후 재생성 (한 달씩 커밋)
+            LocalDate from = chunkStart;
+            rows += transactionTemplate.execute(status -> {
+                salesDailyRollupRepository.deleteBySoldDateBetween(from, chunkEnd);
+                return salesDailyRollupRepository.rebuildBetween(from, chunkEnd);
+            });
+            chunkStart = chunkEnd.plusDays(1);
+        }
+
+        // 인메모리 판매 큐브 재적재 후 재집계된 기간의 통계 캐시 무효화
+        salesCube.reload();
+        eventPublisher.publishEvent(new StatsDataChangedEvent(startDate, endDate));
+
+        log.info("✅ 일별 판매 집계 재생성 완료 - 기간: {} ~ {}, {}행", startDate, endDate, rows);
+        return rows;
+    }
+}
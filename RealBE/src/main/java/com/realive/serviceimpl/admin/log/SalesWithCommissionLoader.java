@@ -0,0 +1,100 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.domain.logs.CommissionLog;
+import com.realive.domain.logs.SalesLog;
+import com.realive.dto.logs.CommissionLogDTO;
+import com.realive.dto.logs.SalesLogDTO;
+import com.realive.dto.logs.SalesWithCommissionDTO;
+import com.realive.repository.logs.SalesLogRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 대시보드용 판매 로그 + 수수료 로그 조회기.
+ *
+ * 판매 로그와 수수료 로그를 조인 쿼리 하나로 함께 읽고, 판매가 많은 기간은 ID 순 키셋 페이지로 나누어 읽습니다.
+ * 조회 문장 수는 (행 수 / chunk-size) + 1 이하로, 판매 건수와 무관하게 수수료 조회가 따로 나가지 않습니다.
+ * 청크마다 DTO로 바꾼 뒤 읽은 엔티티를 영속성 컨텍스트에서 분리하므로, 관리 엔티티/스냅샷은 청크 하나 분량만 남습니다.
+ * (호출하는 쪽 트랜잭션의 다른 엔티티는 건드리지 않도록 clear 대신 읽은 엔티티만 detach)
+ * 호출하는 쪽의 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Slf4j
+@Component
+public class SalesWithCommissionLoader {
+
+    private final SalesLogRepository salesLogRepository;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+
+    public SalesWithCommissionLoader(SalesLogRepository salesLogRepository,
+                                     EntityManager entityManager,
+                                     @Value("${admin.dashboard.sales-chunk-size:5000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("admin.dashboard.sales-chunk-size는 0보다 커야 합니다.");
+        }
+        this.salesLogRepository = salesLogRepository;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 기간 내 판매+수수료 로그를 모두 읽어 목록으로 반환합니다.
+     */
+    public List<SalesWithCommissionDTO> load(LocalDate startDate, LocalDate endDate) {
+        List<SalesWithCommissionDTO> result = new ArrayList<>();
+        forEachChunk(startDate, endDate, result::addAll);
+        return result;
+    }
+
+    /**
+     * 기간 내 판매+수수료 로그를 청크 단위로 넘깁니다. 결과 전체를 들고 있을 필요가 없는 호출(집계, 내보내기)은 이 메서드를 사용합니다.
+     *
+     * @return 읽은 행 수
+     */
+    public int forEachChunk(LocalDate startDate, LocalDate endDate, Consumer<List<SalesWithCommissionDTO>> consumer) {
+        Pageable firstChunk = PageRequest.of(0, chunkSize);
+        int afterId = 0;
+        int chunks = 0;
+        int total = 0;
+
+        while (true) {
+            List<Object[]> rows = salesLogRepository.findWithCommissionBetween(startDate, endDate, afterId, firstChunk);
+            chunks++;
+            List<SalesWithCommissionDTO> chunk = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                SalesLog sale = (SalesLog) row[0];
+                CommissionLog commission = (CommissionLog) row[1];
+                chunk.add(SalesWithCommissionDTO.builder()
+                        .salesLog(SalesLogDTO.fromEntity(sale))
+                        .commissionLog(commission != null ? CommissionLogDTO.fromEntity(commission) : null)
+                        .build());
+                afterId = sale.getId();
+
+                // DTO로 옮긴 엔티티는 영속성 컨텍스트에서 분리 (청크가 쌓여도 관리 엔티티가 늘지 않음)
+                entityManager.detach(sale);
+                if (commission != null) {
+                    entityManager.detach(commission);
+                }
+            }
+            total += chunk.size();
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.debug("판매+수수료 로그 조회 - 기간: {} ~ {}, 행: {}, 조회 횟수: {}", startDate, endDate, total, chunks);
+        return total;
+    }
+}
@@ -0,0 +1,142 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.event.StatsDataChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 통계 조회 결과 캐시 (LRU, 최대 항목 수 제한).
+ *
+ * 키는 (메서드, 인자, 시간 구간)입니다.
+ * - 조회 기간이 어제 이전에 끝난 결과: 시간 구간 "closed", 긴 TTL
+ * - 오늘을 포함하거나 현재 시점 값(승인 대기 수, 회원 수 등)이 섞인 결과: 시간 구간 = 오늘 날짜, 짧은 TTL
+ * 판매/정산/패널티/활동 집계/경매 상태/리뷰 공개 여부가 바뀌면 {@link StatsDataChangedEvent}로 해당 기간과 겹치는 항목을 무효화합니다.
+ * 닫힌 기간도 늦게 반영되는 값(자정 직후 저장되는 활동 집계 등)이 있으므로 만료 없이 두지 않습니다.
+ */
+@Slf4j
+@Component
+public class StatResultCache {
+
+    private static final String CLOSED = "closed";
+
+    private final int maxEntries;
+    private final long currentTtlMillis;
+    private final long closedTtlMillis;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private final LinkedHashMap<Key, Entry> entries;
+    // 조회 중 무효화가 일어났다면 그 결과는 저장하지 않기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    public StatResultCache(MeterRegistry meterRegistry,
+                           @Value("${admin.stats-cache.max-entries:1000}") int maxEntries,
+                           @Value("${admin.stats-cache.current-ttl-seconds:30}") long currentTtlSeconds,
+                           @Value("${admin.stats-cache.closed-ttl-seconds:3600}") long closedTtlSeconds) {
+        this.maxEntries = maxEntries;
+        this.currentTtlMillis = TimeUnit.SECONDS.toMillis(currentTtlSeconds);
+        this.closedTtlMillis = TimeUnit.SECONDS.toMillis(closedTtlSeconds);
+        this.hits = meterRegistry.counter("admin.stats.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("admin.stats.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("admin.stats.cache.evictions");
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > StatResultCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        meterRegistry.gauge("admin.stats.cache.size", this, cache -> cache.size());
+    }
+
+    /**
+     * 캐시된 결과를 반환하거나, 없으면 loader로 계산해 저장합니다.
+     *
+     * @param periodStart 결과가 다루는 기간 시작일
+     * @param periodEnd   결과가 다루는 기간 종료일
+     * @param live        기간과 무관한 현재 시점 값이 포함되어 있으면 true (항상 짧은 TTL)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String method, List<?> args, LocalDate periodStart, LocalDate periodEnd,
+                     boolean live, Supplier<T> loader) {
+        LocalDate today = LocalDate.now();
+        boolean closed = !live && periodEnd.isBefore(today);
+        Key key = new Key(method, args, closed ? CLOSED : today.toString());
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return (T) entry.value;
+            }
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+        T value = loader.get();
+
+        synchronized (entries) {
+            // 조회 도중 무효화되었다면 오래된 결과일 수 있으므로 저장하지 않음
+            if (generation.get() == loadGeneration) {
+                long expiresAt = now + (closed ? closedTtlMillis : currentTtlMillis);
+                entries.put(key, new Entry(value, periodStart, periodEnd, live, expiresAt));
+            }
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatsDataChanged(StatsDataChangedEvent event) {
+        int removed = invalidate(event.getStartDate(), event.getEndDate());
+        log.debug("통계 캐시 무효화 - 기간: {} ~ {}, {}건", event.getStartDate(), event.getEndDate(), removed);
+    }
+
+    /**
+     * 지정한 기간과 겹치는 항목과 현재 시점 값이 포함된 항목을 모두 제거합니다.
+     */
+    public int invalidate(LocalDate startDate, LocalDate endDate) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            int removed = 0;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.live || (!entry.periodStart.isAfter(endDate) && !entry.periodEnd.isBefore(startDate))) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+            return removed;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(String method, List<?> args, String bucket) {}
+
+    private record Entry(Object value, LocalDate periodStart, LocalDate periodEnd, boolean live, long expiresAt) {}
+}
@@ -5,14 +5,13 @@ package com.realive.serviceimpl.admin.log;
 import com.realive.domain.auction.Auction;
 import com.realive.domain.auction.Bid;
 import com.realive.domain.auction.AdminProduct;
-import com.realive.domain.logs.CommissionLog;
 import com.realive.domain.logs.PayoutLog;
 import com.realive.domain.logs.PenaltyLog;
 import com.realive.domain.logs.SalesLog;
+import com.realive.domain.product.Category;
 import com.realive.domain.seller.Seller;
 import com.realive.dto.admin.review.SellerRankingDTO;
 import com.realive.dto.logs.AdminDashboardDTO;
-import com.realive.dto.logs.CommissionLogDTO;
 import com.realive.dto.logs.PayoutLogDTO;
 import com.realive.dto.logs.PenaltyLogDTO;
 import com.realive.dto.logs.ProductLogDTO;
@@ -23,15 +22,19 @@ import com.realive.dto.logs.salessum.DailySalesSummaryDTO;
 import com.realive.dto.logs.salessum.MonthlySalesLogDetailListDTO;
 import com.realive.dto.logs.salessum.MonthlySalesSummaryDTO;
 import com.realive.dto.logs.salessum.SalesLogDetailListDTO;
+import com.realive.dto.logs.salessum.SalesPivotRowDTO;
+import com.realive.dto.logs.salessum.SalesTotalsDTO;
 import com.realive.repository.admin.approval.ApprovalRepository;
 import com.realive.repository.customer.CustomerRepository;
 import com.realive.repository.logs.CommissionLogRepository;
 import com.realive.repository.logs.PayoutLogRepository;
 import com.realive.repository.logs.PenaltyLogRepository;
+import com.realive.repository.logs.SalesDailyRollupRepository;
 import com.realive.repository.logs.SalesLogRepository;
 import com.realive.repository.payment.PaymentRepository;
+import com.realive.repository.product.CategoryRepository;
 import com.realive.repository.product.ProductRepository;
-import com.realive.repository.review.SellerReviewRepository;
+import com.realive.repository.review.SellerRatingStatRepository;
 import com.realive.repository.seller.SellerRepository;
 import com.realive.repository.auction.AuctionRepository;
 import com.realive.repository.auction.BidRepository;
@@ -43,12 +46,14 @@ import com.realive.repository.auction.AdminProductRepository;
 import com.realive.dto.logs.stats.*;
 
 import com.realive.service.admin.logs.StatService;
+import com.realive.util.TimeSeries;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -75,6 +80,7 @@ public class StatServiceImpl implements StatService {
 
     private final ApprovalRepository approvalRepository;
     private final SalesLogRepository salesLogRepository;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
     private final PenaltyLogRepository penaltyLogRepository;
     private final ProductRepository productRepository;
     private final PayoutLogRepository payoutLogRepository;
@@ -82,220 +88,181 @@ public class StatServiceImpl implements StatService {
     private final PaymentRepository paymentRepository;
     private final SellerRepository sellerRepository;
     private final CustomerRepository customerRepository;
-    private final SellerReviewRepository reviewRepository;
+    private final SellerRatingStatRepository sellerRatingStatRepository;
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
     private final AdminProductRepository adminProductRepository;
+    private final DashboardSectionRunner dashboardSectionRunner;
+    private final ActivityStatsReader activityStatsReader;
+    private final SalesCube salesCube;
+    private final SalesWithCommissionLoader salesWithCommissionLoader;
+    private final CategoryRepository categoryRepository;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 구간별로 각자 읽기 전용 트랜잭션을 사용
     public AdminDashboardDTO getAdminDashboard(LocalDate date, String periodType) {
         log.info("관리자 대시보드 조회 - 날짜: {}, 기간: {}", date, periodType);
 
-        LocalDate startDate = date;
-        LocalDate endDate = date;
-        LocalDateTime startDateTime = date.atStartOfDay();
-        LocalDateTime endDateTime = date.atTime(LocalTime.MAX);
-
         if ("MONTHLY".equalsIgnoreCase(periodType)) {
-            startDate = date.withDayOfMonth(1);
-            endDate = date.withDayOfMonth(date.lengthOfMonth());
-            startDateTime = startDate.atStartOfDay();
-            endDateTime = endDate.atTime(LocalTime.MAX);
-        } else if (!"DAILY".equalsIgnoreCase(periodType)) {
-            log.warn("지원하지 않는 periodType: {}. DAILY로 처리합니다.", periodType);
+            periodType = "MONTHLY";
+        } else {
+            if (!"DAILY".equalsIgnoreCase(periodType)) {
+                log.warn("지원하지 않는 periodType: {}. DAILY로 처리합니다.", periodType);
+            }
             periodType = "DAILY";
         }
-
-        // 1. 승인 대기 판매자 수
-        int pendingSellerCount = 0;
-        if (approvalRepository != null) {
-            List<Seller> pendingSellers = approvalRepository.findByIsApprovedFalseAndApprovedAtIsNull();
-            pendingSellerCount = pendingSellers.size();
-        }
-
-        // 2. 판매 및 커미션 데이터 (기간 조회로 수정)
-        List<SalesWithCommissionDTO> salesWithCommissions = new ArrayList<>();
-        List<SalesLog> periodSalesLogs = salesLogRepository.findBySoldAtBetween(startDate, endDate);
-
-        // N+1 문제 해결: CommissionLog를 한 번에 조회
-        List<Integer> salesLogIds = periodSalesLogs.stream()
-                .map(SalesLog::getId)
-                .collect(Collectors.toList());
-
-        Map<Integer, CommissionLogDTO> commissionMap = new HashMap<>();
-        if (!salesLogIds.isEmpty()) {
-            commissionLogRepository.findBySalesLogIdIn(salesLogIds).stream()
-                    .map(CommissionLogDTO::fromEntity)
-                    .forEach(dto -> commissionMap.put(dto.getSalesLogId(), dto));
+        final boolean daily = "DAILY".equals(periodType);
+        final LocalDate startDate = daily ? date : date.withDayOfMonth(1);
+        final LocalDate endDate = daily ? date : date.withDayOfMonth(date.lengthOfMonth());
+        final LocalDateTime startDateTime = startDate.atStartOfDay();
+        final LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+
+        // 서로 독립적인 구간을 동시에 시작
+        DashboardSectionRunner.Section<Integer> pendingSellersSection = dashboardSectionRunner.submit("pendingSellers",
+                () -> approvalRepository.findByIsApprovedFalseAndApprovedAtIsNull().size());
+        DashboardSectionRunner.Section<List<SalesWithCommissionDTO>> salesSection = dashboardSectionRunner.submit("salesWithCommissions",
+                () -> salesWithCommissionLoader.load(startDate, endDate));
+        DashboardSectionRunner.Section<List<PayoutLogDTO>> payoutSection = dashboardSectionRunner.submit("payoutLogs",
+                () -> payoutLogRepository.findByProcessedAtBetween(startDateTime, endDateTime).stream()
+                        .map(PayoutLogDTO::fromEntity)
+                        .collect(Collectors.toList()));
+        DashboardSectionRunner.Section<List<PenaltyLogDTO>> penaltySection = dashboardSectionRunner.submit("penaltyLogs",
+                () -> penaltyLogRepository.findByCreatedAtBetween(startDateTime, endDateTime).stream()
+                        .map(PenaltyLogDTO::fromEntity)
+                        .collect(Collectors.toList()));
+        DashboardSectionRunner.Section<long[]> sellerCountSection = dashboardSectionRunner.submit("sellerCounts",
+                () -> new long[]{sellerRepository.count(), sellerRepository.countByIsActiveTrue(), sellerRepository.countByIsActiveFalse()});
+        DashboardSectionRunner.Section<long[]> customerCountSection = dashboardSectionRunner.submit("customerCounts",
+                () -> new long[]{customerRepository.count(), customerRepository.countActiveUsers(), customerRepository.countInactiveUsers()});
+        DashboardSectionRunner.Section<SalesSummaryStatsDTO> salesSummarySection = dashboardSectionRunner.submit("salesSummary",
+                () -> loadSalesSummary(startDate, endDate));
+        DashboardSectionRunner.Section<AuctionSummaryStatsDTO> auctionSection = dashboardSectionRunner.submit("auctionSummary",
+                () -> loadAuctionSummary(startDate, endDate));
+        DashboardSectionRunner.Section<List<DateBasedValueDTO<Double>>> trendSection = dashboardSectionRunner.submit("revenueTrend",
+                () -> loadRevenueTrend(date));
+
+        // 결과 수집 (실패/시간 초과 구간은 기본값으로 대체)
+        List<String> degradedSections = new ArrayList<>();
+        int pendingSellerCount = pendingSellersSection.join(0, degradedSections);
+        List<SalesWithCommissionDTO> salesWithCommissions = salesSection.join(Collections.emptyList(), degradedSections);
+        List<PayoutLogDTO> payoutLogs = payoutSection.join(Collections.emptyList(), degradedSections);
+        List<PenaltyLogDTO> penaltyLogs = penaltySection.join(Collections.emptyList(), degradedSections);
+        long[] sellerCounts = sellerCountSection.join(new long[]{0L, 0L, 0L}, degradedSections);
+        long[] customerCounts = customerCountSection.join(new long[]{0L, 0L, 0L}, degradedSections);
+        SalesSummaryStatsDTO salesSummaryStats = salesSummarySection.join(SalesSummaryStatsDTO.builder()
+                .totalOrdersInPeriod(0L)
+                .totalRevenueInPeriod(0.0)
+                .totalFeesInPeriod(0.0)
+                .build(), degradedSections);
+        AuctionSummaryStatsDTO auctionSummaryStats = auctionSection.join(AuctionSummaryStatsDTO.builder()
+                .totalAuctionsInPeriod(0L)
+                .totalBidsInPeriod(0L)
+                .averageBidsPerAuctionInPeriod(0.0)
+                .successRate(0.0)
+                .failureRate(0.0)
+                .build(), degradedSections);
+        List<DateBasedValueDTO<Double>> dailyRevenueTrend = trendSection.join(new ArrayList<>(), degradedSections);
+
+        if (!degradedSections.isEmpty()) {
+            log.warn("관리자 대시보드 일부 구간을 기본값으로 대체 - {}", degradedSections);
         }
 
-        for (SalesLog sale : periodSalesLogs) {
-            SalesLogDTO salesLogDTO = SalesLogDTO.fromEntity(sale);
-            CommissionLogDTO commissionLogDTO = commissionMap.get(sale.getId()); // DB 접근 없음
-            salesWithCommissions.add(SalesWithCommissionDTO.builder()
-                    .salesLog(salesLogDTO)
-                    .commissionLog(commissionLogDTO)
-                    .build());
-        }
-
-        // 3. 정산 데이터 (기간 조회로 수정)
-        List<PayoutLogDTO> payoutLogs = new ArrayList<>();
-        List<PayoutLog> payoutEntities = payoutLogRepository.findByProcessedAtBetween(startDateTime, endDateTime);
-        payoutLogs = payoutEntities.stream()
-                .map(PayoutLogDTO::fromEntity)
-                .collect(Collectors.toList());
-
         ProductLogDTO productLog = ProductLogDTO.builder()
                 .salesWithCommissions(salesWithCommissions)
                 .payoutLogs(payoutLogs)
                 .build();
 
-        // 4. 패널티 데이터 (기간 조회로 수정)
-        List<PenaltyLogDTO> penaltyLogs = new ArrayList<>();
-        List<PenaltyLog> penaltyEntities = penaltyLogRepository.findByCreatedAtBetween(startDateTime, endDateTime);
-        penaltyLogs = penaltyEntities.stream()
-                .map(PenaltyLogDTO::fromEntity)
-                .collect(Collectors.toList());
-
-        // 5. 회원 통계
-        long totalSellers = sellerRepository.count();
-        long activeSellers = sellerRepository.countByIsActiveTrue();
-        long inactiveSellers = sellerRepository.countByIsActiveFalse();
-        long totalCustomers = customerRepository.count();
-        long activeCustomers = customerRepository.countActiveUsers();
-        long inactiveCustomers = customerRepository.countInactiveUsers();
-
-        long activeMembers = activeSellers + activeCustomers;
-        long inactiveMembers = inactiveSellers + inactiveCustomers;
-
+        // 회원 통계 ({전체, 활성, 비활성})
+        long activeMembers = sellerCounts[1] + customerCounts[1];
+        long inactiveMembers = sellerCounts[2] + customerCounts[2];
         MemberSummaryStatsDTO memberSummaryStats = MemberSummaryStatsDTO.builder()
-                .totalMembers(totalSellers + totalCustomers)
+                .totalMembers(sellerCounts[0] + customerCounts[0])
                 .activeMembers(activeMembers)
                 .inactiveMembers(inactiveMembers)
                 .newMembersInPeriod(0L)
                 .uniqueVisitorsInPeriod(0L)
                 .engagedUsersInPeriod(0L)
-                .activeUsersInPeriod(activeSellers + activeCustomers)
+                .activeUsersInPeriod(activeMembers)
                 .build();
 
-        // 6. 판매 통계 조회
-        Long totalOrderCount;
-        if ("DAILY".equalsIgnoreCase(periodType)) {
-            totalOrderCount = paymentRepository.countCompletedPaymentsByDateTime(startDateTime, endDateTime);
-        } else {
-            totalOrderCount = paymentRepository.countCompletedPaymentsByDateBetween(startDate, endDate);
-        }
-        
-        Long totalRevenueAmount;
-        if ("DAILY".equalsIgnoreCase(periodType)) {
-            totalRevenueAmount = paymentRepository.sumCompletedPaymentAmountByDateTime(startDateTime, endDateTime);
-        } else {
-            totalRevenueAmount = paymentRepository.sumCompletedPaymentAmountByDateBetween(startDate, endDate);
-        }
-        
+        // 리뷰 통계 (TODO: 실제 리뷰 관련 Repository 구현 필요)
+        ReviewSummaryStatsDTO reviewSummaryStats = ReviewSummaryStatsDTO.builder()
+                .totalReviewsInPeriod(0L)
+                .newReviewsInPeriod(0L)
+                .averageRatingInPeriod(0.0)
+                .deletionRate(0.0)
+                .build();
+
+        return AdminDashboardDTO.builder()
+                .queryDate(date)
+                .periodType(periodType)
+                .pendingSellerCount(pendingSellerCount)
+                .productLog(productLog)
+                .penaltyLogs(penaltyLogs)
+                .memberSummaryStats(memberSummaryStats)
+                .salesSummaryStats(salesSummaryStats)
+                .auctionSummaryStats(auctionSummaryStats)
+                .reviewSummaryStats(reviewSummaryStats)
+                .dailyRevenueTrend(dailyRevenueTrend)
+                .degradedSections(degradedSections)
+                .build();
+    }
+
+    // 판매 통계 (결제 완료 건수/금액, 수수료)
+    private SalesSummaryStatsDTO loadSalesSummary(LocalDate startDate, LocalDate endDate) {
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay(); // 종료일 다음 날 0시 (미포함)
+        Long totalOrderCount = paymentRepository.countCompletedPaymentsInRange(rangeStart, rangeEnd);
+        Long totalRevenueAmount = paymentRepository.sumCompletedPaymentAmountInRange(rangeStart, rangeEnd);
         Integer totalFees = commissionLogRepository.sumCommissionAmountBySellerAndDateRange(null, startDate, endDate);
 
-        SalesSummaryStatsDTO salesSummaryStats = SalesSummaryStatsDTO.builder()
+        return SalesSummaryStatsDTO.builder()
                 .totalOrdersInPeriod(totalOrderCount != null ? totalOrderCount : 0L)
                 .totalRevenueInPeriod(totalRevenueAmount != null ? totalRevenueAmount.doubleValue() : 0.0)
                 .totalFeesInPeriod(totalFees != null ? totalFees.doubleValue() : 0.0)
                 .build();
+    }
+
+    // 경매 통계 (경매 수, 입찰 수)
+    private AuctionSummaryStatsDTO loadAuctionSummary(LocalDate startDate, LocalDate endDate) {
+        LocalDateTime rangeStart = startDate.atStartOfDay();
+        LocalDateTime rangeEnd = endDate.plusDays(1).atStartOfDay(); // 종료일 다음 날 0시 (미포함)
+        Long totalAuctions = auctionRepository.countAuctionsInRange(rangeStart, rangeEnd);
+        Long totalBids = bidRepository.countBidsInRange(rangeStart, rangeEnd);
 
-        // 7. 경매 통계 조회
-        Long totalAuctions;
-        Long totalBids;
-        
-        if ("DAILY".equalsIgnoreCase(periodType)) {
-            totalAuctions = auctionRepository.countAuctionsByDateTime(startDateTime, endDateTime);
-            totalBids = bidRepository.countBidsByDateTime(startDateTime, endDateTime);
-        } else {
-            totalAuctions = auctionRepository.countAuctionsByDateBetween(startDate, endDate);
-            totalBids = bidRepository.countBidsByDateBetween(startDate, endDate);
-        }
-        
         double averageBidsPerAuction = 0.0;
         if (totalAuctions != null && totalAuctions > 0 && totalBids != null) {
             averageBidsPerAuction = (double) totalBids / totalAuctions;
         }
 
-        AuctionSummaryStatsDTO auctionSummaryStats = AuctionSummaryStatsDTO.builder()
+        return AuctionSummaryStatsDTO.builder()
                 .totalAuctionsInPeriod(totalAuctions != null ? totalAuctions : 0L)
                 .totalBidsInPeriod(totalBids != null ? totalBids : 0L)
                 .averageBidsPerAuctionInPeriod(averageBidsPerAuction)
                 .successRate(0.0) // TODO: 낙찰 성공률 계산 (winningCustomerId가 있는 경매 비율)
                 .failureRate(0.0) // TODO: 낙찰 실패율 계산
                 .build();
+    }
 
-        // 8. 리뷰 통계 (TODO: 실제 리뷰 관련 Repository 구현 필요)
-        ReviewSummaryStatsDTO reviewSummaryStats = ReviewSummaryStatsDTO.builder()
-                .totalReviewsInPeriod(0L)
-                .newReviewsInPeriod(0L)
-                .averageRatingInPeriod(0.0)
-                .deletionRate(0.0)
-                .build();
+    // 매출 추이 데이터 생성 (지난 6개월 범위, 날짜별 GROUP BY 1회 + 빈 날짜 0 채움)
+    private List<DateBasedValueDTO<Double>> loadRevenueTrend(LocalDate date) {
+        // 매출 추이용 넓은 범위 설정 (지난 6개월)
+        LocalDate trendStartDate = date.minusMonths(5).withDayOfMonth(1); // 6개월 전 월 시작일
+        LocalDate trendEndDate = date.withDayOfMonth(date.lengthOfMonth()); // 현재 월 마지막일
 
-        // 9. 매출 추이 데이터 생성 (지난 6개월 범위)
-        List<DateBasedValueDTO<Double>> dailyRevenueTrend = new ArrayList<>();
-        
-        try {
-            // 매출 추이용 넓은 범위 설정 (지난 6개월)
-            LocalDate trendStartDate = date.minusMonths(5).withDayOfMonth(1); // 6개월 전 월 시작일
-            LocalDate trendEndDate = date.withDayOfMonth(date.lengthOfMonth()); // 현재 월 마지막일
-            
-            List<Object[]> dailyPayoutData = payoutLogRepository.getDailyPayoutSummary(trendStartDate, trendEndDate);
-            
-            // PayoutLog 데이터가 없으면 Payment 데이터로 매출 추이 생성
-            if (dailyPayoutData.isEmpty()) {
-                // Payment 데이터로 일별 매출 추이 생성
-                for (LocalDate currentDate = trendStartDate; !currentDate.isAfter(trendEndDate); currentDate = currentDate.plusDays(1)) {
-                    Long dayPayment = paymentRepository.sumCompletedPaymentAmountByDate(currentDate);
-                    double amount = dayPayment != null ? dayPayment.doubleValue() : 0.0;
-                    dailyRevenueTrend.add(new DateBasedValueDTO<>(currentDate, amount));
-                }
-            } else {
-                // PayoutLog 기반 매출 추이 생성
-                for (LocalDate currentDate = trendStartDate; !currentDate.isAfter(trendEndDate); currentDate = currentDate.plusDays(1)) {
-                    final LocalDate searchDate = currentDate;
-                    Object[] foundData = dailyPayoutData.stream()
-                        .filter(data -> {
-                            if (data[0] instanceof java.sql.Date) {
-                                LocalDate dbDate = ((java.sql.Date) data[0]).toLocalDate();
-                                return searchDate.equals(dbDate);
-                            } else if (data[0] instanceof LocalDate) {
-                                return searchDate.equals(data[0]);
-                            } else {
-                                return searchDate.toString().equals(data[0].toString());
-                            }
-                        })
-                        .findFirst()
-                        .orElse(null);
-                    
-                    double amount = 0.0;
-                    if (foundData != null && foundData[1] != null) {
-                        amount = ((Number) foundData[1]).doubleValue();
-                    }
-                    
-                    dailyRevenueTrend.add(new DateBasedValueDTO<>(currentDate, amount));
-                }
-            }
-        } catch (Exception e) {
-            log.error("매출 추이 데이터 생성 중 오류 발생", e);
-            // 오류 시 빈 리스트로 설정
-            dailyRevenueTrend = new ArrayList<>();
+        LocalDateTime rangeStart = trendStartDate.atStartOfDay();
+        LocalDateTime rangeEnd = trendEndDate.plusDays(1).atStartOfDay();
+        List<Object[]> dailyAmounts = payoutLogRepository.getDailyPayoutSummary(rangeStart, rangeEnd);
+
+        // PayoutLog 데이터가 없으면 Payment 데이터로 매출 추이 생성
+        if (dailyAmounts.isEmpty()) {
+            dailyAmounts = paymentRepository.getDailyCompletedPaymentSummary(rangeStart, rangeEnd);
         }
 
-        return AdminDashboardDTO.builder()
-                .queryDate(date)
-                .periodType(periodType.toUpperCase())
-                .pendingSellerCount(pendingSellerCount)
-                .productLog(productLog)
-                .penaltyLogs(penaltyLogs)
-                .memberSummaryStats(memberSummaryStats)
-                .salesSummaryStats(salesSummaryStats)
-                .auctionSummaryStats(auctionSummaryStats)
-                .reviewSummaryStats(reviewSummaryStats)
-                .dailyRevenueTrend(dailyRevenueTrend)
-                .build();
+        TimeSeries series = TimeSeries.of(trendStartDate, trendEndDate, dailyAmounts, 1);
+        return series.buckets(TimeSeries.Granularity.DAY).stream()
+                .map(bucket -> new DateBasedValueDTO<>(bucket.start(), (double) bucket.value()))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -358,56 +325,75 @@ public class StatServiceImpl implements StatService {
 
     @Override
     public AuctionPeriodStatsDTO getAuctionPeriodStatistics(LocalDate startDate, LocalDate endDate) {
-        // (이전 최종본과 동일 - 내용 생략)
         log.info("getAuctionPeriodStatistics 호출됨 - 기간: {} ~ {}", startDate, endDate);
-        long totalAuctions = ThreadLocalRandom.current().nextLong(50, 200);
-        long successfulAuctions = (long) (totalAuctions * ThreadLocalRandom.current().nextDouble(0.6, 0.9));
+
+        ActivityStatsReader.Summary period = activityStatsReader.summarize(startDate, endDate);
+        long totalAuctions = period.getAuctionsCreated();
+        long totalBids = period.getBidsPlaced();
+        // 성공/실패율은 기간 내 종료된 경매 기준 (종료 시점에 낙찰자 유무로 판정)
+        long closedAuctions = period.getAuctionsCompleted() + period.getAuctionsFailed();
+
         AuctionSummaryStatsDTO summary = AuctionSummaryStatsDTO.builder()
-                .totalAuctionsInPeriod(totalAuctions).totalBidsInPeriod(ThreadLocalRandom.current().nextLong(500, 2000))
-                .averageBidsPerAuctionInPeriod(totalAuctions > 0 ? ThreadLocalRandom.current().nextDouble(5, 20) : 0)
-                .successRate(totalAuctions > 0 ? (double) successfulAuctions / totalAuctions : 0)
-                .failureRate(totalAuctions > 0 ? (double) (totalAuctions - successfulAuctions) / totalAuctions : 0).build();
-        List<DateBasedValueDTO<Long>> dailyAuctionTrend = generateDateBasedTrend(startDate, endDate, () -> ThreadLocalRandom.current().nextLong(1, 10));
-        List<DateBasedValueDTO<Long>> dailyBidTrend = generateDateBasedTrend(startDate, endDate, () -> ThreadLocalRandom.current().nextLong(10, 50));
+                .totalAuctionsInPeriod(totalAuctions)
+                .totalBidsInPeriod(totalBids)
+                .averageBidsPerAuctionInPeriod(totalAuctions > 0 ? (double) totalBids / totalAuctions : 0)
+                .successRate(closedAuctions > 0 ? (double) period.getAuctionsCompleted() / closedAuctions : 0)
+                .failureRate(closedAuctions > 0 ? (double) period.getAuctionsFailed() / closedAuctions : 0)
+                .build();
+
+        List<DateBasedValueDTO<Long>> dailyAuctionTrend = new ArrayList<>();
+        List<DateBasedValueDTO<Long>> dailyBidTrend = new ArrayList<>();
+        for (ActivityStatsReader.Summary day : activityStatsReader.summarizeByDay(startDate, endDate)) {
+            dailyAuctionTrend.add(new DateBasedValueDTO<>(day.getPeriodStart(), day.getAuctionsCreated()));
+            dailyBidTrend.add(new DateBasedValueDTO<>(day.getPeriodStart(), day.getBidsPlaced()));
+        }
+
         return AuctionPeriodStatsDTO.builder()
-                .summary(summary).averageParticipantsPerAuction(ThreadLocalRandom.current().nextLong(3, 10))
-                .dailyAuctionCountTrend(dailyAuctionTrend).dailyBidCountTrend(dailyBidTrend).build();
+                .summary(summary)
+                .averageParticipantsPerAuction(Math.round(period.getAverageParticipantsPerAuction()))
+                .dailyAuctionCountTrend(dailyAuctionTrend)
+                .dailyBidCountTrend(dailyBidTrend)
+                .build();
     }
 
     @Override
     public MemberPeriodStatsDTO getMemberPeriodStatistics(LocalDate startDate, LocalDate endDate) {
-        // (이전 최종본과 동일 - MemberPeriodStatsDTO의 최종 정의 반영됨)
-        // 여기서는 해당 코드 반복을 피하기 위해 생략합니다.
-        // 이전 답변의 getMemberPeriodStatistics 메소드 구현을 참고해주세요.
-        // 핵심: MemberSummaryStatsDTO에 3가지 활동 지표 채우고,
-        // MemberPeriodStatsDTO에는 dailyNewUserTrend, dailyActiveUserTrend, monthlyNewUserTrend, monthlyActiveUserTrend만 채움
+        // 방문자: 인증된 요청을 보낸 회원, 참여자: 입찰/구매한 고객, 활동 사용자: 둘의 합집합 (모두 HyperLogLog 추정값)
         log.info("getMemberPeriodStatistics 호출됨 - 기간: {} ~ {}", startDate, endDate);
 
+        ActivityStatsReader.Summary period = activityStatsReader.summarize(startDate, endDate);
+        long activeCustomers = customerRepository.countActiveUsers();
+        long inactiveCustomers = customerRepository.countInactiveUsers();
+        long activeSellers = sellerRepository.countByIsActiveTrue();
+        long inactiveSellers = sellerRepository.countByIsActiveFalse();
+
         MemberSummaryStatsDTO summary = MemberSummaryStatsDTO.builder()
-                .totalMembers(15000L + ThreadLocalRandom.current().nextLong(2000))
-                .newMembersInPeriod(ThreadLocalRandom.current().nextLong(100, 500))
-                .uniqueVisitorsInPeriod(ThreadLocalRandom.current().nextLong(2000, 8000))
-                .engagedUsersInPeriod(ThreadLocalRandom.current().nextLong(1000, 4000))
-                .activeUsersInPeriod(ThreadLocalRandom.current().nextLong(1500, 6000))
+                .totalMembers(customerRepository.count() + sellerRepository.count())
+                .activeMembers(activeCustomers)
+                .inactiveMembers(inactiveCustomers)
+                .totalSellers(sellerRepository.count())
+                .activeSellers(activeSellers)
+                .inactiveSellers(inactiveSellers)
+                .newMembersInPeriod(period.getNewMembers())
+                .uniqueVisitorsInPeriod(period.getUniqueVisitors())
+                .engagedUsersInPeriod(period.getEngagedUsers())
+                .activeUsersInPeriod(period.getActiveUsers())
                 .build();
 
-        List<DateBasedValueDTO<Long>> dailyNewUserTrend = generateDateBasedTrend(startDate, endDate,
-                () -> ThreadLocalRandom.current().nextLong(5, 30));
-        List<DateBasedValueDTO<Long>> dailyActiveUserTrend = generateDateBasedTrend(startDate, endDate,
-                () -> {
-                    long daysBetween = ChronoUnit.DAYS.between(startDate, endDate) + 1;
-                    if (daysBetween <= 0) return summary.getActiveUsersInPeriod();
-                    return summary.getActiveUsersInPeriod() / daysBetween + ThreadLocalRandom.current().nextLong(-20, 21);
-                });
-
-        List<MonthBasedValueDTO<Long>> monthlyNewUserTrend = generateMonthBasedTrend(startDate, endDate,
-                () -> ThreadLocalRandom.current().nextLong(100, 500));
-        List<MonthBasedValueDTO<Long>> monthlyActiveUserTrend = generateMonthBasedTrend(startDate, endDate,
-                () -> {
-                    long monthsBetween = ChronoUnit.MONTHS.between(YearMonth.from(startDate), YearMonth.from(endDate)) + 1;
-                    if (monthsBetween <= 0) return summary.getActiveUsersInPeriod();
-                    return summary.getActiveUsersInPeriod() / monthsBetween + ThreadLocalRandom.current().nextLong(-200, 201);
-                });
+        List<DateBasedValueDTO<Long>> dailyNewUserTrend = new ArrayList<>();
+        List<DateBasedValueDTO<Long>> dailyActiveUserTrend = new ArrayList<>();
+        for (ActivityStatsReader.Summary day : activityStatsReader.summarizeByDay(startDate, endDate)) {
+            dailyNewUserTrend.add(new DateBasedValueDTO<>(day.getPeriodStart(), day.getNewMembers()));
+            dailyActiveUserTrend.add(new DateBasedValueDTO<>(day.getPeriodStart(), day.getActiveUsers()));
+        }
+
+        List<MonthBasedValueDTO<Long>> monthlyNewUserTrend = new ArrayList<>();
+        List<MonthBasedValueDTO<Long>> monthlyActiveUserTrend = new ArrayList<>();
+        for (ActivityStatsReader.Summary month : activityStatsReader.summarizeByMonth(startDate, endDate)) {
+            YearMonth yearMonth = YearMonth.from(month.getPeriodStart());
+            monthlyNewUserTrend.add(new MonthBasedValueDTO<>(yearMonth, month.getNewMembers()));
+            monthlyActiveUserTrend.add(new MonthBasedValueDTO<>(yearMonth, month.getActiveUsers()));
+        }
 
         return MemberPeriodStatsDTO.builder()
                 .summary(summary)
@@ -443,14 +429,9 @@ public class StatServiceImpl implements StatService {
     @Override
     public DailySalesSummaryDTO getDailySalesSummary(LocalDate date) { /* 이전과 동일 */
         log.info("getDailySalesSummary 호출됨 - 날짜: {}", date);
-        Integer salesCount = salesLogRepository.countBySoldAt(date);
-        Integer salesAmount = salesLogRepository.sumTotalPriceByDate(date);
-        Integer quantitySum = salesLogRepository.sumQuantityByDate(date);
-        int totalSalesCount = (salesCount != null) ? salesCount : 0;
-        int totalSalesAmount = (salesAmount != null) ? salesAmount : 0;
-        int totalQuantity = (quantitySum != null) ? quantitySum : 0;
-        return DailySalesSummaryDTO.builder().date(date).totalSalesCount(totalSalesCount)
-                .totalSalesAmount(totalSalesAmount).totalQuantity(totalQuantity).build();
+        SalesTotalsDTO totals = salesDailyRollupRepository.sumBetween(date, date);
+        return DailySalesSummaryDTO.builder().date(date).totalSalesCount(totals.getSalesCount().intValue())
+                .totalSalesAmount(totals.getTotalSalesAmount().intValue()).totalQuantity(totals.getTotalQuantity().intValue()).build();
     }
     @Override
     public SalesLogDetailListDTO getDailySalesLogDetails(LocalDate date) { /* 이전과 동일 */
@@ -464,14 +445,10 @@ public class StatServiceImpl implements StatService {
         log.info("getMonthlySalesSummary 호출됨 - 연월: {}", yearMonth);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
-        Integer salesAmount = salesLogRepository.sumTotalPriceBySoldAtBetween(startDate, endDate);
-        Long orderCountFromRepo = salesLogRepository.countDistinctOrdersBySoldAtBetween(startDate, endDate);
-        Integer quantitySum = salesLogRepository.sumQuantityBySoldAtBetween(startDate, endDate);
-        int totalSalesAmountValue = (salesAmount != null) ? salesAmount : 0;
-        int totalSalesCountValue = (orderCountFromRepo != null) ? orderCountFromRepo.intValue() : 0;
-        int totalQuantityValue = (quantitySum != null) ? quantitySum : 0;
-        return MonthlySalesSummaryDTO.builder().month(yearMonth).totalSalesCount(totalSalesCountValue)
-                .totalSalesAmount(totalSalesAmountValue).totalQuantity(totalQuantityValue).build();
+        // 월별 건수는 고유 주문 항목 기준
+        SalesTotalsDTO totals = salesDailyRollupRepository.sumBetween(startDate, endDate);
+        return MonthlySalesSummaryDTO.builder().month(yearMonth).totalSalesCount(totals.getOrderItemCount().intValue())
+                .totalSalesAmount(totals.getTotalSalesAmount().intValue()).totalQuantity(totals.getTotalQuantity().intValue()).build();
     }
     @Override
     public MonthlySalesLogDetailListDTO getMonthlySalesLogDetails(YearMonth yearMonth) { /* 이전과 동일 */
@@ -489,60 +466,40 @@ public class StatServiceImpl implements StatService {
         log.info("getDailySummariesInMonth 호출됨 (GROUP BY 사용) - 연월: {}", yearMonth);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
-        return salesLogRepository.getDailySummariesForPeriod(startDate, endDate); // 1번의 DB 조회
+        return buildDailySummaries(startDate, endDate); // 1번의 DB 조회 (일별 집계)
     }
 
     @Override
     public DailySalesSummaryDTO getSellerDailySalesSummary(Integer sellerId, LocalDate date) { /* 이전과 동일 */
         log.info("getSellerDailySalesSummary 호출됨 - 판매자ID: {}, 날짜: {}", sellerId, date);
-        Integer salesCount = salesLogRepository.countBySellerIdAndSoldAt(sellerId, date);
-        Integer salesAmount = salesLogRepository.sumTotalPriceBySellerIdAndSoldAt(sellerId, date);
-        Integer quantitySum = salesLogRepository.sumQuantityBySellerIdAndSoldAt(sellerId, date);
-        int totalSalesCount = (salesCount != null) ? salesCount : 0;
-        int totalSalesAmount = (salesAmount != null) ? salesAmount : 0;
-        int totalQuantity = (quantitySum != null) ? quantitySum : 0;
-        return DailySalesSummaryDTO.builder().date(date).totalSalesCount(totalSalesCount)
-                .totalSalesAmount(totalSalesAmount).totalQuantity(totalQuantity).build();
+        SalesTotalsDTO totals = salesDailyRollupRepository.sumBySellerIdBetween(sellerId, date, date);
+        return DailySalesSummaryDTO.builder().date(date).totalSalesCount(totals.getSalesCount().intValue())
+                .totalSalesAmount(totals.getTotalSalesAmount().intValue()).totalQuantity(totals.getTotalQuantity().intValue()).build();
     }
     @Override
     public MonthlySalesSummaryDTO getSellerMonthlySalesSummary(Integer sellerId, YearMonth yearMonth) { /* 이전과 동일 */
         log.info("getSellerMonthlySalesSummary 호출됨 - 판매자ID: {}, 연월: {}", sellerId, yearMonth);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
-        Integer salesAmount = salesLogRepository.sumTotalPriceBySellerIdAndSoldAtBetween(sellerId, startDate, endDate);
-        Long orderCountFromRepo = salesLogRepository.countDistinctOrdersBySellerIdAndSoldAtBetween(sellerId, startDate, endDate);
-        Integer quantitySum = salesLogRepository.sumQuantityBySellerIdAndSoldAtBetween(sellerId, startDate, endDate);
-        int totalSalesAmountValue = (salesAmount != null) ? salesAmount : 0;
-        int totalSalesCountValue = (orderCountFromRepo != null) ? orderCountFromRepo.intValue() : 0;
-        int totalQuantityValue = (quantitySum != null) ? quantitySum : 0;
-        return MonthlySalesSummaryDTO.builder().month(yearMonth).totalSalesCount(totalSalesCountValue)
-                .totalSalesAmount(totalSalesAmountValue).totalQuantity(totalQuantityValue).build();
+        SalesTotalsDTO totals = salesDailyRollupRepository.sumBySellerIdBetween(sellerId, startDate, endDate);
+        return MonthlySalesSummaryDTO.builder().month(yearMonth).totalSalesCount(totals.getOrderItemCount().intValue())
+                .totalSalesAmount(totals.getTotalSalesAmount().intValue()).totalQuantity(totals.getTotalQuantity().intValue()).build();
     }
     @Override
     public DailySalesSummaryDTO getProductDailySalesSummary(Integer productId, LocalDate date) { /* 이전과 동일 */
         log.info("getProductDailySalesSummary 호출됨 - 상품ID: {}, 날짜: {}", productId, date);
-        Integer salesAmount = salesLogRepository.sumTotalPriceByProductIdAndSoldAtBetween(productId, date, date);
-        Integer quantitySum = salesLogRepository.sumQuantityByProductIdAndSoldAtBetween(productId, date, date);
-        Integer salesCount = salesLogRepository.countByProductIdAndSoldAt(productId, date);
-        int totalSalesAmount = (salesAmount != null) ? salesAmount : 0;
-        int totalQuantity = (quantitySum != null) ? quantitySum : 0;
-        int totalSalesCount = (salesCount != null) ? salesCount : 0;
-        return DailySalesSummaryDTO.builder().date(date).totalSalesCount(totalSalesCount)
-                .totalSalesAmount(totalSalesAmount).totalQuantity(totalQuantity).build();
+        SalesTotalsDTO totals = sumProductSales(productId, date, date);
+        return DailySalesSummaryDTO.builder().date(date).totalSalesCount(totals.getSalesCount().intValue())
+                .totalSalesAmount(totals.getTotalSalesAmount().intValue()).totalQuantity(totals.getTotalQuantity().intValue()).build();
     }
     @Override
     public MonthlySalesSummaryDTO getProductMonthlySalesSummary(Integer productId, YearMonth yearMonth) { /* 이전과 동일 */
         log.info("getProductMonthlySalesSummary 호출됨 - 상품ID: {}, 연월: {}", productId, yearMonth);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
-        Integer salesAmount = salesLogRepository.sumTotalPriceByProductIdAndSoldAtBetween(productId, startDate, endDate);
-        Integer quantitySum = salesLogRepository.sumQuantityByProductIdAndSoldAtBetween(productId, startDate, endDate);
-        Integer salesCount = salesLogRepository.countByProductIdAndSoldAtBetween(productId, startDate, endDate);
-        int totalSalesAmountValue = (salesAmount != null) ? salesAmount : 0;
-        int totalQuantityValue = (quantitySum != null) ? quantitySum : 0;
-        int totalSalesCountValue = (salesCount != null) ? salesCount : 0;
-        return MonthlySalesSummaryDTO.builder().month(yearMonth).totalSalesCount(totalSalesCountValue)
-                .totalSalesAmount(totalSalesAmountValue).totalQuantity(totalQuantityValue).build();
+        SalesTotalsDTO totals = sumProductSales(productId, startDate, endDate);
+        return MonthlySalesSummaryDTO.builder().month(yearMonth).totalSalesCount(totals.getSalesCount().intValue())
+                .totalSalesAmount(totals.getTotalSalesAmount().intValue()).totalQuantity(totals.getTotalQuantity().intValue()).build();
     }
     @Override
     public Map<String, Object> getDashboardStats(LocalDate date) { /* 이전과 동일 */
@@ -572,19 +529,8 @@ public class StatServiceImpl implements StatService {
             sellerProductsCount = totalProductsCount - adminProductsCount;
         }
         
-        List<SalesWithCommissionDTO> salesWithCommissionsData = new ArrayList<>();
-        if (salesLogRepository != null && commissionLogRepository != null) {
-            List<SalesLog> dailySalesLogs = salesLogRepository.findBySoldAt(date);
-            for (SalesLog sale : dailySalesLogs) {
-                SalesLogDTO salesLogDTO = SalesLogDTO.fromEntity(sale);
-                Optional<CommissionLog> commissionOpt = commissionLogRepository.findBySalesLogId(sale.getId());
-                CommissionLogDTO commissionLogDTO = commissionOpt.map(CommissionLogDTO::fromEntity).orElse(null);
-                salesWithCommissionsData.add(SalesWithCommissionDTO.builder()
-                        .salesLog(salesLogDTO)
-                        .commissionLog(commissionLogDTO)
-                        .build());
-            }
-        }
+        // 판매 로그와 수수료를 조인 조회로 함께 로드 (판매 건별 수수료 조회 없음)
+        List<SalesWithCommissionDTO> salesWithCommissionsData = salesWithCommissionLoader.load(date, date);
         List<PayoutLogDTO> payoutLogDataList = new ArrayList<>();
         if (payoutLogRepository != null) {
             LocalDateTime startOfDayForPayout = date.atStartOfDay();
@@ -623,59 +569,70 @@ public class StatServiceImpl implements StatService {
     @Override
     public List<CategorySalesSummaryDTO> getPlatformCategorySalesSummary(LocalDate startDate, LocalDate endDate) { /* 이전과 동일 */
         log.info("플랫폼 전체 카테고리별 판매 요약 조회 요청 - 기간: {} ~ {}", startDate, endDate);
-        if (salesLogRepository != null) {
-            List<CategorySalesSummaryDTO> results = salesLogRepository.findCategorySalesSummaryBetween(startDate,endDate);
-            return (results == null) ? Collections.emptyList() : results;
-        } else {
-            log.warn("SalesLogRepository가 주입되지 않았습니다. 카테고리별 판매 요약에 대해 빈 리스트를 반환합니다.");
-            return Collections.emptyList();
+        if (salesCube.isReady()) {
+            return categorySalesFromCube(startDate, endDate);
         }
+        List<CategorySalesSummaryDTO> results = salesDailyRollupRepository.findCategorySalesSummaryBetween(startDate, endDate);
+        return (results == null) ? Collections.emptyList() : results;
     }
 
     // 새로 추가된 메소드들
     @Override
     public List<DailySalesSummaryDTO> getDailySummariesForPeriod(LocalDate startDate, LocalDate endDate) {
         log.info("getDailySummariesForPeriod 호출됨 - 기간: {} ~ {}", startDate, endDate);
-        return salesLogRepository.getDailySummariesForPeriod(startDate, endDate);
+        return buildDailySummaries(startDate, endDate);
     }
 
     @Override
     public List<SellerSalesDetailDTO> getSellerSalesDetailsForPeriod(LocalDate startDate, LocalDate endDate) {
         log.info("getSellerSalesDetailsForPeriod 호출됨 - 기간: {} ~ {}", startDate, endDate);
-        return salesLogRepository.getSellerSalesDetailsForPeriod(startDate, endDate);
+        if (salesCube.isReady()) {
+            return sellerSalesFromCube(startDate, endDate);
+        }
+        return salesDailyRollupRepository.getSellerSalesDetailsForPeriod(startDate, endDate);
     }
 
     @Override
     public List<MonthlySalesSummaryDTO> getMonthlySummariesForPeriod(LocalDate startDate, LocalDate endDate) {
         log.info("getMonthlySummariesForPeriod 호출됨 - 기간: {} ~ {}", startDate, endDate);
 
-        // Repository에서 월별 데이터 조회
-        List<Object[]> rawData = salesLogRepository.getMonthlySummariesForPeriodRaw(startDate, endDate);
-
-        List<MonthlySalesSummaryDTO> monthlySummaries = new ArrayList<>();
-
-        for (Object[] row : rawData) {
-            Integer year = (Integer) row[0];
-            Integer month = (Integer) row[1];
-            Long salesCount = (Long) row[2];
-            Long salesAmount = (Long) row[3];
-            Long quantity = (Long) row[4];
-
-            YearMonth yearMonth = YearMonth.of(year, month);
-
-            MonthlySalesSummaryDTO summary = MonthlySalesSummaryDTO.builder()
-                    .month(yearMonth)
-                    .totalSalesCount(salesCount != null ? salesCount.intValue() : 0)
-                    .totalSalesAmount(salesAmount != null ? salesAmount.intValue() : 0)
-                    .totalQuantity(quantity != null ? quantity.intValue() : 0)
-                    .build();
-
-            monthlySummaries.add(summary);
+        // 일별 합계를 한 번 조회한 뒤 월 단위로 묶음 (건수는 고유 주문 항목 기준)
+        List<Object[]> rows = salesDailyRollupRepository.getDailyTotalsForPeriod(startDate, endDate);
+        List<TimeSeries.Bucket> orderItemCounts = TimeSeries.of(startDate, endDate, rows, 2).buckets(TimeSeries.Granularity.MONTH);
+        List<TimeSeries.Bucket> amounts = TimeSeries.of(startDate, endDate, rows, 3).buckets(TimeSeries.Granularity.MONTH);
+        List<TimeSeries.Bucket> quantities = TimeSeries.of(startDate, endDate, rows, 4).buckets(TimeSeries.Granularity.MONTH);
+
+        List<MonthlySalesSummaryDTO> monthlySummaries = new ArrayList<>(orderItemCounts.size());
+        for (int i = 0; i < orderItemCounts.size(); i++) {
+            monthlySummaries.add(MonthlySalesSummaryDTO.builder()
+                    .month(YearMonth.from(orderItemCounts.get(i).start()))
+                    .totalSalesCount((int) orderItemCounts.get(i).value())
+                    .totalSalesAmount((int) amounts.get(i).value())
+                    .totalQuantity((int) quantities.get(i).value())
+                    .build());
         }
-
         return monthlySummaries;
     }
 
+    // 기간 내 모든 날짜의 판매 요약 (판매가 없는 날은 0)
+    private List<DailySalesSummaryDTO> buildDailySummaries(LocalDate startDate, LocalDate endDate) {
+        List<Object[]> rows = salesDailyRollupRepository.getDailyTotalsForPeriod(startDate, endDate);
+        TimeSeries salesCounts = TimeSeries.of(startDate, endDate, rows, 1);
+        TimeSeries amounts = TimeSeries.of(startDate, endDate, rows, 3);
+        TimeSeries quantities = TimeSeries.of(startDate, endDate, rows, 4);
+
+        List<DailySalesSummaryDTO> summaries = new ArrayList<>(salesCounts.length());
+        for (int i = 0; i < salesCounts.length(); i++) {
+            summaries.add(DailySalesSummaryDTO.builder()
+                    .date(startDate.plusDays(i))
+                    .totalSalesCount((int) salesCounts.get(i))
+                    .totalSalesAmount((int) amounts.get(i))
+                    .totalQuantity((int) quantities.get(i))
+                    .build());
+        }
+        return summaries;
+    }
+
     // --- Helper methods for generating trend data (Mock 데이터 생성용) ---
     private <T> List<DateBasedValueDTO<T>> generateDateBasedTrend(LocalDate startDate, LocalDate endDate, java.util.function.Supplier<T> valueSupplier) {
         List<DateBasedValueDTO<T>> trend = new ArrayList<>();
@@ -686,23 +643,104 @@ public class StatServiceImpl implements StatService {
         }
         return trend;
     }
+    
+    @Override
+    public List<SalesPivotRowDTO> getSalesPivot(LocalDate startDate, LocalDate endDate, List<String> groupBy,
+                                                Long categoryId, Integer sellerId, Integer productId) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        List<SalesCube.Dimension> dimensions = new ArrayList<>();
+        for (String name : groupBy) {
+            SalesCube.Dimension dimension;
+            try {
+                dimension = SalesCube.Dimension.valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 그룹 기준입니다: " + name);
+            }
+            if (!dimensions.contains(dimension)) {
+                dimensions.add(dimension);
+            }
+        }
+
+        List<SalesCube.Row> rows = salesCube.aggregate(
+                new SalesCube.Filter(startDate, endDate, categoryId, sellerId, productId), dimensions);
+        List<SalesPivotRowDTO> results = new ArrayList<>(rows.size());
+        for (SalesCube.Row row : rows) {
+            SalesPivotRowDTO.SalesPivotRowDTOBuilder builder = SalesPivotRowDTO.builder()
+                    .salesCount(row.salesCount())
+                    .orderItemCount(row.orderItemCount())
+                    .totalQuantity(row.quantity())
+                    .totalSalesAmount(row.revenue());
+            for (int i = 0; i < dimensions.size(); i++) {
+                long key = row.keys()[i];
+                switch (dimensions.get(i)) {
+                    case DAY -> builder.date(SalesCube.dayOf(key));
+                    case MONTH -> builder.month(SalesCube.monthOf(key));
+                    case CATEGORY -> builder.categoryId(key);
+                    case SELLER -> builder.sellerId((int) key);
+                    case PRODUCT -> builder.productId((int) key);
+                }
+            }
+            results.add(builder.build());
+        }
+        return results;
+    }
 
-    private <T> List<MonthBasedValueDTO<T>> generateMonthBasedTrend(LocalDate startDate, LocalDate endDate, java.util.function.Supplier<T> valueSupplier) {
-        List<MonthBasedValueDTO<T>> trend = new ArrayList<>();
-        YearMonth startMonth = YearMonth.from(startDate);
-        YearMonth endMonth = YearMonth.from(endDate);
-        long months = ChronoUnit.MONTHS.between(startMonth, endMonth) + 1;
-        if (months <= 0 || months > 24) months = Math.max(1, Math.min(months, 12));
-        for (int i = 0; i < months; i++) {
-            trend.add(new MonthBasedValueDTO<>(startMonth.plusMonths(i), valueSupplier.get()));
+    // 상품 기간 합계 (판매 큐브가 적재되어 있으면 메모리에서 계산)
+    private SalesTotalsDTO sumProductSales(Integer productId, LocalDate startDate, LocalDate endDate) {
+        if (!salesCube.isReady()) {
+            return salesDailyRollupRepository.sumByProductIdBetween(productId, startDate, endDate);
         }
-        return trend;
+        SalesCube.Row row = salesCube.aggregate(
+                new SalesCube.Filter(startDate, endDate, null, null, productId), Collections.emptyList()).get(0);
+        return new SalesTotalsDTO(row.salesCount(), row.orderItemCount(), row.quantity(), row.revenue());
     }
-    
+
+    // 카테고리별 판매 요약 (합산은 판매 큐브, 이름만 카테고리 ID 목록으로 한 번 조회)
+    private List<CategorySalesSummaryDTO> categorySalesFromCube(LocalDate startDate, LocalDate endDate) {
+        List<SalesCube.Row> rows = salesCube.aggregate(new SalesCube.Filter(startDate, endDate, null, null, null),
+                List.of(SalesCube.Dimension.CATEGORY));
+        List<Long> categoryIds = rows.stream()
+                .map(row -> row.keys()[0])
+                .filter(id -> id != SalesCube.NO_CATEGORY)
+                .collect(Collectors.toList());
+        Map<Long, String> names = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+
+        // DB 쿼리와 같이 카테고리가 있는 판매만, 매출 내림차순
+        return rows.stream()
+                .filter(row -> names.containsKey(row.keys()[0]))
+                .sorted(Comparator.comparingLong(SalesCube.Row::revenue).reversed())
+                .map(row -> new CategorySalesSummaryDTO(row.keys()[0], names.get(row.keys()[0]),
+                        row.salesCount(), row.revenue(), 0))
+                .collect(Collectors.toList());
+    }
+
+    // 판매자별 판매 상세 (합산은 판매 큐브, 이름만 판매자 ID 목록으로 한 번 조회)
+    private List<SellerSalesDetailDTO> sellerSalesFromCube(LocalDate startDate, LocalDate endDate) {
+        List<SalesCube.Row> rows = salesCube.aggregate(new SalesCube.Filter(startDate, endDate, null, null, null),
+                List.of(SalesCube.Dimension.SELLER));
+        List<Long> sellerIds = rows.stream().map(row -> row.keys()[0]).collect(Collectors.toList());
+        Map<Long, String> names = sellerRepository.findAllById(sellerIds).stream()
+                .collect(Collectors.toMap(Seller::getId, Seller::getName));
+
+        return rows.stream()
+                .filter(row -> names.containsKey(row.keys()[0]))
+                .sorted(Comparator.comparingLong(SalesCube.Row::revenue).reversed())
+                .map(row -> SellerSalesDetailDTO.builder()
+                        .sellerId((int) row.keys()[0])
+                        .sellerName(names.get(row.keys()[0]))
+                        .salesCount(row.salesCount())
+                        .totalRevenue(row.revenue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     //Seller Ranking
     @Override
     public Page<SellerRankingDTO> getRanking(long minReviews, Pageable pageable) {
-        return reviewRepository.findSellerRankings(minReviews, pageable);
+        return sellerRatingStatRepository.findSellerRankings(minReviews, pageable);
     }
 
     
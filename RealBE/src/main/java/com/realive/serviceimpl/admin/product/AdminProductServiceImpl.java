@@ -12,6 +12,7 @@ import com.realive.dto.auction.AdminProductDTO;
 import com.realive.dto.page.PageResponseDTO;
 import com.realive.dto.product.ProductListDTO;
 import com.realive.dto.product.ProductSearchCondition;
+import com.realive.event.ProductChangedEvent;
 import com.realive.repository.admin.AdminRepository;
 import com.realive.repository.auction.AdminProductRepository;
 import com.realive.repository.product.ProductImageRepository;
@@ -25,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -53,6 +55,7 @@ public class AdminProductServiceImpl implements AdminProductService {
     private final ProductRepository productRepository;
     private final AdminRepository adminRepository;
     private final ProductImageRepository productImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -352,5 +355,6 @@ public class AdminProductServiceImpl implements AdminProductService {
                 .orElseThrow(() -> new EntityNotFoundException("Product not found"));
         product.setActive(false);
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,300 @@
+package com.realive.serviceimpl.admin.settlement;
+
+import com.realive.domain.logs.PayoutLog;
+import com.realive.domain.logs.ReconciliationDiff;
+import com.realive.domain.logs.ReconciliationRun;
+import com.realive.repository.logs.PayoutLogRepository;
+import com.realive.repository.logs.ReconciliationDiffRepository;
+import com.realive.repository.logs.ReconciliationRunRepository;
+import com.realive.repository.logs.SalesLogRepository;
+import com.realive.repository.seller.SellerRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * 정산 대사 배치.
+ *
+ * 정산 로그(payout_logs)의 매출/수수료가 판매 로그·수수료 로그 합계와 맞는지 판매자별·주별로 검증합니다.
+ * 판매자 ID를 partition-size 단위 구간으로 나눠 ForkJoinPool에서 병렬로 처리하며, 파티션마다
+ * 해당 구간의 판매/수수료 로그를 DB에서 주 단위로 한 번만 집계해 스트림으로 읽고, 같은 구간의 정산 로그와 비교합니다.
+ * 판매 로그는 주간 정산 배치와 같은 기준(배송완료된 주문, 배송완료 시각의 주, 단가 x 수량)으로 묶습니다.
+ * 작업 스레드는 한 번에 파티션 하나만 메모리에 올리고, 불일치 내역과 진행 수치는 파티션 단위로 커밋합니다.
+ *
+ * 동시에 하나의 실행만 허용하며, 단일 인스턴스 배포를 전제로 합니다.
+ */
+@Slf4j
+@Service
+public class SettlementReconciliationJob {
+
+    private final SellerRepository sellerRepository;
+    private final SalesLogRepository salesLogRepository;
+    private final PayoutLogRepository payoutLogRepository;
+    private final ReconciliationRunRepository reconciliationRunRepository;
+    private final ReconciliationDiffRepository reconciliationDiffRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final int partitionSize;
+
+    // 실행 중인 대사 ID (없으면 null)
+    private Long runningRunId;
+
+    public SettlementReconciliationJob(SellerRepository sellerRepository,
+                                       SalesLogRepository salesLogRepository,
+                                       PayoutLogRepository payoutLogRepository,
+                                       ReconciliationRunRepository reconciliationRunRepository,
+                                       ReconciliationDiffRepository reconciliationDiffRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${admin.reconciliation.parallelism:3}") int parallelism,
+                                       @Value("${admin.reconciliation.partition-size:500}") int partitionSize) {
+        if (parallelism <= 0 || partitionSize <= 0) {
+            throw new IllegalArgumentException("admin.reconciliation.parallelism / partition-size는 0보다 커야 합니다.");
+        }
+        this.sellerRepository = sellerRepository;
+        this.salesLogRepository = salesLogRepository;
+        this.payoutLogRepository = payoutLogRepository;
+        this.reconciliationRunRepository = reconciliationRunRepository;
+        this.reconciliationDiffRepository = reconciliationDiffRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionSize = partitionSize;
+
+        // 동시에 처리하는 파티션 수 = parallelism (파티션당 DB 커넥션 1개)
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("settlement-reconcile-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * from ~ to 기간의 정산 주기(월~일)를 대사하는 실행을 시작하고 바로 반환합니다.
+     * 이미 실행 중이면 새로 시작하지 않고 실행 중인 기록을 반환합니다.
+     *
+     * @param from 대사할 첫 주에 속한 아무 날짜
+     * @param to   대사할 마지막 주에 속한 아무 날짜
+     * @return 실행 기록 (진행 상황은 getRun으로 조회)
+     */
+    public synchronized ReconciliationRun start(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (runningRunId != null) {
+            return getRun(runningRunId);
+        }
+
+        LocalDate periodStart = from.with(DayOfWeek.MONDAY);
+        LocalDate periodEnd = to.with(DayOfWeek.SUNDAY);
+        long maxSellerId = sellerRepository.findMaxId();
+        int totalPartitions = (int) ((maxSellerId + partitionSize - 1) / partitionSize);
+
+        ReconciliationRun run = transactionTemplate.execute(status -> reconciliationRunRepository.save(
+                new ReconciliationRun(periodStart, periodEnd, partitionSize, totalPartitions)));
+        runningRunId = run.getId();
+        log.info("🔎 [Reconciliation] 정산 대사 시작 - 실행ID: {}, 기간: {} ~ {}, 파티션 {}개 (판매자 {}명 단위), 병렬도 {}",
+                run.getId(), periodStart, periodEnd, totalPartitions, partitionSize, pool.getParallelism());
+
+        pool.execute(() -> runPartitions(run.getId(), periodStart, periodEnd, totalPartitions));
+        return run;
+    }
+
+    public ReconciliationRun getRun(Long runId) {
+        return reconciliationRunRepository.findById(runId)
+                .orElseThrow(() -> new EntityNotFoundException("대사 실행 기록을 찾을 수 없습니다. id=" + runId));
+    }
+
+    public List<ReconciliationRun> getRecentRuns() {
+        return reconciliationRunRepository.findTop20ByOrderByStartedAtDesc();
+    }
+
+    public Page<ReconciliationDiff> getDiffs(Long runId, Pageable pageable) {
+        return reconciliationDiffRepository.findByRunIdOrderBySellerIdAscPeriodStartAsc(runId, pageable);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // 풀 작업 스레드에서 전체 파티션을 분할 실행한 뒤 실행 결과 기록
+    private void runPartitions(Long runId, LocalDate periodStart, LocalDate periodEnd, int totalPartitions) {
+        long startedNanos = System.nanoTime();
+        try {
+            if (totalPartitions > 0) {
+                new PartitionTask(runId, periodStart, periodEnd, 0, totalPartitions).invoke();
+            }
+            ReconciliationRun run = finish(runId, ReconciliationRun.Status.COMPLETED, null);
+
+            double seconds = Math.max(1e-3, (System.nanoTime() - startedNanos) / 1e9);
+            log.info("✅ [Reconciliation] 정산 대사 완료 - 실행ID: {}, 판매자·주 {}건, 불일치 {}건, {}ms ({}건/초)",
+                    runId, run.getCheckedSellerWeeks(), run.getMismatchCount(), (long) (seconds * 1000),
+                    String.format("%.1f", run.getCheckedSellerWeeks() / seconds));
+        } catch (Exception e) {
+            log.error("❌ [Reconciliation] 정산 대사 실패 - 실행ID: {}", runId, e);
+            try {
+                finish(runId, ReconciliationRun.Status.FAILED, abbreviate(String.valueOf(e.getMessage())));
+            } catch (Exception recordError) {
+                log.error("❌ [Reconciliation] 실패 상태 기록 실패 - 실행ID: {}", runId, recordError);
+            }
+        } finally {
+            synchronized (this) {
+                runningRunId = null;
+            }
+        }
+    }
+
+    private ReconciliationRun finish(Long runId, ReconciliationRun.Status status, String error) {
+        return transactionTemplate.execute(tx -> {
+            ReconciliationRun run = getRun(runId);
+            run.setStatus(status);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setLastError(error);
+            return run;
+        });
+    }
+
+    /**
+     * 파티션 1개 대사 - 판매자 ID 구간 (fromSellerId, toSellerId].
+     * 트랜잭션 안에서는 하위 작업을 fork하지 않으므로 작업 스레드가 다른 파티션을 가로채 같은 커넥션을 쓰는 일이 없습니다.
+     */
+    private void reconcilePartition(Long runId, LocalDate periodStart, LocalDate periodEnd,
+                                    int fromSellerId, int toSellerId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 1. 구간의 정산 로그 (판매자 수 × 주 수 이하)
+            Map<SellerWeek, PayoutLog> payouts = new HashMap<>();
+            for (PayoutLog payoutLog : payoutLogRepository.findBySellerRangeAndPeriodStartBetween(
+                    fromSellerId, toSellerId, periodStart, periodEnd)) {
+                payouts.put(new SellerWeek(payoutLog.getSellerId(), payoutLog.getPeriodStart()), payoutLog);
+            }
+
+            // 2. 구간의 판매/수수료 로그 주별 합계를 한 번 읽으며 정산 로그와 비교
+            List<ReconciliationDiff> diffs = new ArrayList<>();
+            long sellerWeeks = payouts.size();
+            // 정산 배치와 같은 측정값(단가 x 수량)과 같은 주 기준(배송완료 시각)으로 집계해야 경계 주문이 불일치로 잡히지 않음
+            try (Stream<Object[]> totals = salesLogRepository.streamWeeklyTotalsBySellerRange(
+                    fromSellerId, toSellerId, periodStart.atStartOfDay(), periodEnd.plusDays(1).atStartOfDay())) {
+                for (Object[] row : (Iterable<Object[]>) totals::iterator) {
+                    SellerWeek key = new SellerWeek(((Number) row[0]).intValue(), toLocalDate(row[1]));
+                    long expectedSales = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+                    long expectedCommission = ((Number) row[3]).longValue();
+                    long commissionLogCount = ((Number) row[4]).longValue();
+
+                    PayoutLog payoutLog = payouts.remove(key);
+                    if (payoutLog == null) {
+                        sellerWeeks++;
+                        if (expectedSales != 0) {
+                            diffs.add(diff(runId, key, ReconciliationDiff.Type.MISSING_PAYOUT,
+                                    expectedSales, expectedCommission, null));
+                        }
+                    } else if (!matches(payoutLog, expectedSales, expectedCommission, commissionLogCount)) {
+                        diffs.add(diff(runId, key, ReconciliationDiff.Type.AMOUNT_MISMATCH,
+                                expectedSales, expectedCommission, payoutLog));
+                    }
+                }
+            }
+
+            // 3. 판매 로그 없이 남은 정산 로그
+            for (Map.Entry<SellerWeek, PayoutLog> entry : payouts.entrySet()) {
+                PayoutLog payoutLog = entry.getValue();
+                if (valueOf(payoutLog.getTotalSales()) != 0 || valueOf(payoutLog.getTotalCommission()) != 0) {
+                    diffs.add(diff(runId, entry.getKey(), ReconciliationDiff.Type.MISSING_SALES, 0L, 0L, payoutLog));
+                }
+            }
+
+            reconciliationDiffRepository.saveAll(diffs);
+            reconciliationRunRepository.addPartitionProgress(runId, sellerWeeks, diffs.size());
+        });
+    }
+
+    // 매출은 정확히 일치해야 하고, 수수료는 건별 절사(수수료 로그)와 합계 절사(정산 로그) 차이만 허용 (건당 1원 미만)
+    private static boolean matches(PayoutLog payoutLog, long expectedSales, long expectedCommission,
+                                   long commissionLogCount) {
+        if (valueOf(payoutLog.getTotalSales()) != expectedSales) {
+            return false;
+        }
+        long commissionGap = valueOf(payoutLog.getTotalCommission()) - expectedCommission;
+        return commissionGap >= 0 && commissionGap < Math.max(1, commissionLogCount);
+    }
+
+    private static ReconciliationDiff diff(Long runId, SellerWeek key, ReconciliationDiff.Type type,
+                                           long expectedSales, long expectedCommission, PayoutLog payoutLog) {
+        ReconciliationDiff diff = new ReconciliationDiff();
+        diff.setRunId(runId);
+        diff.setSellerId(key.sellerId());
+        diff.setPeriodStart(key.periodStart());
+        diff.setType(type);
+        diff.setExpectedSales(expectedSales);
+        diff.setExpectedCommission(expectedCommission);
+        if (payoutLog != null) {
+            diff.setPayoutSales(valueOf(payoutLog.getTotalSales()));
+            diff.setPayoutCommission(valueOf(payoutLog.getTotalCommission()));
+        }
+        return diff;
+    }
+
+    private static long valueOf(Integer amount) {
+        return amount != null ? amount : 0L;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    private record SellerWeek(int sellerId, LocalDate periodStart) {
+    }
+
+    /**
+     * 파티션 인덱스 구간 [fromPartition, toPartition) 을 반으로 나눠 병렬 처리하는 작업.
+     * 파티션 i는 판매자 ID (i × partitionSize, (i + 1) × partitionSize] 를 담당합니다.
+     */
+    private final class PartitionTask extends RecursiveAction {
+
+        private final Long runId;
+        private final LocalDate periodStart;
+        private final LocalDate periodEnd;
+        private final int fromPartition;
+        private final int toPartition;
+
+        private PartitionTask(Long runId, LocalDate periodStart, LocalDate periodEnd,
+                              int fromPartition, int toPartition) {
+            this.runId = runId;
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+            this.fromPartition = fromPartition;
+            this.toPartition = toPartition;
+        }
+
+        @Override
+        protected void compute() {
+            if (toPartition - fromPartition == 1) {
+                int fromSellerId = fromPartition * partitionSize;
+                reconcilePartition(runId, periodStart, periodEnd, fromSellerId, fromSellerId + partitionSize);
+                return;
+            }
+            int middle = (fromPartition + toPartition) >>> 1;
+            invokeAll(new PartitionTask(runId, periodStart, periodEnd, fromPartition, middle),
+                    new PartitionTask(runId, periodStart, periodEnd, middle, toPartition));
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.realive.serviceimpl.admin.settlement;
+
+import com.realive.domain.logs.PayoutLog;
+import com.realive.domain.logs.SellerLedgerEntry;
+import com.realive.domain.logs.SettlementRun;
+import com.realive.event.StatsDataChangedEvent;
+import com.realive.repository.logs.PayoutLogRepository;
+import com.realive.repository.logs.SettlementRunRepository;
+import com.realive.repository.order.OrderItemRepository;
+import com.realive.service.seller.SellerLedgerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주간 정산 배치.
+ *
+ * 정산 주기(월~일)의 배송완료 매출을 판매자별로 한 번에 GROUP BY 집계하고, 판매자 ID 순 청크마다
+ * 정산 로그를 JDBC 배치 upsert로 저장합니다. 청크 저장과 진행 위치(settlement_runs)는 같은 트랜잭션에서 커밋되므로,
+ * 중간에 실패하거나 서버가 내려가도 다음 실행은 마지막으로 커밋된 청크 다음부터 이어서 처리합니다.
+ * 정산 로그는 덮어쓰기 방식이라 같은 주기를 다시 실행해도 결과가 같습니다.
+ * 매출은 배송완료 주문 항목의 단가 x 수량 합계이며, 재집계에서 빠진 판매자(환불/취소)의 기존 정산 로그는 0으로 덮어씁니다.
+ * 판매자 잔액 원장에는 지급액의 변화분만 기록합니다 (처음 정산이면 지급 분개, 재실행으로 바뀌면 조정 분개).
+ *
+ * 단일 인스턴스 배포를 전제로 합니다.
+ */
+@Slf4j
+@Service
+public class WeeklySettlementJob {
+
+    private static final double COMMISSION_RATE = 0.1; // 10% 수수료
+
+    private final OrderItemRepository orderItemRepository;
+    private final PayoutLogRepository payoutLogRepository;
+    private final SettlementRunRepository settlementRunRepository;
+    private final SellerLedgerService sellerLedgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public WeeklySettlementJob(OrderItemRepository orderItemRepository,
+                               PayoutLogRepository payoutLogRepository,
+                               SettlementRunRepository settlementRunRepository,
+                               SellerLedgerService sellerLedgerService,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${admin.settlement.chunk-size:1000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("admin.settlement.chunk-size는 0보다 커야 합니다.");
+        }
+        this.orderItemRepository = orderItemRepository;
+        this.payoutLogRepository = payoutLogRepository;
+        this.settlementRunRepository = settlementRunRepository;
+        this.sellerLedgerService = sellerLedgerService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 매주 월요일 새벽에 지난주(월~일) 정산을 실행합니다.
+     */
+    @Scheduled(cron = "${admin.settlement.cron:0 0 1 * * MON}")
+    public void settleLastWeek() {
+        SettlementRun run = settle(LocalDate.now().minusWeeks(1));
+        if (run.getStatus() == SettlementRun.Status.FAILED) {
+            log.error("❌ [Settlement] 주간 정산 실패 - 기간: {} ~ {}, 다음 실행 시 {}번 판매자 다음부터 재시도합니다.",
+                    run.getPeriodStart(), run.getPeriodEnd(), run.getLastSellerId());
+        }
+    }
+
+    /**
+     * 지정한 날짜가 속한 주(월~일)를 정산합니다.
+     * 이전 실행이 끝나지 않았으면 마지막으로 커밋된 청크 다음부터, 완료된 주기면 처음부터 다시 정산합니다.
+     *
+     * @param date 정산할 주에 속한 아무 날짜
+     * @return 실행 결과 (실패 시 FAILED 상태와 오류 메시지)
+     */
+    public synchronized SettlementRun settle(LocalDate date) {
+        LocalDate periodStart = date.with(DayOfWeek.MONDAY);
+        LocalDate periodEnd = date.with(DayOfWeek.SUNDAY);
+        LocalDateTime startDateTime = periodStart.atStartOfDay();
+        LocalDateTime endDateTime = periodEnd.plusDays(1).atStartOfDay(); // 다음 주 월요일 0시 (미포함)
+
+        SettlementRun run = transactionTemplate.execute(status -> start(periodStart, periodEnd));
+        log.info("💰 [Settlement] 주간 정산 시작 - 기간: {} ~ {}, 시작 판매자ID: {} 다음",
+                periodStart, periodEnd, run.getLastSellerId());
+
+        long startedNanos = System.nanoTime();
+        long sellersThisRun = 0;
+        int chunks = 0;
+        try {
+            while (true) {
+                int processed = transactionTemplate.execute(status -> processChunk(run, startDateTime, endDateTime));
+                if (processed == 0) {
+                    break;
+                }
+                sellersThisRun += processed;
+                chunks++;
+                double seconds = Math.max(1e-3, (System.nanoTime() - startedNanos) / 1e9);
+                log.info("💰 [Settlement] 청크 {} 완료 - 판매자 {}명 (누적 {}명, 마지막 판매자ID: {}), {}명/초",
+                        chunks, processed, run.getProcessedSellers(), run.getLastSellerId(),
+                        String.format("%.1f", sellersThisRun / seconds));
+                if (processed < chunkSize) {
+                    break;
+                }
+            }
+
+            run.setStatus(SettlementRun.Status.COMPLETED);
+            run.setFinishedAt(LocalDateTime.now());
+            run.setLastError(null);
+            transactionTemplate.executeWithoutResult(status -> settlementRunRepository.save(run));
+        } catch (Exception e) {
+            log.error("❌ [Settlement] 청크 처리 실패 - 기간: {} ~ {}, 마지막 커밋 판매자ID: {}",
+                    periodStart, periodEnd, run.getLastSellerId(), e);
+            markFailed(run, e);
+            return run;
+        }
+
+        // 정산 로그 처리 시각(오늘) 기준 통계 캐시 무효화
+        eventPublisher.publishEvent(StatsDataChangedEvent.of(LocalDate.now()));
+
+        long elapsedMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+        log.info("✅ [Settlement] 주간 정산 완료 - 기간: {} ~ {}, 판매자 {}명, 매출 합계 {}, 청크 {}개, {}ms",
+                periodStart, periodEnd, run.getProcessedSellers(), run.getTotalSales(), chunks, elapsedMillis);
+        return run;
+    }
+
+    public List<SettlementRun> getRecentRuns() {
+        return settlementRunRepository.findTop20ByOrderByPeriodStartDesc();
+    }
+
+    // 실행 기록 조회/생성 - 완료된 주기는 처음부터, 중단된 주기는 이어서
+    private SettlementRun start(LocalDate periodStart, LocalDate periodEnd) {
+        SettlementRun run = settlementRunRepository.findByPeriodStartAndPeriodEnd(periodStart, periodEnd)
+                .orElseGet(() -> new SettlementRun(periodStart, periodEnd));
+
+        if (run.getId() == null || run.getStatus() == SettlementRun.Status.COMPLETED) {
+            run.setLastSellerId(0L);
+            run.setProcessedSellers(0L);
+            run.setTotalSales(0L);
+        }
+        run.setStatus(SettlementRun.Status.RUNNING);
+        run.setStartedAt(LocalDateTime.now());
+        run.setFinishedAt(null);
+        return settlementRunRepository.save(run);
+    }
+
+    // 판매자 청크 1개 집계 + 정산 로그 배치 저장 + 진행 위치 기록 (한 트랜잭션)
+    private int processChunk(SettlementRun run, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        List<Object[]> rows = orderItemRepository.sumDeliveredSalesGroupedBySeller(
+                startDateTime, endDateTime, run.getLastSellerId(), PageRequest.of(0, chunkSize));
+        // 마지막 청크면 남은 판매자 ID 구간 전체가 이번 재집계 범위
+        boolean lastChunk = rows.size() < chunkSize;
+
+        LocalDateTime processedAt = LocalDateTime.now();
+        List<PayoutLog> payoutLogs = new ArrayList<>(rows.size());
+        long chunkSales = 0;
+        long lastSellerId = run.getLastSellerId();
+        for (Object[] row : rows) {
+            long sellerId = ((Number) row[0]).longValue();
+            lastSellerId = sellerId;
+            int totalSales = row[1] != null ? ((Number) row[1]).intValue() : 0;
+            if (totalSales == 0) {
+                continue;
+            }
+            payoutLogs.add(payoutLog((int) sellerId, run, totalSales, processedAt));
+            chunkSales += totalSales;
+        }
+
+        // 재집계 구간에 정산 로그가 남아 있지만 이번 집계에 없는 판매자(환불/취소로 매출이 없어짐)는 0으로 덮어씀
+        Set<Integer> recomputed = new HashSet<>();
+        payoutLogs.forEach(payoutLog -> recomputed.add(payoutLog.getSellerId()));
+        int zeroed = 0;
+        for (Object[] stale : payoutLogRepository.findNonZeroPayoutsBySellerRangeAndPeriod(
+                (int) run.getLastSellerId(), lastChunk ? Integer.MAX_VALUE : (int) lastSellerId,
+                run.getPeriodStart(), run.getPeriodEnd())) {
+            int sellerId = ((Number) stale[0]).intValue();
+            if (!recomputed.contains(sellerId)) {
+                payoutLogs.add(payoutLog(sellerId, run, 0, processedAt));
+                zeroed++;
+            }
+        }
+        if (zeroed > 0) {
+            log.info("💰 [Settlement] 매출이 없어진 판매자 {}명의 정산 로그를 0으로 갱신 - 기간: {} ~ {}",
+                    zeroed, run.getPeriodStart(), run.getPeriodEnd());
+        }
+
+        if (!payoutLogs.isEmpty()) {
+            List<Integer> sellerIds = payoutLogs.stream().map(PayoutLog::getSellerId).toList();
+            Map<Integer, Object[]> previous = payoutRowsBySeller(sellerIds, run);
+            payoutLogRepository.upsertAll(payoutLogs);
+            sellerLedgerService.append(ledgerEntries(payoutLogs, previous, payoutRowsBySeller(sellerIds, run)));
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        run.setLastSellerId(lastSellerId);
+        run.setProcessedSellers(run.getProcessedSellers() + rows.size());
+        run.setTotalSales(run.getTotalSales() + chunkSales);
+        settlementRunRepository.save(run);
+        return rows.size();
+    }
+
+    private static PayoutLog payoutLog(int sellerId, SettlementRun run, int totalSales, LocalDateTime processedAt) {
+        int commission = (int) (totalSales * COMMISSION_RATE);
+        PayoutLog payoutLog = new PayoutLog();
+        payoutLog.setSellerId(sellerId);
+        payoutLog.setPeriodStart(run.getPeriodStart());
+        payoutLog.setPeriodEnd(run.getPeriodEnd());
+        payoutLog.setTotalSales(totalSales);
+        payoutLog.setTotalCommission(commission);
+        payoutLog.setPayoutAmount(totalSales - commission);
+        payoutLog.setProcessedAt(processedAt);
+        return payoutLog;
+    }
+
+    // 판매자 ID → [sellerId, 정산 로그 ID, 지급액]
+    private Map<Integer, Object[]> payoutRowsBySeller(List<Integer> sellerIds, SettlementRun run) {
+        Map<Integer, Object[]> rows = new HashMap<>();
+        for (Object[] row : payoutLogRepository.findPayoutAmountsBySellerIdsAndPeriod(
+                sellerIds, run.getPeriodStart(), run.getPeriodEnd())) {
+            rows.put(((Number) row[0]).intValue(), row);
+        }
+        return rows;
+    }
+
+    // upsert 전 지급액과 비교해 원장 분개 생성 (변화가 없으면 분개 없음)
+    private static List<SellerLedgerEntry> ledgerEntries(List<PayoutLog> payoutLogs,
+                                                         Map<Integer, Object[]> previous,
+                                                         Map<Integer, Object[]> saved) {
+        List<SellerLedgerEntry> entries = new ArrayList<>(payoutLogs.size());
+        for (PayoutLog payoutLog : payoutLogs) {
+            Integer sellerId = payoutLog.getSellerId();
+            Object[] savedRow = saved.get(sellerId);
+            Integer payoutLogId = savedRow != null ? ((Number) savedRow[1]).intValue() : null;
+            Object[] previousRow = previous.get(sellerId);
+            if (previousRow == null) {
+                entries.add(SellerLedgerEntry.payout(sellerId, payoutLogId, payoutLog.getPayoutAmount()));
+                continue;
+            }
+            long previousAmount = previousRow[2] != null ? ((Number) previousRow[2]).longValue() : 0L;
+            long delta = payoutLog.getPayoutAmount() - previousAmount;
+            if (delta != 0) {
+                entries.add(SellerLedgerEntry.payoutAdjustment(sellerId, payoutLogId, delta));
+            }
+        }
+        return entries;
+    }
+
+    private void markFailed(SettlementRun run, Exception cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 실패한 청크의 변경은 롤백되었으므로 DB에 커밋된 진행 위치를 다시 읽어서 기록
+                SettlementRun stored = settlementRunRepository.findById(run.getId()).orElse(run);
+                stored.setStatus(SettlementRun.Status.FAILED);
+                stored.setLastError(abbreviate(String.valueOf(cause.getMessage())));
+                settlementRunRepository.save(stored);
+                copyProgress(stored, run);
+            });
+        } catch (Exception e) {
+            log.error("❌ [Settlement] 실패 상태 기록 실패 - 기간: {} ~ {}", run.getPeriodStart(), run.getPeriodEnd(), e);
+        }
+    }
+
+    private static void copyProgress(SettlementRun from, SettlementRun to) {
+        to.setStatus(from.getStatus());
+        to.setLastSellerId(from.getLastSellerId());
+        to.setProcessedSellers(from.getProcessedSellers());
+        to.setTotalSales(from.getTotalSales());
+        to.setLastError(from.getLastError());
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
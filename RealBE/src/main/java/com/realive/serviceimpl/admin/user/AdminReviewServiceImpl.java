@@ -9,6 +9,7 @@ import com.realive.domain.review.ReviewReport;
 import com.realive.domain.review.SellerReview;
 import com.realive.domain.review.SellerReviewImage;
 import com.realive.dto.admin.review.*;
+import com.realive.event.StatsDataChangedEvent;
 import com.realive.repository.customer.CustomerRepository;
 import com.realive.repository.order.OrderItemRepository; // OrderItemRepository import
 import com.realive.repository.review.ReviewReportRepository;
@@ -16,10 +17,12 @@ import com.realive.repository.review.SellerReviewRepository;
 import com.realive.repository.review.SellerReviewSpecification;
 import com.realive.repository.review.crud.SellerReviewImageRepository;
 import com.realive.service.admin.user.AdminReviewService;
+import com.realive.service.review.SellerRatingStatService;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -45,6 +48,8 @@ public class AdminReviewServiceImpl implements AdminReviewService {
     private final SellerReviewRepository sellerReviewRepository;
     private final CustomerRepository customerRepository;
     private final OrderItemRepository orderItemRepository; // OrderItemRepository 주입
+    private final SellerRatingStatService sellerRatingStatService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<AdminReviewReportListItemDTO> getReportedReviewsByStatus(Optional<ReviewReportStatus> status, Pageable pageable) { // 1. Optional 추가
@@ -302,8 +307,12 @@ public class AdminReviewServiceImpl implements AdminReviewService {
                     log.warn("SellerReview not found for visibility update with ID: {}", reviewId);
                     return new EntityNotFoundException("SellerReview not found with id: " + reviewId);
                 });
+        boolean wasHidden = review.isHidden();
         review.setHidden(isHidden);
         sellerReviewRepository.save(review);
+        sellerRatingStatService.onReviewChanged(review.getSeller().getId(),
+                wasHidden ? null : review.getRating(), review.isHidden() ? null : review.getRating());
+        eventPublisher.publishEvent(StatsDataChangedEvent.since(review.getCreatedAt()));
         log.info("Successfully updated visibility for seller review ID: {} to isHidden: {}", reviewId, isHidden);
     }
 
@@ -20,10 +20,14 @@ import com.realive.dto.admin.user.CustomerDetailDTO;
 import com.realive.dto.admin.user.SellerDetailDTO;
 import com.realive.dto.admin.user.UserManagementListItemDTO;
 import com.realive.service.admin.user.AdminUserService; // AdminUserService 인터페이스 임포트
+import com.realive.service.review.SellerRatingStatService;
+import com.realive.event.SellerChangedEvent;
+import com.realive.event.StatsDataChangedEvent;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -50,6 +54,8 @@ public class AdminUserServiceImpl implements AdminUserService {
     private final OrderRepository orderRepository;
     private final SellerReviewRepository sellerReviewRepository;
     private final ReviewReportRepository reviewReportRepository;
+    private final SellerRatingStatService sellerRatingStatService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 전체 사용자 목록을 조회합니다. 고객과 판매자를 모두 포함하며, 필터링, 페이징, 정렬 기능을 지원합니다.
@@ -150,6 +156,7 @@ public class AdminUserServiceImpl implements AdminUserService {
                     .orElseThrow(() -> new EntityNotFoundException("Seller not found with id: " + userId));
             seller.setActive(newIsActive);
             sellerRepository.save(seller);
+            eventPublisher.publishEvent(new SellerChangedEvent(seller.getId()));
             log.info("Seller (ID: {}) status updated to: {}", userId, newIsActive);
             return true;
         } else {
@@ -195,7 +202,11 @@ public class AdminUserServiceImpl implements AdminUserService {
             if (customerReviews != null && !customerReviews.isEmpty()) {
                 log.info("Hiding {} seller reviews written by customer ID: {}", customerReviews.size(), customer.getId());
                 for (SellerReview review : customerReviews) {
+                    if (!review.isHidden()) {
+                        sellerRatingStatService.onReviewChanged(review.getSeller().getId(), review.getRating(), null);
+                    }
                     review.setHidden(true);
+                    eventPublisher.publishEvent(StatsDataChangedEvent.since(review.getCreatedAt()));
                 }
                 sellerReviewRepository.saveAll(customerReviews);
             }
@@ -226,13 +237,18 @@ public class AdminUserServiceImpl implements AdminUserService {
             seller.setActive(false);
 
             sellerRepository.save(seller);
+            eventPublisher.publishEvent(new SellerChangedEvent(seller.getId()));
             log.info("Seller (ID: {}) has been set to inactive.", seller.getId());
 
             List<SellerReview> sellerReceivedReviews = sellerReviewRepository.findAllBySellerId(seller.getId());
             if (sellerReceivedReviews != null && !sellerReceivedReviews.isEmpty()) {
                 log.info("Hiding {} seller reviews received by seller ID: {}", sellerReceivedReviews.size(), seller.getId());
                 for (SellerReview review : sellerReceivedReviews) {
+                    if (!review.isHidden()) {
+                        sellerRatingStatService.onReviewChanged(seller.getId(), review.getRating(), null);
+                    }
                     review.setHidden(true);
+                    eventPublisher.publishEvent(StatsDataChangedEvent.since(review.getCreatedAt()));
                 }
                 sellerReviewRepository.saveAll(sellerReceivedReviews);
             }
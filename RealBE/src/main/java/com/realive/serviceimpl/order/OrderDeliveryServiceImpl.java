@@ -6,15 +6,16 @@ import com.realive.domain.order.OrderItem;
 import com.realive.domain.product.Product;
 import com.realive.dto.order.DeliveryStatusUpdateDTO;
 import com.realive.dto.order.OrderDeliveryResponseDTO;
+import com.realive.event.DeliveryCompletedEvent;
 import com.realive.repository.order.OrderItemRepository;
 import com.realive.repository.order.SellerOrderDeliveryRepository;
 import com.realive.repository.product.ProductRepository;
 import com.realive.service.order.OrderDeliveryService;
-import com.realive.service.seller.SellerPayoutService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,7 +30,7 @@ public class OrderDeliveryServiceImpl implements OrderDeliveryService {
     private final SellerOrderDeliveryRepository sellerOrderDeliveryRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
-    private final SellerPayoutService sellerPayoutService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -111,12 +112,8 @@ public class OrderDeliveryServiceImpl implements OrderDeliveryService {
 
         if (newStatus == DeliveryStatus.DELIVERY_COMPLETED) {
             log.info("📌 정산 생성 조건문에 진입함");
-            try {
-                sellerPayoutService.generatePayoutLogIfNotExists(orderIdForItems);
-                log.info("🟢 정산 생성 시도 완료 - orderId: {}", orderIdForItems);
-            } catch (Exception e) {
-                log.warn("❌ 정산 생성 실패 - orderId: {}, 에러: {}", orderIdForItems, e.getMessage());
-            }
+            // 판매/수수료 로그는 배송 완료 커밋 후 별도 트랜잭션에서 기록 (DeliveryCompletedListener)
+            eventPublisher.publishEvent(new DeliveryCompletedEvent(orderIdForItems));
         }
 
     }
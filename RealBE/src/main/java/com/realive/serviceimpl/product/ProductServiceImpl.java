@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.realive.domain.common.enums.MediaType;
 import com.realive.domain.product.*;
 import com.realive.domain.seller.Seller;
+import com.realive.domain.review.SellerRatingStat;
 import com.realive.dto.admin.review.SellerRankingDTO;
 import com.realive.dto.page.PageResponseDTO;
 import com.realive.dto.product.*;
 import com.realive.dto.seller.SellerPublicResponseDTO;
+import com.realive.event.ProductChangedEvent;
 import com.realive.repository.product.*;
-import com.realive.repository.review.SellerReviewRepository;
+import com.realive.repository.review.SellerRatingStatRepository;
 import com.realive.repository.seller.SellerRepository;
 import com.realive.service.admin.logs.StatService;
 import com.realive.service.common.S3Uploader;
@@ -21,6 +23,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -51,11 +54,12 @@ public class ProductServiceImpl implements ProductService {
         private final SellerRepository sellerRepository;
         private final DeliveryPolicyRepository deliveryPolicyRepository;
         private final StatService statService;
-        private final SellerReviewRepository sellerReviewRepository; // SellerReviewRepository 주입
+        private final SellerRatingStatRepository sellerRatingStatRepository;
         private final S3Uploader s3Uploader;
         @Qualifier("openAiWebClient")
         private final WebClient openAiWebClient;  // 이름이 openAiWebClient인 빈 주입
         private final ObjectMapper objectMapper;
+        private final ApplicationEventPublisher eventPublisher;
 
         @Value("${openai.api.key}")
         private String openAiApiKey;
@@ -258,6 +262,7 @@ public class ProductServiceImpl implements ProductService {
                 }
 
                 productRepository.save(product);
+                eventPublisher.publishEvent(new ProductChangedEvent(productId));
         }
 
 
@@ -271,6 +276,7 @@ public class ProductServiceImpl implements ProductService {
                 }
 
                 product.setActive(false);
+                eventPublisher.publishEvent(new ProductChangedEvent(productId));
         }
 
         // 상품 목록 조회 (판매자 전용)
@@ -525,8 +531,9 @@ public class ProductServiceImpl implements ProductService {
                 Seller seller = sellerOptional.get();
 
                 // 2. 리뷰 통계 조회
-                Double averageRating = sellerReviewRepository.getAverageRatingBySellerId(sellerId);
-                Long totalReviews = sellerReviewRepository.countReviewsBySellerId(sellerId);
+                Optional<SellerRatingStat> ratingStat = sellerRatingStatRepository.findById(sellerId); // 판매자 평점 집계 1행
+                Double averageRating = ratingStat.map(SellerRatingStat::getAvgRating).orElse(null);
+                Long totalReviews = ratingStat.map(SellerRatingStat::getReviewCount).orElse(null);
 
                 double finalAvg = (averageRating != null) ? averageRating : 0.0;
                 long finalCount = (totalReviews != null) ? totalReviews : 0L;
@@ -560,13 +567,13 @@ public class ProductServiceImpl implements ProductService {
                 return sellerOptional.map(seller -> {
                         log.info("판매자 ID {} 에 대한 공개 판매자 정보를 성공적으로 가져왔습니다.", seller.getId());
 
-                        // 3. SellerReviewRepository를 사용하여 해당 판매자의 리뷰 정보 집계
-                        // sellerReviewRepository에 정의된 메서드 활용
-                        Double averageRating = sellerReviewRepository.getAverageRatingBySellerId(sellerId);
-                        Long totalReviews = sellerReviewRepository.countReviewsBySellerId(sellerId);
+                        // 3. 판매자 평점 집계에서 해당 판매자의 리뷰 정보 조회
+                        Optional<SellerRatingStat> ratingStat = sellerRatingStatRepository.findById(sellerId); // 판매자 평점 집계 1행
+                        Double averageRating = ratingStat.map(SellerRatingStat::getAvgRating).orElse(null);
+                        Long totalReviews = ratingStat.map(SellerRatingStat::getReviewCount).orElse(null);
                         log.info("totalReviews: {}", totalReviews);
 
-                        // null 처리: 리뷰가 없을 경우 getAverageRatingBySellerId는 null을 반환할 수 있으므로 0.0으로 처리
+                        // null 처리: 리뷰가 없어 집계 행이 없을 경우 0.0으로 처리
                         double finalAverageRating = (averageRating != null) ? averageRating : 0.0;
                         long finalTotalReviews = (totalReviews != null) ? totalReviews : 0L;
 
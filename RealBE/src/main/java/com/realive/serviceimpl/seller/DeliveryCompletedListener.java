@@ -0,0 +1,33 @@
+package com.realive.serviceimpl.seller;
+
+import com.realive.event.DeliveryCompletedEvent;
+import com.realive.service.seller.SellerPayoutService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 배송 완료가 커밋된 뒤 판매/수수료 로그를 기록합니다.
+ *
+ * 배송 상태 변경 트랜잭션에 참여하면 로그 기록 실패가 트랜잭션을 rollback-only로 만들어
+ * 배송 완료 처리까지 UnexpectedRollbackException으로 실패하므로, 커밋 후 별도 트랜잭션(REQUIRES_NEW)에서 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeliveryCompletedListener {
+
+    private final SellerPayoutService sellerPayoutService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeliveryCompleted(DeliveryCompletedEvent event) {
+        try {
+            sellerPayoutService.generatePayoutLogIfNotExists(event.getOrderId());
+            log.info("🟢 정산 생성 시도 완료 - orderId: {}", event.getOrderId());
+        } catch (Exception e) {
+            log.warn("❌ 정산 생성 실패 - orderId: {}, 에러: {}", event.getOrderId(), e.getMessage());
+        }
+    }
+}
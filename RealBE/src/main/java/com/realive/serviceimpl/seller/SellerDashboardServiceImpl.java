@@ -1,6 +1,8 @@
 package com.realive.serviceimpl.seller;
 
 import com.realive.domain.common.enums.OrderStatus;
+import com.realive.domain.review.SellerRatingStat;
+import com.realive.dto.logs.salessum.SalesTotalsDTO;
 import com.realive.dto.logs.stats.CurrentMonthStatsDTO;
 import com.realive.dto.logs.stats.TodayStatsDTO;
 import com.realive.dto.seller.SellerDashboardResponseDTO;
@@ -10,7 +12,8 @@ import com.realive.repository.product.ProductRepository;
 import com.realive.repository.seller.SellerQnaRepository;
 import com.realive.repository.logs.SalesLogRepository;
 import com.realive.repository.logs.CommissionLogRepository;
-import com.realive.repository.review.SellerReviewRepository;
+import com.realive.repository.logs.SalesDailyRollupRepository;
+import com.realive.repository.review.SellerRatingStatRepository;
 import com.realive.service.seller.SellerDashboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +22,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,8 +34,9 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
     private final SellerQnaRepository sellerQnaRepository;
     private final OrderRepository orderRepository;
     private final SalesLogRepository salesLogRepository;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
     private final CommissionLogRepository commissionLogRepository;
-    private final SellerReviewRepository sellerReviewRepository;
+    private final SellerRatingStatRepository sellerRatingStatRepository;
 
     @Override
     public SellerDashboardResponseDTO getDashboardInfo(Long sellerId) {
@@ -55,8 +60,9 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
 
         // 추가 통계
         Long totalCustomers = salesLogRepository.countDistinctCustomersBySellerId(sellerId);
-        Double averageRating = sellerReviewRepository.getAverageRatingBySellerId(sellerId);
-        Long totalReviews = sellerReviewRepository.countReviewsBySellerId(sellerId);
+        Optional<SellerRatingStat> ratingStat = sellerRatingStatRepository.findById(sellerId); // 판매자 평점 집계 1행
+        Double averageRating = ratingStat.map(SellerRatingStat::getAvgRating).orElse(null);
+        Long totalReviews = ratingStat.map(SellerRatingStat::getReviewCount).orElse(null);
 
         // 판매 통계 (최근 30일)
         LocalDate endDate = LocalDate.now();
@@ -78,16 +84,15 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
 
     @Override
     public SellerSalesStatsDTO getSalesStatistics(Long sellerId, LocalDate startDate, LocalDate endDate) {
-        Long totalOrders = salesLogRepository.countDistinctOrdersBySellerIdAndSoldAtBetween(sellerId.intValue(), startDate, endDate);
-        Number totalRevenueNum = salesLogRepository.sumTotalPriceBySellerIdAndSoldAtBetween(sellerId.intValue(), startDate, endDate);
+        SalesTotalsDTO totals = salesDailyRollupRepository.sumBySellerIdBetween(sellerId.intValue(), startDate, endDate);
         Number totalFeesNum = commissionLogRepository.sumCommissionAmountBySellerAndDateRange(sellerId.intValue(), startDate, endDate);
 
         List<SellerSalesStatsDTO.DailySalesDTO> dailySalesTrend = getDailySalesTrend(sellerId, startDate, endDate);
         List<SellerSalesStatsDTO.MonthlySalesDTO> monthlySalesTrend = getMonthlySalesTrend(sellerId, startDate, endDate);
 
         return SellerSalesStatsDTO.builder()
-                .totalOrders(totalOrders != null ? totalOrders : 0L)
-                .totalRevenue(totalRevenueNum != null ? totalRevenueNum.doubleValue() : 0.0)
+                .totalOrders(totals.getOrderItemCount())
+                .totalRevenue(totals.getTotalSalesAmount().doubleValue())
                 .totalFees(totalFeesNum != null ? totalFeesNum.doubleValue() : 0.0)
                 .dailySalesTrend(dailySalesTrend)
                 .monthlySalesTrend(monthlySalesTrend)
@@ -96,7 +101,7 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
 
     @Override
     public List<SellerSalesStatsDTO.DailySalesDTO> getDailySalesTrend(Long sellerId, LocalDate startDate, LocalDate endDate) {
-        return salesLogRepository.getDailySalesBySellerId(sellerId, startDate, endDate)
+        return salesDailyRollupRepository.getDailySalesBySellerId(sellerId.intValue(), startDate, endDate)
                 .stream()
                 .map(row -> {
                     LocalDate date = (LocalDate) row[0];
@@ -114,7 +119,7 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
 
     @Override
     public List<SellerSalesStatsDTO.MonthlySalesDTO> getMonthlySalesTrend(Long sellerId, LocalDate startDate, LocalDate endDate) {
-        return salesLogRepository.getMonthlySalesBySellerId(sellerId, startDate, endDate)
+        return salesDailyRollupRepository.getMonthlySalesBySellerId(sellerId.intValue(), startDate, endDate)
                 .stream()
                 .map(row -> {
                     String yearMonth = (String) row[0];
@@ -136,7 +141,7 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
         LocalDate today = LocalDate.now();
 
         // 오늘 하루 데이터만 조회
-        List<Object[]> todayData = salesLogRepository.getDailySalesBySellerId(sellerId, today, today);
+        List<Object[]> todayData = salesDailyRollupRepository.getDailySalesBySellerId(sellerId.intValue(), today, today);
 
         if (!todayData.isEmpty()) {
             Object[] row = todayData.get(0);
@@ -165,7 +170,7 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
         String currentYearMonth = now.toString().substring(0, 7); // YYYY-MM
 
         // 이번 달 데이터만 조회
-        List<Object[]> monthData = salesLogRepository.getMonthlySalesBySellerId(sellerId, monthStart, monthEnd);
+        List<Object[]> monthData = salesDailyRollupRepository.getMonthlySalesBySellerId(sellerId.intValue(), monthStart, monthEnd);
 
         if (!monthData.isEmpty()) {
             Object[] row = monthData.get(0);
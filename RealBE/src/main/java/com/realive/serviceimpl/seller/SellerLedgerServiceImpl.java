@@ -0,0 +1,251 @@
+package com.realive.serviceimpl.seller;
+
+import com.realive.domain.logs.SellerBalanceSnapshot;
+import com.realive.domain.logs.SellerLedgerEntry;
+import com.realive.dto.seller.SellerBalanceDTO;
+import com.realive.repository.logs.SellerBalanceSnapshotRepository;
+import com.realive.repository.logs.SellerLedgerEntryRepository;
+import com.realive.service.seller.SellerLedgerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 판매자 잔액 원장.
+ *
+ * 잔액/기간 합계는 기준일 이전 최신 스냅샷에 스냅샷 이후 분개만 더해서 계산하므로 전체 이력을 읽지 않습니다.
+ * 스냅샷은 매일 새벽 전날까지 생성됩니다. 분개의 entry_date는 분개를 만든 날짜라, 자정 직전에 만들어져 스냅샷 생성 후에
+ * 커밋된 분개가 있을 수 있으므로 매번 마지막 스냅샷 날짜를 다시 계산합니다. (하루 이상 늦게 커밋되는 분개는 없다고 가정)
+ *
+ * 기동 시(웹 서버와 스케줄러가 시작되기 전) 원장이 비어 있고 원천 로그가 있으면 원천 로그에서 원장을 만듭니다.
+ * 백필이 실패하면 잔액 조회는 rebuild가 성공할 때까지 예외를 던집니다. (빈 원장의 0 잔액을 반환하지 않음)
+ * 원장이 원천 로그와 어긋나면 rebuild로 다시 만듭니다.
+ */
+@Slf4j
+@Service
+public class SellerLedgerServiceImpl implements SellerLedgerService, SmartInitializingSingleton {
+
+    // 원장 시작 이전 날짜 (스냅샷이 없을 때 분개 합계의 시작 기준, 미포함)
+    private static final LocalDate LEDGER_START = LocalDate.EPOCH;
+
+    private final SellerLedgerEntryRepository sellerLedgerEntryRepository;
+    private final SellerBalanceSnapshotRepository sellerBalanceSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup;
+
+    // 원장 조회 가능 여부 (기동 시 백필 실패 시 false, rebuild 성공 시 true)
+    private volatile boolean ready = true;
+
+    public SellerLedgerServiceImpl(SellerLedgerEntryRepository sellerLedgerEntryRepository,
+                                   SellerBalanceSnapshotRepository sellerBalanceSnapshotRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${admin.ledger.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.sellerLedgerEntryRepository = sellerLedgerEntryRepository;
+        this.sellerBalanceSnapshotRepository = sellerBalanceSnapshotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 웹 요청/스케줄러가 분개를 기록하기 전에 백필하므로, 백필 결과와 이후 분개가 겹치지 않음
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            if (!sellerLedgerEntryRepository.existsAnyEntry() && sellerLedgerEntryRepository.existsSourceLogs()) {
+                log.info("📒 판매자 잔액 원장이 비어 있어 원천 로그에서 백필합니다.");
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            // 기동은 계속하되, 잘못된 잔액을 보여주지 않도록 rebuild 성공 전까지 조회를 막음
+            ready = false;
+            log.error("❌ 판매자 잔액 원장 백필 실패 - rebuild 전까지 잔액 조회가 차단됩니다.", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void append(List<SellerLedgerEntry> entries) {
+        List<SellerLedgerEntry> nonZero = entries.stream().filter(entry -> entry.getAmount() > 0).toList();
+        if (!nonZero.isEmpty()) {
+            sellerLedgerEntryRepository.saveAll(nonZero);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SellerBalanceDTO getBalance(Long sellerId) {
+        checkReady();
+        LocalDate today = LocalDate.now();
+        return cumulative(sellerId.intValue(), today).toDto(null, today);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SellerBalanceDTO getPeriodTotals(Long sellerId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        checkReady();
+        Totals totals = cumulative(sellerId.intValue(), to);
+        totals.subtract(cumulative(sellerId.intValue(), from.minusDays(1)));
+        return totals.toDto(from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SellerBalanceDTO getPlatformTotals() {
+        checkReady();
+        LocalDate today = LocalDate.now();
+        return cumulative(SellerBalanceSnapshot.PLATFORM_SELLER_ID, today).toDto(null, today);
+    }
+
+    /**
+     * 매일 새벽 전날까지의 스냅샷을 생성합니다.
+     */
+    @Scheduled(cron = "${admin.ledger.snapshot-cron:0 10 0 * * *}")
+    public void takeDailySnapshots() {
+        takeSnapshots(LocalDate.now().minusDays(1));
+    }
+
+    @Override
+    public synchronized int takeSnapshots(LocalDate throughDate) {
+        LocalDate lastSnapshotDate = sellerBalanceSnapshotRepository
+                .findTopBySellerIdOrderBySnapshotDateDesc(SellerBalanceSnapshot.PLATFORM_SELLER_ID)
+                .map(SellerBalanceSnapshot::getSnapshotDate)
+                .orElse(LEDGER_START);
+
+        // 마지막 스냅샷 날짜도 다시 계산 (스냅샷 생성 후 늦게 커밋된 그날 분개 반영, 이후 날짜 스냅샷은 아직 없음)
+        LocalDate afterDate = lastSnapshotDate.equals(LEDGER_START) ? LEDGER_START : lastSnapshotDate.minusDays(1);
+
+        int rows = 0;
+        // 날짜 순으로 하루씩 커밋 (다음 날 스냅샷이 전날 스냅샷을 이어받음)
+        for (LocalDate day : sellerLedgerEntryRepository.findEntryDatesBetween(afterDate, throughDate)) {
+            Integer dayRows = transactionTemplate.execute(status -> sellerBalanceSnapshotRepository.upsertDay(day));
+            rows += dayRows != null ? dayRows : 0;
+        }
+        if (rows > 0) {
+            log.info("📒 판매자 잔액 스냅샷 생성 - {} 다음 ~ {}, {}행", lastSnapshotDate, throughDate, rows);
+        }
+        return rows;
+    }
+
+    @Override
+    public int rebuild() {
+        // 기동 시 백필에서도 호출되므로 프록시가 아닌 TransactionTemplate으로 트랜잭션 시작
+        Integer entries = transactionTemplate.execute(status -> rebuildEntriesAndSnapshots());
+        ready = true;
+        return entries != null ? entries : 0;
+    }
+
+    private int rebuildEntriesAndSnapshots() {
+        log.info("📒 판매자 잔액 원장 재생성 시작");
+        sellerLedgerEntryRepository.lockForRebuild();
+        sellerBalanceSnapshotRepository.deleteAllSnapshots();
+        sellerLedgerEntryRepository.deleteAllEntries();
+
+        int entries = sellerLedgerEntryRepository.rebuildSaleEntries()
+                + sellerLedgerEntryRepository.rebuildCommissionEntries()
+                + sellerLedgerEntryRepository.rebuildPayoutEntries();
+
+        int snapshots = 0;
+        for (LocalDate day : sellerLedgerEntryRepository.findEntryDatesBetween(LEDGER_START, LocalDate.now().minusDays(1))) {
+            snapshots += sellerBalanceSnapshotRepository.upsertDay(day);
+        }
+        log.info("✅ 판매자 잔액 원장 재생성 완료 - 분개 {}건, 스냅샷 {}행", entries, snapshots);
+        return entries;
+    }
+
+    private void checkReady() {
+        if (!ready) {
+            throw new IllegalStateException("판매자 잔액 원장이 아직 준비되지 않았습니다. 원장 재생성 후 다시 시도하세요.");
+        }
+    }
+
+    // date까지(포함)의 누적 합계 = date 이전 최신 스냅샷 + 스냅샷 다음 날 ~ date 분개
+    private Totals cumulative(int sellerId, LocalDate date) {
+        Totals totals = new Totals();
+        Optional<SellerBalanceSnapshot> snapshot = sellerBalanceSnapshotRepository
+                .findTopBySellerIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(sellerId, date);
+        snapshot.ifPresent(totals::add);
+
+        LocalDate afterDate = snapshot.map(SellerBalanceSnapshot::getSnapshotDate).orElse(LEDGER_START);
+        List<Object[]> rows = sellerId == SellerBalanceSnapshot.PLATFORM_SELLER_ID
+                ? sellerLedgerEntryRepository.sumByEntryDateBetween(afterDate, date, SellerLedgerEntry.Account.SELLER_PAYABLE)
+                : sellerLedgerEntryRepository.sumBySellerIdAndEntryDateBetween(sellerId, afterDate, date,
+                        SellerLedgerEntry.Account.SELLER_PAYABLE);
+        for (Object[] row : rows) {
+            totals.add((SellerLedgerEntry.Type) row[0], ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+        }
+        return totals;
+    }
+
+    /**
+     * 누적 합계 (스냅샷 컬럼과 같은 구성, 차감 항목은 양수).
+     */
+    private static final class Totals {
+
+        private long salesCredit;
+        private long commissionDebit;
+        private long payoutDebit;
+        private long penaltyDebit;
+        private long payoutCount;
+        private long balance;
+
+        private void add(SellerBalanceSnapshot snapshot) {
+            salesCredit += snapshot.getSalesCredit();
+            commissionDebit += snapshot.getCommissionDebit();
+            payoutDebit += snapshot.getPayoutDebit();
+            penaltyDebit += snapshot.getPenaltyDebit();
+            payoutCount += snapshot.getPayoutCount();
+            balance += snapshot.getBalance();
+        }
+
+        // balanceChange: 해당 유형 분개의 잔액 변화 합계, count: 분개 수
+        private void add(SellerLedgerEntry.Type type, long balanceChange, long count) {
+            switch (type) {
+                case SALE -> salesCredit += balanceChange;
+                case COMMISSION -> commissionDebit -= balanceChange;
+                case PAYOUT -> {
+                    payoutDebit -= balanceChange;
+                    payoutCount += count;
+                }
+                case PAYOUT_ADJUSTMENT -> payoutDebit -= balanceChange;
+                case PENALTY -> penaltyDebit -= balanceChange;
+            }
+            balance += balanceChange;
+        }
+
+        private void subtract(Totals other) {
+            salesCredit -= other.salesCredit;
+            commissionDebit -= other.commissionDebit;
+            payoutDebit -= other.payoutDebit;
+            penaltyDebit -= other.penaltyDebit;
+            payoutCount -= other.payoutCount;
+            balance -= other.balance;
+        }
+
+        private SellerBalanceDTO toDto(LocalDate from, LocalDate to) {
+            return SellerBalanceDTO.builder()
+                    .from(from)
+                    .to(to)
+                    .salesCredit(salesCredit)
+                    .commissionDebit(commissionDebit)
+                    .payoutDebit(payoutDebit)
+                    .penaltyDebit(penaltyDebit)
+                    .payoutCount(payoutCount)
+                    .balance(balance)
+                    .build();
+        }
+    }
+}
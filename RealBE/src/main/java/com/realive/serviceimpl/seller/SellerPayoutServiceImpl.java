@@ -2,29 +2,40 @@ package com.realive.serviceimpl.seller;
 
 import com.realive.domain.logs.CommissionLog;
 import com.realive.domain.logs.SalesLog;
+import com.realive.domain.logs.SellerLedgerEntry;
 import com.realive.domain.order.OrderItem;
+import com.realive.domain.product.Category;
 import com.realive.dto.logs.CommissionLogDTO;
 import com.realive.dto.logs.PayoutLogDTO;
+import com.realive.event.StatsDataChangedEvent;
 import com.realive.domain.logs.PayoutLog;
 import com.realive.dto.logs.PayoutLogDetailDTO;
 import com.realive.dto.logs.SalesLogDTO;
+import com.realive.dto.seller.SellerBalanceDTO;
 import com.realive.dto.seller.SellerPayoutSummaryDTO;
 import com.realive.repository.logs.CommissionLogRepository;
 import com.realive.repository.logs.PayoutLogRepository;
 import com.realive.repository.logs.SalesLogRepository;
 import com.realive.repository.order.OrderItemRepository;
+import com.realive.service.admin.logs.SalesRollupService;
+import com.realive.service.seller.SellerLedgerService;
 import com.realive.service.seller.SellerPayoutService;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +45,10 @@ public class SellerPayoutServiceImpl implements SellerPayoutService {
     private final OrderItemRepository orderItemRepository;
     private final SalesLogRepository salesLogRepository;
     private final CommissionLogRepository commissionLogRepository;
+    private final SalesRollupService salesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityStatsRecorder activityStatsRecorder;
+    private final SellerLedgerService sellerLedgerService;
 
     /**
      * 판매자 ID로 전체 정산 로그를 조회합니다.
@@ -62,70 +77,50 @@ public class SellerPayoutServiceImpl implements SellerPayoutService {
     public List<PayoutLogDTO> getPayoutLogsByDate(Long sellerId, LocalDate date) {
         Integer intSellerId = sellerId.intValue();
 
-        return payoutLogRepository.findByDateInPeriod(date).stream()
-                .filter(p -> p.getSellerId() != null && p.getSellerId().equals(sellerId.intValue()))
+        return payoutLogRepository.findBySellerIdAndDateInPeriod(intSellerId, date).stream()
                 .map(PayoutLogDTO::fromEntity)
                 .toList();
     }
 
+    /**
+     * 배송 완료된 주문의 판매/수수료 로그를 기록합니다.
+     * 정산 로그는 주문마다 다시 계산하지 않고 주간 정산 배치에서 판매자별로 한 번에 생성합니다.
+     * 호출한 쪽 트랜잭션에 참여하지 않고 항상 별도 트랜잭션에서 커밋합니다. (배송 완료 커밋 후 리스너에서 호출)
+     */
     @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void generatePayoutLogIfNotExists(Long orderId) {
-
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
+        if (orderItems.isEmpty()) {
+            return;
+        }
 
-        for (OrderItem item : orderItems) {
-            // 1. SalesLog 생성 및 저장된 객체 받기
-            SalesLog savedSalesLog = createSalesLog(item);
-
-            // 2. CommissionLog 생성 (주석 제거)
-            createCommissionLog(savedSalesLog.getId());
+        // 1. 이미 판매 로그가 있는 주문 항목 (첫 판매 로그 여부를 주문 단위로 한 번에 판단)
+        Set<Integer> loggedOrderItemIds = new HashSet<>(salesLogRepository.findLoggedOrderItemIds(
+                orderItems.stream().map(item -> item.getId().intValue()).toList()));
+
+        // 2. 판매/수수료 로그와 원장 분개를 메모리에서 만든 뒤 저장 (시퀀스 ID라 flush 시 테이블별 배치 INSERT 1회씩)
+        List<SalesLog> salesLogs = orderItems.stream().map(this::buildSalesLog).toList();
+        salesLogRepository.saveAll(salesLogs);
+        List<CommissionLog> commissionLogs = salesLogs.stream().map(this::buildCommissionLog).toList();
+        commissionLogRepository.saveAll(commissionLogs);
+
+        List<SellerLedgerEntry> ledgerEntries = new ArrayList<>(salesLogs.size() * 2);
+        for (int i = 0; i < salesLogs.size(); i++) {
+            SalesLog salesLog = salesLogs.get(i);
+            ledgerEntries.add(SellerLedgerEntry.sale(salesLog));
+            ledgerEntries.add(SellerLedgerEntry.commission(salesLog.getSellerId(), commissionLogs.get(i)));
         }
-         List<Long> sellerIds = orderItemRepository.findSellerIdsByOrderId(orderId);
-        if (sellerIds == null || sellerIds.isEmpty()) return;
-
-        LocalDate now = LocalDate.now();
-        LocalDate periodStart = now.with(DayOfWeek.MONDAY);
-        LocalDate periodEnd = now.with(DayOfWeek.SUNDAY);
-
-        LocalDateTime startDateTime = periodStart.atStartOfDay();
-        LocalDateTime endDateTime = periodEnd.plusDays(1).atStartOfDay(); // 다음 주 월요일 0시
-
-        for (Long sellerId : sellerIds) {
-            Integer intSellerId = sellerId.intValue();
-
-            // 매출 집계
-            Integer totalSales = orderItemRepository.sumDeliveredSalesBySellerAndPeriod(
-                    sellerId, startDateTime, endDateTime);
-
-            if (totalSales == null || totalSales == 0) continue;
-
-            int commission = (int) (totalSales * 0.1); // 10% 수수료
-            int payout = totalSales - commission;
-
-            // 기존 PayoutLog 찾기
-            PayoutLog existingLog = payoutLogRepository.findBySellerIdAndPeriodStartAndPeriodEnd(
-                    intSellerId, periodStart, periodEnd).orElse(null);
-            
-            if (existingLog != null) {
-                // 기존 로그 업데이트
-                existingLog.setTotalSales(totalSales);
-                existingLog.setTotalCommission(commission);
-                existingLog.setPayoutAmount(payout);
-                existingLog.setProcessedAt(LocalDateTime.now()); // 처리 시간 갱신
-                payoutLogRepository.save(existingLog);
-            } else {
-                // 새 로그 생성
-                PayoutLog log = new PayoutLog();
-                log.setSellerId(intSellerId);
-                log.setPeriodStart(periodStart);
-                log.setPeriodEnd(periodEnd);
-                log.setTotalSales(totalSales);
-                log.setTotalCommission(commission);
-                log.setPayoutAmount(payout);
-                log.setProcessedAt(LocalDateTime.now());
-                payoutLogRepository.save(log);
-            }
+        sellerLedgerService.append(ledgerEntries);
+        salesLogRepository.flush();
+
+        // 3. 같은 트랜잭션에서 일별 판매 집계 누적
+        for (int i = 0; i < orderItems.size(); i++) {
+            SalesLog salesLog = salesLogs.get(i);
+            recordSale(orderItems.get(i), salesLog, !loggedOrderItemIds.contains(salesLog.getOrderItemId()));
         }
+        // 판매/수수료 기록 변경 - 커밋 후 오늘 날짜의 통계 캐시 무효화
+        eventPublisher.publishEvent(StatsDataChangedEvent.of(LocalDate.now()));
     }
 
     @Override
@@ -139,23 +134,22 @@ public class SellerPayoutServiceImpl implements SellerPayoutService {
 
     @Override
     public SellerPayoutSummaryDTO getPayoutSummary(Long sellerId, LocalDate from, LocalDate to) {
-        Integer intSellerId = sellerId.intValue();
-        // ✅ 데이터베이스에서 직접 필터링된 데이터 가져오기
-        List<PayoutLog> logs = payoutLogRepository.findBySellerIdAndPeriodRange(intSellerId, from, to);
-
-        int totalPayoutAmount = logs.stream().mapToInt(l -> l.getPayoutAmount() != null ? l.getPayoutAmount() : 0).sum();
-        int totalCommission = logs.stream().mapToInt(l -> l.getTotalCommission() != null ? l.getTotalCommission() : 0).sum();
-        int totalSales = logs.stream().mapToInt(l -> l.getTotalSales() != null ? l.getTotalSales() : 0).sum();
-        int payoutCount = logs.size();
+        // ✅ 기간과 겹치는 정산 로그 기준 합계 (DB에서 합산, 정산 로그를 엔티티로 읽지 않음)
+        Object[] totals = payoutLogRepository.sumBySellerIdAndPeriodRange(sellerId.intValue(), from, to).get(0);
 
         return SellerPayoutSummaryDTO.builder()
-                .totalPayoutAmount(totalPayoutAmount)
-                .totalCommission(totalCommission)
-                .totalSales(totalSales)
-                .payoutCount(payoutCount)
+                .totalPayoutAmount(Math.toIntExact(((Number) totals[0]).longValue()))
+                .totalCommission(Math.toIntExact(((Number) totals[1]).longValue()))
+                .totalSales(Math.toIntExact(((Number) totals[2]).longValue()))
+                .payoutCount(Math.toIntExact(((Number) totals[3]).longValue()))
                 .build();
     }
 
+    @Override
+    public SellerBalanceDTO getBalance(Long sellerId) {
+        return sellerLedgerService.getBalance(sellerId);
+    }
+
     @Override
     public PayoutLogDetailDTO getPayoutLogDetail(Long sellerId, Integer payoutLogId) {
         PayoutLog log = payoutLogRepository.findById(payoutLogId)
@@ -175,7 +169,29 @@ public class SellerPayoutServiceImpl implements SellerPayoutService {
 
 
     @Override
+    @Transactional
     public SalesLog createSalesLog(OrderItem orderItem) {  // void → SalesLog 변경
+        boolean firstOfOrderItem = !salesLogRepository.existsByOrderItemId(orderItem.getId().intValue());
+
+        SalesLog savedSalesLog = salesLogRepository.save(buildSalesLog(orderItem));  // return 추가
+        sellerLedgerService.append(List.of(SellerLedgerEntry.sale(savedSalesLog)));
+
+        // 같은 트랜잭션에서 일별 판매 집계 누적
+        recordSale(orderItem, savedSalesLog, firstOfOrderItem);
+
+        return savedSalesLog;
+    }
+
+    @Override
+    public void createCommissionLog(Integer salesLogId) {
+        SalesLog salesLog = salesLogRepository.findById(salesLogId)
+                .orElseThrow(() -> new EntityNotFoundException("SalesLog not found"));
+
+        CommissionLog commissionLog = commissionLogRepository.save(buildCommissionLog(salesLog));
+        sellerLedgerService.append(List.of(SellerLedgerEntry.commission(salesLog.getSellerId(), commissionLog)));
+    }
+
+    private SalesLog buildSalesLog(OrderItem orderItem) {
         SalesLog salesLog = new SalesLog();
         salesLog.setOrderItemId(orderItem.getId().intValue());
         salesLog.setProductId(orderItem.getProduct().getId().intValue());
@@ -185,45 +201,35 @@ public class SellerPayoutServiceImpl implements SellerPayoutService {
         salesLog.setQuantity(orderItem.getQuantity());
         salesLog.setSoldAt(LocalDate.now());
         salesLog.setUnitPrice(orderItem.getPrice());
-
-        return salesLogRepository.save(salesLog);  // return 추가
+        return salesLog;
     }
 
-    @Override
-    public void createCommissionLog(Integer salesLogId) {
-        SalesLog salesLog = salesLogRepository.findById(salesLogId)
-                .orElseThrow(() -> new EntityNotFoundException("SalesLog not found"));
-
+    // 판매 로그의 ID가 할당된 뒤(persist 이후)에 호출
+    private CommissionLog buildCommissionLog(SalesLog salesLog) {
         CommissionLog commissionLog = new CommissionLog();
-        commissionLog.setSalesLogId(salesLogId);
+        commissionLog.setSalesLogId(salesLog.getId());
         commissionLog.setCommissionRate(java.math.BigDecimal.valueOf(0.1)); // 10%
         commissionLog.setCommissionAmount((int)(salesLog.getTotalPrice() * 0.1));
         commissionLog.setRecordedAt(java.time.LocalDateTime.now());
+        return commissionLog;
+    }
 
-        commissionLogRepository.save(commissionLog);
+    private void recordSale(OrderItem orderItem, SalesLog salesLog, boolean firstOfOrderItem) {
+        Category category = orderItem.getProduct().getCategory();
+        salesRollupService.recordSale(salesLog, category != null ? category.getId() : null, firstOfOrderItem);
+        activityStatsRecorder.recordPurchase(salesLog.getCustomerId());
     }
 
     @Override
-    public List<SalesLogDTO> getSalesLogsBySeller(Long sellerId, LocalDate from, LocalDate to) {
-        return salesLogRepository.findBySoldAtBetween(from, to)  // ← 기존 메서드 사용
-                .stream()
-                .filter(salesLog -> salesLog.getSellerId().equals(sellerId.intValue()))  // ← 필터링 추가
-                .map(SalesLogDTO::fromEntity)
-                .toList();
+    public Page<SalesLogDTO> getSalesLogsBySeller(Long sellerId, LocalDate from, LocalDate to, Pageable pageable) {
+        return salesLogRepository.findBySellerIdAndSoldAtBetween(sellerId.intValue(), from, to, pageable)
+                .map(SalesLogDTO::fromEntity);
     }
 
     @Override
-    public List<CommissionLogDTO> getCommissionLogsBySeller(Long sellerId, LocalDate from, LocalDate to) {
-        List<Integer> salesLogIds = salesLogRepository.findBySoldAtBetween(from, to)  // ← 기존 메서드 사용
-                .stream()
-                .filter(salesLog -> salesLog.getSellerId().equals(sellerId.intValue()))  // ← 필터링 추가
-                .map(SalesLog::getId)
-                .toList();
-
-        return commissionLogRepository.findBySalesLogIdIn(salesLogIds)
-                .stream()
-                .map(CommissionLogDTO::fromEntity)
-                .toList();
+    public Page<CommissionLogDTO> getCommissionLogsBySeller(Long sellerId, LocalDate from, LocalDate to, Pageable pageable) {
+        return commissionLogRepository.findBySellerIdAndSoldAtBetween(sellerId.intValue(), from, to, pageable)
+                .map(CommissionLogDTO::fromEntity);
     }
 
     @Override
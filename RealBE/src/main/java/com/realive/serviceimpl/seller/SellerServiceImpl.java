@@ -18,6 +18,7 @@ import com.realive.repository.seller.SellerRepository;
 import com.realive.security.JwtUtil;
 import com.realive.security.seller.SellerPrincipal;
 import com.realive.service.seller.SellerService;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class SellerServiceImpl implements SellerService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final ActivityStatsRecorder activityStatsRecorder;
 
     @Override
     public Seller getByEmail(String email) {
@@ -127,7 +129,9 @@ public class SellerServiceImpl implements SellerService {
                 .isApproved(false)
                 .build();
         // dto 받은거 저장.
-        return sellerRepository.save(seller);
+        Seller savedSeller = sellerRepository.save(seller);
+        activityStatsRecorder.recordNewSeller();
+        return savedSeller;
 
     }
 
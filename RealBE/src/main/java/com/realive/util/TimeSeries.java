@@ -0,0 +1,124 @@
+package com.realive.util;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일 단위 시계열.
+ *
+ * GROUP BY 날짜 쿼리 결과(값이 있는 날짜만 존재)를 시작일 기준 일 오프셋 배열에 한 번에 채워,
+ * 비어 있는 날짜는 0으로 메운 연속 시계열을 만듭니다. 일/주/월 단위로 묶어서 꺼낼 수 있습니다.
+ */
+public final class TimeSeries {
+
+    public enum Granularity { DAY, WEEK, MONTH }
+
+    /**
+     * 묶음 구간 (start: 구간 첫날, 주 단위는 월요일 / 월 단위는 1일. 조회 시작일에서 잘린 첫 구간은 조회 시작일)
+     */
+    public record Bucket(LocalDate start, long value) {}
+
+    private final LocalDate startDate;
+    private final long[] values;
+
+    private TimeSeries(LocalDate startDate, long[] values) {
+        this.startDate = startDate;
+        this.values = values;
+    }
+
+    /**
+     * GROUP BY 날짜 결과 행으로 시계열을 만듭니다.
+     * @param rows        0번 컬럼이 날짜인 결과 행
+     * @param valueColumn 값으로 사용할 컬럼 번호
+     */
+    public static TimeSeries of(LocalDate startDate, LocalDate endDate, List<Object[]> rows, int valueColumn) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        long[] values = new long[(int) ChronoUnit.DAYS.between(startDate, endDate) + 1];
+        for (Object[] row : rows) {
+            if (row[0] == null || row[valueColumn] == null) {
+                continue;
+            }
+            long offset = ChronoUnit.DAYS.between(startDate, toLocalDate(row[0]));
+            if (offset >= 0 && offset < values.length) {
+                values[(int) offset] += ((Number) row[valueColumn]).longValue();
+            }
+        }
+        return new TimeSeries(startDate, values);
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int length() {
+        return values.length;
+    }
+
+    public long get(int dayOffset) {
+        return values[dayOffset];
+    }
+
+    public long sum() {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * 지정한 단위로 묶은 구간 목록을 반환합니다. (같은 기간의 시계열끼리는 구간 순서/개수가 같음)
+     */
+    public List<Bucket> buckets(Granularity granularity) {
+        List<Bucket> buckets = new ArrayList<>();
+        LocalDate bucketStart = startDate;
+        LocalDate bucketKey = bucketKey(startDate, granularity);
+        long bucketValue = 0;
+
+        LocalDate date = startDate;
+        for (int i = 0; i < values.length; i++, date = date.plusDays(1)) {
+            LocalDate key = bucketKey(date, granularity);
+            if (!key.equals(bucketKey)) {
+                buckets.add(new Bucket(bucketStart, bucketValue));
+                bucketStart = date;
+                bucketKey = key;
+                bucketValue = 0;
+            }
+            bucketValue += values[i];
+        }
+        buckets.add(new Bucket(bucketStart, bucketValue));
+        return buckets;
+    }
+
+    private static LocalDate bucketKey(LocalDate date, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 쿼리 결과의 날짜 컬럼을 LocalDate로 변환합니다. (드라이버/방언에 따라 타입이 다름)
+     */
+    public static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        } else if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        } else if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        } else if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.toLocalDate();
+        }
+        return LocalDate.parse(value.toString().substring(0, 10));
+    }
+}
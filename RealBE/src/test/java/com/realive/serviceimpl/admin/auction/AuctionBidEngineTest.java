@@ -0,0 +1,218 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.auction.Bid;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.auction.ProxyBidRepository;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
+import com.realive.util.TickSizeCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+/**
+ * 입찰 엔진의 무손실/무중복 검증.
+ *
+ * bids 테이블은 journal_seq 기준으로 중복을 건너뛰는 메모리 맵으로 대신합니다. (insertAllIgnoringJournaled와 같은 동작)
+ * 장애 상황은 엔진/저널 인스턴스를 버리고 같은 저널 디렉터리로 새로 만드는 방식으로 재현합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AuctionBidEngineTest {
+
+    private static final Integer AUCTION_ID = 1;
+    private static final int START_PRICE = 50_000;
+    private static final int TICK = 1_000;
+    private static final int SEGMENT_SIZE = 36 * 1024;
+
+    @TempDir
+    Path journalDir;
+
+    @Mock
+    AuctionRepository auctionRepository;
+    @Mock
+    BidRepository bidRepository;
+    @Mock
+    ProxyBidRepository proxyBidRepository;
+    @Mock
+    ActivityStatsRecorder activityStatsRecorder;
+    @Mock
+    TransactionTemplate transactionTemplate;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    // journal_seq -> 저장된 입찰, 실제로 INSERT된 시퀀스 (중복 INSERT 검출용)
+    private final Map<Long, Bid> bidsTable = new LinkedHashMap<>();
+    private final List<Long> insertedSeqs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        given(auctionRepository.findById(AUCTION_ID)).willReturn(Optional.of(proceedingAuction()));
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        // 상태 최초 로드용 읽기 전용 트랜잭션 (모의 트랜잭션 매니저라 실제 트랜잭션 없이 실행)
+        given(transactionTemplate.getTransactionManager()).willReturn(transactionManager);
+        given(bidRepository.insertAllIgnoringJournaled(anyList())).willAnswer(invocation -> insert(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("저장 전 장애 - 재시작 후 저널에서 모든 입찰을 복구해 저장")
+    void recoversUnflushedBidsAfterCrash() {
+        AuctionBidEngine crashed = newEngine();
+        placeBids(crashed, 20, START_PRICE);
+
+        AuctionBidEngine restarted = newEngine();
+        restarted.recoverFromJournal();
+        restarted.flushPendingBids();
+
+        assertThat(bidsTable.keySet()).containsExactlyElementsOf(seqs(1, 20));
+        assertThat(insertedSeqs).doesNotHaveDuplicates();
+        assertThat(reopenJournal().drainRecovered()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋 후 체크포인트 전 장애 - 재시작 후 재적용해도 이미 저장된 입찰은 중복 저장하지 않음")
+    void replayAfterCommitBeforeCheckpointDoesNotDuplicate() {
+        AuctionBidEngine crashed = newEngine();
+        List<Bid> placed = placeBids(crashed, 20, START_PRICE);
+        // 앞 10건은 커밋됐지만 체크포인트를 남기기 전에 중단된 상황
+        placed.subList(0, 10).forEach(bid -> bidsTable.put(bid.getJournalSeq(), bid));
+
+        AuctionBidEngine restarted = newEngine();
+        restarted.recoverFromJournal();
+        restarted.flushPendingBids();
+
+        assertThat(bidsTable.keySet()).containsExactlyElementsOf(seqs(1, 20));
+        assertThat(insertedSeqs).containsExactlyElementsOf(seqs(11, 20));
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 후 건별 재시도 - INSERT가 이미 반영됐어도 중복 없이 모두 저장")
+    void retryAfterFailedBatchDoesNotDuplicate() {
+        // 커밋 응답 유실처럼 INSERT는 반영됐지만 실패로 보이는 경우 (첫 호출만 실패)
+        AtomicBoolean failed = new AtomicBoolean();
+        willAnswer(invocation -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("커밋 응답 유실");
+            }
+            return 1;
+        }).given(auctionRepository).applyBidBatch(anyInt(), anyInt(), anyInt());
+
+        AuctionBidEngine engine = newEngine();
+        placeBids(engine, 20, START_PRICE);
+        engine.flushPendingBids();
+
+        assertThat(bidsTable.keySet()).containsExactlyElementsOf(seqs(1, 20));
+        assertThat(insertedSeqs).doesNotHaveDuplicates();
+        assertThat(engine.findAuctionsWithPendingBids(List.of(AUCTION_ID))).isEmpty();
+        assertThat(reopenJournal().drainRecovered()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장할 수 없는 입찰은 재시도 후 격리되고, 다른 입찰의 저장을 막지 않음")
+    void poisonBidIsDeadLetteredWithoutBlockingOthers() throws Exception {
+        long poisonSeq = 5;
+        given(bidRepository.insertAllIgnoringJournaled(anyList())).willAnswer(invocation -> {
+            List<Bid> bids = invocation.getArgument(0);
+            if (bids.stream().anyMatch(bid -> bid.getJournalSeq() == poisonSeq)) {
+                throw new DataIntegrityViolationException("제약 조건 위반");
+            }
+            return insert(bids);
+        });
+
+        AuctionBidEngine engine = newEngine();
+        placeBids(engine, 10, START_PRICE);
+        engine.flushPendingBids();
+        assertThat(bidsTable).hasSize(9);
+
+        placeBids(engine, 5, START_PRICE + 10 * TICK);
+        engine.flushPendingBids();
+        engine.flushPendingBids();
+
+        assertThat(bidsTable.keySet()).doesNotContain(poisonSeq).hasSize(14);
+        assertThat(insertedSeqs).doesNotHaveDuplicates();
+        assertThat(engine.findAuctionsWithPendingBids(List.of(AUCTION_ID))).isEmpty();
+        assertThat(Files.readAllLines(journalDir.resolve("dead-letters.log")))
+                .singleElement()
+                .satisfies(line -> assertThat(line).startsWith(poisonSeq + ","));
+        assertThat(reopenJournal().drainRecovered()).isEmpty();
+    }
+
+    private AuctionBidEngine newEngine() {
+        return new AuctionBidEngine(auctionRepository, bidRepository, new TickSizeCalculator(),
+                transactionTemplate, reopenJournal(), proxyBidRepository, activityStatsRecorder);
+    }
+
+    private BidJournal reopenJournal() {
+        BidJournal journal = new BidJournal(journalDir.toString(), SEGMENT_SIZE, BidJournal.FsyncPolicy.NONE);
+        journal.open();
+        return journal;
+    }
+
+    // 두 고객이 번갈아 한 틱씩 올려 입찰
+    private List<Bid> placeBids(AuctionBidEngine engine, int count, int fromPrice) {
+        List<Bid> placed = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            placed.addAll(engine.placeBid(AUCTION_ID, i % 2 == 0 ? 2L : 1L, fromPrice + i * TICK));
+        }
+        return placed;
+    }
+
+    private List<Bid> insert(List<Bid> bids) {
+        List<Bid> inserted = new ArrayList<>();
+        for (Bid bid : bids) {
+            if (bidsTable.putIfAbsent(bid.getJournalSeq(), bid) == null) {
+                insertedSeqs.add(bid.getJournalSeq());
+                inserted.add(bid);
+            }
+        }
+        return inserted;
+    }
+
+    private static List<Long> seqs(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private static Auction proceedingAuction() {
+        return Auction.builder()
+                .id(AUCTION_ID)
+                .startPrice(START_PRICE)
+                .currentPrice(START_PRICE)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 경매 종료 / 결제 마감 배치의 규모별 처리 시간 측정 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 규모마다 종료 시각이 지난(2000년) 진행 중 경매 N건과 경매당 입찰 M건을 넣고,
+ * AuctionScheduler의 경매 종료 패스(completeWithWinningBids/failWithoutBids 청크)와
+ * 결제 마감 패스(failUnpaid 청크)를 실제로 실행해 각각의 시간과 초당 처리 건수를 출력합니다.
+ * 결제 마감 패스의 anti-join이 실제로 걸러내도록 낙찰 경매 절반에는 결제 완료 내역을 넣습니다. (측정에서 제외)
+ * 경매는 상위 엔티티(상품)가, 결제는 고객이 필요해 기존 관리자 상품/고객 1건을 씁니다.
+ *
+ * 스케줄러의 청크 트랜잭션은 규모별 바깥 트랜잭션에 참여하고, 바깥 트랜잭션을 롤백해 아무것도 남기지 않습니다.
+ * 종료 시각이 지난 기존 경매가 있으면 함께 처리(후 롤백)되므로 처리 건수는 N보다 클 수 있습니다.
+ * 활동 집계 기록기는 별도 트랜잭션으로 커밋하므로 실제 통계가 바뀌지 않도록 목으로 대체합니다.
+ *
+ * 실행 예) LOADTEST=true ./gradlew test --tests '*AuctionSettlementBenchmarkTest'
+ *         (규모 변경: -Dloadtest.auction-settlement.sizes=10000,100000)
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+class AuctionSettlementBenchmarkTest {
+
+    @Autowired
+    private AuctionScheduler auctionScheduler;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ActivityStatsRecorder activityStatsRecorder;
+
+    @Value("${loadtest.auction-settlement.sizes:10000,100000,1000000}")
+    private int[] sizes;
+
+    @Value("${loadtest.auction-settlement.bids-per-auction:3}")
+    private int bidsPerAuction;
+
+    @Test
+    void settlementPassesScale() {
+        Integer adminProductId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM admin_products", Integer.class);
+        Long customerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM customers", Long.class);
+        assumeTrue(adminProductId != null && customerId != null, "관리자 상품/고객 데이터가 1건 이상 필요합니다.");
+
+        List<String> report = new ArrayList<>();
+        for (int size : sizes) {
+            report.add(run(size, adminProductId, customerId));
+        }
+        log.info("📊 경매 종료/결제 마감 배치 규모별 처리 시간 (경매당 입찰 {}건)\n{}", bidsPerAuction, String.join("\n", report));
+    }
+
+    private String run(int size, Integer adminProductId, Long customerId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        String line = transaction.execute(status -> {
+            status.setRollbackOnly();
+            seed(size, adminProductId, customerId);
+
+            long begin = System.nanoTime();
+            auctionScheduler.completeEndedAuctions();
+            long settleMillis = (System.nanoTime() - begin) / 1_000_000;
+            Integer completed = countSeeded("COMPLETED");
+            Integer failed = countSeeded("FAILED");
+
+            // 결제 마감 대상: 낙찰 경매 중 절반은 결제 완료
+            jdbcTemplate.update(
+                    "INSERT INTO auction_payments (auction_id, customer_id, payment_key, amount, receiver_name, phone, " +
+                            "delivery_address, payment_method, status, paid_at, created_at, updated_at) " +
+                            "SELECT a.id, a.winning_customer_id, 'bench-' || a.id, a.winning_bid_price, 'bench', '010-0000-0000', " +
+                            "'bench', 'CARD', 'COMPLETED', now(), now(), now() " +
+                            "FROM auctions a WHERE a.end_time < TIMESTAMP '2001-01-01' AND a.status = 'COMPLETED' AND a.id % 2 = 0");
+            jdbcTemplate.execute("ANALYZE auction_payments");
+
+            begin = System.nanoTime();
+            auctionScheduler.handleExpiredPayments();
+            long failUnpaidMillis = (System.nanoTime() - begin) / 1_000_000;
+            Integer unpaid = countSeeded("FAILED") - failed;
+
+            assertThat(completed + failed).as("종료 처리된 경매 수").isEqualTo(size);
+            assertThat(unpaid).as("결제 마감 유찰 수").isPositive();
+
+            return String.format("  N=%,d - 경매 종료: %,dms (초당 %,.0f건, 낙찰 %,d / 유찰 %,d), 결제 마감: %,dms (초당 %,.0f건, 유찰 %,d)",
+                    size, settleMillis, size / Math.max(settleMillis / 1000.0, 0.001), completed, failed,
+                    failUnpaidMillis, completed / Math.max(failUnpaidMillis / 1000.0, 0.001), unpaid);
+        });
+        log.info("⏱️ {}", line);
+        return line;
+    }
+
+    // 경매 g: 종료 시각 2000-01-01 + g초, 결제 마감(7일)도 이미 지남. 10건 중 1건은 입찰 없음(유찰 경로)
+    private void seed(int size, Integer adminProductId, Long customerId) {
+        jdbcTemplate.update(
+                "INSERT INTO auctions (admin_product_id, start_price, current_price, start_time, end_time, status, bid_count, created_at, updated_at) " +
+                        "SELECT ?, 10000, 10000, t - INTERVAL '1 day', t, 'PROCEEDING', 0, t, t " +
+                        "FROM generate_series(0, ? - 1) AS g, " +
+                        "LATERAL (SELECT TIMESTAMP '2000-01-01' + g * INTERVAL '1 second' AS t) AS ts",
+                adminProductId, size);
+        jdbcTemplate.update(
+                "INSERT INTO bids (auction_id, customer_id, bid_price, bid_time, created_at, updated_at) " +
+                        "SELECT a.id, ?, 10000 + b * 1000, a.end_time - (? - b) * INTERVAL '1 minute', a.end_time, a.end_time " +
+                        "FROM auctions a, generate_series(1, ?) AS b " +
+                        "WHERE a.end_time < TIMESTAMP '2001-01-01' AND a.status = 'PROCEEDING' AND a.id % 10 <> 0",
+                customerId, bidsPerAuction, bidsPerAuction);
+        jdbcTemplate.execute("ANALYZE auctions");
+        jdbcTemplate.execute("ANALYZE bids");
+    }
+
+    private Integer countSeeded(String status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auctions WHERE end_time < TIMESTAMP '2001-01-01' AND status = ?", Integer.class, status);
+    }
+}
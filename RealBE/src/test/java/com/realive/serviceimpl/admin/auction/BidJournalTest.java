@@ -0,0 +1,128 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Bid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 저널 복구 검증 (DB 없이 임시 디렉터리에서 실행).
+ * 재시작(새 인스턴스로 다시 열기) 후 체크포인트 이후 입찰만 빠짐없이, 한 번씩 복구되어야 합니다.
+ */
+class BidJournalTest {
+
+    private static final int RECORD_SIZE = 36;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("체크포인트가 없으면 기록한 입찰을 순서대로 모두 복구")
+    void recoversAllBidsInOrder() {
+        BidJournal journal = open(RECORD_SIZE * 1024);
+        List<Bid> written = List.of(bid(1, 10L, 51_000), bid(1, 11L, 52_000), bid(2, 10L, 9_100));
+        written.forEach(journal::append);
+
+        BidJournal reopened = open(RECORD_SIZE * 1024);
+        List<Bid> recovered = reopened.drainRecovered();
+
+        assertThat(recovered).extracting(Bid::getJournalSeq).containsExactly(1L, 2L, 3L);
+        for (int i = 0; i < written.size(); i++) {
+            assertThat(recovered.get(i).getAuctionId()).isEqualTo(written.get(i).getAuctionId());
+            assertThat(recovered.get(i).getCustomerId()).isEqualTo(written.get(i).getCustomerId());
+            assertThat(recovered.get(i).getBidPrice()).isEqualTo(written.get(i).getBidPrice());
+            assertThat(recovered.get(i).getBidTime()).isEqualTo(written.get(i).getBidTime());
+        }
+        assertThat(reopened.drainRecovered()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 입찰만 복구하고, 시퀀스는 재시작 후에도 이어짐")
+    void recoversOnlyAfterCheckpoint() {
+        BidJournal journal = open(RECORD_SIZE * 1024);
+        for (int i = 0; i < 5; i++) {
+            journal.append(bid(1, 10L + i, 51_000 + i * 1_000));
+        }
+        journal.checkpoint(3);
+
+        BidJournal reopened = open(RECORD_SIZE * 1024);
+        assertThat(reopened.drainRecovered()).extracting(Bid::getJournalSeq).containsExactly(4L, 5L);
+
+        Bid next = bid(1, 20L, 60_000);
+        reopened.append(next);
+        assertThat(next.getJournalSeq()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 넘어가도 누락 없이 복구하고, 체크포인트 이전 세그먼트는 삭제")
+    void rollsSegmentsAndDeletesCheckpointedOnes() {
+        BidJournal journal = open(RECORD_SIZE * 4);
+        for (int i = 0; i < 10; i++) {
+            journal.append(bid(1, 10L + i, 51_000 + i * 1_000));
+        }
+        journal.checkpoint(8);
+
+        assertThat(Files.exists(dir.resolve("bids-00000000000000000001.journal"))).isFalse();
+        assertThat(open(RECORD_SIZE * 4).drainRecovered()).extracting(Bid::getJournalSeq).containsExactly(9L, 10L);
+    }
+
+    @Test
+    @DisplayName("부분 기록된(CRC 불일치) 마지막 레코드는 복구하지 않음")
+    void ignoresTornRecord() throws Exception {
+        BidJournal journal = open(RECORD_SIZE * 1024);
+        for (int i = 0; i < 3; i++) {
+            journal.append(bid(1, 10L + i, 51_000 + i * 1_000));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(dir.resolve("bids-00000000000000000001.journal").toFile(), "rw")) {
+            file.seek(RECORD_SIZE * 2 + 20);
+            file.writeInt(0x7fffffff);
+        }
+
+        BidJournal reopened = open(RECORD_SIZE * 1024);
+        assertThat(reopened.drainRecovered()).extracting(Bid::getJournalSeq).containsExactly(1L, 2L);
+
+        Bid next = bid(1, 20L, 60_000);
+        reopened.append(next);
+        assertThat(next.getJournalSeq()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("격리(dead letter)된 입찰은 재시작 후 복구 대상에서 제외")
+    void skipsDeadLetteredBids() throws Exception {
+        BidJournal journal = open(RECORD_SIZE * 1024);
+        Bid poison = bid(1, 11L, 52_000);
+        journal.append(bid(1, 10L, 51_000));
+        journal.append(poison);
+        journal.append(bid(1, 12L, 53_000));
+        journal.deadLetter(poison, new IllegalStateException("제약 조건 위반,\n재시도 불가"));
+
+        assertThat(open(RECORD_SIZE * 1024).drainRecovered()).extracting(Bid::getJournalSeq).containsExactly(1L, 3L);
+        assertThat(Files.readAllLines(dir.resolve("dead-letters.log")))
+                .singleElement()
+                .satisfies(line -> assertThat(line).startsWith("2,1,11,52000,"));
+    }
+
+    private BidJournal open(int segmentSize) {
+        BidJournal journal = new BidJournal(dir.toString(), segmentSize, BidJournal.FsyncPolicy.NONE);
+        journal.open();
+        return journal;
+    }
+
+    static Bid bid(int auctionId, Long customerId, int price) {
+        return Bid.builder()
+                .auctionId(auctionId)
+                .customerId(customerId)
+                .bidPrice(price)
+                .bidTime(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
+                .build();
+    }
+}
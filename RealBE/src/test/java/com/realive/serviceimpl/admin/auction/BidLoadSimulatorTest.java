@@ -0,0 +1,258 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.controller.customer.auction.CustomerBidController;
+import com.realive.domain.auction.Auction;
+import com.realive.domain.common.enums.AuctionStatus;
+import com.realive.domain.customer.Customer;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.customer.CustomerRepository;
+import com.realive.security.customer.CustomerPrincipal;
+import com.realive.util.TickSizeCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 동시 입찰 부하 시뮬레이터 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 로컬 DB에 연결된 컨텍스트를 띄운 뒤 N명의 입찰자가 CustomerBidController.placeBid를 동시에 호출하도록 하고,
+ * 처리량 / p50·p99 지연 / 서버 오류 수를 출력한 다음 경매별 정합성을 검사합니다.
+ *
+ * 실행 예) LOADTEST=true LOADTEST_BIDDERS=300 LOADTEST_AUCTIONS=5 LOADTEST_SKEW=1.2 \
+ *           ./gradlew test --tests '*BidLoadSimulatorTest'
+ *
+ * 검사 항목
+ * - 입찰 순서대로 입찰가가 엄격히 증가
+ * - Auction.bidCount == 입찰 행 수
+ * - Auction.currentPrice == 최고 입찰가
+ * - 모든 입찰가가 TickSizeCalculator 입찰 단위에 맞음
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+class BidLoadSimulatorTest {
+
+    @Autowired
+    private CustomerBidController customerBidController;
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private TickSizeCalculator tickSizeCalculator;
+    @Autowired
+    private AuctionBidEngine auctionBidEngine;
+
+    @Value("${loadtest.bidders:100}")
+    private int bidders;
+
+    @Value("${loadtest.bids-per-bidder:20}")
+    private int bidsPerBidder;
+
+    // 대상 경매 수 (auction-ids 미지정 시 진행 중인 경매에서 선택)
+    @Value("${loadtest.auctions:1}")
+    private int auctionCount;
+
+    @Value("${loadtest.auction-ids:}")
+    private String auctionIds;
+
+    // 경매 선택 편중도 (0: 균등, 클수록 첫 경매에 집중 - Zipf 지수)
+    @Value("${loadtest.skew:1.0}")
+    private double skew;
+
+    @Test
+    void simulateConcurrentBids() throws Exception {
+        List<Auction> auctions = loadTargetAuctions();
+        List<Customer> customers = customerRepository.findAll(PageRequest.of(0, bidders)).getContent();
+        assumeTrue(!auctions.isEmpty() && !customers.isEmpty(),
+                "대상 경매 또는 고객이 없습니다. 경매: " + auctions.size() + "건, 고객: " + customers.size() + "명");
+        log.info("🚀 [LoadTest] 시작 - 입찰자: {}명, 입찰자당 {}회, 경매: {}건, skew: {}",
+                customers.size(), bidsPerBidder, auctions.size(), skew);
+
+        double[] cumulativeWeights = zipfWeights(auctions.size());
+        long[] latencies = new long[customers.size() * bidsPerBidder];
+        AtomicInteger requestIndex = new AtomicInteger();
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger serverErrors = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(customers.size());
+        CountDownLatch startGate = new CountDownLatch(1);
+        long startedAt = System.nanoTime();
+
+        for (Customer customer : customers) {
+            CustomerPrincipal principal = new CustomerPrincipal(customer);
+            executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+                try {
+                    startGate.await();
+                    for (int i = 0; i < bidsPerBidder; i++) {
+                        Auction auction = auctions.get(pick(cumulativeWeights));
+                        BidRequestDTO request = BidRequestDTO.builder()
+                                .auctionId(auction.getId())
+                                .bidPrice(nextBidPrice(auction))
+                                .build();
+
+                        long begin = System.nanoTime();
+                        ResponseEntity<?> response = customerBidController.placeBid(request);
+                        latencies[requestIndex.getAndIncrement()] = System.nanoTime() - begin;
+
+                        if (response.getStatusCode().is2xxSuccessful()) {
+                            accepted.incrementAndGet();
+                        } else if (response.getStatusCode().is5xxServerError()) {
+                            serverErrors.incrementAndGet();
+                        } else {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+
+        startGate.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        int total = requestIndex.get();
+        long[] sorted = Arrays.copyOf(latencies, total);
+        Arrays.sort(sorted);
+        log.info("📊 [LoadTest] 요청: {}건 (수락 {}, 거절 {}, 서버 오류(락 타임아웃 포함) {}), 처리량: {} req/s, p50: {}ms, p99: {}ms",
+                total, accepted.get(), rejected.get(), serverErrors.get(),
+                String.format("%.1f", total / (elapsedNanos / 1_000_000_000.0)),
+                String.format("%.2f", percentile(sorted, 0.50) / 1_000_000.0),
+                String.format("%.2f", percentile(sorted, 0.99) / 1_000_000.0));
+
+        // 대기 중인 입찰을 모두 저장한 뒤 정합성 검사
+        auctionBidEngine.flushPendingBids();
+        int violations = 0;
+        for (Auction auction : auctions) {
+            violations += verify(auction.getId());
+        }
+        if (violations == 0) {
+            log.info("✅ [LoadTest] 정합성 검사 통과 - 경매 {}건", auctions.size());
+        } else {
+            log.error("❌ [LoadTest] 정합성 위반 {}건", violations);
+        }
+        assertThat(violations).isZero();
+    }
+
+    private List<Auction> loadTargetAuctions() {
+        if (!auctionIds.isBlank()) {
+            List<Integer> ids = Arrays.stream(auctionIds.split(","))
+                    .map(String::trim)
+                    .map(Integer::valueOf)
+                    .toList();
+            return auctionRepository.findAllById(ids);
+        }
+
+        List<Integer> ids = auctionRepository.findIdAndEndTimeByStatus(AuctionStatus.PROCEEDING).stream()
+                .map(row -> (Integer) row[0])
+                .limit(auctionCount)
+                .toList();
+        return auctionRepository.findAllById(ids);
+    }
+
+    // 현재가에서 1~3틱 위 금액 (경합 시 같은 금액/낮은 금액 거절이 자연스럽게 발생)
+    private int nextBidPrice(Auction auction) {
+        Integer livePrice = auctionBidEngine.getCurrentPrice(auction.getId());
+        int currentPrice = livePrice != null ? livePrice : auction.getCurrentPrice();
+        int tickSize = tickSizeCalculator.calculateTickSize(auction.getStartPrice());
+        return currentPrice + tickSize * ThreadLocalRandom.current().nextInt(1, 4);
+    }
+
+    private int verify(Integer auctionId) {
+        Auction auction = auctionRepository.findById(auctionId).orElseThrow();
+        int tickSize = tickSizeCalculator.calculateTickSize(auction.getStartPrice());
+        int violations = 0;
+
+        List<Integer> prices = new ArrayList<>();
+        for (Object[] row : bidRepository.findBidHistorySnapshot(auctionId)) {
+            prices.add((Integer) row[1]);
+        }
+
+        for (int i = 0; i < prices.size(); i++) {
+            int price = prices.get(i);
+            if (i > 0 && price <= prices.get(i - 1)) {
+                log.error("❌ [LoadTest] 경매 {}: 입찰가가 증가하지 않음 ({} -> {})", auctionId, prices.get(i - 1), price);
+                violations++;
+            }
+            if ((price - auction.getStartPrice()) % tickSize != 0) {
+                log.error("❌ [LoadTest] 경매 {}: 입찰 단위({}) 불일치 - {}", auctionId, tickSize, price);
+                violations++;
+            }
+        }
+
+        long rowCount = bidRepository.countByAuctionId(auctionId);
+        if (auction.getBidCount() != rowCount) {
+            log.error("❌ [LoadTest] 경매 {}: bidCount({}) != 입찰 행 수({})", auctionId, auction.getBidCount(), rowCount);
+            violations++;
+        }
+        if (!prices.isEmpty()) {
+            int maxPrice = prices.stream().mapToInt(Integer::intValue).max().getAsInt();
+            if (auction.getCurrentPrice() != maxPrice) {
+                log.error("❌ [LoadTest] 경매 {}: currentPrice({}) != 최고 입찰가({})", auctionId, auction.getCurrentPrice(), maxPrice);
+                violations++;
+            }
+        }
+
+        log.info("🔎 [LoadTest] 경매 {}: 입찰 {}건, 현재가 {}, 위반 {}건", auctionId, rowCount, auction.getCurrentPrice(), violations);
+        return violations;
+    }
+
+    private double[] zipfWeights(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulativeWeights) {
+        double r = ThreadLocalRandom.current().nextDouble();
+        int index = Arrays.binarySearch(cumulativeWeights, r);
+        index = index >= 0 ? index : -index - 1;
+        return Math.min(index, cumulativeWeights.length - 1);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
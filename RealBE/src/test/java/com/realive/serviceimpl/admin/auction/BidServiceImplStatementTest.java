@@ -0,0 +1,108 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.dto.bid.BidResponseDTO;
+import com.realive.service.admin.auction.BidService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입찰 내역 조회의 실행 문장 수 회귀 검사 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 다른 데이터와 겹치지 않는 경매/고객 ID로 입찰 N건을 넣은 뒤, 입찰 내역 조회 4종을 실제로 호출하고
+ * Hibernate Statistics로 실행된 문장 수를 셉니다. 고객 이름은 조인으로 함께 읽으므로
+ * 입찰 건수와 무관하게 목록 1개(+ 페이지 조회는 count 1개)여야 합니다. (입찰 건별 고객 조회가 생기면 실패)
+ * 모든 작업은 하나의 트랜잭션에서 실행하고 롤백합니다.
+ *
+ * 실행 예) LOADTEST=true ./gradlew test --tests '*BidServiceImplStatementTest'
+ *
+ * 검사 항목
+ * - getBidsForAuction, getBidsByAuction, getBidsByCustomer, getAllBids 각각 실행 문장 수 2개 이하
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+class BidServiceImplStatementTest {
+
+    // 실제 경매/고객과 겹치지 않는 벤치마크 전용 ID
+    private static final int AUCTION_ID = 2_000_000_000;
+    private static final long CUSTOMER_ID = 2_000_000_000L;
+    private static final int MAX_STATEMENTS = 2;
+
+    @Autowired
+    private BidService bidService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.bid-listing.rows:500}")
+    private int rows;
+
+    @Test
+    void bidListingsRunInBoundedStatements() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        // 첫 페이지가 꽉 차야 Spring Data가 count 쿼리를 생략하지 않음
+        PageRequest firstPage = PageRequest.of(0, 20);
+
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.update(
+                    "INSERT INTO bids (auction_id, customer_id, bid_price, bid_time, created_at, updated_at) " +
+                            "SELECT ?, ?, 1000 + g, t, t, t " +
+                            "FROM generate_series(0, ? - 1) AS g, " +
+                            "LATERAL (SELECT TIMESTAMP '2099-01-01' + g * INTERVAL '1 second' AS t) AS ts",
+                    AUCTION_ID, CUSTOMER_ID, rows);
+
+            long forAuction = count("경매별 전체", () -> bidService.getBidsForAuction(AUCTION_ID));
+            long byAuction = count("경매별 페이지", () -> bidService.getBidsByAuction(AUCTION_ID, firstPage));
+            long byCustomer = count("고객별 페이지", () -> bidService.getBidsByCustomer(CUSTOMER_ID, firstPage));
+            long all = count("전체 페이지", () -> bidService.getAllBids(firstPage));
+
+            assertThat(forAuction).as("getBidsForAuction 실행 문장 수").isLessThanOrEqualTo(MAX_STATEMENTS);
+            assertThat(byAuction).as("getBidsByAuction 실행 문장 수").isLessThanOrEqualTo(MAX_STATEMENTS);
+            assertThat(byCustomer).as("getBidsByCustomer 실행 문장 수").isLessThanOrEqualTo(MAX_STATEMENTS);
+            assertThat(all).as("getAllBids 실행 문장 수").isLessThanOrEqualTo(MAX_STATEMENTS);
+        });
+    }
+
+    /**
+     * @return 조회 1회의 실행 문장 수
+     */
+    private long count(String name, Supplier<?> listing) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // 앞선 조회의 1차 캐시가 다음 조회의 문장 수를 줄이지 않도록 비움
+        entityManager.clear();
+        statistics.clear();
+        Object result = listing.get();
+        long statements = statistics.getPrepareStatementCount();
+
+        List<BidResponseDTO> content = result instanceof Page<?> page
+                ? page.getContent().stream().map(BidResponseDTO.class::cast).toList()
+                : ((List<?>) result).stream().map(BidResponseDTO.class::cast).toList();
+        log.info("📊 입찰 내역 {} - {}건 조회, 실행 문장: {}", name, content.size(), statements);
+        assertThat(content).as(name + " 결과").isNotEmpty();
+        return statements;
+    }
+}
@@ -0,0 +1,151 @@
+package com.realive.serviceimpl.admin.auction;
+
+import com.realive.domain.auction.Auction;
+import com.realive.domain.customer.Customer;
+import com.realive.dto.bid.BidRequestDTO;
+import com.realive.dto.bid.BidResponseDTO;
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.auction.ProxyBidRepository;
+import com.realive.repository.customer.CustomerRepository;
+import com.realive.serviceimpl.admin.log.ActivityStatsRecorder;
+import com.realive.util.TickSizeCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * 입찰 경로의 DB 조회 횟수 검증.
+ * 경매 상태와 입찰자 이름은 최초 1회만 조회하고, 이후 입찰은 메모리 엔진/저널만 사용해야 합니다.
+ * 입찰 내역 조회의 실제 실행 문장 수는 BidServiceImplStatementTest(LOADTEST)에서 검사합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BidServiceImplTest {
+
+    private static final Integer AUCTION_ID = 1;
+    private static final int START_PRICE = 50_000;
+    private static final int TICK = 1_000;
+
+    @TempDir
+    Path journalDir;
+
+    @Mock
+    AuctionRepository auctionRepository;
+    @Mock
+    BidRepository bidRepository;
+    @Mock
+    ProxyBidRepository proxyBidRepository;
+    @Mock
+    CustomerRepository customerRepository;
+    @Mock
+    AuctionReadModel auctionReadModel;
+    @Mock
+    ActivityStatsRecorder activityStatsRecorder;
+    @Mock
+    TransactionTemplate transactionTemplate;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private AuctionBidEngine engine;
+    private BidServiceImpl bidService;
+
+    @BeforeEach
+    void setUp() {
+        BidJournal journal = new BidJournal(journalDir.toString(), 36 * 1024, BidJournal.FsyncPolicy.NONE);
+        journal.open();
+        // 상태 최초 로드용 읽기 전용 트랜잭션 (모의 트랜잭션 매니저라 실제 트랜잭션 없이 실행)
+        lenient().when(transactionTemplate.getTransactionManager()).thenReturn(transactionManager);
+        engine = new AuctionBidEngine(auctionRepository, bidRepository, new TickSizeCalculator(),
+                transactionTemplate, journal, proxyBidRepository, activityStatsRecorder);
+        bidService = new BidServiceImpl(bidRepository, new BidderNameCache(customerRepository),
+                engine, new AuctionBidHub(engine), auctionReadModel);
+    }
+
+    @Test
+    @DisplayName("입찰 100건 - 경매/입찰 이력/최대 입찰은 1회, 입찰자 이름은 입찰자별 1회만 조회")
+    void placeBidQueriesOnlyOnFirstLoad() {
+        given(auctionRepository.findById(AUCTION_ID)).willReturn(Optional.of(proceedingAuction()));
+        given(customerRepository.findById(1L)).willReturn(Optional.of(customer(1L, "입찰자1")));
+        given(customerRepository.findById(2L)).willReturn(Optional.of(customer(2L, "입찰자2")));
+
+        int price = START_PRICE;
+        for (int i = 0; i < 100; i++) {
+            price += TICK;
+            bidService.placeBid(AUCTION_ID, i % 2 == 0 ? 1L : 2L, request(price));
+        }
+
+        verify(auctionRepository, times(1)).findById(AUCTION_ID);
+        verify(bidRepository, times(1)).findBidHistorySnapshot(AUCTION_ID);
+        verify(proxyBidRepository, times(1)).findByAuctionIdOrderByRegistration(AUCTION_ID);
+        verify(customerRepository, times(1)).findById(1L);
+        verify(customerRepository, times(1)).findById(2L);
+        verifyNoMoreInteractions(auctionRepository, bidRepository, proxyBidRepository, customerRepository);
+        assertThat(engine.getBidCount(AUCTION_ID)).isEqualTo(100);
+        assertThat(engine.getCurrentPrice(AUCTION_ID)).isEqualTo(price);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 고객의 입찰은 수락(저널 기록) 전에 거절")
+    void unknownBidderIsRejectedBeforeAcceptance() {
+        given(customerRepository.findById(9L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bidService.placeBid(AUCTION_ID, 9L, request(START_PRICE + TICK)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(auctionRepository, bidRepository, activityStatsRecorder);
+        assertThat(engine.getBidCount(AUCTION_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("수락 이후 실시간 반영이 실패해도 입찰 결과는 정상 반환")
+    void publishFailureDoesNotFailAcceptedBid() {
+        given(auctionRepository.findById(AUCTION_ID)).willReturn(Optional.of(proceedingAuction()));
+        given(customerRepository.findById(1L)).willReturn(Optional.of(customer(1L, "입찰자1")));
+        willThrow(new IllegalStateException("조회 모델 오류"))
+                .given(auctionReadModel).applyBid(anyInt(), anyInt(), anyInt());
+
+        BidResponseDTO response = bidService.placeBid(AUCTION_ID, 1L, request(START_PRICE + TICK));
+
+        assertThat(response.getBidPrice()).isEqualTo(START_PRICE + TICK);
+        assertThat(engine.getBidCount(AUCTION_ID)).isEqualTo(1);
+    }
+
+    private static Auction proceedingAuction() {
+        return Auction.builder()
+                .id(AUCTION_ID)
+                .startPrice(START_PRICE)
+                .currentPrice(START_PRICE)
+                .startTime(LocalDateTime.now().minusHours(1))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+
+    private static Customer customer(Long id, String name) {
+        return Customer.builder().id(id).name(name).build();
+    }
+
+    private static BidRequestDTO request(int price) {
+        return BidRequestDTO.builder().auctionId(AUCTION_ID).bidPrice(price).build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.domain.auction.Bid;
+import com.realive.domain.logs.ActivityStat;
+import com.realive.repository.logs.ActivityStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+/**
+ * 활동 집계 기록기의 조각별 누적 검증.
+ * 여러 스레드가 동시에 기록하고 그 사이 flush가 반복되어도 증분이 빠지거나 두 번 저장되면 안 됩니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityStatsRecorderTest {
+
+    private static final int THREADS = 8;
+    private static final int BIDS_PER_THREAD = 5_000;
+
+    @Mock
+    ActivityStatRepository activityStatRepository;
+    @Mock
+    TransactionTemplate transactionTemplate;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    // (집계 단위, 시작일) -> 저장된 행
+    private final Map<String, ActivityStat> statsTable = new ConcurrentHashMap<>();
+
+    private ActivityStatsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(activityStatRepository.findByPeriodTypeAndPeriodStart(any(), any())).willAnswer(invocation ->
+                Optional.ofNullable(statsTable.get(key(invocation.getArgument(0), invocation.getArgument(1)))));
+        given(activityStatRepository.save(any())).willAnswer(invocation -> {
+            ActivityStat stat = invocation.getArgument(0);
+            statsTable.put(key(stat.getPeriodType(), stat.getPeriodStart()), stat);
+            return stat;
+        });
+
+        recorder = new ActivityStatsRecorder(activityStatRepository, transactionTemplate, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("동시 기록 중 flush가 반복되어도 모든 증분이 한 번씩만 저장됨")
+    void concurrentRecordsSurviveFlushes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean recording = new AtomicBoolean(true);
+
+        for (int t = 0; t < THREADS; t++) {
+            long customerId = t + 1;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < BIDS_PER_THREAD; i++) {
+                    recorder.recordBids(List.of(bid(i % 10, customerId)));
+                    recorder.recordCustomerVisit(customerId);
+                }
+                return null;
+            });
+        }
+        Thread flusher = new Thread(() -> {
+            while (recording.get()) {
+                recorder.flush();
+            }
+        });
+
+        flusher.start();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        recording.set(false);
+        flusher.join();
+        recorder.flush();
+
+        assertThat(total(ActivityStat.PeriodType.DAY)).isEqualTo((long) THREADS * BIDS_PER_THREAD);
+        assertThat(total(ActivityStat.PeriodType.MONTH)).isEqualTo((long) THREADS * BIDS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 증분을 버리지 않고 다음 flush에서 다시 저장")
+    void failedFlushIsRetried() {
+        recorder.recordBids(List.of(bid(1, 1L), bid(2, 2L)));
+        willAnswer(invocation -> {
+            throw new IllegalStateException("DB 장애");
+        }).given(transactionTemplate).executeWithoutResult(any());
+        recorder.flush();
+        assertThat(statsTable).isEmpty();
+
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        recorder.recordBids(List.of(bid(3, 3L)));
+        recorder.flush();
+
+        assertThat(total(ActivityStat.PeriodType.DAY)).isEqualTo(3L);
+    }
+
+    private long total(ActivityStat.PeriodType periodType) {
+        return statsTable.values().stream()
+                .filter(stat -> stat.getPeriodType() == periodType)
+                .mapToLong(ActivityStat::getBidsPlaced)
+                .sum();
+    }
+
+    private static Bid bid(int auctionId, long customerId) {
+        return Bid.builder().auctionId(auctionId).customerId(customerId).bidPrice(1_000).build();
+    }
+
+    private static String key(ActivityStat.PeriodType periodType, LocalDate periodStart) {
+        return periodType + ":" + periodStart;
+    }
+}
@@ -0,0 +1,144 @@
+package com.realive.serviceimpl.admin.log;
+
+import com.realive.repository.auction.AuctionRepository;
+import com.realive.repository.auction.BidRepository;
+import com.realive.repository.logs.PayoutLogRepository;
+import com.realive.repository.payment.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대시보드 기간 조건 쿼리의 실행 계획 검사 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 리포지토리 메서드를 실제로 호출해 Hibernate가 만든 SQL을 가로챈 뒤, 같은 커넥션에서 같은 기간 값으로 EXPLAIN 합니다.
+ * 입찰/정산 로그는 겹치지 않는 값으로 N건을 넣고 ANALYZE 하며, 경매/결제는 상위 엔티티(상품, 주문)가 필요해 기존 데이터를 그대로 씁니다.
+ * 데이터가 적어 플래너가 순차 스캔을 고르는 경우를 빼기 위해 enable_seqscan=off로 실행하므로,
+ * 그래도 순차 스캔이 나오거나 기간 컬럼이 Index Cond에 없으면 조건이 인덱스를 탈 수 없는 형태(DATE(col) 등)라는 뜻입니다.
+ * 모든 작업은 하나의 트랜잭션에서 실행하고 롤백합니다.
+ *
+ * 실행 예) LOADTEST=true ./gradlew test --tests '*DashboardQueryPlanTest'
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.realive.serviceimpl.admin.log.DashboardQueryPlanTest$CapturingStatementInspector")
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+public class DashboardQueryPlanTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 10, 0, 0);
+    private static final LocalDateTime END = START.plusDays(1);
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+    @Autowired
+    private BidRepository bidRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private PayoutLogRepository payoutLogRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.query-plan.rows:200000}")
+    private int rows;
+
+    @Test
+    void dashboardRangeQueriesUseIndexes() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> failures = new ArrayList<>();
+
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            seed();
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+            check("경매 생성 수", "auctions", "created_at",
+                    () -> auctionRepository.countAuctionsInRange(START, END), failures);
+            check("입찰 수", "bids", "bid_time",
+                    () -> bidRepository.countBidsInRange(START, END), failures);
+            check("완료 결제 수", "payments", "created_at",
+                    () -> paymentRepository.countCompletedPaymentsInRange(START, END), failures);
+            check("완료 결제 총액", "payments", "created_at",
+                    () -> paymentRepository.sumCompletedPaymentAmountInRange(START, END), failures);
+            check("일별 완료 결제", "payments", "created_at",
+                    () -> paymentRepository.getDailyCompletedPaymentSummary(START, END), failures);
+            check("정산 건수", "payout_logs", "processed_at",
+                    () -> payoutLogRepository.countPayoutsInRange(START, END), failures);
+            check("정산 총액", "payout_logs", "processed_at",
+                    () -> payoutLogRepository.sumPayoutAmountInRange(START, END), failures);
+            check("일별 정산", "payout_logs", "processed_at",
+                    () -> payoutLogRepository.getDailyPayoutSummary(START, END), failures);
+            check("월별 정산", "payout_logs", "processed_at",
+                    () -> payoutLogRepository.getMonthlyPayoutSummary(START, END), failures);
+        });
+
+        assertThat(failures).as("순차 스캔/인덱스 미사용 쿼리").isEmpty();
+    }
+
+    private void seed() {
+        jdbcTemplate.update(
+                "INSERT INTO bids (auction_id, customer_id, bid_price, bid_time, created_at, updated_at) " +
+                        "SELECT g % 1000 + 1, g % 5000 + 1, 1000 + g, t, t, t " +
+                        "FROM generate_series(0, ? - 1) AS g, " +
+                        "LATERAL (SELECT TIMESTAMP '2023-01-01' + g * INTERVAL '3 minutes' AS t) AS ts",
+                rows);
+        jdbcTemplate.update(
+                "INSERT INTO payout_logs (id, seller_id, period_start, period_end, total_sales, total_commission, payout_amount, processed_at) " +
+                        "SELECT nextval('payout_logs_seq'), 2000000000 + g, DATE '2023-01-02', DATE '2023-01-08', 10000, 1000, 9000, " +
+                        "TIMESTAMP '2023-01-01' + g * INTERVAL '3 minutes' " +
+                        "FROM generate_series(0, ? - 1) AS g",
+                rows);
+        jdbcTemplate.execute("ANALYZE bids");
+        jdbcTemplate.execute("ANALYZE payout_logs");
+    }
+
+    private void check(String name, String table, String column, Runnable query, List<String> failures) {
+        CapturingStatementInspector.CAPTURED.clear();
+        query.run();
+        assertThat(CapturingStatementInspector.CAPTURED).as(name + " SQL").isNotEmpty();
+        String sql = CapturingStatementInspector.CAPTURED.get(CapturingStatementInspector.CAPTURED.size() - 1);
+
+        // 리포지토리 쿼리의 바인딩 순서는 모두 (startDateTime, endDateTime)
+        List<String> planLines = jdbcTemplate.query("EXPLAIN " + sql, (rs, rowNum) -> rs.getString(1),
+                Timestamp.valueOf(START), Timestamp.valueOf(END));
+        String plan = String.join("\n", planLines);
+        log.info("🔍 {} 실행 계획\n{}", name, plan);
+
+        boolean seqScan = plan.contains("Seq Scan on " + table);
+        boolean indexCond = planLines.stream().anyMatch(line -> line.contains("Index Cond") && line.contains(column));
+        if (seqScan || !indexCond) {
+            failures.add(name + " (" + table + "." + column + ")");
+        }
+    }
+
+    /**
+     * 실행되는 SQL을 그대로 기록합니다. (spring.jpa.properties.hibernate.session_factory.statement_inspector로 등록)
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.realive.serviceimpl.admin.log;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 판매+수수료 로그 조회기의 조회 문장 수/영속성 컨텍스트 크기 검증 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 로컬 DB에 다른 데이터와 겹치지 않는 날짜(2099년)로 판매 로그 N건과 수수료 로그를 넣은 뒤,
+ * Hibernate Statistics로 실행된 문장 수를 세고, 청크마다 영속성 컨텍스트에 남은 엔티티 수를 확인합니다.
+ * 넣은 행은 종료 후 삭제합니다.
+ *
+ * 실행 예) LOADTEST=true ./gradlew test --tests '*SalesWithCommissionLoaderStatementTest'
+ *
+ * 검사 항목
+ * - 실행 문장 수가 (행 수 / chunk-size) + 1 이하 (판매 건별 수수료 조회 없음)
+ * - 청크를 넘겨받는 시점에 영속성 컨텍스트에 관리 엔티티가 남아 있지 않음
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+class SalesWithCommissionLoaderStatementTest {
+
+    // 실제 판매 로그와 겹치지 않는 기간
+    private static final LocalDate FROM = LocalDate.of(2099, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2099, 1, 31);
+
+    @Autowired
+    private SalesWithCommissionLoader salesWithCommissionLoader;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${admin.dashboard.sales-chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${loadtest.sales-loader.rows:23000}")
+    private int rows;
+
+    @BeforeEach
+    void seed() {
+        cleanUp();
+        jdbcTemplate.update(
+                "INSERT INTO sales_logs (order_item_id, product_id, seller_id, customer_id, quantity, unit_price, total_price, sold_at) " +
+                        "SELECT NULL, g % 5000, g % 1000, g % 100000, 1, 10000, 10000, CAST(? AS date) + g % 31 " +
+                        "FROM generate_series(0, ? - 1) AS g",
+                FROM, rows);
+        jdbcTemplate.update(
+                "INSERT INTO commission_logs (sales_log_id, commission_rate, commission_amount, recorded_at) " +
+                        "SELECT sl.id, 0.10, 1000, sl.sold_at + TIME '12:00' FROM sales_logs sl " +
+                        "WHERE sl.sold_at BETWEEN ? AND ?",
+                FROM, TO);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM commission_logs WHERE sales_log_id IN " +
+                "(SELECT id FROM sales_logs WHERE sold_at BETWEEN ? AND ?)", FROM, TO);
+        jdbcTemplate.update("DELETE FROM sales_logs WHERE sold_at BETWEEN ? AND ?", FROM, TO);
+    }
+
+    @Test
+    void loadsInBoundedStatementsWithoutGrowingPersistenceContext() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        List<Integer> managedEntitiesPerChunk = new ArrayList<>();
+        statistics.clear();
+        Integer loaded = readOnlyTransaction.execute(status -> salesWithCommissionLoader.forEachChunk(FROM, TO, chunk ->
+                managedEntitiesPerChunk.add(entityManager.unwrap(Session.class).getStatistics().getEntityCount())));
+        long statements = statistics.getPrepareStatementCount();
+
+        log.info("📊 판매+수수료 로그 {}건 - 실행 문장: {}, 청크: {}, 청크별 관리 엔티티: {}",
+                loaded, statements, managedEntitiesPerChunk.size(), managedEntitiesPerChunk);
+
+        assertThat(loaded).isEqualTo(rows);
+        assertThat(statements).isLessThanOrEqualTo(rows / chunkSize + 1);
+        assertThat(managedEntitiesPerChunk).allMatch(count -> count == 0);
+
+        // 목록으로 받는 경로도 같은 문장 수
+        statistics.clear();
+        Integer listed = readOnlyTransaction.execute(status -> salesWithCommissionLoader.load(FROM, TO).size());
+        assertThat(listed).isEqualTo(rows);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(rows / chunkSize + 1);
+    }
+}
@@ -0,0 +1,139 @@
+package com.realive.serviceimpl.admin.settlement;
+
+import com.realive.domain.logs.ReconciliationRun;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정산 대사 배치 처리 시간 측정 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 벤치마크 전용 판매자 N명(기본 10만)과 판매자별 W주(기본 52주, 2098년) 정산 로그를 넣은 뒤,
+ * SettlementReconciliationJob을 설정값 그대로(partition-size 500, parallelism 3) 실행해 완료까지 걸린 시간을
+ * 목표("10만 판매자 x 52주를 수 분 안에", loadtest.reconciliation.target-minutes)와 비교해 출력합니다.
+ *
+ * 정산 로그는 대부분 0원(판매 없는 주)이고, mismatch-every건마다 1건은 금액이 있어 MISSING_SALES 불일치로 기록됩니다.
+ * 배송완료 판매 집계는 주문/주문항목/배송 행이 모두 있어야 잡히므로 판매 로그는 넣지 않으며,
+ * 파티션마다 판매 집계 쿼리는 그대로 실행되지만 빈 결과를 돌려줍니다.
+ * 대사 작업은 자체 트랜잭션으로 커밋하므로, 넣은 행과 대사 결과는 종료 후 삭제합니다.
+ *
+ * 실행 예) LOADTEST=true ./gradlew test --tests '*SettlementReconciliationBenchmarkTest'
+ *
+ * 검사 항목
+ * - 대사가 COMPLETED로 끝나고, 대사한 판매자·주 수가 N x W 이상
+ * - 불일치 수가 금액을 넣은 정산 로그 수와 같음
+ * - 경과 시간이 target-minutes 이하
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+class SettlementReconciliationBenchmarkTest {
+
+    private static final String EMAIL_PATTERN = "reconcile-bench-%@realive.test";
+    // 실제 정산 주기와 겹치지 않는 기간의 첫 월요일
+    private static final LocalDate FIRST_WEEK = LocalDate.of(2098, 1, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+
+    @Autowired
+    private SettlementReconciliationJob settlementReconciliationJob;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.reconciliation.sellers:100000}")
+    private int sellers;
+
+    @Value("${loadtest.reconciliation.weeks:52}")
+    private int weeks;
+
+    @Value("${loadtest.reconciliation.mismatch-every:100}")
+    private int mismatchEvery;
+
+    @Value("${loadtest.reconciliation.target-minutes:5}")
+    private int targetMinutes;
+
+    @Value("${admin.reconciliation.partition-size:500}")
+    private int partitionSize;
+
+    @Value("${admin.reconciliation.parallelism:3}")
+    private int parallelism;
+
+    private LocalDate lastWeek;
+    private Long runId;
+
+    @BeforeEach
+    void seed() {
+        cleanUp();
+        lastWeek = FIRST_WEEK.plusWeeks(weeks - 1);
+
+        jdbcTemplate.update(
+                "INSERT INTO sellers (name, email, password, is_approved, is_active, created_at, updated_at) " +
+                        "SELECT 'bench-' || g, 'reconcile-bench-' || g || '@realive.test', 'bench', true, true, now(), now() " +
+                        "FROM generate_series(1, ?) AS g",
+                sellers);
+        jdbcTemplate.update(
+                "INSERT INTO payout_logs (id, seller_id, period_start, period_end, total_sales, total_commission, payout_amount, processed_at) " +
+                        "SELECT nextval('payout_logs_seq'), s.id, p.week, p.week + 6, amount, amount / 10, amount - amount / 10, p.week + 7 " +
+                        "FROM sellers s, " +
+                        "LATERAL (SELECT CAST(? AS date) + w * 7 AS week FROM generate_series(0, ? - 1) AS w) AS p, " +
+                        "LATERAL (SELECT CASE WHEN (s.id + (p.week - CAST(? AS date))) % ? = 0 THEN 10000 ELSE 0 END AS amount) AS a " +
+                        "WHERE s.email LIKE ?",
+                FIRST_WEEK, weeks, FIRST_WEEK, mismatchEvery, EMAIL_PATTERN);
+        jdbcTemplate.execute("ANALYZE sellers");
+        jdbcTemplate.execute("ANALYZE payout_logs");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (runId != null) {
+            jdbcTemplate.update("DELETE FROM reconciliation_diffs WHERE run_id = ?", runId);
+            jdbcTemplate.update("DELETE FROM reconciliation_runs WHERE id = ?", runId);
+            runId = null;
+        }
+        jdbcTemplate.update("DELETE FROM payout_logs WHERE seller_id IN (SELECT id FROM sellers WHERE email LIKE ?)", EMAIL_PATTERN);
+        jdbcTemplate.update("DELETE FROM sellers WHERE email LIKE ?", EMAIL_PATTERN);
+    }
+
+    @Test
+    void reconcilesSellerWeeksWithinTarget() throws InterruptedException {
+        Long nonZeroPayouts = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payout_logs WHERE period_start BETWEEN ? AND ? AND total_sales <> 0 " +
+                        "AND seller_id IN (SELECT id FROM sellers WHERE email LIKE ?)",
+                Long.class, FIRST_WEEK, lastWeek, EMAIL_PATTERN);
+        Duration target = Duration.ofMinutes(targetMinutes);
+
+        long begin = System.nanoTime();
+        ReconciliationRun run = settlementReconciliationJob.start(FIRST_WEEK, lastWeek);
+        runId = run.getId();
+        // 목표 시간의 2배까지 기다린 뒤에도 끝나지 않으면 실패로 봄
+        long deadline = begin + target.multipliedBy(2).toNanos();
+        while (run.getStatus() == ReconciliationRun.Status.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(1000);
+            run = settlementReconciliationJob.getRun(runId);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+        log.info("📊 정산 대사 - 판매자 {}명 x {}주, 파티션 {}개 (판매자 {}명 단위, 병렬도 {}), 판매자·주 {}건, 불일치 {}건, " +
+                        "경과 {}초 / 목표 {}분 ({}건/초) -> {}",
+                sellers, weeks, run.getTotalPartitions(), partitionSize, parallelism,
+                run.getCheckedSellerWeeks(), run.getMismatchCount(), elapsed.toSeconds(), targetMinutes,
+                String.format("%.0f", run.getCheckedSellerWeeks() / Math.max(elapsed.toMillis() / 1000.0, 0.001)),
+                elapsed.compareTo(target) <= 0 ? "목표 달성" : "목표 초과");
+
+        assertThat(run.getStatus()).as("대사 상태 (오류: %s)", run.getLastError()).isEqualTo(ReconciliationRun.Status.COMPLETED);
+        assertThat(run.getCheckedSellerWeeks()).isGreaterThanOrEqualTo((long) sellers * weeks);
+        assertThat(run.getMismatchCount()).isEqualTo(nonZeroPayouts);
+        assertThat(elapsed).isLessThanOrEqualTo(target);
+    }
+}
@@ -0,0 +1,124 @@
+package com.realive.serviceimpl.admin.settlement;
+
+import com.realive.domain.logs.PayoutLog;
+import com.realive.domain.logs.SellerLedgerEntry;
+import com.realive.domain.logs.SettlementRun;
+import com.realive.repository.logs.PayoutLogRepository;
+import com.realive.repository.logs.SettlementRunRepository;
+import com.realive.repository.order.OrderItemRepository;
+import com.realive.service.seller.SellerLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklySettlementJobTest {
+
+    // 2024-01-01 ~ 2024-01-07 (월~일)
+    private static final LocalDate WEEK_DAY = LocalDate.of(2024, 1, 3);
+    private static final LocalDate PERIOD_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate PERIOD_END = LocalDate.of(2024, 1, 7);
+
+    @Mock
+    OrderItemRepository orderItemRepository;
+    @Mock
+    PayoutLogRepository payoutLogRepository;
+    @Mock
+    SettlementRunRepository settlementRunRepository;
+    @Mock
+    SellerLedgerService sellerLedgerService;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Captor
+    ArgumentCaptor<List<PayoutLog>> payoutLogsCaptor;
+    @Captor
+    ArgumentCaptor<List<SellerLedgerEntry>> ledgerCaptor;
+
+    private WeeklySettlementJob job;
+
+    @BeforeEach
+    void setUp() {
+        given(settlementRunRepository.findByPeriodStartAndPeriodEnd(PERIOD_START, PERIOD_END)).willReturn(Optional.empty());
+        given(settlementRunRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        job = new WeeklySettlementJob(orderItemRepository, payoutLogRepository, settlementRunRepository,
+                sellerLedgerService, eventPublisher, transactionManager, 1000);
+    }
+
+    @Test
+    @DisplayName("재집계에 없는 판매자의 기존 정산 로그는 0으로 덮어쓰고 지급액만큼 조정 분개")
+    void zeroesPayoutsOfSellersMissingFromRecomputation() {
+        given(orderItemRepository.sumDeliveredSalesGroupedBySeller(any(), any(), eq(0L), any()))
+                .willReturn(rows(new Object[]{1L, 30000L}));
+        given(payoutLogRepository.findNonZeroPayoutsBySellerRangeAndPeriod(0, Integer.MAX_VALUE, PERIOD_START, PERIOD_END))
+                .willReturn(rows(new Object[]{1, 10, 18000}, new Object[]{2, 11, 9000}));
+        given(payoutLogRepository.findPayoutAmountsBySellerIdsAndPeriod(anyList(), eq(PERIOD_START), eq(PERIOD_END)))
+                .willReturn(rows(new Object[]{1, 10, 18000}, new Object[]{2, 11, 9000}),
+                        rows(new Object[]{1, 10, 27000}, new Object[]{2, 11, 0}));
+
+        SettlementRun run = job.settle(WEEK_DAY);
+
+        assertThat(run.getStatus()).isEqualTo(SettlementRun.Status.COMPLETED);
+        then(payoutLogRepository).should().upsertAll(payoutLogsCaptor.capture());
+        assertThat(payoutLogsCaptor.getValue())
+                .extracting(PayoutLog::getSellerId, PayoutLog::getTotalSales, PayoutLog::getPayoutAmount)
+                .containsExactly(
+                        tuple(1, 30000, 27000),
+                        tuple(2, 0, 0));
+
+        then(sellerLedgerService).should().append(ledgerCaptor.capture());
+        assertThat(ledgerCaptor.getValue())
+                .extracting(SellerLedgerEntry::getSellerId, SellerLedgerEntry::getType, SellerLedgerEntry::getSourceId)
+                .containsExactly(
+                        tuple(1, SellerLedgerEntry.Type.PAYOUT_ADJUSTMENT, 10),
+                        tuple(2, SellerLedgerEntry.Type.PAYOUT_ADJUSTMENT, 11));
+    }
+
+    @Test
+    @DisplayName("배송완료 매출이 하나도 없는 주기도 남아 있는 정산 로그를 0으로 덮어씀")
+    void zeroesRemainingPayoutsWhenNoSalesAtAll() {
+        given(orderItemRepository.sumDeliveredSalesGroupedBySeller(any(), any(), anyLong(), any())).willReturn(List.of());
+        given(payoutLogRepository.findNonZeroPayoutsBySellerRangeAndPeriod(anyInt(), eq(Integer.MAX_VALUE), eq(PERIOD_START), eq(PERIOD_END)))
+                .willReturn(rows(new Object[]{5, 20, 4500}));
+        given(payoutLogRepository.findPayoutAmountsBySellerIdsAndPeriod(List.of(5), PERIOD_START, PERIOD_END))
+                .willReturn(rows(new Object[]{5, 20, 4500}), rows(new Object[]{5, 20, 0}));
+
+        job.settle(WEEK_DAY);
+
+        then(payoutLogRepository).should().upsertAll(payoutLogsCaptor.capture());
+        assertThat(payoutLogsCaptor.getValue()).singleElement()
+                .satisfies(payoutLog -> {
+                    assertThat(payoutLog.getSellerId()).isEqualTo(5);
+                    assertThat(payoutLog.getPayoutAmount()).isZero();
+                });
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,165 @@
+package com.realive.serviceimpl.seller;
+
+import com.realive.domain.logs.CommissionLog;
+import com.realive.domain.logs.SalesLog;
+import com.realive.repository.logs.CommissionLogRepository;
+import com.realive.repository.logs.SalesLogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 단위 판매/수수료 로그 저장의 DB 왕복 수/처리량 비교 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 같은 판매/수수료 로그를 두 방식으로 저장하고, Hibernate Statistics의 실행 문장 수(배치 1회 = 문장 1개)와 초당 주문 수를 출력합니다.
+ * - 항목별: 항목마다 판매 로그 존재 확인 -> 판매 로그 INSERT -> 판매 로그 재조회 -> 수수료 로그 INSERT (이전 generatePayoutLogIfNotExists)
+ * - 주문별 배치: 기존 판매 로그 일괄 확인 1회 -> 판매/수수료 로그를 메모리에서 만든 뒤 테이블별 배치 INSERT (현재 경로)
+ * 원장/집계 반영은 두 방식이 같아 비교에서 뺐습니다. 모든 작업은 트랜잭션을 롤백해 남기지 않습니다.
+ *
+ * 실행 예) LOADTEST=true ./gradlew test --tests '*SalesLogBatchInsertBenchmarkTest'
+ *
+ * 검사 항목
+ * - 주문별 배치의 주문당 문장 수가 3 + 시퀀스 호출(50개 ID당 테이블별 1회) 이하
+ * - 주문별 배치의 주문당 문장 수가 항목별 방식보다 적음
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+class SalesLogBatchInsertBenchmarkTest {
+
+    // 실제 주문 항목과 겹치지 않는 벤치마크 전용 주문 항목 ID 시작값
+    private static final int ORDER_ITEM_BASE = 2_000_000_000;
+    // 로그 엔티티 @SequenceGenerator allocationSize
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private SalesLogRepository salesLogRepository;
+    @Autowired
+    private CommissionLogRepository commissionLogRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${loadtest.sales-log-batch.orders:500}")
+    private int orders;
+
+    @Value("${loadtest.sales-log-batch.items-per-order:5}")
+    private int itemsPerOrder;
+
+    @Test
+    void batchedOrderWritesSaveRoundTrips() {
+        // 워밍업 (커넥션/시퀀스 풀/쿼리 플랜)
+        run("워밍업", Math.min(orders, 20), this::savePerItem);
+        run("워밍업", Math.min(orders, 20), this::saveBatchedPerOrder);
+
+        double perItem = run("항목별", orders, this::savePerItem);
+        double batched = run("주문별 배치", orders, this::saveBatchedPerOrder);
+
+        log.info("📊 주문당 DB 왕복 - 항목별: {}, 주문별 배치: {}, 절감: {} (주문당 항목 {}개)",
+                String.format("%.2f", perItem), String.format("%.2f", batched),
+                String.format("%.2f", perItem - batched), itemsPerOrder);
+
+        double sequenceCalls = 2.0 * Math.ceil((double) orders * itemsPerOrder / ALLOCATION_SIZE + 1) / orders;
+        assertThat(batched).isLessThanOrEqualTo(3 + sequenceCalls);
+        assertThat(batched).isLessThan(perItem);
+    }
+
+    /**
+     * @return 주문당 실행 문장 수
+     */
+    private double run(String name, int orderCount, IntConsumer saveOrder) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        statistics.clear();
+        long begin = System.nanoTime();
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            for (int order = 0; order < orderCount; order++) {
+                saveOrder.accept(order);
+                // 주문마다 영속성 컨텍스트를 비워 주문 간 1차 캐시 영향을 없앰
+                entityManager.clear();
+            }
+        });
+        long elapsedNanos = System.nanoTime() - begin;
+        long statements = statistics.getPrepareStatementCount();
+
+        double perOrder = (double) statements / orderCount;
+        log.info("⏱️ {} - 주문 {}건, 문장 {}개 (주문당 {}), {}ms, 초당 주문 {}", name, orderCount, statements,
+                String.format("%.2f", perOrder), elapsedNanos / 1_000_000,
+                String.format("%.0f", orderCount / (elapsedNanos / 1e9)));
+        return perOrder;
+    }
+
+    // 이전 경로: 항목마다 존재 확인, 판매 로그 즉시 INSERT, 재조회, 수수료 로그 즉시 INSERT
+    private void savePerItem(int order) {
+        for (int item = 0; item < itemsPerOrder; item++) {
+            int orderItemId = orderItemId(order, item);
+            salesLogRepository.existsByOrderItemId(orderItemId);
+            SalesLog salesLog = salesLogRepository.saveAndFlush(salesLog(orderItemId));
+            SalesLog reloaded = salesLogRepository.findById(salesLog.getId()).orElseThrow();
+            commissionLogRepository.saveAndFlush(commissionLog(reloaded));
+        }
+    }
+
+    // 현재 경로: 기존 판매 로그 일괄 확인 후 테이블별 배치 INSERT
+    private void saveBatchedPerOrder(int order) {
+        List<Integer> orderItemIds = new ArrayList<>(itemsPerOrder);
+        for (int item = 0; item < itemsPerOrder; item++) {
+            orderItemIds.add(orderItemId(order, item));
+        }
+        salesLogRepository.findLoggedOrderItemIds(orderItemIds);
+
+        List<SalesLog> salesLogs = orderItemIds.stream().map(this::salesLog).toList();
+        salesLogRepository.saveAll(salesLogs);
+        commissionLogRepository.saveAll(salesLogs.stream().map(this::commissionLog).toList());
+        salesLogRepository.flush();
+    }
+
+    private int orderItemId(int order, int item) {
+        return ORDER_ITEM_BASE + order * itemsPerOrder + item;
+    }
+
+    private SalesLog salesLog(int orderItemId) {
+        SalesLog salesLog = new SalesLog();
+        salesLog.setOrderItemId(orderItemId);
+        salesLog.setProductId(orderItemId % 5000);
+        salesLog.setSellerId(orderItemId % 1000);
+        salesLog.setCustomerId((long) (orderItemId % 100000));
+        salesLog.setQuantity(2);
+        salesLog.setUnitPrice(10000);
+        salesLog.setTotalPrice(20000);
+        salesLog.setSoldAt(LocalDate.now());
+        return salesLog;
+    }
+
+    private CommissionLog commissionLog(SalesLog salesLog) {
+        CommissionLog commissionLog = new CommissionLog();
+        commissionLog.setSalesLogId(salesLog.getId());
+        commissionLog.setCommissionRate(BigDecimal.valueOf(0.1));
+        commissionLog.setCommissionAmount((int) (salesLog.getTotalPrice() * 0.1));
+        commissionLog.setRecordedAt(LocalDateTime.now());
+        return commissionLog;
+    }
+}
@@ -0,0 +1,131 @@
+package com.realive.serviceimpl.seller;
+
+import com.realive.dto.logs.CommissionLogDTO;
+import com.realive.dto.logs.SalesLogDTO;
+import com.realive.service.seller.SellerPayoutService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 판매자 판매/수수료 로그 페이지 조회 벤치마크 (LOADTEST=true 환경 변수가 있을 때만 실행).
+ *
+ * 로컬 DB의 sales_logs / commission_logs에 판매자 N명 x 판매자당 M건(기본 1,000 x 1,000 = 100만 건)을
+ * 벤치마크 전용 판매자 ID 구간으로 넣은 뒤, 한 판매자의 1년 기간 첫 페이지/깊은 페이지 조회 지연(p50/p99)을 출력합니다.
+ * 넣은 행은 종료 후 삭제합니다.
+ *
+ * 실행 예) LOADTEST=true ./gradlew test --tests '*SellerLogQueryBenchmarkTest'
+ *
+ * 검사 항목
+ * - 페이지 크기만큼만 읽고, 전체 건수는 판매자의 행 수와 같음
+ * - p99 지연이 loadtest.seller-logs.max-p99-ms 이하
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "LOADTEST", matches = "true")
+class SellerLogQueryBenchmarkTest {
+
+    // 실제 판매자와 겹치지 않는 벤치마크 전용 판매자 ID 시작값
+    private static final int SELLER_BASE = 2_000_000_000;
+    private static final int PAGE_SIZE = 100;
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private SellerPayoutService sellerPayoutService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.seller-logs.sellers:1000}")
+    private int sellers;
+
+    @Value("${loadtest.seller-logs.rows-per-seller:1000}")
+    private int rowsPerSeller;
+
+    @Value("${loadtest.seller-logs.iterations:200}")
+    private int iterations;
+
+    @Value("${loadtest.seller-logs.max-p99-ms:200}")
+    private long maxP99Millis;
+
+    @BeforeEach
+    void seed() {
+        cleanUp();
+        long begin = System.currentTimeMillis();
+        int rows = jdbcTemplate.update(
+                "INSERT INTO sales_logs (order_item_id, product_id, seller_id, customer_id, quantity, unit_price, total_price, sold_at) " +
+                        "SELECT NULL, g % 5000, ? + g % ?, g % 100000, 1, 10000, 10000, CAST(? AS date) + (g / ?) % 365 " +
+                        "FROM generate_series(0, ? - 1) AS g",
+                SELLER_BASE, sellers, FROM, sellers, sellers * rowsPerSeller);
+        jdbcTemplate.update(
+                "INSERT INTO commission_logs (sales_log_id, commission_rate, commission_amount, recorded_at) " +
+                        "SELECT sl.id, 0.10, 1000, sl.sold_at + TIME '12:00' FROM sales_logs sl " +
+                        "WHERE sl.seller_id >= ?",
+                SELLER_BASE);
+        jdbcTemplate.execute("ANALYZE sales_logs");
+        jdbcTemplate.execute("ANALYZE commission_logs");
+        log.info("📦 벤치마크 데이터 적재 - 판매 로그 {}건, {}ms", rows, System.currentTimeMillis() - begin);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM commission_logs WHERE sales_log_id IN " +
+                "(SELECT id FROM sales_logs WHERE seller_id >= ?)", SELLER_BASE);
+        jdbcTemplate.update("DELETE FROM sales_logs WHERE seller_id >= ?", SELLER_BASE);
+    }
+
+    @Test
+    void pagedSalesAndCommissionLogs() {
+        long sellerId = SELLER_BASE + sellers / 2;
+        LocalDate to = FROM.plusDays(364);
+        int deepPage = rowsPerSeller / PAGE_SIZE - 1;
+
+        measure("판매 로그 첫 페이지", page -> sellerPayoutService.getSalesLogsBySeller(sellerId, FROM, to,
+                PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "soldAt", "id"))), 0);
+        measure("판매 로그 마지막 페이지", page -> sellerPayoutService.getSalesLogsBySeller(sellerId, FROM, to,
+                PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "soldAt", "id"))), deepPage);
+        measure("수수료 로그 첫 페이지", page -> sellerPayoutService.getCommissionLogsBySeller(sellerId, FROM, to,
+                PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "recordedAt", "id"))), 0);
+        measure("수수료 로그 마지막 페이지", page -> sellerPayoutService.getCommissionLogsBySeller(sellerId, FROM, to,
+                PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "recordedAt", "id"))), deepPage);
+    }
+
+    private void measure(String name, IntFunction<Page<?>> query, int page) {
+        // 워밍업 (커넥션/플랜 캐시)
+        for (int i = 0; i < 10; i++) {
+            query.apply(page);
+        }
+
+        long[] latencies = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long begin = System.nanoTime();
+            Page<?> result = query.apply(page);
+            latencies[i] = System.nanoTime() - begin;
+
+            assertThat(result.getContent()).hasSize(PAGE_SIZE);
+            assertThat(result.getTotalElements()).isEqualTo(rowsPerSeller);
+            assertThat(result.getContent().get(0)).isInstanceOfAny(SalesLogDTO.class, CommissionLogDTO.class);
+        }
+        Arrays.sort(latencies);
+        long p50 = latencies[iterations / 2] / 1_000_000;
+        long p99 = latencies[Math.min(iterations - 1, (int) Math.ceil(iterations * 0.99) - 1)] / 1_000_000;
+        log.info("📊 {} (page {}) - p50: {}ms, p99: {}ms, 전체 {}건 중 판매자 {}건",
+                name, page, p50, p99, sellers * rowsPerSeller, rowsPerSeller);
+
+        assertThat(p99).as(name + " p99(ms)").isLessThanOrEqualTo(maxP99Millis);
+    }
+}